@@ -0,0 +1,98 @@
+package software.ulpgc.money.math;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code RateKernelsBenchmark} class compares the {@link ScalarRateKernels} with the
+ * {@link VectorRateKernels} on every kernel, over series as long as a month, a rate table, and
+ * the whole history of a pair.
+ *
+ * <p>The benchmark lives in the package of the kernels, so it measures them directly rather
+ * than through the {@link RateMath} facade, which would only ever pick one of them. Run it with
+ * {@code java -jar benchmarks/target/benchmarks.jar RateKernelsBenchmark}.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class RateKernelsBenchmark {
+    @Param({"32", "1024", "7000"})
+    private int size;
+    @Param({"scalar", "vector"})
+    private String kernels;
+    private RateKernels kernel;
+    private double[] rates;
+    private double[] others;
+    private double[] out;
+
+    /**
+     * Creates the kernels and random rates around one.
+     * @since       1.1
+     */
+    @Setup
+    public void setUp() {
+        kernel = kernels.equals("vector") ? new VectorRateKernels() : new ScalarRateKernels();
+        Random random = new Random(42);
+        rates = random.doubles(size, 0.5, 1.5).toArray();
+        others = random.doubles(size, 0.5, 1.5).toArray();
+        out = new double[size];
+    }
+
+    @Benchmark
+    public double[] multiply() {
+        kernel.multiply(rates, 1.0842, out);
+        return out;
+    }
+
+    @Benchmark
+    public double[] divide() {
+        kernel.divide(rates, others, out);
+        return out;
+    }
+
+    @Benchmark
+    public double[] reciprocal() {
+        kernel.reciprocal(rates, out);
+        return out;
+    }
+
+    @Benchmark
+    public double[] logReturns() {
+        kernel.logReturns(rates, out);
+        return out;
+    }
+
+    @Benchmark
+    public double sum() {
+        return kernel.sum(rates);
+    }
+
+    @Benchmark
+    public double sumOfSquares() {
+        return kernel.sumOfSquares(rates);
+    }
+
+    @Benchmark
+    public double dot() {
+        return kernel.dot(rates, others);
+    }
+}
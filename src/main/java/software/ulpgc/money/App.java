@@ -1,19 +1,72 @@
 package software.ulpgc.money;
 
+import software.ulpgc.money.alert.AlertEngine;
+import software.ulpgc.money.alert.AlertMonitor;
+import software.ulpgc.money.alert.AlertingExchangeRateLoader;
+import software.ulpgc.money.architecture.control.ActiveConversion;
 import software.ulpgc.money.architecture.control.Command;
+import software.ulpgc.money.architecture.control.CommandBus;
+import software.ulpgc.money.architecture.control.CompareCurrenciesCommand;
+import software.ulpgc.money.architecture.control.CorrelateCurrenciesCommand;
+import software.ulpgc.money.architecture.control.DeriveSeriesCommand;
+import software.ulpgc.money.architecture.control.ExchangeAllCommand;
 import software.ulpgc.money.architecture.control.ExchangeMoneyCommand;
+import software.ulpgc.money.architecture.control.RateRefreshScheduler;
+import software.ulpgc.money.architecture.control.RecomputeConversionCommand;
+import software.ulpgc.money.architecture.control.SetAlertCommand;
+import software.ulpgc.money.architecture.control.ShowPortfolioCommand;
 import software.ulpgc.money.architecture.control.ShowReadMeCommand;
 import software.ulpgc.money.architecture.control.SwapCurrenciesCommand;
+import software.ulpgc.money.architecture.control.TimedCommand;
 import software.ulpgc.money.architecture.io.APIService;
+import software.ulpgc.money.architecture.io.ExchangeRateLoader;
+import software.ulpgc.money.architecture.io.RateTableLoader;
+import software.ulpgc.money.architecture.io.StatisticLoader;
 import software.ulpgc.money.architecture.io.TimeSeriesChartLoader;
 import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.CurrencyPair;
+import software.ulpgc.money.cache.CachedExchangeRateLoader;
+import software.ulpgc.money.cache.CachedRateTableLoader;
+import software.ulpgc.money.cache.CachedStatisticLoader;
+import software.ulpgc.money.ecb.EcbExchangeRateLoader;
 import software.ulpgc.money.frankfurter.FrankfurterCurrencyLoader;
 import software.ulpgc.money.frankfurter.FrankfurterExchangeRateLoader;
+import software.ulpgc.money.frankfurter.FrankfurterRateTableLoader;
 import software.ulpgc.money.frankfurter.FrankfurterTimeSeriesLoader;
+import software.ulpgc.money.graph.GraphExchangeRateLoader;
+import software.ulpgc.money.graph.GraphRateTableLoader;
+import software.ulpgc.money.graph.RateGraph;
+import software.ulpgc.money.metrics.MetricsRegistry;
+import software.ulpgc.money.metrics.MetricsReporter;
+import software.ulpgc.money.net.GovernedAPIService;
+import software.ulpgc.money.net.IoScheduler;
 import software.ulpgc.money.net.NetAPIDeserializer;
+import software.ulpgc.money.net.TokenBucket;
+import software.ulpgc.money.net.UpstreamGovernor;
+import software.ulpgc.money.portfolio.Portfolio;
+import software.ulpgc.money.prefetch.PairPrefetcher;
+import software.ulpgc.money.provider.AggregatingExchangeRateLoader;
+import software.ulpgc.money.provider.RateProvider;
+import software.ulpgc.money.prefetch.PairUsageTracker;
+import software.ulpgc.money.store.RateHistoryStore;
+import software.ulpgc.money.store.StoredExchangeRateLoader;
+import software.ulpgc.money.store.StoredStatisticLoader;
+import software.ulpgc.money.swing.EdtWatchdog;
+import software.ulpgc.money.swing.SwingDiagnosticsDialog;
 import software.ulpgc.money.swing.SwingMainFrame;
+import software.ulpgc.money.tile.RateTileLoader;
 
+import javax.swing.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+
+import static java.lang.System.Logger.Level.WARNING;
 
 /**
  * The {@code App} class serves as the entry point for the application.
@@ -21,10 +74,85 @@ import java.util.List;
  * loads supported currencies, and sets up commands for the application's core features:
  * <ul>
  *   <li>Exchanging money between different currencies.</li>
+ *   <li>Exchanging money into every supported currency at once.</li>
+ *   <li>Comparing the exchange rates to several currencies on one chart.</li>
+ *   <li>Correlating the exchange rates to every currency over a chosen window.</li>
+ *   <li>Charting series derived from the exchange rates of several currencies, such as baskets, spreads and ratios.</li>
+ *   <li>Valuing a portfolio of positions in many currencies.</li>
+ *   <li>Setting alerts on the exchange rate of a currency pair.</li>
  *   <li>Swapping the selected currencies in the user interface.</li>
  *   <li>Displaying informational content, such as a "Read Me" section.</li>
  * </ul>
  *
+ * <p>Exchange rates and histories are served through in-memory caches, which a {@link PairPrefetcher}
+ * warms in the background for the pairs the user converts most often. The prefetcher can be tuned
+ * with the {@code money.prefetch.top} system property, and its requests are limited to
+ * {@code money.prefetch.budget} (20 by default) every {@code money.prefetch.budget.minutes}
+ * minutes (10 by default).</p>
+ *
+ * <p>Rates at past dates are served from a {@link RateHistoryStore}, which fetches each period
+ * only once. It stores the pairs quoted from the euro and derives the others from them. On days
+ * without a published rate, the last one stays in force for up to
+ * {@code money.history.fill.days} days (4 by default). The history is saved on exit and can be
+ * provisioned at once with the {@link Backfill} job. The rate chart explores the same history by
+ * zooming and panning, loading the ranges it shows through the scheduler below.</p>
+ *
+ * <p>Every latest rate and rate table loaded is set in one {@link RateGraph}, which holds the
+ * quotes of the latest publication date. Conversions keep the direct quote; paths through other
+ * currencies beating it by more than {@code money.graph.tolerance.bp} basis points (1 by
+ * default) are logged, and cycles of quotes gaining more than that are logged as inconsistent.</p>
+ *
+ * <p>The portfolio is read from the {@code positions.csv} file of the application directory and
+ * valued with the same rate tables, only revaluing the currencies whose rate changed.</p>
+ *
+ * <p>Rate alerts set with the "Alert" button are kept in an {@link AlertEngine}, saved between
+ * runs. Every latest rate loaded evaluates them, and an {@link AlertMonitor} loads one rate table
+ * every {@code money.alerts.minutes} minutes (30 by default) while any is armed. Fired alerts are
+ * shown below the conversion.</p>
+ *
+ * <p>Once a conversion is shown, typing a new amount recomputes it locally at the same rate,
+ * and a {@link RateRefreshScheduler} keeps it up to date when the ECB publishes a new rate.
+ * The {@code money.refresh.minutes} system property sets how often it checks.</p>
+ *
+ * <p>Latest rates are loaded from the Frankfurter API and, if the {@code money.providers.ecb}
+ * file exists ({@code eurofxref.xml} of the application directory by default), from that copy of
+ * the ECB reference rates, through an {@link AggregatingExchangeRateLoader}. The
+ * {@code money.providers.strategy} system property chooses between the first rate received
+ * ({@code first}, by default) and the median of those received within
+ * {@code money.providers.deadline.ms} milliseconds ({@code median}, 1500 by default); either
+ * way, the loads still running after the deadline are cancelled. The ECB file only stands in for
+ * the API: its rate, or one older than the newest received, only wins the race once the API
+ * failed or the deadline passed. Sources failing or too slow are demoted for {@code money.providers.cooldown.seconds} seconds (60 by default),
+ * and the ECB file is not used once its rates are {@code money.providers.ecb.max.age.days} days
+ * old (4 by default).</p>
+ *
+ * <p>All requests to the upstream API share one {@link UpstreamGovernor}, which limits their
+ * rate and concurrency and always admits the requests of the user before background ones.</p>
+ *
+ * <p>Loading work runs on one {@link IoScheduler}: the commands of the user first, then the
+ * prefetches and the maintenance tasks, which only start while nothing interactive is pending.
+ * The {@code money.io.prefetch} and {@code money.io.maintenance} system properties bound how many
+ * of them run at once (1 and 2 by default).</p>
+ *
+ * <p>The rate charts are zoomed and panned over the whole stored history of their pair through
+ * one {@link RateTileLoader}, which loads its tiles on the same scheduler and keeps at most
+ * {@code money.chart.tiles} of them in memory (48 by default).</p>
+ *
+ * <p>Every command, or command bus lane, loader and network request is measured in the global {@link MetricsRegistry},
+ * published over JMX as {@code software.ulpgc.money:type=Metrics} and written to the log every
+ * {@code money.metrics.report.minutes} minutes (15 by default, 0 to disable).</p>
+ *
+ * <p>An {@link EdtWatchdog} reports every event that blocks the Swing thread for longer than
+ * {@code money.edt.threshold.ms} milliseconds (50 by default, 0 to disable). The offenders are
+ * logged and listed in a diagnostics window opened with {@code Ctrl+Shift+D}. An event still
+ * running after {@code money.edt.hang.ms} milliseconds (2000 by default) is logged as hung
+ * right away.</p>
+ *
+ * <p>The commands that load rates, "exchange money", "exchange all", "compare", "correlate", "derive" and "portfolio", are submitted
+ * to one lane of a {@link CommandBus}: they load in the background, and a new click supersedes
+ * the work, requests and animation of the previous one, so only the latest result is shown.
+ * Showing the information page supersedes them too.</p>
+ *
  * <p>The class follows a command-based design pattern to allow decoupling of user actions
  * (such as button presses) from the logic that performs these actions. Each command is
  * associated with a specific feature of the application.</p>
@@ -38,16 +166,275 @@ import java.util.List;
  * @since       1.0.1
  */
 public class App {
+    private static final System.Logger LOGGER = System.getLogger(App.class.getName());
+    // Directory where the application keeps its local data.
+    private static final Path APP_DIR = Path.of(System.getProperty("user.home"), ".money-calculator");
+    // File of the local rate history, shared with the backfill job.
+    static final Path HISTORY_FILE = APP_DIR.resolve("history.bin");
+    // How long loaded rates and histories are served from memory.
+    private static final Duration CACHE_TIME_TO_LIVE = Duration.ofMinutes(30);
+    // Lane of the command bus shared by the commands replacing the central content.
+    private static final String CONTENT_LANE = "content";
+    // Lane of the command bus of the commands setting rate alerts.
+    private static final String ALERT_LANE = "alert";
+
     public static void main(String[] args) {
+        EdtWatchdog watchdog = initWatchdog(Integer.getInteger("money.edt.threshold.ms", 50), Integer.getInteger("money.edt.hang.ms", 2000));
         SwingMainFrame main = new SwingMainFrame();
-        APIService apiDeserializer = new NetAPIDeserializer();
+        APIService apiDeserializer = initApiService();
         List<Currency> currencies = new FrankfurterCurrencyLoader(apiDeserializer).load();
-        main.putCommand("exchange money", initExchangeCommand(main, currencies, apiDeserializer));
-        main.putCommand("swap", initSwapCommand(main));
-        main.putCommand("show info", initShowInfoCommand(main));
+        FrankfurterTimeSeriesLoader timeSeriesLoader = new FrankfurterTimeSeriesLoader(apiDeserializer);
+        RateHistoryStore history = initHistory(timeSeriesLoader, baseOf(currencies));
+        RateGraph graph = new RateGraph(currencies, Integer.getInteger("money.graph.tolerance.bp", 1) / 1e4);
+        AlertEngine alerts = initAlerts(main, currencies);
+        CachedExchangeRateLoader exchangeRateLoader = new CachedExchangeRateLoader(new GraphExchangeRateLoader(new AlertingExchangeRateLoader(new StoredExchangeRateLoader(initProviders(apiDeserializer), history), alerts), graph), CACHE_TIME_TO_LIVE);
+        CachedRateTableLoader rateTableLoader = new CachedRateTableLoader(new GraphRateTableLoader(new FrankfurterRateTableLoader(apiDeserializer, currencies), graph), CACHE_TIME_TO_LIVE);
+        CachedStatisticLoader statisticLoader = new CachedStatisticLoader(timeSeriesLoader, CACHE_TIME_TO_LIVE);
+        PairUsageTracker usage = new PairUsageTracker(APP_DIR.resolve("usage.properties"), currencies);
+        ActiveConversion activeConversion = new ActiveConversion();
+        IoScheduler scheduler = new IoScheduler(Integer.getInteger("money.io.prefetch", 1), Integer.getInteger("money.io.maintenance", 2), MetricsRegistry.global());
+        CommandBus bus = new CommandBus(scheduler, MetricsRegistry.global());
+        bus.onSupersede(CONTENT_LANE, main.contentDisplay()::stopAnimation);
+        StoredStatisticLoader historyLoader = new StoredStatisticLoader(statisticLoader, history);
+        main.setTiles(new RateTileLoader(historyLoader, scheduler, Integer.getInteger("money.chart.tiles", 48), Clock.systemDefaultZone()));
+        main.putCommand("exchange money", initExchangeCommand(main, bus, currencies, exchangeRateLoader, statisticLoader, usage, activeConversion));
+        main.putCommand("exchange all", bus.bind(CONTENT_LANE, initExchangeAllCommand(main, rateTableLoader)));
+        main.putCommand("compare", bus.bind(CONTENT_LANE, initCompareCommand(main, currencies, statisticLoader)));
+        main.putCommand("correlate", bus.bind(CONTENT_LANE, initCorrelateCommand(main, currencies, historyLoader)));
+        main.putCommand("derive", bus.bind(CONTENT_LANE, initDeriveCommand(main, currencies, historyLoader)));
+        main.putCommand("portfolio", bus.bind(CONTENT_LANE, initPortfolioCommand(main, currencies, rateTableLoader)));
+        main.putCommand("set alert", bus.bind(ALERT_LANE, initSetAlertCommand(main, exchangeRateLoader, alerts)));
+        main.putCommand("swap", timed("swap", initSwapCommand(main)));
+        main.putCommand("recompute", timed("recompute", initRecomputeCommand(main, activeConversion)));
+        main.moneyDialog().addAmountListener(_ -> main.getCommand("recompute").execute());
+        Command showInfo = timed("show info", initShowInfoCommand(main));
+        main.putCommand("show info", () -> {
+            bus.cancel(CONTENT_LANE);
+            showInfo.execute();
+        });
+        if (watchdog != null) main.putCommand("show diagnostics", () -> new SwingDiagnosticsDialog(main, watchdog).setVisible(true));
         main.getCommand("show info").execute();
         main.setVisible(true);
+        initPrefetcher(main, exchangeRateLoader, statisticLoader, usage, scheduler).start(Integer.getInteger("money.prefetch.top", 5));
+        new RateRefreshScheduler(activeConversion, exchangeRateLoader, main.moneyDisplay(), main.contentDisplay(), Clock.systemDefaultZone(), scheduler)
+                .start(Duration.ofMinutes(Integer.getInteger("money.refresh.minutes", 5)));
+        new AlertMonitor(alerts, rateTableLoader, baseOf(currencies), scheduler).start(Duration.ofMinutes(Integer.getInteger("money.alerts.minutes", 30)));
+        Runtime.getRuntime().addShutdownHook(new Thread(usage::save));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> saveHistory(history)));
+        initMetrics(Integer.getInteger("money.metrics.report.minutes", 15));
+    }
+
+    /**
+     * Creates the service sending the requests to the upstream API. Every request of the
+     * process goes through one {@link UpstreamGovernor}, which paces them at
+     * {@code money.upstream.rate} requests per second (10 by default) and adapts their
+     * concurrency up to {@code money.upstream.concurrency} (16 by default).
+     *
+     * @return the governed {@link APIService}.
+     * @since       1.1
+     */
+    static APIService initApiService() {
+        int rate = Integer.getInteger("money.upstream.rate", 10);
+        UpstreamGovernor governor = new UpstreamGovernor(
+                new TokenBucket(rate, rate),
+                4,
+                Integer.getInteger("money.upstream.concurrency", 16),
+                MetricsRegistry.global()
+        );
+        return new GovernedAPIService(new NetAPIDeserializer(), governor);
+    }
+
+    /**
+     * Creates the loader of the latest rates from the sources available: the Frankfurter API,
+     * and the local copy of the ECB reference rates if it exists. A single source is used
+     * directly, several through an {@link AggregatingExchangeRateLoader}.
+     *
+     * @param apiDeserializer the service sending the requests to the upstream API.
+     * @return the {@link ExchangeRateLoader} of the sources.
+     * @since       1.1
+     */
+    private static ExchangeRateLoader initProviders(APIService apiDeserializer) {
+        List<RateProvider> providers = new ArrayList<>(List.of(new RateProvider("frankfurter", new FrankfurterExchangeRateLoader(apiDeserializer))));
+        Path ecb = Path.of(System.getProperty("money.providers.ecb", APP_DIR.resolve("eurofxref.xml").toString()));
+        if (Files.isRegularFile(ecb))
+            providers.add(new RateProvider("ecb", new EcbExchangeRateLoader(ecb, Integer.getInteger("money.providers.ecb.max.age.days", 4), Clock.systemDefaultZone()), true));
+        if (providers.size() == 1) return providers.getFirst().loader();
+        return new AggregatingExchangeRateLoader(
+                providers,
+                AggregatingExchangeRateLoader.Strategy.valueOf(System.getProperty("money.providers.strategy", "first").toUpperCase(Locale.ROOT)),
+                Duration.ofMillis(Integer.getInteger("money.providers.deadline.ms", 1500)),
+                Duration.ofSeconds(Integer.getInteger("money.providers.cooldown.seconds", 60))
+        );
+    }
+
+    /**
+     * Creates the store of past rates and restores the history saved by previous runs or by
+     * the {@link Backfill} job.
+     *
+     * @param timeSeriesLoader the loader of the periods not stored yet.
+     * @param pivot the currency of the stored pairs.
+     * @return the {@link RateHistoryStore}.
+     * @since       1.1
+     */
+    private static RateHistoryStore initHistory(FrankfurterTimeSeriesLoader timeSeriesLoader, Currency pivot) {
+        RateHistoryStore history = new RateHistoryStore(timeSeriesLoader, pivot, Integer.getInteger("money.history.fill.days", 4), Clock.systemDefaultZone());
+        try {
+            history.restore(HISTORY_FILE);
+        } catch (IOException e) {
+            LOGGER.log(WARNING, "Could not restore the rate history", e);
+        }
+        return history;
+    }
+
+    /**
+     * Saves the store of past rates, so that the next run does not fetch them again.
+     *
+     * @param history the store to save.
+     * @since       1.1
+     */
+    private static void saveHistory(RateHistoryStore history) {
+        try {
+            history.save(HISTORY_FILE);
+        } catch (IOException e) {
+            LOGGER.log(WARNING, "Could not save the rate history", e);
+        }
+    }
+
+    /**
+     * Starts the watchdog of the Swing Event Dispatch Thread.
+     *
+     * @param thresholdMillis the dispatch time above which an event is reported, or {@code 0} to disable the watchdog.
+     * @param hangMillis the dispatch time above which an event still running is reported as hung.
+     * @return the started {@link EdtWatchdog}, or {@code null} if it is disabled.
+     * @since       1.1
+     */
+    private static EdtWatchdog initWatchdog(int thresholdMillis, int hangMillis) {
+        if (thresholdMillis <= 0) return null;
+        EdtWatchdog watchdog = new EdtWatchdog(Duration.ofMillis(thresholdMillis), Duration.ofMillis(hangMillis), Duration.ofMillis(Math.max(1, thresholdMillis / 5)));
+        watchdog.start();
+        return watchdog;
+    }
+
+    /**
+     * Publishes the global metrics registry over JMX and starts its periodic report.
+     *
+     * @param reportMinutes the minutes between two reports, or {@code 0} to disable them.
+     * @since       1.1
+     */
+    private static void initMetrics(int reportMinutes) {
+        MetricsRegistry.global().registerMBean("software.ulpgc.money:type=Metrics");
+        if (reportMinutes > 0) new MetricsReporter(MetricsRegistry.global()).start(Duration.ofMinutes(reportMinutes));
+    }
+
+    /**
+     * Decorates a command so that its executions are measured in the global metrics registry.
+     *
+     * @param name    the name of the command.
+     * @param command the command to measure.
+     * @return the measured command.
+     * @since       1.1
+     */
+    private static Command timed(String name, Command command) {
+        return new TimedCommand(name, command, MetricsRegistry.global());
+    }
+
+    /**
+     * Initializes the background prefetcher of exchange rates and histories.
+     * <p>
+     * The prefetcher is hinted with the selected pair every time the user changes
+     * the source or the target currency.
+     *
+     * @param main               the main application frame used to access the dialogs.
+     * @param exchangeRateLoader the cached loader of latest exchange rates.
+     * @param statisticLoader    the cached loader of exchange rate histories.
+     * @param usage              the tracker of pair frequencies.
+     * @param scheduler          the scheduler running the prefetches.
+     * @return the configured {@link PairPrefetcher}.
+     * @since       1.1
+     */
+    private static PairPrefetcher initPrefetcher(SwingMainFrame main, CachedExchangeRateLoader exchangeRateLoader, CachedStatisticLoader statisticLoader, PairUsageTracker usage, IoScheduler scheduler) {
+        PairPrefetcher prefetcher = new PairPrefetcher(exchangeRateLoader, statisticLoader, usage, Integer.getInteger("money.prefetch.budget", 20),
+                Duration.ofMinutes(Integer.getInteger("money.prefetch.budget.minutes", 10)), scheduler);
+        main.moneyDialog().addSelectionListener(from -> prefetcher.hint(new CurrencyPair(from, main.currencyDialog().get())));
+        main.currencyDialog().addSelectionListener(to -> prefetcher.hint(new CurrencyPair(main.moneyDialog().get().currency(), to)));
+        return prefetcher;
+    }
+
+    /**
+     * Initializes the "portfolio" command.
+     * <p>
+     * This command shows the value of the positions listed in {@code positions.csv}, one
+     * {@code CODE,amount} line each, in the selected target currency.
+     *
+     * @param main            the main application frame used to access dialogs and displays.
+     * @param currencies      the list of available currencies.
+     * @param rateTableLoader the cached loader of the rate tables.
+     * @return an instance of {@link ShowPortfolioCommand}.
+     * @since       1.1
+     */
+    private static ShowPortfolioCommand initPortfolioCommand(SwingMainFrame main, List<Currency> currencies, RateTableLoader rateTableLoader) {
+        return new ShowPortfolioCommand(main.currencyDialog(), readPortfolio(currencies), rateTableLoader, baseOf(currencies), main.portfolioDisplay());
+    }
+
+    /**
+     * Reads the positions of the portfolio, if any.
+     *
+     * @param currencies the supported currencies.
+     * @return the portfolio, empty if there is no file of positions or it cannot be read.
+     * @since       1.1
+     */
+    private static Portfolio readPortfolio(List<Currency> currencies) {
+        Path file = APP_DIR.resolve("positions.csv");
+        if (!Files.isRegularFile(file)) return new Portfolio(currencies);
+        try {
+            return Portfolio.read(file, currencies);
+        } catch (IOException e) {
+            LOGGER.log(WARNING, "Could not read the portfolio", e);
+            return new Portfolio(currencies);
+        }
+    }
+
+    /**
+     * Creates the engine of the rate alerts, reading those saved by the previous run. Fired
+     * alerts are shown in the money display, and the armed ones are saved on exit.
+     *
+     * @param main       the main application frame used to access the money display.
+     * @param currencies the supported currencies.
+     * @return the {@link AlertEngine}.
+     * @since       1.1
+     */
+    private static AlertEngine initAlerts(SwingMainFrame main, List<Currency> currencies) {
+        AlertEngine alerts = new AlertEngine(APP_DIR.resolve("alerts.properties"), currencies);
+        alerts.addListener((alert, rate) -> SwingUtilities.invokeLater(() -> main.moneyDisplay().showAlert(alert, rate)));
+        Runtime.getRuntime().addShutdownHook(new Thread(alerts::save));
+        return alerts;
+    }
+
+    /**
+     * Returns the currency the rate tables checking the alerts are loaded from, and the pivot of
+     * the rate history: the euro, as the ECB quotes every rate from it, or the first supported currency.
+     *
+     * @param currencies the supported currencies.
+     * @return the base currency.
+     * @since       1.1
+     */
+    static Currency baseOf(List<Currency> currencies) {
+        return currencies.stream().filter(c -> c.code().equals("EUR")).findFirst().orElse(currencies.getFirst());
+    }
 
+    /**
+     * Initializes the "set alert" command.
+     * <p>
+     * This command sets a rate alert on the selected currency pair, at a level chosen by the user.
+     *
+     * @param main               the main application frame used to access the dialogs.
+     * @param exchangeRateLoader the loader of the latest rate of the pair.
+     * @param alerts             the engine the alert is armed in.
+     * @return an instance of {@link SetAlertCommand}.
+     * @since       1.1
+     */
+    private static SetAlertCommand initSetAlertCommand(SwingMainFrame main, ExchangeRateLoader exchangeRateLoader, AlertEngine alerts) {
+        return new SetAlertCommand(main.moneyDialog(), main.currencyDialog(), main.alertDialog(), exchangeRateLoader, alerts);
     }
 
     /**
@@ -82,27 +469,147 @@ public class App {
         );
     }
 
+    /**
+     * Initializes the "recompute" command.
+     * <p>
+     * This command converts the amount being typed at the rate of the conversion already
+     * shown, without any network request.
+     *
+     * @param main             the main application frame used to access dialogs and displays.
+     * @param activeConversion the holder of the conversion currently shown.
+     * @return an instance of {@link RecomputeConversionCommand}.
+     * @since       1.1
+     */
+    private static Command initRecomputeCommand(SwingMainFrame main, ActiveConversion activeConversion) {
+        return new RecomputeConversionCommand(
+                main.moneyDialog(),
+                main.currencyDialog(),
+                main.moneyDisplay(),
+                main.contentDisplay(),
+                activeConversion
+        );
+    }
+
+    /**
+     * Initializes the "compare" command.
+     * <p>
+     * This command overlays the exchange rates from the source currency to several
+     * currencies chosen by the user on one chart.
+     *
+     * @param main            the main application frame used to access dialogs and displays.
+     * @param currencies      the list of available currencies.
+     * @param statisticLoader the loader of exchange rate histories.
+     * @return an instance of {@link CompareCurrenciesCommand}.
+     * @since       1.1
+     */
+    private static CompareCurrenciesCommand initCompareCommand(SwingMainFrame main, List<Currency> currencies, CachedStatisticLoader statisticLoader) {
+        return new CompareCurrenciesCommand(
+                main.moneyDialog(),
+                main.comparisonDialog().define(currencies),
+                statisticLoader,
+                main.contentDisplay()
+        );
+    }
+
+    /**
+     * Initializes the "correlate" command.
+     * <p>
+     * This command shows the correlations between the exchange rates from the source currency
+     * to every other one, over a window chosen by the user, as a heatmap.
+     *
+     * @param main          the main application frame used to access dialogs and displays.
+     * @param currencies    the list of available currencies.
+     * @param historyLoader the loader of exchange rate histories between two dates.
+     * @return an instance of {@link CorrelateCurrenciesCommand}.
+     * @since       1.1
+     */
+    private static CorrelateCurrenciesCommand initCorrelateCommand(SwingMainFrame main, List<Currency> currencies, StatisticLoader historyLoader) {
+        return new CorrelateCurrenciesCommand(
+                main.moneyDialog(),
+                main.correlationDialog(),
+                currencies,
+                historyLoader,
+                main.correlationDisplay(),
+                Clock.systemDefaultZone()
+        );
+    }
+
+    /**
+     * Initializes the "derive" command.
+     * <p>
+     * This command charts a series derived from the exchange rates from the source currency to
+     * several others, written by the user as an expression, over the whole stored history.
+     *
+     * @param main          the main application frame used to access dialogs and displays.
+     * @param currencies    the list of available currencies.
+     * @param historyLoader the loader of exchange rate histories between two dates.
+     * @return an instance of {@link DeriveSeriesCommand}.
+     * @since       1.1
+     */
+    private static DeriveSeriesCommand initDeriveCommand(SwingMainFrame main, List<Currency> currencies, StatisticLoader historyLoader) {
+        return new DeriveSeriesCommand(
+                main.moneyDialog(),
+                main.expressionDialog(),
+                currencies,
+                historyLoader,
+                main.contentDisplay(),
+                RateHistoryStore.ORIGIN,
+                Clock.systemDefaultZone()
+        );
+    }
+
+    /**
+     * Initializes the "exchange all" command.
+     * <p>
+     * This command converts the user-inputted amount into every supported currency,
+     * using rate tables that are cached and derived from each other when possible.
+     *
+     * @param main            the main application frame used to access dialogs and displays.
+     * @param rateTableLoader the cached loader of the rate tables.
+     * @return an instance of {@link ExchangeAllCommand}.
+     * @since       1.1
+     */
+    private static ExchangeAllCommand initExchangeAllCommand(SwingMainFrame main, RateTableLoader rateTableLoader) {
+        return new ExchangeAllCommand(
+                main.moneyDialog(),
+                rateTableLoader,
+                main.conversionTableDisplay()
+        );
+    }
+
     /**
      * Initializes the "exchange money" command.
      * <p>
      * This command performs the currency conversion by taking the user-inputted
      * amount, source currency, and target currency, then displaying the result
      * and historical exchange rate data.
+     * Every execution is recorded in the usage tracker, which drives the prefetcher, and is
+     * submitted to the content lane of the command bus.
      *
-     * @param main       the main application frame used to access dialogs and displays.
-     * @param currencies the list of available currencies to define dialogs.
-     * @return an instance of {@link ExchangeMoneyCommand} for handling currency exchange.
+     * @param main               the main application frame used to access dialogs and displays.
+     * @param bus                the command bus loading the conversion in the background.
+     * @param currencies         the list of available currencies to define dialogs.
+     * @param exchangeRateLoader the loader of latest exchange rates.
+     * @param statisticLoader    the loader of exchange rate histories.
+     * @param usage              the tracker of pair frequencies.
+     * @param activeConversion   the holder of the conversion currently shown.
+     * @return a command submitting an {@link ExchangeMoneyCommand} to the command bus.
      * @since       1.0
      */
-    private static Command initExchangeCommand(SwingMainFrame main, List<Currency> currencies, APIService apiDeserializer) {
-        return new ExchangeMoneyCommand(
+    private static Command initExchangeCommand(SwingMainFrame main, CommandBus bus, List<Currency> currencies, CachedExchangeRateLoader exchangeRateLoader, CachedStatisticLoader statisticLoader, PairUsageTracker usage, ActiveConversion activeConversion) {
+        Command command = bus.bind(CONTENT_LANE, new ExchangeMoneyCommand(
                 main.moneyDialog().define(currencies),
                 main.currencyDialog().define(currencies),
-                new FrankfurterExchangeRateLoader(apiDeserializer),
+                exchangeRateLoader,
                 main.moneyDisplay(),
                 main.contentDisplay(),
                 new TimeSeriesChartLoader(),
-                new FrankfurterTimeSeriesLoader(apiDeserializer)
-        );
+                statisticLoader,
+                activeConversion
+        ));
+        return () -> {
+            usage.record(new CurrencyPair(main.moneyDialog().get().currency(), main.currencyDialog().get()));
+            command.execute();
+        };
     }
 }
@@ -0,0 +1,61 @@
+package software.ulpgc.money;
+
+import software.ulpgc.money.architecture.io.APIService;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.frankfurter.FrankfurterCurrencyLoader;
+import software.ulpgc.money.frankfurter.FrankfurterTimeSeriesLoader;
+import software.ulpgc.money.metrics.MetricsRegistry;
+import software.ulpgc.money.net.IoScheduler;
+import software.ulpgc.money.store.HistoryBackfill;
+import software.ulpgc.money.store.RateHistoryStore;
+
+import java.time.Clock;
+import java.time.Period;
+import java.util.List;
+
+/**
+ * The {@code Backfill} class is the entry point of the job provisioning the local rate history
+ * of a new installation, so that rates at past dates are then served without the network.
+ *
+ * <p>It fetches the whole ECB history from the euro to every supported currency, with a
+ * {@link HistoryBackfill}, into the history file also used by {@link App}. These are the only
+ * pairs the history stores: the rates between two other currencies are derived from their euro
+ * legs, so they are provisioned as well. The file is saved under a lock and merged with the
+ * days saved by a running application, so both can run at once. The job can be interrupted and
+ * run again: it resumes after the last saved chunk. The job runs in its own process, with its
+ * own upstream governor: its requests are not counted against the limits of a running
+ * application, so both together may send up to {@code money.upstream.rate} requests per second
+ * each. Lower {@code money.backfill.rate} to backfill alongside the application. It is tuned with
+ * the following system properties:</p>
+ * <ul>
+ *   <li>{@code money.backfill.months}: the months fetched by each request (3 by default).</li>
+ *   <li>{@code money.backfill.parallelism}: the maximum number of requests running at once (4 by default).</li>
+ *   <li>{@code money.backfill.rate}: the maximum number of requests started per second (8 by default).</li>
+ * </ul>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class Backfill {
+
+    public static void main(String[] args) throws Exception {
+        APIService apiDeserializer = App.initApiService();
+        List<Currency> currencies = new FrankfurterCurrencyLoader(apiDeserializer).load();
+        Currency base = App.baseOf(currencies);
+        FrankfurterTimeSeriesLoader loader = new FrankfurterTimeSeriesLoader(apiDeserializer);
+        RateHistoryStore store = new RateHistoryStore(loader, base, Integer.getInteger("money.history.fill.days", 4), Clock.systemDefaultZone());
+        store.restore(App.HISTORY_FILE);
+        HistoryBackfill.Report report = new HistoryBackfill(
+                loader,
+                store,
+                App.HISTORY_FILE,
+                new IoScheduler(1, Integer.getInteger("money.backfill.parallelism", 4), MetricsRegistry.global()),
+                Integer.getInteger("money.backfill.rate", 8),
+                Period.ofMonths(Integer.getInteger("money.backfill.months", 3)),
+                Clock.systemDefaultZone()
+        ).run(base, currencies);
+        System.out.printf("Fetched %d chunks (%d already stored), %d rates in %.1f s, %.0f rates/s%n",
+                report.fetched(), report.skipped(), report.rates(), report.elapsed().toMillis() / 1000.0, report.ratesPerSecond());
+    }
+}
@@ -0,0 +1,413 @@
+package software.ulpgc.money.alert;
+
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.CurrencyPair;
+import software.ulpgc.money.architecture.model.ExchangeRate;
+import software.ulpgc.money.architecture.model.RateAlert;
+import software.ulpgc.money.architecture.model.RateAlert.Direction;
+import software.ulpgc.money.architecture.model.RateTable;
+import software.ulpgc.money.metrics.Counter;
+import software.ulpgc.money.metrics.MetricsRegistry;
+import software.ulpgc.money.metrics.Timer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.lang.System.Logger.Level.INFO;
+import static java.lang.System.Logger.Level.WARNING;
+
+/**
+ * The {@code AlertEngine} class keeps the rate alerts of the application and fires them when
+ * the exchange rates it is fed reach their levels.
+ *
+ * <p>The alerts of every pair are indexed in two primitive arrays of levels, sorted in ascending
+ * order: one for the alerts waiting for the rate to rise, one for those waiting for it to fall.
+ * As an alert fires only once, every armed alert rising to a level is above the last rate, and
+ * those firing on a new rate are a prefix of the array; the falling ones are a suffix. A new
+ * rate therefore only walks the alerts it fires, and one more, in {@code O(k)} whatever the
+ * number of alerts, and fired alerts are dropped by moving the bounds of the array.</p>
+ *
+ * <p>A rate also evaluates the alerts of the inverse pair, and a {@link RateTable} evaluates
+ * every pair with armed alerts at its cross rate.</p>
+ *
+ * <p>Evaluations are measured in the {@code alerts.evaluate} timer, fired alerts are counted in
+ * {@code alerts.fired} and armed ones sampled in {@code alerts.armed}.</p>
+ *
+ * <p>The alerts are kept in a properties file with one {@code id=FROM/TO DIRECTION level} line
+ * per alert. Alerts on currencies no longer supported are ignored when the file is read.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class AlertEngine {
+    private static final System.Logger LOGGER = System.getLogger(AlertEngine.class.getName());
+    private static final Timer EVALUATE_TIMER = MetricsRegistry.global().timer("alerts.evaluate");
+    private static final Counter FIRED = MetricsRegistry.global().counter("alerts.fired");
+    private final Path file;
+    private final Map<String, Currency> currencies;
+    private final ConcurrentHashMap<String, PairAlerts> pairs;
+    private final List<AlertListener> listeners;
+    private final AtomicLong ids;
+    private final AtomicInteger armed;
+
+    /**
+     * Constructs a new {@code AlertEngine} and reads the alerts stored in the given file, if any.
+     *
+     * @param file the file where the alerts are persisted.
+     * @param currencies the supported currencies, used to resolve the stored pairs.
+     * @since       1.1
+     */
+    public AlertEngine(Path file, List<Currency> currencies) {
+        this.file = file;
+        this.currencies = currencies.stream().collect(Collectors.toMap(Currency::code, Function.identity(), (a, _) -> a));
+        this.pairs = new ConcurrentHashMap<>();
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.ids = new AtomicLong(1);
+        this.armed = new AtomicInteger();
+        read();
+        MetricsRegistry.global().gauge("alerts.armed", armed::get);
+    }
+
+    /**
+     * Registers a listener notified of every alert fired.
+     *
+     * @param listener the listener.
+     * @since       1.1
+     */
+    public void addListener(AlertListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Arms a new alert.
+     *
+     * @param pair the pair whose rate is watched.
+     * @param direction whether the alert fires when the rate rises to the level or falls to it.
+     * @param threshold the level of the rate.
+     * @return the new alert.
+     * @throws IllegalArgumentException if the level is not a positive number.
+     * @since       1.1
+     */
+    public RateAlert add(CurrencyPair pair, Direction direction, double threshold) {
+        if (!(threshold > 0) || Double.isInfinite(threshold)) throw new IllegalArgumentException("Invalid alert level: " + threshold);
+        RateAlert alert = new RateAlert(ids.getAndIncrement(), pair, direction, threshold);
+        arm(alert);
+        return alert;
+    }
+
+    /**
+     * Disarms an alert.
+     *
+     * @param alert the alert.
+     * @return {@code true} if the alert was armed.
+     * @since       1.1
+     */
+    public boolean remove(RateAlert alert) {
+        PairAlerts alerts = pairs.get(alert.pair().key());
+        if (alerts == null || !alerts.remove(alert)) return false;
+        armed.decrementAndGet();
+        return true;
+    }
+
+    /**
+     * Returns the armed alerts, in the order they were added.
+     *
+     * @return the armed alerts.
+     * @since       1.1
+     */
+    public List<RateAlert> alerts() {
+        List<RateAlert> alerts = new ArrayList<>();
+        for (PairAlerts pair : pairs.values()) pair.copyTo(alerts);
+        alerts.sort(Comparator.comparingLong(RateAlert::id));
+        return alerts;
+    }
+
+    /**
+     * Checks whether any alert is armed.
+     *
+     * @return {@code true} if there is nothing to evaluate.
+     * @since       1.1
+     */
+    public boolean isEmpty() {
+        return armed.get() == 0;
+    }
+
+    /**
+     * Evaluates the alerts of the pair of an exchange rate and of its inverse pair, firing
+     * those whose level the rate reached.
+     *
+     * @param rate the new exchange rate.
+     * @since       1.1
+     */
+    public void update(ExchangeRate rate) {
+        if (isEmpty()) return;
+        long start = System.nanoTime();
+        List<RateAlert> fired = new ArrayList<>();
+        evaluate(pairs.get(rate.from().code() + "/" + rate.to().code()), rate.rate(), fired);
+        evaluate(pairs.get(rate.to().code() + "/" + rate.from().code()), 1 / rate.rate(), fired);
+        EVALUATE_TIMER.stop(start);
+        fire(fired, alert -> alert.pair().from().equals(rate.from()) ? rate : rate.inverse());
+    }
+
+    /**
+     * Evaluates the alerts of every pair quoted in a rate table, directly or as a cross rate,
+     * firing those whose level was reached.
+     *
+     * @param table the new rate table.
+     * @since       1.1
+     */
+    public void update(RateTable table) {
+        if (isEmpty()) return;
+        long start = System.nanoTime();
+        Map<Currency, Double> rates = new HashMap<>();
+        rates.put(table.base(), 1.0);
+        for (int i = 0; i < table.rates().length; i++)
+            if (table.rates()[i] > 0) rates.put(table.currencies().get(i), table.rates()[i]);
+        List<RateAlert> fired = new ArrayList<>();
+        for (PairAlerts alerts : pairs.values()) {
+            Double from = rates.get(alerts.pair.from()), to = rates.get(alerts.pair.to());
+            if (from != null && to != null) evaluate(alerts, to / from, fired);
+        }
+        EVALUATE_TIMER.stop(start);
+        fire(fired, alert -> new ExchangeRate(alert.pair().from(), alert.pair().to(), table.date(), rates.get(alert.pair().to()) / rates.get(alert.pair().from())));
+    }
+
+    /**
+     * Writes the armed alerts to the engine's file.
+     * Failures are logged, as the alerts will be missing on the next start.
+     * @since       1.1
+     */
+    public void save() {
+        Properties properties = new Properties();
+        for (RateAlert alert : alerts())
+            properties.setProperty(Long.toString(alert.id()), alert.pair().key() + " " + alert.direction() + " " + alert.threshold());
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (Writer writer = Files.newBufferedWriter(file)) {
+                properties.store(writer, "Rate alerts");
+            }
+        } catch (IOException e) {
+            LOGGER.log(WARNING, "Could not save the rate alerts", e);
+        }
+    }
+
+    /**
+     * Adds an alert to the arrays of its pair.
+     * @since       1.1
+     */
+    private void arm(RateAlert alert) {
+        pairs.computeIfAbsent(alert.pair().key(), _ -> new PairAlerts(alert.pair())).add(alert);
+        armed.incrementAndGet();
+    }
+
+    /**
+     * Collects and disarms the alerts of a pair reached by a rate.
+     * @since       1.1
+     */
+    private void evaluate(PairAlerts alerts, double rate, List<RateAlert> fired) {
+        if (alerts == null || !(rate > 0) || Double.isInfinite(rate)) return;
+        int count = alerts.evaluate(rate, fired);
+        armed.addAndGet(-count);
+    }
+
+    /**
+     * Notifies the listeners of the fired alerts, outside of any lock.
+     * @since       1.1
+     */
+    private void fire(List<RateAlert> fired, Function<RateAlert, ExchangeRate> rateOf) {
+        for (RateAlert alert : fired) {
+            ExchangeRate rate = rateOf.apply(alert);
+            FIRED.increment();
+            LOGGER.log(INFO, "Alert fired: " + alert + " at " + rate.rate() + " on " + rate.date());
+            for (AlertListener listener : listeners) listener.alertFired(alert, rate);
+        }
+    }
+
+    /**
+     * Reads the alerts stored in the engine's file, skipping malformed ones and unknown pairs.
+     * @since       1.1
+     */
+    private void read() {
+        if (!Files.isRegularFile(file)) return;
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            LOGGER.log(WARNING, "Could not read the rate alerts", e);
+            return;
+        }
+        for (String id : properties.stringPropertyNames()) {
+            RateAlert alert = toAlert(id, properties.getProperty(id));
+            if (alert == null) continue;
+            arm(alert);
+            ids.accumulateAndGet(alert.id() + 1, Math::max);
+        }
+    }
+
+    /**
+     * Parses a stored {@code FROM/TO DIRECTION level} alert.
+     *
+     * @param id the stored identifier.
+     * @param text the stored value.
+     * @return the parsed alert, or {@code null} if it is malformed or any of its currencies is not supported.
+     * @since       1.1
+     */
+    private RateAlert toAlert(String id, String text) {
+        String[] fields = text.trim().split("\\s+");
+        if (fields.length != 3) return null;
+        String[] codes = fields[0].split("/");
+        if (codes.length != 2 || !currencies.containsKey(codes[0]) || !currencies.containsKey(codes[1])) return null;
+        try {
+            double threshold = Double.parseDouble(fields[2]);
+            if (!(threshold > 0)) return null;
+            return new RateAlert(Long.parseLong(id.trim()), new CurrencyPair(currencies.get(codes[0]), currencies.get(codes[1])), Direction.valueOf(fields[1]), threshold);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The armed alerts of one pair, in one {@link Ladder} per direction.
+     * @since       1.1
+     */
+    private static final class PairAlerts {
+        private final CurrencyPair pair;
+        private final Ladder above = new Ladder();
+        private final Ladder below = new Ladder();
+
+        PairAlerts(CurrencyPair pair) {
+            this.pair = pair;
+        }
+
+        synchronized void add(RateAlert alert) {
+            (alert.direction() == Direction.ABOVE ? above : below).add(alert);
+        }
+
+        synchronized boolean remove(RateAlert alert) {
+            return (alert.direction() == Direction.ABOVE ? above : below).remove(alert);
+        }
+
+        synchronized void copyTo(List<RateAlert> alerts) {
+            above.copyTo(alerts);
+            below.copyTo(alerts);
+        }
+
+        /**
+         * Disarms the alerts reached by a rate: the lowest levels rising to it, the highest falling to it.
+         *
+         * @return the number of alerts fired.
+         * @since       1.1
+         */
+        synchronized int evaluate(double rate, List<RateAlert> fired) {
+            int count = 0;
+            while (above.start < above.end && above.thresholds[above.start] <= rate) {
+                fired.add(above.alerts[above.start]);
+                above.alerts[above.start++] = null;
+                count++;
+            }
+            while (below.end > below.start && below.thresholds[below.end - 1] >= rate) {
+                fired.add(below.alerts[--below.end]);
+                below.alerts[below.end] = null;
+                count++;
+            }
+            return count;
+        }
+    }
+
+    /**
+     * The alerts of one pair and direction, sorted by level in the slots {@code [start, end)}
+     * of two parallel arrays.
+     * @since       1.1
+     */
+    private static final class Ladder {
+        private double[] thresholds = new double[4];
+        private RateAlert[] alerts = new RateAlert[4];
+        private int start;
+        private int end;
+
+        /**
+         * Inserts an alert after those with the same level, moving the armed slots to the
+         * front of the arrays or growing them first if they are full.
+         * @since       1.1
+         */
+        void add(RateAlert alert) {
+            int size = end - start;
+            if (end == thresholds.length) {
+                int capacity = size * 2 < thresholds.length ? thresholds.length : thresholds.length * 2;
+                double[] newThresholds = new double[capacity];
+                RateAlert[] newAlerts = new RateAlert[capacity];
+                System.arraycopy(thresholds, start, newThresholds, 0, size);
+                System.arraycopy(alerts, start, newAlerts, 0, size);
+                thresholds = newThresholds;
+                alerts = newAlerts;
+                start = 0;
+                end = size;
+            }
+            int index = upperBound(alert.threshold());
+            System.arraycopy(thresholds, index, thresholds, index + 1, end - index);
+            System.arraycopy(alerts, index, alerts, index + 1, end - index);
+            thresholds[index] = alert.threshold();
+            alerts[index] = alert;
+            end++;
+        }
+
+        /**
+         * Removes an alert, looking it up among those with its level.
+         *
+         * @return {@code true} if the alert was found.
+         * @since       1.1
+         */
+        boolean remove(RateAlert alert) {
+            int index = Arrays.binarySearch(thresholds, start, end, alert.threshold());
+            if (index < 0) return false;
+            while (index > start && thresholds[index - 1] == alert.threshold()) index--;
+            for (; index < end && thresholds[index] == alert.threshold(); index++) {
+                if (alerts[index].id() != alert.id()) continue;
+                System.arraycopy(thresholds, index + 1, thresholds, index, end - index - 1);
+                System.arraycopy(alerts, index + 1, alerts, index, end - index - 1);
+                alerts[--end] = null;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Adds the armed alerts to a list, in ascending order of level.
+         * @since       1.1
+         */
+        void copyTo(List<RateAlert> list) {
+            list.addAll(Arrays.asList(alerts).subList(start, end));
+        }
+
+        /**
+         * Returns the index of the first armed level above the given one.
+         * @since       1.1
+         */
+        private int upperBound(double threshold) {
+            int low = start, high = end;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (thresholds[middle] <= threshold) low = middle + 1;
+                else high = middle;
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package software.ulpgc.money.alert;
+
+import software.ulpgc.money.architecture.model.ExchangeRate;
+import software.ulpgc.money.architecture.model.RateAlert;
+
+/**
+ * The {@code AlertListener} interface is notified of the alerts fired by an {@link AlertEngine}.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+@FunctionalInterface
+public interface AlertListener {
+    /**
+     * Called when an alert is fired, on the thread that updated the rate. The alert is no
+     * longer armed when this method is called.
+     *
+     * @param alert the fired alert.
+     * @param rate the exchange rate of the alert's pair that reached its level.
+     * @since       1.1
+     */
+    void alertFired(RateAlert alert, ExchangeRate rate);
+}
@@ -0,0 +1,84 @@
+package software.ulpgc.money.alert;
+
+import software.ulpgc.money.architecture.io.RateTableLoader;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.net.IoScheduler;
+import software.ulpgc.money.net.Priority;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.System.Logger.Level.DEBUG;
+
+/**
+ * The {@code AlertMonitor} class evaluates the armed alerts periodically, whether or not the
+ * user converts their pairs.
+ *
+ * <p>Every check loads a single {@link software.ulpgc.money.architecture.model.RateTable}: its
+ * cross rates quote every pair, so the cost of a check depends neither on the number of alerts
+ * nor on the number of pairs watched. Nothing is loaded while no alert is armed.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class AlertMonitor {
+    private static final System.Logger LOGGER = System.getLogger(AlertMonitor.class.getName());
+    private final AlertEngine engine;
+    private final RateTableLoader loader;
+    private final Currency base;
+    private final ScheduledExecutorService executor;
+    private final IoScheduler scheduler;
+
+    /**
+     * Constructs a new {@code AlertMonitor}.
+     *
+     * @param engine the engine evaluating the alerts.
+     * @param loader the loader of the rate tables, preferably cached.
+     * @param base the currency the rate tables are loaded from.
+     * @param scheduler the scheduler running the checks in its maintenance lane.
+     * @since       1.1
+     */
+    public AlertMonitor(AlertEngine engine, RateTableLoader loader, Currency base, IoScheduler scheduler) {
+        this.engine = engine;
+        this.loader = loader;
+        this.base = base;
+        this.executor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("alert-monitor").factory());
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Starts checking the alerts with the given period. Each check runs as a maintenance task
+     * of the {@link IoScheduler}.
+     *
+     * @param period the time between two checks.
+     * @since       1.1
+     */
+    public void start(Duration period) {
+        executor.scheduleWithFixedDelay(() -> scheduler.submit(Priority.MAINTENANCE, this::check), 0, period.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops checking the alerts.
+     * @since       1.1
+     */
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Loads the latest rate table and evaluates the alerts with it.
+     * Failures are ignored, as the next check will try again.
+     * @since       1.1
+     */
+    void check() {
+        if (engine.isEmpty()) return;
+        try {
+            engine.update(loader.load(base));
+        } catch (RuntimeException e) {
+            LOGGER.log(DEBUG, "Could not check the rate alerts", e);
+        }
+    }
+}
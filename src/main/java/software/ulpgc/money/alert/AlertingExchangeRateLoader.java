@@ -0,0 +1,80 @@
+package software.ulpgc.money.alert;
+
+import software.ulpgc.money.architecture.io.ExchangeRateLoader;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.ExchangeRate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * {@code AlertingExchangeRateLoader} is an {@link ExchangeRateLoader} decorator feeding every
+ * latest rate it loads to an {@link AlertEngine}. Rates at past dates are not evaluated, as
+ * alerts watch the current rate.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class AlertingExchangeRateLoader implements ExchangeRateLoader {
+    private final ExchangeRateLoader loader;
+    private final AlertEngine engine;
+
+    /**
+     * Constructs a new {@code AlertingExchangeRateLoader}.
+     *
+     * @param loader the loader of the rates.
+     * @param engine the engine evaluating the latest rates.
+     * @since       1.1
+     */
+    public AlertingExchangeRateLoader(ExchangeRateLoader loader, AlertEngine engine) {
+        this.loader = loader;
+        this.engine = engine;
+    }
+
+    /**
+     * Loads the latest exchange rate between the given currencies with the decorated loader, and evaluates it.
+     *
+     * @param from The source currency.
+     * @param to The target currency.
+     * @return An {@link ExchangeRate} object representing the exchange rate between the given currencies.
+     * @since       1.1
+     */
+    @Override
+    public ExchangeRate load(Currency from, Currency to) {
+        ExchangeRate rate = loader.load(from, to);
+        engine.update(rate);
+        return rate;
+    }
+
+    /**
+     * Loads the exchange rate between the given currencies in force at the given date with the decorated loader.
+     *
+     * @param from The source currency.
+     * @param to The target currency.
+     * @param date The date of the rate.
+     * @return An {@link ExchangeRate} object whose date is the publication date of the rate.
+     * @throws IllegalArgumentException if no rate is known at that date.
+     * @since       1.1
+     */
+    @Override
+    public ExchangeRate load(Currency from, Currency to, LocalDate date) {
+        return loader.load(from, to, date);
+    }
+
+    /**
+     * Loads the exchange rates between the given currencies in force at each of the given dates
+     * with the decorated loader.
+     *
+     * @param from The source currency.
+     * @param to The target currency.
+     * @param dates The dates of the rates.
+     * @return The exchange rates, in the order of the dates.
+     * @throws IllegalArgumentException if no rate is known at one of the dates.
+     * @since       1.1
+     */
+    @Override
+    public List<ExchangeRate> load(Currency from, Currency to, List<LocalDate> dates) {
+        return loader.load(from, to, dates);
+    }
+}
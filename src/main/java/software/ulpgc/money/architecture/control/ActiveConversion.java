@@ -0,0 +1,54 @@
+package software.ulpgc.money.architecture.control;
+
+import software.ulpgc.money.architecture.model.Conversion;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The {@code ActiveConversion} class holds the conversion currently shown to the user, that is,
+ * the money entered and the exchange rate it was converted at.
+ *
+ * <p>It is written by {@link ExchangeMoneyCommand} and read by the components that keep the
+ * displayed result up to date without asking the user to press "Calculate" again, such as the
+ * {@link RateRefreshScheduler}. It is safe to use from any thread.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class ActiveConversion {
+    private final AtomicReference<Conversion> conversion = new AtomicReference<>();
+
+    /**
+     * Returns the conversion currently shown.
+     *
+     * @return the active {@link Conversion}, or {@code null} if nothing was converted yet.
+     * @since       1.1
+     */
+    public Conversion get() {
+        return conversion.get();
+    }
+
+    /**
+     * Replaces the conversion currently shown.
+     *
+     * @param conversion the new active {@link Conversion}.
+     * @since       1.1
+     */
+    public void set(Conversion conversion) {
+        this.conversion.set(conversion);
+    }
+
+    /**
+     * Replaces the active conversion only if it is still the expected one, so that a background
+     * update never overwrites a newer conversion made by the user.
+     *
+     * @param expected the conversion the update was computed from.
+     * @param updated the updated conversion.
+     * @return {@code true} if the active conversion was replaced.
+     * @since       1.1
+     */
+    public boolean update(Conversion expected, Conversion updated) {
+        return conversion.compareAndSet(expected, updated);
+    }
+}
@@ -0,0 +1,47 @@
+package software.ulpgc.money.architecture.control;
+
+import java.util.function.Supplier;
+
+/**
+ * The {@code AsyncCommand} interface is a {@link Command} split into the three steps of a
+ * user action that loads data: reading the user input, loading, and showing the result.
+ *
+ * <p>The first and last steps touch the user interface and run on the Event Dispatch Thread;
+ * the loading step may block and is meant to run in the background, as done by the
+ * {@link CommandBus}. Executing the command directly runs the three steps one after the other
+ * on the calling thread.</p>
+ *
+ * @param <R> the type of the loaded result.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public interface AsyncCommand<R> extends Command {
+    /**
+     * Reads the user input and returns the work loading the result for it. If the input is
+     * invalid, the user is told so and nothing is returned.
+     *
+     * @return the loading work, or {@code null} if there is nothing to load.
+     * @since       1.1
+     */
+    Supplier<R> prepare();
+
+    /**
+     * Shows a loaded result to the user.
+     *
+     * @param result the result returned by the work of {@link #prepare()}.
+     * @since       1.1
+     */
+    void apply(R result);
+
+    /**
+     * Prepares, loads and applies the command on the calling thread.
+     * @since       1.1
+     */
+    @Override
+    default void execute() {
+        Supplier<R> work = prepare();
+        if (work != null) apply(work.get());
+    }
+}
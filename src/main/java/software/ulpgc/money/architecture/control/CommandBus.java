@@ -0,0 +1,192 @@
+package software.ulpgc.money.architecture.control;
+
+import software.ulpgc.money.metrics.Counter;
+import software.ulpgc.money.metrics.MetricsRegistry;
+import software.ulpgc.money.metrics.Timer;
+import software.ulpgc.money.net.IoScheduler;
+import software.ulpgc.money.net.Priority;
+import software.ulpgc.money.swing.ErrorMessageDialogFactory;
+
+import javax.swing.*;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static java.lang.System.Logger.Level.WARNING;
+
+/**
+ * The {@code CommandBus} class runs the loading step of {@link AsyncCommand}s off the Event
+ * Dispatch Thread, so that the user interface stays responsive while rates are fetched.
+ *
+ * <p>Commands are submitted to named lanes, and only the latest submission of a lane matters:
+ * every submission gets the next generation of its lane and interrupts the work still running
+ * for the previous one, which aborts its HTTP requests. A result is shown only if its generation
+ * is still the current one when it reaches the Event Dispatch Thread, so rapid clicks end up
+ * doing, and showing, only the work of the last click.</p>
+ *
+ * <p>Commands are submitted from the Event Dispatch Thread, and each loading step runs as an
+ * interactive task of an {@link IoScheduler}, ahead of any background work. The bus counts the submitted, superseded and discarded commands, and
+ * measures the loading steps of each lane in a {@code bus.<lane>} timer.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class CommandBus {
+    private static final System.Logger LOGGER = System.getLogger(CommandBus.class.getName());
+    private final IoScheduler scheduler;
+    private final Map<String, Lane> lanes;
+    private final MetricsRegistry registry;
+    private final Counter submitted;
+    private final Counter superseded;
+    private final Counter discarded;
+
+    /**
+     * Constructs a new {@code CommandBus}.
+     *
+     * @param scheduler the scheduler running the loading steps.
+     * @param registry the registry receiving the metrics of the bus.
+     * @since       1.1
+     */
+    public CommandBus(IoScheduler scheduler, MetricsRegistry registry) {
+        this.scheduler = scheduler;
+        this.lanes = new ConcurrentHashMap<>();
+        this.registry = registry;
+        this.submitted = registry.counter("bus.submitted");
+        this.superseded = registry.counter("bus.superseded");
+        this.discarded = registry.counter("bus.discarded");
+    }
+
+    /**
+     * Returns a command submitting the given command to a lane of this bus.
+     *
+     * @param lane the name of the lane.
+     * @param command the command to submit.
+     * @return the submitting command.
+     * @since       1.1
+     */
+    public Command bind(String lane, AsyncCommand<?> command) {
+        return () -> submit(lane, command);
+    }
+
+    /**
+     * Registers an action run on the Event Dispatch Thread whenever the work of a lane is
+     * superseded, for instance to stop an animation that is about to be replaced.
+     *
+     * @param lane the name of the lane.
+     * @param action the action to run.
+     * @since       1.1
+     */
+    public void onSupersede(String lane, Runnable action) {
+        lane(lane).onSupersede = action;
+    }
+
+    /**
+     * Prepares a command on the calling thread, which must be the Event Dispatch Thread, and
+     * loads its result in the background, superseding the previous submission of the lane.
+     *
+     * @param lane the name of the lane.
+     * @param command the command to submit.
+     * @param <R> the type of the loaded result.
+     * @since       1.1
+     */
+    public <R> void submit(String lane, AsyncCommand<R> command) {
+        Supplier<R> work = command.prepare();
+        if (work == null) return;
+        Lane target = lane(lane);
+        long generation = target.supersede();
+        submitted.increment();
+        target.inFlight = scheduler.submit(Priority.INTERACTIVE, () -> run(target, generation, work, command));
+    }
+
+    /**
+     * Supersedes the work of a lane without submitting anything new, so that its pending
+     * result is never shown.
+     *
+     * @param lane the name of the lane.
+     * @since       1.1
+     */
+    public void cancel(String lane) {
+        lane(lane).supersede();
+    }
+
+    /**
+     * Returns the lane with the given name, creating it if needed.
+     *
+     * @param name the name of the lane.
+     * @return the lane.
+     * @since       1.1
+     */
+    private Lane lane(String name) {
+        return lanes.computeIfAbsent(name, n -> new Lane(registry.timer("bus." + n)));
+    }
+
+    /**
+     * Loads the result of a command and hands it to the Event Dispatch Thread, unless a newer
+     * submission has superseded it. Failures are reported to the user only if still current, and
+     * cancelled work, which was superseded or cancelled on purpose, is discarded silently.
+     *
+     * @since       1.1
+     */
+    private <R> void run(Lane lane, long generation, Supplier<R> work, AsyncCommand<R> command) {
+        long start = System.nanoTime();
+        try {
+            R result = work.get();
+            lane.timer.stop(start);
+            SwingUtilities.invokeLater(() -> {
+                if (lane.isCurrent(generation)) command.apply(result);
+                else discarded.increment();
+            });
+        } catch (CancellationException e) {
+            discarded.increment();
+        } catch (RuntimeException e) {
+            if (!lane.isCurrent(generation)) return;
+            lane.timer.error();
+            LOGGER.log(WARNING, "Command failed", e);
+            SwingUtilities.invokeLater(() -> {
+                if (lane.isCurrent(generation)) ErrorMessageDialogFactory.showErrorMessage(null,
+                        "The exchange rates could not be loaded, please try again",
+                        "Error");
+            });
+        }
+    }
+
+    /**
+     * A lane of the bus, holding its current generation and the work running for it.
+     * @since       1.1
+     */
+    private final class Lane {
+        private final Timer timer;
+        private volatile long generation;
+        private volatile Future<?> inFlight;
+        private volatile Runnable onSupersede;
+
+        Lane(Timer timer) {
+            this.timer = timer;
+        }
+
+        /**
+         * Starts a new generation, then interrupts the work of the previous one, so that the
+         * interrupted work is no longer current whatever it fails with.
+         *
+         * @return the new generation.
+         * @since       1.1
+         */
+        long supersede() {
+            long next = ++generation;
+            Future<?> previous = inFlight;
+            if (previous != null && !previous.isDone()) {
+                previous.cancel(true);
+                superseded.increment();
+            }
+            if (onSupersede != null) onSupersede.run();
+            return next;
+        }
+
+        boolean isCurrent(long generation) {
+            return this.generation == generation;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package software.ulpgc.money.architecture.control;
+
+import software.ulpgc.money.architecture.io.StatisticLoader;
+import software.ulpgc.money.architecture.model.AlignedRateSeries;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.TimeSeriesChart;
+import software.ulpgc.money.architecture.view.ComparisonDialog;
+import software.ulpgc.money.architecture.view.ContentDisplay;
+import software.ulpgc.money.architecture.view.MoneyDialog;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * The {@code CompareCurrenciesCommand} class implements the {@link AsyncCommand} interface and is
+ * responsible for overlaying the exchange rates from the source currency to several others
+ * on a single chart. This command is triggered when the "Compare" button is pressed.
+ *
+ * <p>All the series are fetched with a single multi-symbol request, aligned on the same days,
+ * and rendered together in one chart rebuild.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class CompareCurrenciesCommand implements AsyncCommand<CompareCurrenciesCommand.Result> {
+    private final MoneyDialog moneyDialog;
+    private final ComparisonDialog comparisonDialog;
+    private final StatisticLoader statisticLoader;
+    private final ContentDisplay contentDisplay;
+
+    /**
+     * Constructs a {@code CompareCurrenciesCommand} instance.
+     *
+     * @param moneyDialog      the dialog to retrieve the source currency
+     * @param comparisonDialog the dialog to retrieve the currencies to compare
+     * @param statisticLoader  the loader of the aligned exchange rate time series
+     * @param contentDisplay   the component responsible for displaying the comparison chart
+     * @since 1.1
+     */
+    public CompareCurrenciesCommand(MoneyDialog moneyDialog, ComparisonDialog comparisonDialog, StatisticLoader statisticLoader, ContentDisplay contentDisplay) {
+        this.moneyDialog = moneyDialog;
+        this.comparisonDialog = comparisonDialog;
+        this.statisticLoader = statisticLoader;
+        this.contentDisplay = contentDisplay;
+    }
+
+    /**
+     * Asks the user for the currencies to compare and returns the work loading their exchange
+     * rates from the source currency. The source currency itself is left out of the comparison,
+     * and nothing is done if no other currency is selected.
+     *
+     * @return the loading work, or {@code null} if there is nothing to compare.
+     * @since 1.1
+     */
+    @Override
+    public Supplier<Result> prepare() {
+        Currency from = moneyDialog.get().currency();
+        List<Currency> to = comparisonDialog.get().stream().filter(c -> !c.equals(from)).toList();
+        if (to.isEmpty()) return null;
+        boolean normalized = comparisonDialog.normalized();
+        return () -> new Result(chartOf(from, to, normalized), statisticLoader.loadStatistics(from, to), normalized);
+    }
+
+    /**
+     * Displays the comparison chart.
+     *
+     * @param result the loaded comparison.
+     * @since 1.1
+     */
+    @Override
+    public void apply(Result result) {
+        contentDisplay.showComparison(result.chart(), result.series(), result.normalized());
+    }
+
+    /**
+     * Creates the chart description of the comparison.
+     *
+     * @param from the source currency.
+     * @param to the compared currencies.
+     * @param normalized whether the series are normalised.
+     * @return the {@link TimeSeriesChart} with title and axis labels.
+     * @since 1.1
+     */
+    private static TimeSeriesChart chartOf(Currency from, List<Currency> to, boolean normalized) {
+        String codes = to.stream().map(Currency::code).collect(Collectors.joining(", "));
+        return new TimeSeriesChart(from.code() + " to " + codes, "Date", normalized ? "Index (start = 100)" : "Rate");
+    }
+
+    /**
+     * The result loaded by a {@code CompareCurrenciesCommand}.
+     *
+     * @param chart the chart description of the comparison.
+     * @param series the aligned exchange rate series.
+     * @param normalized whether the series are normalised.
+     * @since 1.1
+     */
+    public record Result(TimeSeriesChart chart, AlignedRateSeries series, boolean normalized) {
+    }
+}
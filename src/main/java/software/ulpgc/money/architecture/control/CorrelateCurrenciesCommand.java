@@ -0,0 +1,171 @@
+package software.ulpgc.money.architecture.control;
+
+import software.ulpgc.money.architecture.io.StatisticLoader;
+import software.ulpgc.money.architecture.model.AlignedRateSeries;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.view.CorrelationDialog;
+import software.ulpgc.money.architecture.view.CorrelationDisplay;
+import software.ulpgc.money.architecture.view.MoneyDialog;
+import software.ulpgc.money.math.CorrelationEngine;
+import software.ulpgc.money.math.CorrelationMatrix;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The {@code CorrelateCurrenciesCommand} class implements the {@link AsyncCommand} interface and
+ * is responsible for correlating the exchange rates from the source currency to every other one
+ * over a window chosen by the user. This command is triggered when the "Correlate" button is pressed.
+ *
+ * <p>All the histories are loaded with a single multi-currency request for the window, aligned
+ * on the business days every currency was published on, and handed to a
+ * {@link CorrelationEngine} as primitive columns. The engine of the last correlation shown is
+ * kept: correlating the same currency over the same window again only loads and appends the
+ * days published since.</p>
+ *
+ * <p>Currencies not published on the last day of the window, e.g. those discontinued by the ECB,
+ * are left out of the correlation.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class CorrelateCurrenciesCommand implements AsyncCommand<CorrelateCurrenciesCommand.Result> {
+    // Calendar days loaded per business day of the window, and extra days covering holidays.
+    private static final double CALENDAR_DAYS = 7.0 / 5;
+    private static final int HOLIDAY_DAYS = 30;
+    private final MoneyDialog moneyDialog;
+    private final CorrelationDialog correlationDialog;
+    private final List<Currency> currencies;
+    private final StatisticLoader statisticLoader;
+    private final CorrelationDisplay correlationDisplay;
+    private final Clock clock;
+    private volatile Result last;
+
+    /**
+     * Constructs a {@code CorrelateCurrenciesCommand} instance.
+     *
+     * @param moneyDialog        the dialog to retrieve the source currency
+     * @param correlationDialog  the dialog to retrieve the window of the correlation
+     * @param currencies         the currencies correlated
+     * @param statisticLoader    the loader of the aligned exchange rate time series between two dates
+     * @param correlationDisplay the component responsible for displaying the correlation matrix
+     * @param clock              the clock giving the current day
+     * @since 1.1
+     */
+    public CorrelateCurrenciesCommand(MoneyDialog moneyDialog, CorrelationDialog correlationDialog, List<Currency> currencies, StatisticLoader statisticLoader, CorrelationDisplay correlationDisplay, Clock clock) {
+        this.moneyDialog = moneyDialog;
+        this.correlationDialog = correlationDialog;
+        this.currencies = currencies;
+        this.statisticLoader = statisticLoader;
+        this.correlationDisplay = correlationDisplay;
+        this.clock = clock;
+    }
+
+    /**
+     * Asks the user for the window and returns the work correlating the rates from the source
+     * currency to every other one over it. Nothing is done if the user cancels the dialog.
+     *
+     * @return the loading work, or {@code null} if the dialog was cancelled.
+     * @since 1.1
+     */
+    @Override
+    public Supplier<Result> prepare() {
+        Currency from = moneyDialog.get().currency();
+        int window = correlationDialog.get();
+        if (window <= 0) return null;
+        Result previous = last;
+        if (previous != null && previous.from().equals(from) && previous.engine().window() == window && previous.engine().lastDay() != Integer.MIN_VALUE)
+            return () -> update(previous);
+        return () -> load(from, window);
+    }
+
+    /**
+     * Displays the correlation matrix, and keeps its engine for the next correlation.
+     *
+     * @param result the loaded correlation.
+     * @since 1.1
+     */
+    @Override
+    public void apply(Result result) {
+        last = result;
+        correlationDisplay.showCorrelation(result.from(), result.currencies(), result.matrix(), result.end());
+    }
+
+    /**
+     * Loads the histories of the window and builds a new engine from them.
+     *
+     * @param from the source currency.
+     * @param window the number of daily returns to correlate.
+     * @return the correlation.
+     * @since 1.1
+     */
+    private Result load(Currency from, int window) {
+        LocalDate today = LocalDate.now(clock);
+        List<Currency> to = currencies.stream().filter(c -> !c.equals(from)).toList();
+        AlignedRateSeries series = statisticLoader.loadStatistics(from, to, today.minusDays((long) Math.ceil(window * CALENDAR_DAYS) + HOLIDAY_DAYS), today);
+        List<Currency> published = new ArrayList<>();
+        List<double[]> columns = new ArrayList<>();
+        for (int j = 0; j < to.size(); j++) {
+            double[] column = series.rates()[j];
+            if (column.length == 0 || Double.isNaN(column[column.length - 1])) continue;
+            published.add(to.get(j));
+            columns.add(column);
+        }
+        CorrelationEngine engine = CorrelationEngine.of(series.days(), columns.toArray(double[][]::new), window);
+        return new Result(from, List.copyOf(published), engine, engine.matrix(), endOf(engine, today));
+    }
+
+    /**
+     * Loads the days published since those of a previous correlation and appends them to its
+     * engine. The engine is locked meanwhile, so two updates never append the same days.
+     *
+     * @param previous the previous correlation.
+     * @return the updated correlation.
+     * @since 1.1
+     */
+    private Result update(Result previous) {
+        CorrelationEngine engine = previous.engine();
+        synchronized (engine) {
+            LocalDate today = LocalDate.now(clock);
+            LocalDate start = LocalDate.ofEpochDay(engine.lastDay() + 1);
+            if (!start.isAfter(today)) {
+                AlignedRateSeries series = statisticLoader.loadStatistics(previous.from(), previous.currencies(), start, today);
+                double[] row = new double[series.to().size()];
+                for (int i = 0; i < series.size(); i++) {
+                    for (int j = 0; j < row.length; j++) row[j] = series.rates()[j][i];
+                    engine.append(series.days()[i], row);
+                }
+            }
+            return new Result(previous.from(), previous.currencies(), engine, engine.matrix(), endOf(engine, today));
+        }
+    }
+
+    /**
+     * Returns the last day of the returns correlated by an engine, or today if it has none.
+     *
+     * @param engine the engine.
+     * @param today the current day.
+     * @return the day of the last rates appended to the engine.
+     * @since 1.1
+     */
+    private static LocalDate endOf(CorrelationEngine engine, LocalDate today) {
+        return engine.lastDay() == Integer.MIN_VALUE ? today : LocalDate.ofEpochDay(engine.lastDay());
+    }
+
+    /**
+     * The result loaded by a {@code CorrelateCurrenciesCommand}.
+     *
+     * @param from the currency every rate is quoted from.
+     * @param currencies the correlated currencies, in the order of the rows of the matrix.
+     * @param engine the engine the matrix was computed by.
+     * @param matrix the correlation and covariance matrices.
+     * @param end the last day of the returns correlated.
+     * @since 1.1
+     */
+    public record Result(Currency from, List<Currency> currencies, CorrelationEngine engine, CorrelationMatrix matrix, LocalDate end) {
+    }
+}
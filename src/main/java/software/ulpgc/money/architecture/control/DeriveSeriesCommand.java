@@ -0,0 +1,102 @@
+package software.ulpgc.money.architecture.control;
+
+import software.ulpgc.money.architecture.io.StatisticLoader;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.TimeSeriesChart;
+import software.ulpgc.money.architecture.view.ContentDisplay;
+import software.ulpgc.money.architecture.view.ExpressionDialog;
+import software.ulpgc.money.architecture.view.MoneyDialog;
+import software.ulpgc.money.expr.DerivedSeries;
+import software.ulpgc.money.expr.Expression;
+import software.ulpgc.money.swing.ErrorMessageDialogFactory;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The {@code DeriveSeriesCommand} class implements the {@link AsyncCommand} interface and is
+ * responsible for charting a series derived from the exchange rates of several currencies, such
+ * as a basket, a spread or a ratio, written by the user as an {@link Expression}. This command
+ * is triggered when the "Derive" button is pressed.
+ *
+ * <p>The expression is parsed on the event dispatch thread, so a syntax error is reported at
+ * once. The whole history of the currencies it refers to is then loaded with a single
+ * multi-currency request, and the expression evaluated over its aligned columns in one pass.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class DeriveSeriesCommand implements AsyncCommand<DerivedSeries> {
+    private final MoneyDialog moneyDialog;
+    private final ExpressionDialog expressionDialog;
+    private final List<Currency> currencies;
+    private final StatisticLoader historyLoader;
+    private final ContentDisplay contentDisplay;
+    private final LocalDate origin;
+    private final Clock clock;
+
+    /**
+     * Constructs a {@code DeriveSeriesCommand} instance.
+     *
+     * @param moneyDialog      the dialog to retrieve the source currency
+     * @param expressionDialog the dialog to retrieve the expression
+     * @param currencies       the currencies the expression may refer to
+     * @param historyLoader    the loader of the aligned exchange rate time series between two dates
+     * @param contentDisplay   the component responsible for displaying the derived series
+     * @param origin           the first day of the history
+     * @param clock            the clock giving the current day
+     * @since 1.1
+     */
+    public DeriveSeriesCommand(MoneyDialog moneyDialog, ExpressionDialog expressionDialog, List<Currency> currencies, StatisticLoader historyLoader, ContentDisplay contentDisplay, LocalDate origin, Clock clock) {
+        this.moneyDialog = moneyDialog;
+        this.expressionDialog = expressionDialog;
+        this.currencies = currencies;
+        this.historyLoader = historyLoader;
+        this.contentDisplay = contentDisplay;
+        this.origin = origin;
+        this.clock = clock;
+    }
+
+    /**
+     * Asks the user for the expression and returns the work evaluating it over the whole history
+     * of its currencies. Nothing is done if the user cancels the dialog, and an error message is
+     * shown instead if the expression is invalid or only refers to the source currency.
+     *
+     * @return the loading work, or {@code null} if there is nothing to derive.
+     * @since 1.1
+     */
+    @Override
+    public Supplier<DerivedSeries> prepare() {
+        Currency from = moneyDialog.get().currency();
+        String text = expressionDialog.get(from);
+        if (text == null) return null;
+        Expression expression;
+        try {
+            expression = Expression.parse(text, currencies);
+        } catch (IllegalArgumentException e) {
+            ErrorMessageDialogFactory.showErrorMessage(null, e.getMessage(), "Invalid expression");
+            return null;
+        }
+        List<Currency> to = expression.currencies().stream().filter(c -> !c.equals(from)).toList();
+        if (to.isEmpty()) {
+            ErrorMessageDialogFactory.showErrorMessage(null, "The expression must refer to a currency other than " + from.code(), "Invalid expression");
+            return null;
+        }
+        return () -> expression.evaluate(historyLoader.loadStatistics(from, to, origin, LocalDate.now(clock)));
+    }
+
+    /**
+     * Displays the derived series.
+     *
+     * @param series the evaluated series.
+     * @since 1.1
+     */
+    @Override
+    public void apply(DerivedSeries series) {
+        TimeSeriesChart chart = new TimeSeriesChart(series.expression() + " from " + series.from().code(), "Date", "Value");
+        contentDisplay.showDerived(chart, series.days(), series.values());
+    }
+}
@@ -0,0 +1,87 @@
+package software.ulpgc.money.architecture.control;
+
+import software.ulpgc.money.architecture.io.RateTableLoader;
+import software.ulpgc.money.architecture.model.Money;
+import software.ulpgc.money.architecture.model.RateTable;
+import software.ulpgc.money.architecture.view.ConversionTableDisplay;
+import software.ulpgc.money.architecture.view.MoneyDialog;
+import software.ulpgc.money.math.RateMath;
+import software.ulpgc.money.swing.ErrorMessageDialogFactory;
+
+import java.util.function.Supplier;
+
+/**
+ * The {@code ExchangeAllCommand} class implements the {@link AsyncCommand} interface and is
+ * responsible for converting the entered amount into every supported currency at once.
+ * This command is triggered when the "All" button is pressed in the application.
+ *
+ * <p>All the rates come from a single {@link RateTable}, that is, from one request or from the
+ * cache, and the amounts are computed in a single vectorised pass over the primitive rate array
+ * through {@link RateMath}.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class ExchangeAllCommand implements AsyncCommand<ExchangeAllCommand.Result> {
+    private final MoneyDialog moneyDialog;
+    private final RateTableLoader rateTableLoader;
+    private final ConversionTableDisplay conversionTableDisplay;
+
+    /**
+     * Constructs an {@code ExchangeAllCommand} instance.
+     *
+     * @param moneyDialog            the dialog to retrieve the amount and source money to be converted
+     * @param rateTableLoader        the loader to fetch the rates to every supported currency
+     * @param conversionTableDisplay the component responsible for displaying the converted amounts
+     * @since 1.1
+     */
+    public ExchangeAllCommand(MoneyDialog moneyDialog, RateTableLoader rateTableLoader, ConversionTableDisplay conversionTableDisplay) {
+        this.moneyDialog = moneyDialog;
+        this.rateTableLoader = rateTableLoader;
+        this.conversionTableDisplay = conversionTableDisplay;
+    }
+
+    /**
+     * Reads the entered amount and returns the work converting it into every currency quoted
+     * from its currency. If the amount is negative, an error message is displayed to the user
+     * in a dialog.
+     *
+     * @return the loading work, or {@code null} if the amount is invalid.
+     * @since 1.1
+     */
+    @Override
+    public Supplier<Result> prepare() {
+        Money money = moneyDialog.get();
+        if (money.amount() >= 0) return () -> {
+            RateTable rates = rateTableLoader.load(money.currency());
+            return new Result(money, rates, RateMath.multiply(rates.rates(), money.amount()));
+        };
+        ErrorMessageDialogFactory.showErrorMessage(null,
+                "Please, insert valid data",
+                "Error");
+        return null;
+    }
+
+    /**
+     * Displays the converted amounts.
+     *
+     * @param result the loaded conversions.
+     * @since 1.1
+     */
+    @Override
+    public void apply(Result result) {
+        conversionTableDisplay.show(result.money(), result.rates(), result.amounts());
+    }
+
+    /**
+     * The result loaded by an {@code ExchangeAllCommand}.
+     *
+     * @param money the converted money.
+     * @param rates the rates from the currency of the money.
+     * @param amounts the converted amounts, in the order of the rates.
+     * @since 1.1
+     */
+    public record Result(Money money, RateTable rates, double[] amounts) {
+    }
+}
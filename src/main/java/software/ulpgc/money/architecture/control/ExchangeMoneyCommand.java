@@ -3,17 +3,23 @@ package software.ulpgc.money.architecture.control;
 import software.ulpgc.money.architecture.io.ChartLoader;
 import software.ulpgc.money.architecture.io.ExchangeRateLoader;
 import software.ulpgc.money.architecture.io.StatisticLoader;
+import software.ulpgc.money.architecture.model.Conversion;
 import software.ulpgc.money.architecture.model.Currency;
 import software.ulpgc.money.architecture.model.ExchangeRate;
+import software.ulpgc.money.architecture.model.ExchangeRateTimeSeries;
 import software.ulpgc.money.architecture.model.Money;
+import software.ulpgc.money.architecture.model.TimeSeriesChart;
 import software.ulpgc.money.architecture.view.ContentDisplay;
 import software.ulpgc.money.architecture.view.CurrencyDialog;
 import software.ulpgc.money.architecture.view.MoneyDialog;
 import software.ulpgc.money.architecture.view.MoneyDisplay;
+import software.ulpgc.money.jfr.ConversionEvent;
 import software.ulpgc.money.swing.ErrorMessageDialogFactory;
 
+import java.util.function.Supplier;
+
 /**
- * The {@code ExchangeMoneyCommand} class implements the {@link Command} interface
+ * The {@code ExchangeMoneyCommand} class implements the {@link AsyncCommand} interface
  * and is responsible for performing currency exchange rate calculations and
  * displaying an animated histogram of exchange rates over a year.
  * This command is triggered when the "Calculate" button is pressed in the application.
@@ -27,12 +33,16 @@ import software.ulpgc.money.swing.ErrorMessageDialogFactory;
  *
  * <p>This class relies on external APIs to fetch real-time and historical
  * exchange rates. The histogram is rendered using an integrated charting library.
+ * Every load is recorded as a {@link ConversionEvent} when Flight Recorder is running.
+ *
+ * <p>As an {@link AsyncCommand}, the rates are loaded off the Event Dispatch Thread when the
+ * command is submitted to a {@link CommandBus}.
  *
  * @author      Vít Mikula
  * @version     1.0.1, 15/01/2025
  * @since       1.0
  */
-public class ExchangeMoneyCommand implements Command {
+public class ExchangeMoneyCommand implements AsyncCommand<ExchangeMoneyCommand.Result> {
     private final MoneyDialog moneyDialog;
     private final CurrencyDialog currencyDialog;
     private final ExchangeRateLoader exchangeRateLoader;
@@ -40,6 +50,7 @@ public class ExchangeMoneyCommand implements Command {
     private final ContentDisplay contentDisplay;
     private final ChartLoader chartLoader;
     private final StatisticLoader statisticLoader;
+    private final ActiveConversion activeConversion;
 
     /**
      * Constructs an {@code ExchangeMoneyCommand} instance, initializing it with the necessary components
@@ -52,8 +63,9 @@ public class ExchangeMoneyCommand implements Command {
      * @param contentDisplay        the component responsible for displaying exchange rate time series in a histogram
      * @param chartLoader           the loader to generate the historical exchange rate chart
      * @param statisticLoader       the loader to generate the exchange rate time series.
+     * @param activeConversion      the holder of the conversion currently shown to the user.
      */
-    public ExchangeMoneyCommand(MoneyDialog moneyDialog, CurrencyDialog currencyDialog, ExchangeRateLoader exchangeRateLoader, MoneyDisplay moneyDisplay, ContentDisplay contentDisplay, ChartLoader chartLoader, StatisticLoader statisticLoader) {
+    public ExchangeMoneyCommand(MoneyDialog moneyDialog, CurrencyDialog currencyDialog, ExchangeRateLoader exchangeRateLoader, MoneyDisplay moneyDisplay, ContentDisplay contentDisplay, ChartLoader chartLoader, StatisticLoader statisticLoader, ActiveConversion activeConversion) {
         this.moneyDialog = moneyDialog;
         this.currencyDialog = currencyDialog;
         this.exchangeRateLoader = exchangeRateLoader;
@@ -61,38 +73,88 @@ public class ExchangeMoneyCommand implements Command {
         this.contentDisplay = contentDisplay;
         this.chartLoader = chartLoader;
         this.statisticLoader = statisticLoader;
+        this.activeConversion = activeConversion;
     }
 
     /**
-     * Executes the currency exchange process. This method is triggered as part of the
-     * Command pattern implementation and is responsible for performing the following:
+     * Reads the source money and target currency entered by the user and returns the work
+     * loading their conversion. The work performs the following:
      * <ul>
-     *   <li>Retrieving the user input for the source money and target currency.</li>
-     *   <li>Validating the input data to ensure it is complete and valid.</li>
      *   <li>Calculating the converted amount based on the current exchange rate.</li>
-     *   <li>Loading and displaying a chart with historical exchange rate data.</li>
-     *   <li>Displaying the result of the exchange calculation in the user interface.</li>
+     *   <li>Loading the historical exchange rate data for the chart.</li>
      * </ul>
      *
      * <p>If the input data is invalid (e.g., the source and target currencies are the same,
      * or the input amount is negative), an error message is displayed to the user in a dialog.</p>
      *
-     * @since 1.0
+     * @return the loading work, or {@code null} if the input data is invalid.
+     * @since 1.1
      */
     @Override
-    public void execute() {
+    public Supplier<Result> prepare() {
         Money money = moneyDialog.get();
         Currency currency = currencyDialog.get();
+        if (!money.currency().equals(currency) && money.amount() >= 0) return () -> load(money, currency);
+        ErrorMessageDialogFactory.showErrorMessage(null,
+                "Please, insert valid data",
+                "Error");
+        return null;
+    }
 
-        if (!money.currency().equals(currency) && money.amount() >= 0) {
+    /**
+     * Loads the conversion of the given money into the given currency, together with the
+     * history of their exchange rate.
+     *
+     * @param money the money to convert.
+     * @param currency the target currency.
+     * @return the loaded conversion.
+     * @since 1.1
+     */
+    private Result load(Money money, Currency currency) {
+        ConversionEvent event = new ConversionEvent();
+        event.begin();
+        try {
             ExchangeRate exchangeRate = exchangeRateLoader.load(money.currency(), currency);
-            Money result = new Money( money.amount()*exchangeRate.rate(), currency);
-            contentDisplay.showChart(chartLoader.load(money.currency(), currency), statisticLoader.loadStatistic(money.currency(), currency));
-            moneyDisplay.show(money, result);
-        } else {
-            ErrorMessageDialogFactory.showErrorMessage(null,
-                    "Please, insert valid data",
-                    "Error");
+            ExchangeRateTimeSeries history = statisticLoader.loadStatistic(money.currency(), currency);
+            event.rate = exchangeRate.rate();
+            event.points = history.rates().size();
+            event.succeeded = true;
+            return new Result(new Conversion(money, exchangeRate), chartLoader.load(money.currency(), currency), history);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.pair = money.currency().code() + "/" + currency.code();
+                event.amount = money.amount();
+                event.commit();
+            }
         }
     }
+
+    /**
+     * Displays the result of the exchange calculation and the animated chart of the exchange
+     * rate history, and makes the conversion the active one, so it is kept up to date in the
+     * background.
+     *
+     * @param result the loaded conversion.
+     * @since 1.1
+     */
+    @Override
+    public void apply(Result result) {
+        Conversion conversion = result.conversion();
+        contentDisplay.showChart(result.chart(), result.history());
+        contentDisplay.setAmount(conversion.money());
+        moneyDisplay.show(conversion.money(), conversion.result(), conversion.rate().date());
+        activeConversion.set(conversion);
+    }
+
+    /**
+     * The result loaded by an {@code ExchangeMoneyCommand}.
+     *
+     * @param conversion the conversion of the entered money.
+     * @param chart the chart of the exchange rate history.
+     * @param history the exchange rate history.
+     * @since 1.1
+     */
+    public record Result(Conversion conversion, TimeSeriesChart chart, ExchangeRateTimeSeries history) {
+    }
 }
@@ -0,0 +1,160 @@
+package software.ulpgc.money.architecture.control;
+
+import software.ulpgc.money.architecture.model.Conversion;
+import software.ulpgc.money.architecture.model.ExchangeRate;
+import software.ulpgc.money.architecture.view.ContentDisplay;
+import software.ulpgc.money.architecture.view.MoneyDisplay;
+import software.ulpgc.money.cache.CachedExchangeRateLoader;
+import software.ulpgc.money.net.IoScheduler;
+import software.ulpgc.money.net.Priority;
+
+import javax.swing.*;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code RateRefreshScheduler} class keeps the active conversion up to date while the
+ * application stays open.
+ *
+ * <p>The ECB publishes its reference rates once per working day at around 16:00 CET. Polling
+ * outside that window would only return the same value again, so the scheduler checks the latest
+ * rate of the active pair periodically, but only on working days between 16:00 and 18:00 CET and
+ * only until the new rate of the day has been received.</p>
+ *
+ * <p>When a newer rate arrives, the scheduler:
+ * <ul>
+ *   <li>Appends that single point to the chart, without reloading or re-animating the history.</li>
+ *   <li>Recomputes the converted amount and shows it with the date of the new rate.</li>
+ *   <li>Stores the new rate in the exchange rate cache.</li>
+ * </ul>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class RateRefreshScheduler {
+    // Reference rates publication window, in the ECB's time zone.
+    private static final ZoneId ECB_ZONE = ZoneId.of("Europe/Berlin");
+    private static final LocalTime WINDOW_START = LocalTime.of(16, 0);
+    private static final LocalTime WINDOW_END = LocalTime.of(18, 0);
+
+    private final ActiveConversion activeConversion;
+    private final CachedExchangeRateLoader exchangeRateLoader;
+    private final MoneyDisplay moneyDisplay;
+    private final ContentDisplay contentDisplay;
+    private final Clock clock;
+    private final ScheduledExecutorService executor;
+    private final IoScheduler scheduler;
+
+    /**
+     * Constructs a new {@code RateRefreshScheduler}.
+     *
+     * @param activeConversion   the conversion to keep up to date.
+     * @param exchangeRateLoader the cached loader used to fetch and store new rates.
+     * @param moneyDisplay       the component displaying the converted amount.
+     * @param contentDisplay     the component displaying the exchange rate chart.
+     * @param clock              the clock used to locate the publication window.
+     * @param scheduler          the scheduler running the checks in its maintenance lane.
+     * @since       1.1
+     */
+    public RateRefreshScheduler(ActiveConversion activeConversion, CachedExchangeRateLoader exchangeRateLoader, MoneyDisplay moneyDisplay, ContentDisplay contentDisplay, Clock clock, IoScheduler scheduler) {
+        this.activeConversion = activeConversion;
+        this.exchangeRateLoader = exchangeRateLoader;
+        this.moneyDisplay = moneyDisplay;
+        this.contentDisplay = contentDisplay;
+        this.clock = clock;
+        this.executor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("rate-refresh").factory());
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Starts checking for new rates with the given period. Each check runs as a maintenance
+     * task of the {@link IoScheduler}.
+     *
+     * @param period the time between two checks.
+     * @since       1.1
+     */
+    public void start(Duration period) {
+        executor.scheduleWithFixedDelay(() -> scheduler.submit(Priority.MAINTENANCE, this::refresh), period.toMillis(), period.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops checking for new rates.
+     * @since       1.1
+     */
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Fetches the latest rate of the active pair if a new one may have been published and,
+     * if it is newer than the displayed one, applies it to the views.
+     * Failures are ignored, as the next check will try again.
+     * @since       1.1
+     */
+    void refresh() {
+        Conversion conversion = activeConversion.get();
+        if (conversion == null || !isPublicationWindow() || isUpToDate(conversion.rate())) return;
+        try {
+            ExchangeRate rate = exchangeRateLoader.reload(conversion.rate().from(), conversion.rate().to());
+            if (rate.date().compareTo(conversion.rate().date()) > 0) apply(conversion, conversion.at(rate));
+        } catch (RuntimeException ignored) {
+        }
+    }
+
+    /**
+     * Shows an updated conversion, unless the user converted something else in the meantime.
+     *
+     * @param previous the conversion the update was computed from.
+     * @param updated the conversion at the new rate.
+     * @since       1.1
+     */
+    private void apply(Conversion previous, Conversion updated) {
+        if (!activeConversion.update(previous, updated)) return;
+        SwingUtilities.invokeLater(() -> {
+            contentDisplay.appendRate(updated.rate());
+            moneyDisplay.show(updated.money(), updated.result(), updated.rate().date());
+        });
+    }
+
+    /**
+     * Checks whether the current time is a working day within the ECB publication window.
+     *
+     * @return {@code true} if a new rate may be published now.
+     * @since       1.1
+     */
+    private boolean isPublicationWindow() {
+        ZonedDateTime now = ZonedDateTime.now(clock.withZone(ECB_ZONE));
+        LocalTime time = now.toLocalTime();
+        return isWorkingDay(now.getDayOfWeek()) && !time.isBefore(WINDOW_START) && time.isBefore(WINDOW_END);
+    }
+
+    /**
+     * Checks whether the given rate is already the one published today.
+     *
+     * @param rate the displayed rate.
+     * @return {@code true} if there is nothing new to fetch today.
+     * @since       1.1
+     */
+    private boolean isUpToDate(ExchangeRate rate) {
+        return rate.date().equals(ZonedDateTime.now(clock.withZone(ECB_ZONE)).toLocalDate().toString());
+    }
+
+    /**
+     * Checks whether the ECB publishes rates on the given day of the week.
+     *
+     * @param day the day of the week.
+     * @return {@code true} from Monday to Friday.
+     * @since       1.1
+     */
+    private static boolean isWorkingDay(DayOfWeek day) {
+        return day != DayOfWeek.SATURDAY && day != DayOfWeek.SUNDAY;
+    }
+}
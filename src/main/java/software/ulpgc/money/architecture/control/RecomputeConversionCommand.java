@@ -0,0 +1,69 @@
+package software.ulpgc.money.architecture.control;
+
+import software.ulpgc.money.architecture.model.Conversion;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.Money;
+import software.ulpgc.money.architecture.view.ContentDisplay;
+import software.ulpgc.money.architecture.view.CurrencyDialog;
+import software.ulpgc.money.architecture.view.MoneyDialog;
+import software.ulpgc.money.architecture.view.MoneyDisplay;
+
+/**
+ * The {@code RecomputeConversionCommand} class implements the {@link Command} interface and is
+ * responsible for updating the displayed conversion while the user types a new amount.
+ *
+ * <p>The new amount is converted locally at the rate of the {@link ActiveConversion}, so typing
+ * never costs a network request. Nothing is done if the selected currencies are no longer those
+ * of the active conversion, since their rate has not been loaded yet, or if the amount is
+ * negative.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class RecomputeConversionCommand implements Command {
+    private final MoneyDialog moneyDialog;
+    private final CurrencyDialog currencyDialog;
+    private final MoneyDisplay moneyDisplay;
+    private final ContentDisplay contentDisplay;
+    private final ActiveConversion activeConversion;
+
+    /**
+     * Constructs a {@code RecomputeConversionCommand} instance.
+     *
+     * @param moneyDialog      the dialog to retrieve the amount and source money
+     * @param currencyDialog   the dialog to retrieve the target currency
+     * @param moneyDisplay     the component responsible for displaying the converted money amount
+     * @param contentDisplay   the component displaying the chart whose crosshair converts the amount
+     * @param activeConversion the holder of the conversion currently shown to the user
+     * @since 1.1
+     */
+    public RecomputeConversionCommand(MoneyDialog moneyDialog, CurrencyDialog currencyDialog, MoneyDisplay moneyDisplay, ContentDisplay contentDisplay, ActiveConversion activeConversion) {
+        this.moneyDialog = moneyDialog;
+        this.currencyDialog = currencyDialog;
+        this.moneyDisplay = moneyDisplay;
+        this.contentDisplay = contentDisplay;
+        this.activeConversion = activeConversion;
+    }
+
+    /**
+     * Converts the entered amount at the rate of the active conversion, displays the result,
+     * also at the crosshair of the chart, and makes it the active conversion.
+     *
+     * @since 1.1
+     */
+    @Override
+    public void execute() {
+        Money money = moneyDialog.get();
+        Currency currency = currencyDialog.get();
+        if (money.amount() < 0) return;
+        Conversion active, updated;
+        do {
+            active = activeConversion.get();
+            if (active == null || !active.rate().from().equals(money.currency()) || !active.rate().to().equals(currency)) return;
+            updated = new Conversion(money, active.rate());
+        } while (!activeConversion.update(active, updated));
+        moneyDisplay.show(money, updated.result(), updated.rate().date());
+        contentDisplay.setAmount(money);
+    }
+}
@@ -0,0 +1,85 @@
+package software.ulpgc.money.architecture.control;
+
+import software.ulpgc.money.alert.AlertEngine;
+import software.ulpgc.money.architecture.io.ExchangeRateLoader;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.CurrencyPair;
+import software.ulpgc.money.architecture.model.ExchangeRate;
+import software.ulpgc.money.architecture.model.RateAlert;
+import software.ulpgc.money.architecture.view.AlertDialog;
+import software.ulpgc.money.architecture.view.CurrencyDialog;
+import software.ulpgc.money.architecture.view.MoneyDialog;
+import software.ulpgc.money.swing.ErrorMessageDialogFactory;
+
+import java.util.function.Supplier;
+
+/**
+ * The {@code SetAlertCommand} class implements the {@link AsyncCommand} interface and is
+ * responsible for setting a rate alert on the selected currency pair. This command is triggered
+ * when the "Alert" button is pressed.
+ *
+ * <p>The latest rate of the pair is loaded in the background and offered to the user as the
+ * starting level. The alert fires when the rate rises to a level above it, or falls to a level
+ * below it.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class SetAlertCommand implements AsyncCommand<ExchangeRate> {
+    private final MoneyDialog moneyDialog;
+    private final CurrencyDialog currencyDialog;
+    private final AlertDialog alertDialog;
+    private final ExchangeRateLoader exchangeRateLoader;
+    private final AlertEngine alertEngine;
+
+    /**
+     * Constructs a {@code SetAlertCommand} instance.
+     *
+     * @param moneyDialog        the dialog to retrieve the source currency
+     * @param currencyDialog     the dialog to retrieve the target currency
+     * @param alertDialog        the dialog to retrieve the level of the alert
+     * @param exchangeRateLoader the loader of the latest rate of the pair
+     * @param alertEngine        the engine the alert is armed in
+     * @since 1.1
+     */
+    public SetAlertCommand(MoneyDialog moneyDialog, CurrencyDialog currencyDialog, AlertDialog alertDialog, ExchangeRateLoader exchangeRateLoader, AlertEngine alertEngine) {
+        this.moneyDialog = moneyDialog;
+        this.currencyDialog = currencyDialog;
+        this.alertDialog = alertDialog;
+        this.exchangeRateLoader = exchangeRateLoader;
+        this.alertEngine = alertEngine;
+    }
+
+    /**
+     * Reads the selected pair and returns the work loading its latest rate.
+     *
+     * @return the loading work, or {@code null} if both currencies are the same.
+     * @since 1.1
+     */
+    @Override
+    public Supplier<ExchangeRate> prepare() {
+        Currency from = moneyDialog.get().currency();
+        Currency to = currencyDialog.get();
+        if (!from.equals(to)) return () -> exchangeRateLoader.load(from, to);
+        ErrorMessageDialogFactory.showErrorMessage(null,
+                "Please, select two different currencies",
+                "Error");
+        return null;
+    }
+
+    /**
+     * Asks the user for the level of the alert and arms it, in the direction of the level from
+     * the latest rate. Nothing is armed if the user cancels the dialog.
+     *
+     * @param rate the latest rate of the pair.
+     * @since 1.1
+     */
+    @Override
+    public void apply(ExchangeRate rate) {
+        CurrencyPair pair = new CurrencyPair(rate.from(), rate.to());
+        double level = alertDialog.get(pair, rate.rate());
+        if (!(level > 0)) return;
+        alertEngine.add(pair, level >= rate.rate() ? RateAlert.Direction.ABOVE : RateAlert.Direction.BELOW, level);
+    }
+}
@@ -0,0 +1,76 @@
+package software.ulpgc.money.architecture.control;
+
+import software.ulpgc.money.architecture.io.RateTableLoader;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.PortfolioValue;
+import software.ulpgc.money.architecture.view.CurrencyDialog;
+import software.ulpgc.money.architecture.view.PortfolioDisplay;
+import software.ulpgc.money.portfolio.Portfolio;
+
+import java.util.function.Supplier;
+
+/**
+ * The {@code ShowPortfolioCommand} class implements the {@link AsyncCommand} interface and is
+ * responsible for showing the value of the portfolio in the selected target currency.
+ * This command is triggered when the "Portfolio" button is pressed.
+ *
+ * <p>Every run loads one {@link software.ulpgc.money.architecture.model.RateTable} from the same
+ * base currency, usually from the cache, and updates the {@link Portfolio} with it: only the
+ * currencies whose rate changed since the previous run are revalued, and changing the reporting
+ * currency costs nothing more.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class ShowPortfolioCommand implements AsyncCommand<PortfolioValue> {
+    private final CurrencyDialog currencyDialog;
+    private final Portfolio portfolio;
+    private final RateTableLoader rateTableLoader;
+    private final Currency base;
+    private final PortfolioDisplay portfolioDisplay;
+
+    /**
+     * Constructs a {@code ShowPortfolioCommand} instance.
+     *
+     * @param currencyDialog   the dialog to retrieve the reporting currency
+     * @param portfolio        the portfolio valued
+     * @param rateTableLoader  the loader of the rates, preferably cached
+     * @param base             the currency the rate tables are loaded from
+     * @param portfolioDisplay the component responsible for displaying the value of the portfolio
+     * @since 1.1
+     */
+    public ShowPortfolioCommand(CurrencyDialog currencyDialog, Portfolio portfolio, RateTableLoader rateTableLoader, Currency base, PortfolioDisplay portfolioDisplay) {
+        this.currencyDialog = currencyDialog;
+        this.portfolio = portfolio;
+        this.rateTableLoader = rateTableLoader;
+        this.base = base;
+        this.portfolioDisplay = portfolioDisplay;
+    }
+
+    /**
+     * Reads the reporting currency and returns the work updating the portfolio with the latest rates.
+     *
+     * @return the loading work.
+     * @since 1.1
+     */
+    @Override
+    public Supplier<PortfolioValue> prepare() {
+        Currency reporting = currencyDialog.get();
+        return () -> {
+            portfolio.update(rateTableLoader.load(base));
+            return portfolio.value(reporting);
+        };
+    }
+
+    /**
+     * Displays the value of the portfolio.
+     *
+     * @param value the value of the portfolio in the reporting currency.
+     * @since 1.1
+     */
+    @Override
+    public void apply(PortfolioValue value) {
+        portfolioDisplay.showPortfolio(value);
+    }
+}
@@ -13,6 +13,10 @@ import software.ulpgc.money.swing.SwingMainFrame;
  * the two currencies involved in a currency exchange. It updates the selected
  * currencies in both the {@link MoneyDialog} and {@link CurrencyDialog}, and then
  * triggers the "exchange money" command to perform the currency conversion calculation.
+ * The selection is swapped right away on the Event Dispatch Thread, while the conversion is
+ * loaded in the background by the {@link CommandBus} the "exchange money" command is bound to,
+ * superseding any calculation still in flight. As the caches derive a pair from its inverse,
+ * the swapped conversion and its history are served without the network.
  *
  * <p>The command operates on the following components:
  * <ul>
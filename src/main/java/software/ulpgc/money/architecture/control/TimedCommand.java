@@ -0,0 +1,39 @@
+package software.ulpgc.money.architecture.control;
+
+import software.ulpgc.money.metrics.MetricsRegistry;
+import software.ulpgc.money.metrics.Timer;
+
+/**
+ * The {@code TimedCommand} class is a {@link Command} decorator that measures every execution
+ * of the decorated command into a {@link Timer} named {@code command.<name>}.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class TimedCommand implements Command {
+    private final Command command;
+    private final Timer timer;
+
+    /**
+     * Constructs a new {@code TimedCommand}.
+     *
+     * @param name the name of the command, as registered in the main frame.
+     * @param command the command to measure.
+     * @param registry the registry holding the timer.
+     * @since       1.1
+     */
+    public TimedCommand(String name, Command command, MetricsRegistry registry) {
+        this.command = command;
+        this.timer = registry.timer("command." + name.replace(' ', '_'));
+    }
+
+    /**
+     * Executes the decorated command and records its duration.
+     * @since       1.1
+     */
+    @Override
+    public void execute() {
+        timer.time(command::execute);
+    }
+}
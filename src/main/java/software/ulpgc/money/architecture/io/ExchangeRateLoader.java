@@ -3,6 +3,9 @@ package software.ulpgc.money.architecture.io;
 import software.ulpgc.money.architecture.model.Currency;
 import software.ulpgc.money.architecture.model.ExchangeRate;
 
+import java.time.LocalDate;
+import java.util.List;
+
 /**
  * The {@code ExchangeRateLoader} interface is responsible for loading the exchange rate
  * between two specified currencies. Implementations of this interface are expected to
@@ -12,6 +15,9 @@ import software.ulpgc.money.architecture.model.ExchangeRate;
  * the source and target currencies, and returns an {@link ExchangeRate} object that contains
  * the exchange rate between them.</p>
  *
+ * <p>Rates can also be loaded at a given date, one at a time or in batches, e.g. to convert
+ * historical transactions at the rate of their booking date.</p>
+ *
  * @author      Vít Mikula
  * @version     1.0.1, 15/01/2025
  * @since       1.0
@@ -26,4 +32,32 @@ public interface ExchangeRateLoader {
      * @since       1.0
      */
     ExchangeRate load(Currency from, Currency to);
+
+    /**
+     * Loads the exchange rate between two currencies in force at the given date, that is, the
+     * rate published that day or, on weekends and holidays, the last one published before.
+     *
+     * @param from The source currency.
+     * @param to The target currency.
+     * @param date The date of the rate.
+     * @return An {@link ExchangeRate} object whose date is the publication date of the rate.
+     * @throws IllegalArgumentException if no rate is known at that date.
+     * @since       1.1
+     */
+    ExchangeRate load(Currency from, Currency to, LocalDate date);
+
+    /**
+     * Loads the exchange rates between two currencies in force at each of the given dates.
+     * Implementations should override it to load all the dates with as few requests as possible.
+     *
+     * @param from The source currency.
+     * @param to The target currency.
+     * @param dates The dates of the rates, in any order and possibly repeated.
+     * @return The exchange rates, in the order of the dates.
+     * @throws IllegalArgumentException if no rate is known at one of the dates.
+     * @since       1.1
+     */
+    default List<ExchangeRate> load(Currency from, Currency to, List<LocalDate> dates) {
+        return dates.stream().map(date -> load(from, to, date)).toList();
+    }
 }
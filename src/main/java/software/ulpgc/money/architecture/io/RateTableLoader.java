@@ -0,0 +1,26 @@
+package software.ulpgc.money.architecture.io;
+
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.RateTable;
+
+/**
+ * The {@code RateTableLoader} interface is responsible for loading, in a single operation, the
+ * exchange rates from one currency to every other supported currency.
+ *
+ * <p>It complements {@link ExchangeRateLoader}, which loads one pair at a time, for views that
+ * convert an amount into many currencies at once.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public interface RateTableLoader {
+    /**
+     * Loads the latest exchange rates from the given currency to every other supported currency.
+     *
+     * @param base The source currency.
+     * @return A {@link RateTable} quoting every supported currency from {@code base}.
+     * @since       1.1
+     */
+    RateTable load(Currency base);
+}
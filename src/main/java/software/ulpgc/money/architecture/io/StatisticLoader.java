@@ -1,8 +1,12 @@
 package software.ulpgc.money.architecture.io;
 
+import software.ulpgc.money.architecture.model.AlignedRateSeries;
 import software.ulpgc.money.architecture.model.Currency;
 import software.ulpgc.money.architecture.model.ExchangeRateTimeSeries;
 
+import java.time.LocalDate;
+import java.util.List;
+
 /**
  * The {@code StatisticLoader} interface defines the contract for classes that are responsible for
  * loading exchange rate statistics between two currencies. It provides a method to retrieve
@@ -31,4 +35,28 @@ public interface StatisticLoader {
      * @since       1.0
      */
     ExchangeRateTimeSeries loadStatistic(Currency from, Currency to);
+
+    /**
+     * Loads the exchange rate statistics from one currency to several others at once,
+     * aligned on the same days.
+     *
+     * @param from The source currency (e.g., EUR).
+     * @param to The target currencies (e.g., USD, GBP and JPY).
+     * @return An {@link AlignedRateSeries} with one column of exchange rates per target currency.
+     * @since       1.1
+     */
+    AlignedRateSeries loadStatistics(Currency from, List<Currency> to);
+
+    /**
+     * Loads the exchange rate statistics from one currency to several others between two dates,
+     * both included, aligned on the days a rate was published.
+     *
+     * @param from The source currency (e.g., EUR).
+     * @param to The target currencies (e.g., USD, GBP and JPY).
+     * @param start The first day of the period.
+     * @param end The last day of the period.
+     * @return An {@link AlignedRateSeries} with one column of exchange rates per target currency.
+     * @since       1.1
+     */
+    AlignedRateSeries loadStatistics(Currency from, List<Currency> to, LocalDate start, LocalDate end);
 }
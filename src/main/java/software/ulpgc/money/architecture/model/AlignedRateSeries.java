@@ -0,0 +1,75 @@
+package software.ulpgc.money.architecture.model;
+
+import software.ulpgc.money.math.RateMath;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Represents the exchange rates from one currency to several others over the same days,
+ * stored as aligned columns of primitive values.
+ *
+ * <p>Every column shares the same day index: {@code rates[j][i]} is the rate to currency
+ * {@code to.get(j)} on day {@code days[i]}. A rate missing for one currency on a given day is
+ * stored as {@link Double#NaN}.</p>
+ *
+ * @param from {@code Currency} from which every rate is quoted.
+ * @param to {@code List} of target currencies, one per column.
+ * @param days Days of the series as {@link LocalDate#toEpochDay() epoch days}, in ascending order.
+ * @param rates Columns of exchange rate values, one per target currency.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public record AlignedRateSeries(Currency from, List<Currency> to, int[] days, double[][] rates) {
+
+    /**
+     * Returns the number of days of the series.
+     *
+     * @return the length of every column.
+     * @since       1.1
+     */
+    public int size() {
+        return days.length;
+    }
+
+    /**
+     * Returns the date of the given day index.
+     *
+     * @param index the day index.
+     * @return the corresponding {@code LocalDate}.
+     * @since       1.1
+     */
+    public LocalDate dateAt(int index) {
+        return LocalDate.ofEpochDay(days[index]);
+    }
+
+    /**
+     * Returns the column of the given target currency.
+     *
+     * @param currency the target currency.
+     * @return the exchange rates to the currency.
+     * @throws IllegalArgumentException if the currency is not part of the series.
+     * @since       1.1
+     */
+    public double[] column(Currency currency) {
+        int index = to.indexOf(currency);
+        if (index < 0) throw new IllegalArgumentException("Currency " + currency.code() + " is not part of the series");
+        return rates[index];
+    }
+
+    /**
+     * Derives the cross rates between two currencies of the series, without any request:
+     * the rate from A to B is the rate to B divided by the rate to A.
+     *
+     * @param a the source currency of the cross rates.
+     * @param b the target currency of the cross rates.
+     * @return the exchange rates from {@code a} to {@code b}, aligned on the days of the series.
+     * @throws IllegalArgumentException if any of the currencies is not part of the series.
+     * @since       1.1
+     */
+    public double[] cross(Currency a, Currency b) {
+        return RateMath.divide(column(b), column(a));
+    }
+}
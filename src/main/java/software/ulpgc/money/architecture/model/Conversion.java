@@ -0,0 +1,35 @@
+package software.ulpgc.money.architecture.model;
+
+/**
+ * Represents the conversion of an amount of money at a given exchange rate.
+ *
+ * @param money {@code Money} to convert, in the source currency of the rate.
+ * @param rate {@code ExchangeRate} applied to the money.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public record Conversion(Money money, ExchangeRate rate) {
+
+    /**
+     * Returns the converted money, in the target currency of the rate.
+     *
+     * @return a new {@code Money} with the amount multiplied by the rate.
+     * @since       1.1
+     */
+    public Money result() {
+        return new Money(money.amount() * rate.rate(), rate.to());
+    }
+
+    /**
+     * Returns the same conversion at a different exchange rate of the same pair.
+     *
+     * @param newRate the new exchange rate.
+     * @return a new {@code Conversion} of the same money.
+     * @since       1.1
+     */
+    public Conversion at(ExchangeRate newRate) {
+        return new Conversion(money, newRate);
+    }
+}
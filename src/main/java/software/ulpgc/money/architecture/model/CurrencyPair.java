@@ -0,0 +1,45 @@
+package software.ulpgc.money.architecture.model;
+
+/**
+ * Represents an ordered pair of currencies, from currency A to currency B.
+ *
+ * @param from {@code Currency} A.
+ * @param to {@code Currency} B.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public record CurrencyPair(Currency from, Currency to) {
+
+    /**
+     * Returns the key of this pair, e.g. {@code EUR/USD}, used to index caches and stores.
+     *
+     * @return the codes of both currencies separated by a slash.
+     * @since       1.1
+     */
+    public String key() {
+        return from.code() + "/" + to.code();
+    }
+
+    /**
+     * Returns the pair in the opposite direction.
+     *
+     * @return a new {@code CurrencyPair} from currency B to currency A.
+     * @since       1.1
+     */
+    public CurrencyPair inverse() {
+        return new CurrencyPair(to, from);
+    }
+
+    /**
+     * Returns a string representation of this pair.
+     *
+     * @return the key of the pair.
+     * @since       1.1
+     */
+    @Override
+    public String toString() {
+        return key();
+    }
+}
@@ -13,4 +13,15 @@ package software.ulpgc.money.architecture.model;
  * @since       1.0
  */
 public record ExchangeRate(Currency from, Currency to, String date, double rate) {
+
+    /**
+     * Returns the exchange rate in the opposite direction, from currency B to currency A,
+     * published at the same date.
+     *
+     * @return a new {@code ExchangeRate} whose rate is the reciprocal of this one.
+     * @since       1.1
+     */
+    public ExchangeRate inverse() {
+        return new ExchangeRate(to, from, date, 1 / rate);
+    }
 }
@@ -0,0 +1,24 @@
+package software.ulpgc.money.architecture.model;
+
+import java.util.List;
+
+/**
+ * Represents the value of a portfolio of positions in many currencies, expressed in one
+ * reporting currency at the rates of one date.
+ *
+ * <p>The holdings and values are kept in primitive arrays parallel to the list of currencies.</p>
+ *
+ * @param reporting {@code Currency} in which the values are expressed.
+ * @param date Timestamp of the exchange rates used.
+ * @param currencies {@code List} of the currencies held.
+ * @param holdings Sum of the positions in each currency, in that currency.
+ * @param values Value of the holding of each currency in the reporting currency, {@link Double#NaN} if its rate is unknown.
+ * @param total Value of the whole portfolio in the reporting currency, {@link Double#NaN} if any holding is of unknown value.
+ * @param positions Number of positions in the portfolio.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public record PortfolioValue(Currency reporting, String date, List<Currency> currencies, double[] holdings, double[] values, double total, int positions) {
+}
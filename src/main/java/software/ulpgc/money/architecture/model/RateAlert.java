@@ -0,0 +1,51 @@
+package software.ulpgc.money.architecture.model;
+
+import java.util.Locale;
+
+/**
+ * Represents an alert set on a currency pair, fired once when its exchange rate reaches a level.
+ *
+ * @param id Identifier of the alert, unique among the alerts of the application.
+ * @param pair {@code CurrencyPair} whose rate is watched.
+ * @param direction Whether the alert fires when the rate rises to the level or falls to it.
+ * @param threshold Level of the exchange rate firing the alert.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public record RateAlert(long id, CurrencyPair pair, Direction direction, double threshold) {
+
+    /**
+     * Checks whether the given rate of the pair fires this alert.
+     *
+     * @param rate the exchange rate of the pair.
+     * @return {@code true} if the rate is at or beyond the level, in the direction of the alert.
+     * @since       1.1
+     */
+    public boolean isReachedBy(double rate) {
+        return direction == Direction.ABOVE ? rate >= threshold : rate <= threshold;
+    }
+
+    /**
+     * Returns a string representation of this alert, e.g. {@code EUR/USD above 1.1}.
+     *
+     * @return the pair, direction and level of the alert.
+     * @since       1.1
+     */
+    @Override
+    public String toString() {
+        return pair.key() + " " + direction.name().toLowerCase(Locale.ROOT) + " " + threshold;
+    }
+
+    /**
+     * The direction in which the rate must cross the level of an alert.
+     * @since       1.1
+     */
+    public enum Direction {
+        /** The alert fires when the rate rises to the level or above it. */
+        ABOVE,
+        /** The alert fires when the rate falls to the level or below it. */
+        BELOW
+    }
+}
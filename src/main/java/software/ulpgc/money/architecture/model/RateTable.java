@@ -0,0 +1,57 @@
+package software.ulpgc.money.architecture.model;
+
+import java.util.List;
+
+/**
+ * Represents the exchange rates from one base currency to many target currencies, published on the same date.
+ *
+ * <p>The rates are kept in a primitive array parallel to the list of currencies, so that converting
+ * an amount into every currency is a single pass over contiguous memory.</p>
+ *
+ * @param base {@code Currency} from which every rate is quoted.
+ * @param date Timestamp of the exchange rates.
+ * @param currencies {@code List} of target currencies.
+ * @param rates Value of the exchange rate to each target currency, in the same order.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public record RateTable(Currency base, String date, List<Currency> currencies, double[] rates) {
+
+    /**
+     * Returns the index of the given currency in this table.
+     *
+     * @param currency the target currency.
+     * @return the index of the currency, or {@code -1} if the table does not quote it.
+     * @since       1.1
+     */
+    public int indexOf(Currency currency) {
+        return currencies.indexOf(currency);
+    }
+
+    /**
+     * Returns the same rates quoted from another currency of this table, computed as cross rates
+     * without any request. The old base is included in the new table and the new base is left out.
+     *
+     * @param newBase the currency to quote the rates from.
+     * @return a new {@code RateTable} based on {@code newBase}.
+     * @throws IllegalArgumentException if {@code newBase} is not quoted in this table.
+     * @since       1.1
+     */
+    public RateTable rebase(Currency newBase) {
+        int index = indexOf(newBase);
+        if (index < 0) throw new IllegalArgumentException("Currency " + newBase.code() + " is not quoted from " + base.code());
+        double baseRate = rates[index];
+        Currency[] targets = new Currency[currencies.size()];
+        double[] crossRates = new double[currencies.size()];
+        targets[index] = base;
+        crossRates[index] = 1 / baseRate;
+        for (int i = 0; i < rates.length; i++) {
+            if (i == index) continue;
+            targets[i] = currencies.get(i);
+            crossRates[i] = rates[i] / baseRate;
+        }
+        return new RateTable(newBase, date, List.of(targets), crossRates);
+    }
+}
@@ -0,0 +1,23 @@
+package software.ulpgc.money.architecture.view;
+
+import software.ulpgc.money.architecture.model.CurrencyPair;
+
+/**
+ * The {@code AlertDialog} interface defines the contract for dialogs that let the user pick the
+ * level of a rate alert on a currency pair.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public interface AlertDialog {
+    /**
+     * Retrieves the level of the alert.
+     *
+     * @param pair the pair whose rate is watched.
+     * @param rate the latest rate of the pair, offered as a starting point.
+     * @return the level of the alert, or {@link Double#NaN} if the user cancelled the dialog
+     * @since       1.1
+     */
+    double get(CurrencyPair pair, double rate);
+}
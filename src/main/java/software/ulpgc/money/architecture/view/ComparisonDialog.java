@@ -0,0 +1,40 @@
+package software.ulpgc.money.architecture.view;
+
+import software.ulpgc.money.architecture.model.Currency;
+
+import java.util.List;
+
+/**
+ * The {@code ComparisonDialog} interface defines the contract for dialogs that let the user pick
+ * several currencies to compare on the same chart.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public interface ComparisonDialog {
+    /**
+     * Initializes the dialog with a list of available currencies.
+     *
+     * @param currencies the list of {@link Currency} objects that can be compared
+     * @return the current instance of the dialog (to allow for method chaining)
+     * @since       1.1
+     */
+    ComparisonDialog define(List<Currency> currencies);
+
+    /**
+     * Retrieves the currencies to compare.
+     *
+     * @return the selected currencies, empty if the user selected none or cancelled the dialog
+     * @since       1.1
+     */
+    List<Currency> get();
+
+    /**
+     * Returns whether the compared series should be normalised to a common start value of 100.
+     *
+     * @return {@code true} if the series should be normalised
+     * @since       1.1
+     */
+    boolean normalized();
+}
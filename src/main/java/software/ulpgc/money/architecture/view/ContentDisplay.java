@@ -1,6 +1,9 @@
 package software.ulpgc.money.architecture.view;
 
+import software.ulpgc.money.architecture.model.AlignedRateSeries;
+import software.ulpgc.money.architecture.model.ExchangeRate;
 import software.ulpgc.money.architecture.model.ExchangeRateTimeSeries;
+import software.ulpgc.money.architecture.model.Money;
 import software.ulpgc.money.architecture.model.TimeSeriesChart;
 
 /**
@@ -25,6 +28,52 @@ public interface ContentDisplay {
      * @since       1.0
      */
     void showChart(TimeSeriesChart chart, ExchangeRateTimeSeries series);
+
+    /**
+     * Appends a single new exchange rate to the chart currently displayed, without reloading
+     * the rest of the series. Rates of a pair other than the displayed one are ignored.
+     *
+     * @param rate The new exchange rate.
+     * @since       1.1
+     */
+    void appendRate(ExchangeRate rate);
+
+    /**
+     * Sets the money converted at the rates pointed at on the chart currently displayed.
+     * Money in a currency other than the source currency of the chart is ignored.
+     *
+     * @param money The money to convert.
+     * @since       1.1
+     */
+    void setAmount(Money money);
+
+    /**
+     * Displays several exchange rate series from the same currency on one chart with a shared time axis.
+     *
+     * @param chart The chart to display.
+     * @param series The aligned exchange rate series, one per compared currency.
+     * @param normalized Whether each series is rescaled so that its first value is 100.
+     * @since       1.1
+     */
+    void showComparison(TimeSeriesChart chart, AlignedRateSeries series, boolean normalized);
+
+    /**
+     * Displays a series derived from exchange rates, such as a basket, a spread or a ratio.
+     *
+     * @param chart The chart to display.
+     * @param days The days of the series as epoch days, in ascending order.
+     * @param values The values of the series; {@link Double#NaN} leaves a gap.
+     * @since       1.1
+     */
+    void showDerived(TimeSeriesChart chart, int[] days, double[] values);
+
+    /**
+     * Stops the animation of the displayed chart, if it is still running. The part of the
+     * series already drawn stays on screen.
+     * @since       1.1
+     */
+    void stopAnimation();
+
     /**
      * Displays general information related to the exchange rate data or application.
      * This method may present textual information, instructions, or other relevant details.
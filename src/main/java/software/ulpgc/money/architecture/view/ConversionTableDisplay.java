@@ -0,0 +1,28 @@
+package software.ulpgc.money.architecture.view;
+
+import software.ulpgc.money.architecture.model.Money;
+import software.ulpgc.money.architecture.model.RateTable;
+
+/**
+ * The {@code ConversionTableDisplay} interface defines a contract for displaying the conversion
+ * of one amount of money into many currencies at once.
+ *
+ * <p>The converted amounts are passed as a primitive array parallel to the currencies of the
+ * {@link RateTable}, so no object is created per currency until a row is actually rendered.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+@FunctionalInterface
+public interface ConversionTableDisplay {
+    /**
+     * Displays the conversion of an amount of money into every currency of a rate table.
+     *
+     * @param from the {@code Money} object that was converted
+     * @param rates the exchange rates used, quoted from the currency of {@code from}
+     * @param amounts the converted amounts, in the same order as the currencies of {@code rates}
+     * @since       1.1
+     */
+    void show(Money from, RateTable rates, double[] amounts);
+}
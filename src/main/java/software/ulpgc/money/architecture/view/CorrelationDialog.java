@@ -0,0 +1,19 @@
+package software.ulpgc.money.architecture.view;
+
+/**
+ * The {@code CorrelationDialog} interface defines the contract for dialogs that let the user pick
+ * the window over which the exchange rates of every currency are correlated.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public interface CorrelationDialog {
+    /**
+     * Retrieves the window of the correlation.
+     *
+     * @return the number of daily returns to correlate, or {@code 0} if the user cancelled the dialog
+     * @since       1.1
+     */
+    int get();
+}
@@ -0,0 +1,30 @@
+package software.ulpgc.money.architecture.view;
+
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.math.CorrelationMatrix;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The {@code CorrelationDisplay} interface defines a contract for displaying the correlations
+ * between the exchange rates from one currency to many others.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+@FunctionalInterface
+public interface CorrelationDisplay {
+    /**
+     * Displays the correlation and covariance matrices of the daily returns of the exchange rates
+     * from a currency to several others.
+     *
+     * @param from the currency every rate is quoted from
+     * @param currencies the target currencies, in the order of the rows and columns of the matrix
+     * @param matrix the matrices of the daily returns
+     * @param end the last day of the returns
+     * @since       1.1
+     */
+    void showCorrelation(Currency from, List<Currency> currencies, CorrelationMatrix matrix, LocalDate end);
+}
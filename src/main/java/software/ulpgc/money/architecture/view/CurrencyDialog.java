@@ -3,6 +3,7 @@ package software.ulpgc.money.architecture.view;
 import software.ulpgc.money.architecture.model.Currency;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * The {@code CurrencyDialog} interface defines the contract for dialogs that allow
@@ -28,6 +29,7 @@ public interface CurrencyDialog {
      * @since       1.0
      */
     CurrencyDialog define(List<Currency> currencies);
+
     /**
      * Retrieves the currently selected {@link Currency} object.
      *
@@ -35,6 +37,7 @@ public interface CurrencyDialog {
      * @since       1.0
      */
     Currency get();
+
     /**
      * Sets the selected currency based on the provided index.
      *
@@ -42,6 +45,7 @@ public interface CurrencyDialog {
      * @since       1.0
      */
     void set(int index);
+
     /**
      * Returns the index of the currently selected currency.
      *
@@ -49,4 +53,12 @@ public interface CurrencyDialog {
      * @since       1.0
      */
     int getSelectedIndex();
+
+    /**
+     * Registers a listener notified whenever a different currency is selected.
+     *
+     * @param listener the listener receiving the newly selected {@link Currency}
+     * @since       1.1
+     */
+    void addSelectionListener(Consumer<Currency> listener);
 }
@@ -0,0 +1,22 @@
+package software.ulpgc.money.architecture.view;
+
+import software.ulpgc.money.architecture.model.Currency;
+
+/**
+ * The {@code ExpressionDialog} interface defines the contract for dialogs that let the user write
+ * the expression of a series derived from the exchange rates of several currencies.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public interface ExpressionDialog {
+    /**
+     * Retrieves the text of the expression.
+     *
+     * @param from the currency the rates of the expression are quoted from.
+     * @return the text entered by the user, or {@code null} if the user cancelled the dialog
+     * @since       1.1
+     */
+    String get(Currency from);
+}
@@ -4,6 +4,7 @@ import software.ulpgc.money.architecture.model.Currency;
 import software.ulpgc.money.architecture.model.Money;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * The {@code MoneyDialog} interface defines the contract for dialogs
@@ -29,6 +30,7 @@ public interface MoneyDialog {
      * @since       1.0
      */
     MoneyDialog define(List<Currency> currencies);
+
     /**
      * Retrieves the selected {@link Money} object, which includes the selected currency
      * and its associated value.
@@ -37,6 +39,7 @@ public interface MoneyDialog {
      * @since       1.0
      */
     Money get();
+
     /**
      * Sets the selected currency by its index in the list of available currencies.
      *
@@ -44,6 +47,7 @@ public interface MoneyDialog {
      * @since       1.0
      */
     void set(int index);
+
     /**
      * Returns the index of the currently selected currency in the list of available currencies.
      *
@@ -51,4 +55,21 @@ public interface MoneyDialog {
      * @since       1.0
      */
     int getSelectedIndex();
+
+    /**
+     * Registers a listener notified whenever a different source currency is selected.
+     *
+     * @param listener the listener receiving the newly selected {@link Currency}
+     * @since       1.1
+     */
+    void addSelectionListener(Consumer<Currency> listener);
+
+    /**
+     * Registers a listener notified whenever the user changes the amount. Bursts of changes,
+     * such as fast typing, may be coalesced into a single notification.
+     *
+     * @param listener the listener receiving the newly entered {@link Money}
+     * @since       1.1
+     */
+    void addAmountListener(Consumer<Money> listener);
 }
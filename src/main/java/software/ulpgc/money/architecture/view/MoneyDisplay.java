@@ -1,6 +1,8 @@
 package software.ulpgc.money.architecture.view;
 
+import software.ulpgc.money.architecture.model.ExchangeRate;
 import software.ulpgc.money.architecture.model.Money;
+import software.ulpgc.money.architecture.model.RateAlert;
 
 /**
  * The {@code MoneyDisplay} interface defines a contract for displaying
@@ -8,10 +10,11 @@ import software.ulpgc.money.architecture.model.Money;
  * Implementing classes are expected to provide a way to visually present
  * or output the exchange details from one currency to another.
  *
- * <p>The primary method in this interface, {@link #show(Money, Money)},
+ * <p>The primary method in this interface, {@link #show(Money, Money, String)},
  * accepts two {@code Money} objects representing the source and target
- * currencies and provides a mechanism to display or present the conversion
- * information to the user.
+ * currencies, together with the date of the exchange rate used, and provides
+ * a mechanism to display or present the conversion information to the user.
+ * Displays may also notify the user of the rate alerts fired.
  *
  * @author      Vít Mikula
  * @version     1.0.1, 15/01/2025
@@ -24,7 +27,18 @@ public interface MoneyDisplay {
      *
      * @param from the {@code Money} object representing the source currency
      * @param to the {@code Money} object representing the target currency
+     * @param date the date of the exchange rate used for the conversion
      * @since       1.0
      */
-    void show(Money from, Money to);
+    void show(Money from, Money to, String date);
+
+    /**
+     * Notifies the user that a rate alert was fired. Displays ignore alerts by default.
+     *
+     * @param alert the fired alert
+     * @param rate the exchange rate that reached the level of the alert
+     * @since       1.1
+     */
+    default void showAlert(RateAlert alert, ExchangeRate rate) {
+    }
 }
@@ -0,0 +1,22 @@
+package software.ulpgc.money.architecture.view;
+
+import software.ulpgc.money.architecture.model.PortfolioValue;
+
+/**
+ * The {@code PortfolioDisplay} interface defines a contract for displaying the value of a
+ * portfolio of positions in many currencies.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+@FunctionalInterface
+public interface PortfolioDisplay {
+    /**
+     * Displays the value of a portfolio, per currency and in total.
+     *
+     * @param value the value of the portfolio in its reporting currency
+     * @since       1.1
+     */
+    void showPortfolio(PortfolioValue value);
+}
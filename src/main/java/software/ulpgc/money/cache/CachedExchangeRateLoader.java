@@ -0,0 +1,112 @@
+package software.ulpgc.money.cache;
+
+import software.ulpgc.money.architecture.io.ExchangeRateLoader;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.CurrencyPair;
+import software.ulpgc.money.architecture.model.ExchangeRate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * {@code CachedExchangeRateLoader} is an {@link ExchangeRateLoader} decorator that keeps the
+ * latest exchange rate of each currency pair in memory for a fixed time to live.
+ *
+ * <p>The ECB publishes reference rates once per working day, so serving a rate that is a few
+ * minutes old costs nothing in accuracy and saves a full network round trip. The cache can also
+ * be warmed in the background, see {@link software.ulpgc.money.prefetch.PairPrefetcher}.</p>
+ *
+ * <p>The rate of a pair is also derived from the cached rate of the inverse pair as its
+ * reciprocal, so swapping the currencies is served without the network.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class CachedExchangeRateLoader implements ExchangeRateLoader {
+    private final ExchangeRateLoader loader;
+    private final LoadingCache<ExchangeRate> cache;
+
+    /**
+     * Constructs a new {@code CachedExchangeRateLoader}.
+     *
+     * @param loader the loader used on cache misses.
+     * @param timeToLive how long a loaded exchange rate is served from the cache.
+     * @since       1.1
+     */
+    public CachedExchangeRateLoader(ExchangeRateLoader loader, Duration timeToLive) {
+        this.loader = loader;
+        this.cache = new LoadingCache<>(timeToLive);
+    }
+
+    /**
+     * Returns the cached exchange rate between the given currencies, loading it on a miss.
+     *
+     * @param from The source currency.
+     * @param to The target currency.
+     * @return An {@link ExchangeRate} object representing the exchange rate between the given currencies.
+     * @since       1.1
+     */
+    @Override
+    public ExchangeRate load(Currency from, Currency to) {
+        CurrencyPair pair = new CurrencyPair(from, to);
+        return cache.get(pair.key(), pair.inverse().key(), ExchangeRate::inverse, () -> loader.load(from, to));
+    }
+
+    /**
+     * Loads the exchange rate between the given currencies at the given date. Past rates never
+     * change, so they are not kept here but in a {@link software.ulpgc.money.store.RateHistoryStore}.
+     *
+     * @param from The source currency.
+     * @param to The target currency.
+     * @param date The date of the rate.
+     * @return An {@link ExchangeRate} object whose date is the publication date of the rate.
+     * @since       1.1
+     */
+    @Override
+    public ExchangeRate load(Currency from, Currency to, LocalDate date) {
+        return loader.load(from, to, date);
+    }
+
+    /**
+     * Loads the exchange rates between the given currencies at each of the given dates.
+     *
+     * @param from The source currency.
+     * @param to The target currency.
+     * @param dates The dates of the rates.
+     * @return The exchange rates, in the order of the dates.
+     * @since       1.1
+     */
+    @Override
+    public List<ExchangeRate> load(Currency from, Currency to, List<LocalDate> dates) {
+        return loader.load(from, to, dates);
+    }
+
+    /**
+     * Checks whether the exchange rate of the given pair can be served without the network.
+     *
+     * @param pair the currency pair.
+     * @return {@code true} if the rate, or the rate of the inverse pair, is cached or already being loaded.
+     * @since       1.1
+     */
+    public boolean isCached(CurrencyPair pair) {
+        return cache.contains(pair.key()) || cache.contains(pair.inverse().key());
+    }
+
+    /**
+     * Loads the exchange rate between the given currencies bypassing the cache, and stores the
+     * fresh value, and its inverse, in the cache.
+     *
+     * @param from The source currency.
+     * @param to The target currency.
+     * @return the freshly loaded {@link ExchangeRate}.
+     * @since       1.1
+     */
+    public ExchangeRate reload(Currency from, Currency to) {
+        ExchangeRate rate = loader.load(from, to);
+        cache.put(new CurrencyPair(from, to).key(), rate);
+        cache.put(new CurrencyPair(to, from).key(), rate.inverse());
+        return rate;
+    }
+}
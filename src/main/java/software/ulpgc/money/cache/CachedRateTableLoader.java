@@ -0,0 +1,66 @@
+package software.ulpgc.money.cache;
+
+import software.ulpgc.money.architecture.io.RateTableLoader;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.RateTable;
+
+import java.time.Duration;
+
+/**
+ * {@code CachedRateTableLoader} is a {@link RateTableLoader} decorator that keeps the rate tables
+ * of each base currency in memory for a fixed time to live.
+ *
+ * <p>Since every table quotes all the supported currencies, one fresh table is enough to derive
+ * the table of any other base through cross rates. On a miss, the loader therefore rebases the
+ * last table it loaded, if it is still fresh, and only goes to the network when there is none.
+ * A rebased table expires with the table it was derived from.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class CachedRateTableLoader implements RateTableLoader {
+    private final RateTableLoader loader;
+    private final LoadingCache<RateTable> cache;
+    private volatile Currency lastLoadedBase;
+
+    /**
+     * Constructs a new {@code CachedRateTableLoader}.
+     *
+     * @param loader the loader used when no fresh table is cached.
+     * @param timeToLive how long a loaded table is served from the cache.
+     * @since       1.1
+     */
+    public CachedRateTableLoader(RateTableLoader loader, Duration timeToLive) {
+        this.loader = loader;
+        this.cache = new LoadingCache<>(timeToLive);
+    }
+
+    /**
+     * Returns the cached rate table of the given base currency, deriving it from another cached
+     * table or loading it on a miss.
+     *
+     * @param base The source currency.
+     * @return A {@link RateTable} quoting every supported currency from {@code base}.
+     * @since       1.1
+     */
+    @Override
+    public RateTable load(Currency base) {
+        Currency anchor = lastLoadedBase;
+        if (anchor == null) return cache.get(base.code(), () -> loadTable(base));
+        return cache.get(base.code(), anchor.code(), table -> table.indexOf(base) >= 0 ? table.rebase(base) : null, () -> loadTable(base));
+    }
+
+    /**
+     * Loads a new table, which becomes the one the next misses are rebased from.
+     *
+     * @param base The source currency.
+     * @return A {@link RateTable} quoting every supported currency from {@code base}.
+     * @since       1.1
+     */
+    private RateTable loadTable(Currency base) {
+        RateTable table = loader.load(base);
+        lastLoadedBase = base;
+        return table;
+    }
+}
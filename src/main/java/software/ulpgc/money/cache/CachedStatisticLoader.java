@@ -0,0 +1,123 @@
+package software.ulpgc.money.cache;
+
+import software.ulpgc.money.architecture.io.StatisticLoader;
+import software.ulpgc.money.architecture.model.AlignedRateSeries;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.CurrencyPair;
+import software.ulpgc.money.architecture.model.ExchangeRateTimeSeries;
+import software.ulpgc.money.math.RateMath;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@code CachedStatisticLoader} is a {@link StatisticLoader} decorator that keeps the exchange
+ * rate history of each currency pair in memory for a fixed time to live.
+ *
+ * <p>The one-year history is by far the largest response the application requests, so it is the
+ * one that benefits most from being cached and warmed in the background. The history of a pair
+ * is also derived locally from the cached history of the inverse pair, so swapping the currencies
+ * never fetches it again.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class CachedStatisticLoader implements StatisticLoader {
+    private final StatisticLoader loader;
+    private final LoadingCache<ExchangeRateTimeSeries> cache;
+    private final LoadingCache<AlignedRateSeries> alignedCache;
+
+    /**
+     * Constructs a new {@code CachedStatisticLoader}.
+     *
+     * @param loader the loader used on cache misses.
+     * @param timeToLive how long a loaded time series is served from the cache.
+     * @since       1.1
+     */
+    public CachedStatisticLoader(StatisticLoader loader, Duration timeToLive) {
+        this.loader = loader;
+        this.cache = new LoadingCache<>(timeToLive);
+        this.alignedCache = new LoadingCache<>(timeToLive);
+    }
+
+    /**
+     * Returns the cached time series of the given currency pair, loading it on a miss.
+     *
+     * @param from The source currency.
+     * @param to The target currency.
+     * @return An {@link ExchangeRateTimeSeries} containing the exchange rate data
+     *         for the specified currency pair.
+     * @since       1.1
+     */
+    @Override
+    public ExchangeRateTimeSeries loadStatistic(Currency from, Currency to) {
+        CurrencyPair pair = new CurrencyPair(from, to);
+        return cache.get(pair.key(), pair.inverse().key(), CachedStatisticLoader::invert, () -> loader.loadStatistic(from, to));
+    }
+
+    /**
+     * Returns the cached aligned time series from the given currency to the given targets,
+     * loading it on a miss.
+     *
+     * @param from The source currency.
+     * @param to The target currencies.
+     * @return An {@link AlignedRateSeries} with one column per target currency.
+     * @since       1.1
+     */
+    @Override
+    public AlignedRateSeries loadStatistics(Currency from, List<Currency> to) {
+        String key = from.code() + "/" + to.stream().map(Currency::code).collect(Collectors.joining(","));
+        return alignedCache.get(key, () -> loader.loadStatistics(from, to));
+    }
+
+    /**
+     * Loads the aligned time series from the given currency to the given targets between two
+     * dates. Arbitrary periods are not cached here but by a
+     * {@link software.ulpgc.money.store.RateHistoryStore}.
+     *
+     * @param from The source currency.
+     * @param to The target currencies.
+     * @param start The first day of the period.
+     * @param end The last day of the period.
+     * @return An {@link AlignedRateSeries} with one column per target currency.
+     * @since       1.1
+     */
+    @Override
+    public AlignedRateSeries loadStatistics(Currency from, List<Currency> to, LocalDate start, LocalDate end) {
+        return loader.loadStatistics(from, to, start, end);
+    }
+
+    /**
+     * Checks whether the time series of the given pair can be served without the network.
+     *
+     * @param pair the currency pair.
+     * @return {@code true} if the time series, or the series of the inverse pair, is cached or already being loaded.
+     * @since       1.1
+     */
+    public boolean isCached(CurrencyPair pair) {
+        return cache.contains(pair.key()) || cache.contains(pair.inverse().key());
+    }
+
+    /**
+     * Derives the time series of the inverse pair, taking the reciprocal of every rate in a
+     * single pass through {@link RateMath}.
+     *
+     * @param series the time series from currency A to currency B.
+     * @return the time series from currency B to currency A, over the same dates.
+     * @since       1.1
+     */
+    private static ExchangeRateTimeSeries invert(ExchangeRateTimeSeries series) {
+        String[] dates = series.rates().keySet().toArray(String[]::new);
+        double[] rates = new double[dates.length];
+        for (int i = 0; i < dates.length; i++) rates[i] = series.rates().get(dates[i]);
+        double[] inverse = RateMath.reciprocal(rates);
+        Map<String, Double> inverted = HashMap.newHashMap(dates.length);
+        for (int i = 0; i < dates.length; i++) inverted.put(dates[i], inverse[i]);
+        return new ExchangeRateTimeSeries(series.to(), series.from(), inverted);
+    }
+}
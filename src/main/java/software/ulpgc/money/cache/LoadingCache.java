@@ -0,0 +1,252 @@
+package software.ulpgc.money.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * The {@code LoadingCache} class is a small thread-safe cache whose entries expire after a fixed
+ * time to live. It is shared by the caching loaders of this package.
+ *
+ * <p>Concurrent requests for the same key are coalesced: the first caller loads the value and the
+ * others wait for that same load instead of starting their own. This matters when a background
+ * prefetch and a user click ask for the same pair at the same time. Failed loads, whatever they
+ * throw, are not cached, and release the callers waiting for them.</p>
+ *
+ * <p>A load cancelled because its caller was interrupted, e.g. by a superseding command, fails
+ * only for that caller: the other callers waiting for it start the load again, the first of them
+ * loading it for the others.</p>
+ *
+ * <p>A value derived from the value of another key expires with it, so that deriving two keys
+ * from each other in turn never keeps a value beyond the time to live of the value loaded.</p>
+ *
+ * @param <V> the type of the cached values.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class LoadingCache<V> {
+    private final ConcurrentHashMap<String, Entry<V>> entries;
+    private final long timeToLive;
+    private final LongSupplier ticker;
+
+    /**
+     * Constructs a new {@code LoadingCache} whose entries live for the given duration.
+     *
+     * @param timeToLive how long a loaded value is served before being loaded again.
+     * @since       1.1
+     */
+    public LoadingCache(Duration timeToLive) {
+        this(timeToLive, System::nanoTime);
+    }
+
+    /**
+     * Constructs a new {@code LoadingCache} whose entries live for the given duration, measured
+     * with the given ticker.
+     *
+     * @param timeToLive how long a loaded value is served before being loaded again.
+     * @param ticker the source of the current time, in nanoseconds.
+     * @since       1.1
+     */
+    LoadingCache(Duration timeToLive, LongSupplier ticker) {
+        this.entries = new ConcurrentHashMap<>();
+        this.timeToLive = timeToLive.toNanos();
+        this.ticker = ticker;
+    }
+
+    /**
+     * Returns the value cached under the given key, loading it with the given loader if it is
+     * absent or expired.
+     *
+     * @param key the key of the value.
+     * @param loader the loader used when the value is not cached.
+     * @return the cached or freshly loaded value.
+     * @throws RuntimeException the exception thrown by the loader, if loading fails.
+     * @throws Error the error thrown by the loader, if loading fails.
+     * @since       1.1
+     */
+    public V get(String key, Supplier<V> loader) {
+        return get(key, () -> null, loader);
+    }
+
+    /**
+     * Returns the value cached under the given key, installing the derived entry if it is
+     * absent or expired, or else loading it with the given loader.
+     *
+     * @return the cached, derived or freshly loaded value.
+     * @since       1.1
+     */
+    private V get(String key, Supplier<Entry<V>> derive, Supplier<V> loader) {
+        while (true) {
+            Entry<V> entry = entries.get(key);
+            Entry<V> current = entry;
+            if (entry == null || isExpired(entry)) {
+                Entry<V> derived = derive.get();
+                Entry<V> fresh = derived != null ? derived : new Entry<>(new CompletableFuture<>(), ticker.getAsLong() + timeToLive);
+                current = entry == null ? entries.putIfAbsent(key, fresh) : replace(key, entry, fresh);
+                if (current == null) return derived != null ? derived.value().join() : load(key, fresh, loader);
+            }
+            try {
+                return join(current);
+            } catch (CancellationException e) {
+                if (Thread.currentThread().isInterrupted()) throw e;
+            }
+        }
+    }
+
+    /**
+     * Loads the value of an entry just installed, removing the entry if the load fails.
+     *
+     * @return the loaded value.
+     * @since       1.1
+     */
+    private V load(String key, Entry<V> fresh, Supplier<V> loader) {
+        try {
+            V value = loader.get();
+            fresh.value().complete(value);
+            return value;
+        } catch (Throwable e) {
+            entries.remove(key, fresh);
+            fresh.value().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the value cached under the given key. If it is absent or expired, it is derived
+     * from the value cached under another key when that one is loaded, and only otherwise
+     * loaded with the given loader. A derived value expires with its source value.
+     *
+     * <p>The source value is never waited for, so two keys derived from each other cannot
+     * block one another while both are loading.</p>
+     *
+     * @param key the key of the value.
+     * @param sourceKey the key of the value it can be derived from.
+     * @param derivation the function deriving the value from the source value, returning
+     *                   {@code null} if it cannot be derived.
+     * @param loader the loader used when the value is not cached and cannot be derived.
+     * @return the cached, derived or freshly loaded value.
+     * @throws RuntimeException the exception thrown by the loader, if loading fails.
+     * @since       1.1
+     */
+    public V get(String key, String sourceKey, UnaryOperator<V> derivation, Supplier<V> loader) {
+        return get(key, () -> derive(sourceKey, derivation), loader);
+    }
+
+    /**
+     * Derives an entry from the value cached under a key, expiring with that value.
+     *
+     * @return the derived entry, or {@code null} if the source value is not loaded or cannot be derived from.
+     * @since       1.1
+     */
+    private Entry<V> derive(String sourceKey, UnaryOperator<V> derivation) {
+        Entry<V> source = loaded(sourceKey);
+        if (source == null) return null;
+        V value = derivation.apply(source.value().join());
+        return value == null ? null : new Entry<>(CompletableFuture.completedFuture(value), source.expiresAt());
+    }
+
+    /**
+     * Returns the value cached under the given key without loading it.
+     *
+     * @param key the key of the value.
+     * @return the cached value, or {@code null} if it is absent, expired or still loading.
+     * @since       1.1
+     */
+    public V peek(String key) {
+        Entry<V> entry = loaded(key);
+        return entry == null ? null : entry.value().join();
+    }
+
+    /**
+     * Stores a value under the given key, replacing any previous one.
+     *
+     * @param key the key of the value.
+     * @param value the value to store.
+     * @since       1.1
+     */
+    public void put(String key, V value) {
+        entries.put(key, new Entry<>(CompletableFuture.completedFuture(value), ticker.getAsLong() + timeToLive));
+    }
+
+    /**
+     * Checks whether a fresh value, or a load in progress, is held under the given key.
+     *
+     * @param key the key of the value.
+     * @return {@code true} if the key does not need to be loaded again.
+     * @since       1.1
+     */
+    public boolean contains(String key) {
+        Entry<V> entry = entries.get(key);
+        return entry != null && !isExpired(entry);
+    }
+
+    /**
+     * Returns the entry of the given key if its value is fresh and loaded successfully.
+     *
+     * @return the entry, or {@code null} if it is absent, expired, still loading or failed.
+     * @since       1.1
+     */
+    private Entry<V> loaded(String key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null || isExpired(entry) || !entry.value().isDone() || entry.value().isCompletedExceptionally()) return null;
+        return entry;
+    }
+
+    /**
+     * Checks whether an entry is past its expiration time.
+     * @since       1.1
+     */
+    private boolean isExpired(Entry<V> entry) {
+        return ticker.getAsLong() - entry.expiresAt() > 0;
+    }
+
+    /**
+     * Replaces an expired entry with a fresh one.
+     *
+     * @return {@code null} if the fresh entry was installed, or the entry installed by another thread.
+     * @since       1.1
+     */
+    private Entry<V> replace(String key, Entry<V> expired, Entry<V> fresh) {
+        return entries.replace(key, expired, fresh) ? null : entries.getOrDefault(key, expired);
+    }
+
+    /**
+     * Waits for the value of an entry, rethrowing the loader's exception unwrapped. A waiting
+     * thread that is interrupted gives up with a {@link CancellationException}, while the load
+     * itself carries on for the other callers.
+     *
+     * @param entry the entry to wait for.
+     * @return the loaded value.
+     * @since       1.1
+     */
+    private static <V> V join(Entry<V> entry) {
+        try {
+            return entry.value().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for a load");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error cause) throw cause;
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    /**
+     * A cached value, possibly still loading, together with its expiration time.
+     *
+     * @param value the future holding the value.
+     * @param expiresAt the time of the ticker after which the value is stale.
+     * @since       1.1
+     */
+    private record Entry<V>(CompletableFuture<V> value, long expiresAt) {
+    }
+}
@@ -0,0 +1,178 @@
+package software.ulpgc.money.ecb;
+
+import software.ulpgc.money.architecture.io.ExchangeRateLoader;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.ExchangeRate;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * {@code EcbExchangeRateLoader} is an implementation of the {@link ExchangeRateLoader} interface
+ * that reads the euro foreign exchange reference rates from a local copy of the XML files
+ * published by the European Central Bank, either the daily {@code eurofxref-daily.xml} or the
+ * historical {@code eurofxref-hist.xml}.
+ *
+ * <p>The file is parsed once, and again whenever it is modified, into the rates per euro of
+ * every day it holds. The rate between two currencies is the cross rate of their rates per euro.
+ * A file whose latest day is older than the given maximum age is stale: the latest rates it
+ * holds are not served, and neither are the rates at a date beyond its latest day by more than
+ * that age.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class EcbExchangeRateLoader implements ExchangeRateLoader {
+    private static final String EURO = "EUR";
+    private final Path file;
+    private final int maxAgeDays;
+    private final Clock clock;
+    private FileTime modified;
+    private NavigableMap<LocalDate, Map<String, Double>> days;
+
+    /**
+     * Constructs a new {@code EcbExchangeRateLoader}.
+     *
+     * @param file the XML file of the reference rates.
+     * @param maxAgeDays the number of days after which the latest rates of the file are stale.
+     * @param clock the clock giving the current day.
+     * @since       1.1
+     */
+    public EcbExchangeRateLoader(Path file, int maxAgeDays, Clock clock) {
+        this.file = file;
+        this.maxAgeDays = maxAgeDays;
+        this.clock = clock;
+        this.days = new TreeMap<>();
+    }
+
+    /**
+     * Loads the exchange rate between the given currencies at the latest day of the file.
+     *
+     * @param from The source currency.
+     * @param to The target currency.
+     * @return An {@link ExchangeRate} object whose date is the latest day of the file.
+     * @throws IllegalStateException if the file is stale or does not hold both currencies.
+     * @throws UncheckedIOException if the file cannot be read.
+     * @since       1.1
+     */
+    @Override
+    public ExchangeRate load(Currency from, Currency to) {
+        Map.Entry<LocalDate, Map<String, Double>> latest = days().lastEntry();
+        if (latest == null || latest.getKey().plusDays(maxAgeDays).isBefore(LocalDate.now(clock)))
+            throw new IllegalStateException("Stale reference rates in " + file + (latest == null ? "" : " of " + latest.getKey()));
+        ExchangeRate rate = rateOf(from, to, latest);
+        if (rate == null) throw new IllegalStateException("No reference rate of " + from.code() + "/" + to.code() + " in " + file);
+        return rate;
+    }
+
+    /**
+     * Loads the exchange rate between the given currencies of the last day of the file on or
+     * before the given date.
+     *
+     * @param from The source currency.
+     * @param to The target currency.
+     * @param date The date of the rate.
+     * @return An {@link ExchangeRate} object whose date is the publication date of the rate.
+     * @throws IllegalArgumentException if the file holds no rate of the currencies on or before that date.
+     * @throws IllegalStateException if the date is beyond the latest day of the file by more than the maximum age.
+     * @throws UncheckedIOException if the file cannot be read.
+     * @since       1.1
+     */
+    @Override
+    public ExchangeRate load(Currency from, Currency to, LocalDate date) {
+        NavigableMap<LocalDate, Map<String, Double>> days = days();
+        if (days.isEmpty() || days.lastKey().plusDays(maxAgeDays).isBefore(date))
+            throw new IllegalStateException("No reference rates of " + date + " in " + file);
+        ExchangeRate rate = rateOf(from, to, days.floorEntry(date));
+        if (rate == null) throw new IllegalArgumentException("No reference rate of " + from.code() + "/" + to.code() + " at " + date + " in " + file);
+        return rate;
+    }
+
+    /**
+     * Returns the cross rate between two currencies on one day of the file.
+     *
+     * @param day the day and its rates per euro, or {@code null}.
+     * @return the exchange rate, or {@code null} if any of the currencies is not quoted that day.
+     * @since       1.1
+     */
+    private static ExchangeRate rateOf(Currency from, Currency to, Map.Entry<LocalDate, Map<String, Double>> day) {
+        if (day == null) return null;
+        Double perEuroFrom = perEuro(from, day.getValue()), perEuroTo = perEuro(to, day.getValue());
+        if (perEuroFrom == null || perEuroTo == null) return null;
+        return new ExchangeRate(from, to, day.getKey().toString(), perEuroTo / perEuroFrom);
+    }
+
+    /**
+     * Returns the rate per euro of a currency.
+     * @since       1.1
+     */
+    private static Double perEuro(Currency currency, Map<String, Double> rates) {
+        return currency.code().equals(EURO) ? Double.valueOf(1) : rates.get(currency.code());
+    }
+
+    /**
+     * Returns the rates of every day of the file, parsing it again if it was modified.
+     *
+     * @return the rates per euro by currency code, by day.
+     * @since       1.1
+     */
+    private synchronized NavigableMap<LocalDate, Map<String, Double>> days() {
+        try {
+            FileTime lastModified = Files.getLastModifiedTime(file);
+            if (lastModified.equals(modified)) return days;
+            try (InputStream in = Files.newInputStream(file)) {
+                days = parse(in);
+            }
+            modified = lastModified;
+            return days;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Parses the reference rates of an XML file: every {@code Cube} element with a {@code time}
+     * attribute starts a day, and every one with {@code currency} and {@code rate} attributes
+     * holds a rate per euro of that day.
+     *
+     * @param in the content of the file.
+     * @return the rates per euro by currency code, by day.
+     * @throws IOException if the content is not well-formed XML.
+     * @since       1.1
+     */
+    private static NavigableMap<LocalDate, Map<String, Double>> parse(InputStream in) throws IOException {
+        NavigableMap<LocalDate, Map<String, Double>> days = new TreeMap<>();
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        try {
+            XMLStreamReader reader = factory.createXMLStreamReader(in);
+            Map<String, Double> rates = null;
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamReader.START_ELEMENT || !reader.getLocalName().equals("Cube")) continue;
+                String time = reader.getAttributeValue(null, "time");
+                String currency = reader.getAttributeValue(null, "currency");
+                String rate = reader.getAttributeValue(null, "rate");
+                if (time != null) days.put(LocalDate.parse(time), rates = new HashMap<>());
+                else if (rates != null && currency != null && rate != null) rates.put(currency, Double.parseDouble(rate));
+            }
+            reader.close();
+            return days;
+        } catch (XMLStreamException | RuntimeException e) {
+            throw new IOException("Invalid reference rates: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package software.ulpgc.money.expr;
+
+/**
+ * The {@code Ast} interface represents the syntax tree of an {@link Expression}, as built by the
+ * {@link ExpressionParser} and compiled by {@link Expression}.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+sealed interface Ast {
+    /**
+     * A number.
+     *
+     * @param value the value of the number.
+     * @since       1.1
+     */
+    record Constant(double value) implements Ast {
+    }
+
+    /**
+     * A reference to the series of a currency.
+     *
+     * @param index the index of the currency among those referenced by the expression.
+     * @since       1.1
+     */
+    record Column(int index) implements Ast {
+    }
+
+    /**
+     * An operation on one operand: negation or a function.
+     *
+     * @param operator the operator: {@code '-'} or the name of the function.
+     * @param operand the operand.
+     * @since       1.1
+     */
+    record Unary(String operator, Ast operand) implements Ast {
+    }
+
+    /**
+     * An operation on two operands.
+     *
+     * @param operator the operator: {@code '+'}, {@code '-'}, {@code '*'}, {@code '/'} or {@code '^'}.
+     * @param left the left operand.
+     * @param right the right operand.
+     * @since       1.1
+     */
+    record Binary(char operator, Ast left, Ast right) implements Ast {
+    }
+}
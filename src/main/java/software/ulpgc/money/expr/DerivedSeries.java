@@ -0,0 +1,28 @@
+package software.ulpgc.money.expr;
+
+import software.ulpgc.money.architecture.model.Currency;
+
+/**
+ * Represents the values of an {@link Expression} evaluated over the days of an aligned series.
+ *
+ * @param expression {@code Expression} the values were computed from.
+ * @param from {@code Currency} from which the rates of the expression are quoted.
+ * @param days Days of the series as {@link java.time.LocalDate#toEpochDay() epoch days}, in ascending order.
+ * @param values Values of the expression, one per day; {@link Double#NaN} where it is not defined.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public record DerivedSeries(Expression expression, Currency from, int[] days, double[] values) {
+
+    /**
+     * Returns the number of days of the series.
+     *
+     * @return the length of the series.
+     * @since       1.1
+     */
+    public int size() {
+        return days.length;
+    }
+}
@@ -0,0 +1,272 @@
+package software.ulpgc.money.expr;
+
+import software.ulpgc.money.architecture.model.AlignedRateSeries;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.metrics.MetricsRegistry;
+import software.ulpgc.money.metrics.Timer;
+
+import java.util.List;
+
+/**
+ * The {@code Expression} class defines a series derived from the exchange rates of several
+ * currencies, such as a basket {@code 0.4*USD + 0.6*GBP}, a spread {@code USD - CHF} or a ratio
+ * {@code ln(GBP / USD)}. Every currency code stands for the rate to that currency from the
+ * source currency of the series it is evaluated over, the source currency itself for {@code 1}.
+ *
+ * <p>The text is parsed once, by {@link #parse(String, List)}. Evaluating the expression over an
+ * {@link AlignedRateSeries} compiles its syntax tree into a tree of lambdas bound to the primitive
+ * columns of the series: constant subtrees are folded, and the usual shapes of baskets, spreads
+ * and ratios are fused into single nodes reading their columns directly. All days are then
+ * computed in one pass, without any intermediate array, and evaluations are measured in the
+ * {@code expr.evaluate} timer.</p>
+ *
+ * <p>Expressions are immutable, and may be evaluated from any thread.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public final class Expression {
+    private static final Timer EVALUATE_TIMER = MetricsRegistry.global().timer("expr.evaluate");
+    private final String text;
+    private final Ast ast;
+    private final List<Currency> currencies;
+
+    private Expression(String text, Ast ast, List<Currency> currencies) {
+        this.text = text;
+        this.ast = ast;
+        this.currencies = currencies;
+    }
+
+    /**
+     * Parses an expression made of numbers, currency codes, the operators {@code + - * / ^},
+     * parentheses and the functions {@code ln}, {@code exp}, {@code abs} and {@code sqrt}.
+     *
+     * @param text the text of the expression.
+     * @param currencies the currencies the codes may refer to, in any case.
+     * @return the parsed expression.
+     * @throws IllegalArgumentException if the text is not a valid expression, with the position of the error.
+     * @since       1.1
+     */
+    public static Expression parse(String text, List<Currency> currencies) {
+        ExpressionParser parser = new ExpressionParser(text, currencies);
+        Ast ast = parser.parse();
+        return new Expression(text.strip(), ast, parser.references());
+    }
+
+    /**
+     * Returns the text of the expression.
+     *
+     * @return the text, without leading and trailing spaces.
+     * @since       1.1
+     */
+    public String text() {
+        return text;
+    }
+
+    /**
+     * Returns the currencies the expression refers to.
+     *
+     * @return the currencies, in the order they first appear in the text.
+     * @since       1.1
+     */
+    public List<Currency> currencies() {
+        return currencies;
+    }
+
+    /**
+     * Evaluates the expression on every day of an aligned series. Days where any rate used is
+     * missing, or where the value is not finite, e.g. a logarithm of a negative spread, are
+     * {@link Double#NaN}.
+     *
+     * @param series the rates from the source currency to every currency of the expression
+     *               except the source currency itself.
+     * @return the values of the expression, aligned on the days of the series.
+     * @throws IllegalArgumentException if a currency of the expression is not part of the series.
+     * @since       1.1
+     */
+    public DerivedSeries evaluate(AlignedRateSeries series) {
+        long start = System.nanoTime();
+        double[][] columns = new double[currencies.size()][];
+        for (int k = 0; k < columns.length; k++)
+            columns[k] = currencies.get(k).equals(series.from()) ? null : series.column(currencies.get(k));
+        Node node = compile(ast, columns).toNode();
+        double[] values = new double[series.size()];
+        for (int i = 0; i < values.length; i++) {
+            double value = node.at(i);
+            values[i] = Double.isFinite(value) ? value : Double.NaN;
+        }
+        EVALUATE_TIMER.stop(start);
+        return new DerivedSeries(this, series.from(), series.days(), values);
+    }
+
+    /**
+     * Returns the text of the expression.
+     *
+     * @return the text.
+     * @since       1.1
+     */
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    /**
+     * A compiled expression, computing its value on one day of the columns it is bound to.
+     * @since       1.1
+     */
+    @FunctionalInterface
+    private interface Node {
+        double at(int row);
+    }
+
+    /**
+     * A compiled subtree: either a constant, folded into its parent, or a column scaled by a
+     * constant, fused with its parent, or any other node.
+     *
+     * @param node the node computing the value, or {@code null} if constant.
+     * @param value the value of a constant subtree, or the scale of a column.
+     * @param column the column of a scaled column, or {@code null}.
+     * @since       1.1
+     */
+    private record Compiled(Node node, double value, double[] column) {
+        static Compiled constant(double value) {
+            return new Compiled(null, value, null);
+        }
+
+        static Compiled scaled(double[] column, double scale) {
+            return new Compiled(scale == 1 ? i -> column[i] : i -> scale * column[i], scale, column);
+        }
+
+        static Compiled of(Node node) {
+            return new Compiled(node, Double.NaN, null);
+        }
+
+        boolean isConstant() {
+            return node == null;
+        }
+
+        boolean isScaled() {
+            return column != null;
+        }
+
+        Node toNode() {
+            double value = this.value;
+            return node != null ? node : _ -> value;
+        }
+    }
+
+    /**
+     * Compiles a syntax tree into nodes bound to the given columns. The column of the source
+     * currency is the constant {@code 1}.
+     *
+     * @param ast the syntax tree.
+     * @param columns the column of every referenced currency, {@code null} for the source currency.
+     * @return the compiled tree.
+     * @since       1.1
+     */
+    private static Compiled compile(Ast ast, double[][] columns) {
+        return switch (ast) {
+            case Ast.Constant c -> Compiled.constant(c.value());
+            case Ast.Column c -> columns[c.index()] == null ? Compiled.constant(1) : Compiled.scaled(columns[c.index()], 1);
+            case Ast.Unary u -> unary(u.operator(), compile(u.operand(), columns));
+            case Ast.Binary b -> binary(b.operator(), compile(b.left(), columns), compile(b.right(), columns));
+        };
+    }
+
+    /**
+     * Compiles a negation or a function call, folding it if its operand is constant.
+     * @since       1.1
+     */
+    private static Compiled unary(String operator, Compiled operand) {
+        if (operand.isConstant()) return Compiled.constant(apply(operator, operand.value()));
+        if (operator.equals("-") && operand.isScaled()) return Compiled.scaled(operand.column(), -operand.value());
+        Node a = operand.node();
+        return Compiled.of(switch (operator) {
+            case "-" -> i -> -a.at(i);
+            case "ln" -> i -> Math.log(a.at(i));
+            case "exp" -> i -> Math.exp(a.at(i));
+            case "abs" -> i -> Math.abs(a.at(i));
+            case "sqrt" -> i -> Math.sqrt(a.at(i));
+            default -> throw new IllegalStateException("Unknown function: " + operator);
+        });
+    }
+
+    /**
+     * Compiles a binary operation, folding it if both operands are constant, scaling a column
+     * multiplied or divided by a constant, and fusing weighted sums, spreads, products and
+     * ratios of two columns into one node.
+     * @since       1.1
+     */
+    private static Compiled binary(char operator, Compiled left, Compiled right) {
+        if (left.isConstant() && right.isConstant()) return Compiled.constant(apply(operator, left.value(), right.value()));
+        if (left.isScaled() && right.isConstant() && (operator == '*' || operator == '/'))
+            return Compiled.scaled(left.column(), apply(operator, left.value(), right.value()));
+        if (left.isConstant() && right.isScaled() && operator == '*')
+            return Compiled.scaled(right.column(), left.value() * right.value());
+        if (left.isScaled() && right.isScaled() && operator != '^') {
+            double[] x = left.column(), y = right.column();
+            double s = left.value(), t = right.value();
+            return switch (operator) {
+                case '+' -> Compiled.of(i -> s * x[i] + t * y[i]);
+                case '-' -> Compiled.of(i -> s * x[i] - t * y[i]);
+                case '*' -> product(x, y, s * t);
+                default -> ratio(x, y, s / t);
+            };
+        }
+        Node a = left.toNode(), b = right.toNode();
+        return Compiled.of(switch (operator) {
+            case '+' -> i -> a.at(i) + b.at(i);
+            case '-' -> i -> a.at(i) - b.at(i);
+            case '*' -> i -> a.at(i) * b.at(i);
+            case '/' -> i -> a.at(i) / b.at(i);
+            default -> i -> Math.pow(a.at(i), b.at(i));
+        });
+    }
+
+    /**
+     * Compiles the product of two columns, scaled by a constant.
+     * @since       1.1
+     */
+    private static Compiled product(double[] x, double[] y, double scale) {
+        return Compiled.of(scale == 1 ? i -> x[i] * y[i] : i -> scale * x[i] * y[i]);
+    }
+
+    /**
+     * Compiles the ratio of two columns, scaled by a constant.
+     * @since       1.1
+     */
+    private static Compiled ratio(double[] x, double[] y, double scale) {
+        return Compiled.of(scale == 1 ? i -> x[i] / y[i] : i -> scale * x[i] / y[i]);
+    }
+
+    /**
+     * Applies a negation or a function to a value.
+     * @since       1.1
+     */
+    private static double apply(String operator, double value) {
+        return switch (operator) {
+            case "-" -> -value;
+            case "ln" -> Math.log(value);
+            case "exp" -> Math.exp(value);
+            case "abs" -> Math.abs(value);
+            case "sqrt" -> Math.sqrt(value);
+            default -> throw new IllegalStateException("Unknown function: " + operator);
+        };
+    }
+
+    /**
+     * Applies a binary operator to two values.
+     * @since       1.1
+     */
+    private static double apply(char operator, double left, double right) {
+        return switch (operator) {
+            case '+' -> left + right;
+            case '-' -> left - right;
+            case '*' -> left * right;
+            case '/' -> left / right;
+            case '^' -> Math.pow(left, right);
+            default -> throw new IllegalStateException("Unknown operator: " + operator);
+        };
+    }
+}
@@ -0,0 +1,202 @@
+package software.ulpgc.money.expr;
+
+import software.ulpgc.money.architecture.model.Currency;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The {@code ExpressionParser} class parses the text of an {@link Expression} into its syntax
+ * tree, by recursive descent over the grammar:
+ * <pre>{@code
+ * sum     = product (("+" | "-") product)*
+ * product = unary (("*" | "/") unary)*
+ * unary   = "-" unary | power
+ * power   = primary ("^" unary)?
+ * primary = number | CODE | function "(" sum ")" | "(" sum ")"
+ * }</pre>
+ *
+ * <p>Codes are resolved, in any case, against the supported currencies, and numerated in the
+ * order they first appear.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+final class ExpressionParser {
+    static final Set<String> FUNCTIONS = Set.of("ln", "exp", "abs", "sqrt");
+    private final String text;
+    private final Map<String, Currency> currencies;
+    private final List<Currency> references;
+    private int position;
+
+    /**
+     * Constructs a new {@code ExpressionParser} of the given text.
+     *
+     * @param text the text of the expression.
+     * @param currencies the supported currencies.
+     * @since       1.1
+     */
+    ExpressionParser(String text, List<Currency> currencies) {
+        this.text = text;
+        this.currencies = currencies.stream().collect(Collectors.toMap(c -> c.code().toUpperCase(Locale.ROOT), Function.identity(), (a, _) -> a));
+        this.references = new ArrayList<>();
+    }
+
+    /**
+     * Parses the whole text.
+     *
+     * @return the syntax tree.
+     * @throws IllegalArgumentException if the text is not a valid expression.
+     * @since       1.1
+     */
+    Ast parse() {
+        Ast ast = sum();
+        skipSpaces();
+        if (position < text.length()) throw error("Unexpected '" + text.charAt(position) + "'");
+        return ast;
+    }
+
+    /**
+     * Returns the currencies referenced by the parsed text, in the order they first appear.
+     *
+     * @return the referenced currencies.
+     * @since       1.1
+     */
+    List<Currency> references() {
+        return List.copyOf(references);
+    }
+
+    private Ast sum() {
+        Ast ast = product();
+        for (char c; (c = peek()) == '+' || c == '-'; ) {
+            position++;
+            ast = new Ast.Binary(c, ast, product());
+        }
+        return ast;
+    }
+
+    private Ast product() {
+        Ast ast = unary();
+        for (char c; (c = peek()) == '*' || c == '/'; ) {
+            position++;
+            ast = new Ast.Binary(c, ast, unary());
+        }
+        return ast;
+    }
+
+    private Ast unary() {
+        if (peek() != '-') return power();
+        position++;
+        return new Ast.Unary("-", unary());
+    }
+
+    private Ast power() {
+        Ast ast = primary();
+        if (peek() != '^') return ast;
+        position++;
+        return new Ast.Binary('^', ast, unary());
+    }
+
+    /**
+     * Parses a number, a currency code, a function call or a parenthesised expression.
+     * @since       1.1
+     */
+    private Ast primary() {
+        char c = peek();
+        if (c == '(') {
+            position++;
+            Ast ast = sum();
+            expect(')');
+            return ast;
+        }
+        if (Character.isDigit(c) || c == '.') return number();
+        if (Character.isLetter(c)) return name();
+        throw error(c == 0 ? "Unexpected end of expression" : "Unexpected '" + c + "'");
+    }
+
+    /**
+     * Parses a number, with an optional fraction and exponent.
+     * @since       1.1
+     */
+    private Ast number() {
+        int start = position;
+        while (position < text.length() && (Character.isDigit(text.charAt(position)) || text.charAt(position) == '.')) position++;
+        if (position < text.length() && (text.charAt(position) == 'e' || text.charAt(position) == 'E')) {
+            position++;
+            if (position < text.length() && (text.charAt(position) == '+' || text.charAt(position) == '-')) position++;
+            while (position < text.length() && Character.isDigit(text.charAt(position))) position++;
+        }
+        try {
+            return new Ast.Constant(Double.parseDouble(text.substring(start, position)));
+        } catch (NumberFormatException e) {
+            String number = text.substring(start, position);
+            position = start;
+            throw error("Invalid number '" + number + "'");
+        }
+    }
+
+    /**
+     * Parses a function call or a currency code.
+     * @since       1.1
+     */
+    private Ast name() {
+        int start = position;
+        while (position < text.length() && Character.isLetter(text.charAt(position))) position++;
+        String name = text.substring(start, position);
+        if (FUNCTIONS.contains(name.toLowerCase(Locale.ROOT))) {
+            expect('(');
+            Ast operand = sum();
+            expect(')');
+            return new Ast.Unary(name.toLowerCase(Locale.ROOT), operand);
+        }
+        Currency currency = currencies.get(name.toUpperCase(Locale.ROOT));
+        if (currency == null) {
+            position = start;
+            throw error("Unknown currency '" + name + "'");
+        }
+        int index = references.indexOf(currency);
+        if (index < 0) {
+            index = references.size();
+            references.add(currency);
+        }
+        return new Ast.Column(index);
+    }
+
+    /**
+     * Consumes the given character, after any spaces.
+     * @since       1.1
+     */
+    private void expect(char expected) {
+        if (peek() != expected) throw error("Expected '" + expected + "'");
+        position++;
+    }
+
+    /**
+     * Returns the next character after any spaces, without consuming it.
+     *
+     * @return the next character, or {@code 0} at the end of the text.
+     * @since       1.1
+     */
+    private char peek() {
+        skipSpaces();
+        return position < text.length() ? text.charAt(position) : 0;
+    }
+
+    private void skipSpaces() {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) position++;
+    }
+
+    /**
+     * Creates the exception of a syntax error at the current position.
+     * @since       1.1
+     */
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + (position + 1) + " of \"" + text + "\"");
+    }
+}
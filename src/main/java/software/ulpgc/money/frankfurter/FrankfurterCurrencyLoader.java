@@ -6,6 +6,9 @@ import com.google.gson.JsonObject;
 import software.ulpgc.money.architecture.io.APIService;
 import software.ulpgc.money.architecture.model.Currency;
 import software.ulpgc.money.architecture.io.CurrencyLoader;
+import software.ulpgc.money.jfr.JsonDecodeEvent;
+import software.ulpgc.money.metrics.MetricsRegistry;
+import software.ulpgc.money.metrics.Timer;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -29,6 +32,7 @@ import java.util.Map;
  * @since       1.0
  */
 public class FrankfurterCurrencyLoader implements CurrencyLoader {
+    private static final Timer TIMER = MetricsRegistry.global().timer("loader.currency");
     private final APIService apiDeserializer;
 
     public FrankfurterCurrencyLoader(APIService apiDeserializer) {
@@ -48,7 +52,7 @@ public class FrankfurterCurrencyLoader implements CurrencyLoader {
     @Override
     public List<Currency> load() {
         String url = "https://api.frankfurter.dev/v1/currencies";
-        return toList(apiDeserializer.loadJsonWith(url));
+        return TIMER.time(() -> toList(apiDeserializer.loadJsonWith(url)));
     }
 
     /**
@@ -62,10 +66,19 @@ public class FrankfurterCurrencyLoader implements CurrencyLoader {
      * @since       1.0
      */
     private List<Currency> toList(String json) {
+        JsonDecodeEvent event = new JsonDecodeEvent();
+        event.begin();
         List<Currency> list = new ArrayList<>();
         Map<String, JsonElement> symbols = new Gson().fromJson(json, JsonObject.class).getAsJsonObject().asMap();
         for (String symbol : symbols.keySet())
             list.add(new Currency(symbol, symbols.get(symbol).getAsString()));
+        event.end();
+        if (event.shouldCommit()) {
+            event.decoder = "currencies";
+            event.pair = "";
+            event.points = list.size();
+            event.commit();
+        }
         return list;
     }
 }
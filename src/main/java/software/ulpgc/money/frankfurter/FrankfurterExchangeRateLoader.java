@@ -6,6 +6,11 @@ import software.ulpgc.money.architecture.io.APIService;
 import software.ulpgc.money.architecture.io.ExchangeRateLoader;
 import software.ulpgc.money.architecture.model.Currency;
 import software.ulpgc.money.architecture.model.ExchangeRate;
+import software.ulpgc.money.jfr.JsonDecodeEvent;
+import software.ulpgc.money.metrics.MetricsRegistry;
+import software.ulpgc.money.metrics.Timer;
+
+import java.time.LocalDate;
 
 /**
  * {@code FrankfurterExchangeRateLoader} is an implementation of the {@link ExchangeRateLoader} interface
@@ -22,6 +27,7 @@ import software.ulpgc.money.architecture.model.ExchangeRate;
  * @since       1.0
  */
 public class FrankfurterExchangeRateLoader implements ExchangeRateLoader {
+    private static final Timer TIMER = MetricsRegistry.global().timer("loader.exchange_rate");
     private final APIService apiDeserializer;
 
     public FrankfurterExchangeRateLoader(APIService apiDeserializer) {
@@ -40,7 +46,23 @@ public class FrankfurterExchangeRateLoader implements ExchangeRateLoader {
     @Override
     public ExchangeRate load(Currency from, Currency to) {
         String url = "https://api.frankfurter.dev/v1/latest?symbols=" + to.code() + "&base=" + from.code();
-        return toExchangeRate(from, to, apiDeserializer.loadJsonWith(url));
+        return TIMER.time(() -> toExchangeRate(from, to, apiDeserializer.loadJsonWith(url)));
+    }
+
+    /**
+     * Loads the exchange rate between the given currencies at the given date using the
+     * Frankfurter API, which answers with the last rate published on or before that date.
+     *
+     * @param from The base currency.
+     * @param to The target currency.
+     * @param date The date of the rate.
+     * @return An {@link ExchangeRate} object whose date is the publication date of the rate.
+     * @since 1.1
+     */
+    @Override
+    public ExchangeRate load(Currency from, Currency to, LocalDate date) {
+        String url = "https://api.frankfurter.dev/v1/" + date + "?symbols=" + to.code() + "&base=" + from.code();
+        return TIMER.time(() -> toExchangeRate(from, to, apiDeserializer.loadJsonWith(url)));
     }
 
     /**
@@ -53,8 +75,18 @@ public class FrankfurterExchangeRateLoader implements ExchangeRateLoader {
      * @since 1.0
      */
     private ExchangeRate toExchangeRate(Currency from, Currency to, String json) {
+        JsonDecodeEvent event = new JsonDecodeEvent();
+        event.begin();
         JsonObject gson = new Gson().fromJson(json, JsonObject.class);
-        return new ExchangeRate(from, to, getDateFrom(gson), getRateFrom(gson, to));
+        ExchangeRate rate = new ExchangeRate(from, to, getDateFrom(gson), getRateFrom(gson, to));
+        event.end();
+        if (event.shouldCommit()) {
+            event.decoder = "latest";
+            event.pair = from.code() + "/" + to.code();
+            event.points = 1;
+            event.commit();
+        }
+        return rate;
     }
 
     /**
@@ -77,6 +109,6 @@ public class FrankfurterExchangeRateLoader implements ExchangeRateLoader {
      * @since 1.0
      */
     private static String getDateFrom(JsonObject gson) {
-        return gson.get("date").toString();
+        return gson.get("date").getAsString();
     }
 }
@@ -0,0 +1,93 @@
+package software.ulpgc.money.frankfurter;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import software.ulpgc.money.architecture.io.APIService;
+import software.ulpgc.money.architecture.io.RateTableLoader;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.RateTable;
+import software.ulpgc.money.jfr.JsonDecodeEvent;
+import software.ulpgc.money.metrics.MetricsRegistry;
+import software.ulpgc.money.metrics.Timer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * {@code FrankfurterRateTableLoader} is an implementation of the {@link RateTableLoader} interface
+ * that retrieves the latest exchange rates from one currency to all the others from the Frankfurter API.
+ *
+ * <p>A single {@code latest?base=X} request returns every rate, so converting an amount into all
+ * the supported currencies costs one round trip instead of one per currency.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class FrankfurterRateTableLoader implements RateTableLoader {
+    private static final Timer TIMER = MetricsRegistry.global().timer("loader.rate_table");
+    private final APIService apiDeserializer;
+    private final Map<String, Currency> currencies;
+
+    /**
+     * Constructs a new {@code FrankfurterRateTableLoader}.
+     *
+     * @param apiDeserializer the service used to fetch the JSON responses.
+     * @param currencies the supported currencies, used to resolve the codes of the response.
+     * @since 1.1
+     */
+    public FrankfurterRateTableLoader(APIService apiDeserializer, List<Currency> currencies) {
+        this.apiDeserializer = apiDeserializer;
+        this.currencies = currencies.stream().collect(Collectors.toMap(Currency::code, Function.identity(), (a, _) -> a));
+    }
+
+    /**
+     * Loads the latest exchange rates from the given currency using the Frankfurter API.
+     *
+     * @param base The source currency.
+     * @return A {@link RateTable} quoting every supported currency from {@code base}.
+     * @since 1.1
+     */
+    @Override
+    public RateTable load(Currency base) {
+        String url = "https://api.frankfurter.dev/v1/latest?base=" + base.code();
+        return TIMER.time(() -> toRateTable(base, apiDeserializer.loadJsonWith(url)));
+    }
+
+    /**
+     * Converts the raw JSON response into a {@link RateTable}. Codes that are not supported
+     * currencies are skipped.
+     *
+     * @param base The source currency.
+     * @param json The JSON response string.
+     * @return A {@link RateTable} with the rates of the response.
+     * @since 1.1
+     */
+    private RateTable toRateTable(Currency base, String json) {
+        JsonDecodeEvent event = new JsonDecodeEvent();
+        event.begin();
+        JsonObject gson = new Gson().fromJson(json, JsonObject.class);
+        Map<String, JsonElement> values = gson.getAsJsonObject("rates").asMap();
+        List<Currency> targets = new ArrayList<>(values.size());
+        double[] rates = new double[values.size()];
+        for (Map.Entry<String, JsonElement> entry : values.entrySet()) {
+            Currency currency = currencies.get(entry.getKey());
+            if (currency == null) continue;
+            rates[targets.size()] = entry.getValue().getAsDouble();
+            targets.add(currency);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.decoder = "rate table";
+            event.pair = base.code() + "/*";
+            event.points = targets.size();
+            event.commit();
+        }
+        return new RateTable(base, gson.get("date").getAsString(), List.copyOf(targets), Arrays.copyOf(rates, targets.size()));
+    }
+}
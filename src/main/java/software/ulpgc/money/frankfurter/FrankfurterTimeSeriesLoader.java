@@ -5,12 +5,19 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import software.ulpgc.money.architecture.io.APIService;
 import software.ulpgc.money.architecture.io.StatisticLoader;
+import software.ulpgc.money.architecture.model.AlignedRateSeries;
 import software.ulpgc.money.architecture.model.Currency;
 import software.ulpgc.money.architecture.model.ExchangeRateTimeSeries;
+import software.ulpgc.money.jfr.JsonDecodeEvent;
+import software.ulpgc.money.metrics.MetricsRegistry;
+import software.ulpgc.money.metrics.Timer;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * The {@code FrankfurterTimeSeriesLoader} class implements the {@link StatisticLoader} interface
@@ -20,6 +27,8 @@ import java.util.Map;
  * <p>This class provides functionality to:
  * <ul>
  *   <li>Load exchange rate time series data for a given currency pair.</li>
+ *   <li>Load aligned time series from one currency to several others in a single request,
+ *       over the last year or over any period.</li>
  *   <li>Deserialize the returned JSON data into a structured {@link ExchangeRateTimeSeries} object.</li>
  * </ul>
  *
@@ -32,6 +41,8 @@ import java.util.Map;
  * @since       1.0
  */
 public class FrankfurterTimeSeriesLoader implements StatisticLoader {
+    private static final Timer TIMER = MetricsRegistry.global().timer("loader.time_series");
+    private static final Timer ALIGNED_TIMER = MetricsRegistry.global().timer("loader.aligned_time_series");
     private final APIService apiDeserializer;
 
     public FrankfurterTimeSeriesLoader(APIService apiDeserializer) {
@@ -50,9 +61,52 @@ public class FrankfurterTimeSeriesLoader implements StatisticLoader {
      */
     @Override
     public ExchangeRateTimeSeries loadStatistic(Currency from, Currency to) {
-        String startDay = LocalDate.ofYearDay(LocalDate.now().getYear() - 1, LocalDate.now().getDayOfMonth()).toString();
-        String url = "https://api.frankfurter.dev/v1/" + startDay + "..?symbols=" + to.code() + "&base=" + from.code();
-        return toTimeSeries(from, to, apiDeserializer.loadJsonWith(url));
+        String url = "https://api.frankfurter.dev/v1/" + startDay() + "..?symbols=" + to.code() + "&base=" + from.code();
+        return TIMER.time(() -> toTimeSeries(from, to, apiDeserializer.loadJsonWith(url)));
+    }
+
+    /**
+     * Loads the exchange rate time series from one currency to several others for the previous
+     * year, with a single multi-symbol request.
+     *
+     * @param from The base currency from which to convert.
+     * @param to The target currencies.
+     * @return An {@link AlignedRateSeries} with one column per target currency.
+     * @since       1.1
+     */
+    @Override
+    public AlignedRateSeries loadStatistics(Currency from, List<Currency> to) {
+        String symbols = to.stream().map(Currency::code).collect(Collectors.joining(","));
+        String url = "https://api.frankfurter.dev/v1/" + startDay() + "..?symbols=" + symbols + "&base=" + from.code();
+        return ALIGNED_TIMER.time(() -> toAlignedSeries(from, to, apiDeserializer.loadJsonWith(url)));
+    }
+
+    /**
+     * Loads the exchange rate time series from one currency to several others between two
+     * dates, with a single multi-symbol request.
+     *
+     * @param from The base currency from which to convert.
+     * @param to The target currencies.
+     * @param start The first day of the period.
+     * @param end The last day of the period.
+     * @return An {@link AlignedRateSeries} with one column per target currency.
+     * @since       1.1
+     */
+    @Override
+    public AlignedRateSeries loadStatistics(Currency from, List<Currency> to, LocalDate start, LocalDate end) {
+        String symbols = to.stream().map(Currency::code).collect(Collectors.joining(","));
+        String url = "https://api.frankfurter.dev/v1/" + start + ".." + end + "?symbols=" + symbols + "&base=" + from.code();
+        return ALIGNED_TIMER.time(() -> toAlignedSeries(from, to, apiDeserializer.loadJsonWith(url)));
+    }
+
+    /**
+     * Returns the first day of the loaded period, one year before today.
+     *
+     * @return the start day in ISO format.
+     * @since       1.1
+     */
+    private static String startDay() {
+        return LocalDate.now().minusYears(1).toString();
     }
 
     /**
@@ -66,6 +120,8 @@ public class FrankfurterTimeSeriesLoader implements StatisticLoader {
      * @since       1.0
      */
     private ExchangeRateTimeSeries toTimeSeries(Currency base, Currency other, String json) {
+        JsonDecodeEvent event = new JsonDecodeEvent();
+        event.begin();
         JsonObject gson = new Gson().fromJson(json, JsonObject.class);
         Map<String, Double> rates = new HashMap<>();
         gson = gson.getAsJsonObject("rates");
@@ -75,6 +131,49 @@ public class FrankfurterTimeSeriesLoader implements StatisticLoader {
             double rateValue = value.get(other.code()).getAsDouble();
             rates.put(day, rateValue);
         }
+        event.end();
+        if (event.shouldCommit()) {
+            event.decoder = "time series";
+            event.pair = base.code() + "/" + other.code();
+            event.points = rates.size();
+            event.commit();
+        }
         return new ExchangeRateTimeSeries(base, other, rates);
     }
+
+    /**
+     * Converts the raw JSON data of a multi-symbol request into aligned columns. Days are sorted
+     * chronologically and a currency missing on a given day is stored as {@link Double#NaN}.
+     *
+     * @param base The base currency.
+     * @param others The target currencies.
+     * @param json The raw JSON string containing the exchange rates.
+     * @return An {@link AlignedRateSeries} with one column per target currency.
+     * @since       1.1
+     */
+    private AlignedRateSeries toAlignedSeries(Currency base, List<Currency> others, String json) {
+        JsonDecodeEvent event = new JsonDecodeEvent();
+        event.begin();
+        JsonObject gson = new Gson().fromJson(json, JsonObject.class).getAsJsonObject("rates");
+        String[] dates = gson.keySet().toArray(String[]::new);
+        Arrays.sort(dates);
+        int[] days = new int[dates.length];
+        double[][] rates = new double[others.size()][dates.length];
+        for (int i = 0; i < dates.length; i++) {
+            days[i] = (int) LocalDate.parse(dates[i]).toEpochDay();
+            JsonObject value = gson.getAsJsonObject(dates[i]);
+            for (int j = 0; j < others.size(); j++) {
+                JsonElement rate = value.get(others.get(j).code());
+                rates[j][i] = rate == null ? Double.NaN : rate.getAsDouble();
+            }
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.decoder = "aligned time series";
+            event.pair = base.code() + "/" + others.stream().map(Currency::code).collect(Collectors.joining(","));
+            event.points = days.length * others.size();
+            event.commit();
+        }
+        return new AlignedRateSeries(base, List.copyOf(others), days, rates);
+    }
 }
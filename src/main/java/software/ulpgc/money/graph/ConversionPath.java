@@ -0,0 +1,40 @@
+package software.ulpgc.money.graph;
+
+import software.ulpgc.money.architecture.model.Currency;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Represents a sequence of conversions between currencies, each at a quoted rate.
+ *
+ * @param currencies {@code List} of the currencies converted through, from the first to the last.
+ * @param rate Product of the rates of the conversions: the amount of the last currency obtained per unit of the first.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public record ConversionPath(List<Currency> currencies, double rate) {
+
+    /**
+     * Returns the number of conversions of the path.
+     *
+     * @return the number of currencies minus one.
+     * @since       1.1
+     */
+    public int hops() {
+        return currencies.size() - 1;
+    }
+
+    /**
+     * Returns the codes of the currencies of the path, joined by arrows, e.g. {@code "USD → EUR → JPY"}.
+     *
+     * @return the description of the path.
+     * @since       1.1
+     */
+    @Override
+    public String toString() {
+        return currencies.stream().map(Currency::code).collect(Collectors.joining(" → ")) + " @ " + rate;
+    }
+}
@@ -0,0 +1,98 @@
+package software.ulpgc.money.graph;
+
+import software.ulpgc.money.architecture.io.ExchangeRateLoader;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.ExchangeRate;
+import software.ulpgc.money.metrics.Counter;
+import software.ulpgc.money.metrics.MetricsRegistry;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static java.lang.System.Logger.Level.INFO;
+
+/**
+ * {@code GraphExchangeRateLoader} is an {@link ExchangeRateLoader} decorator that sets every
+ * latest rate it loads in a {@link RateGraph}, and reports when the graph knows a path through
+ * other currencies beating the direct quote by more than its tolerance.
+ *
+ * <p>The loaded rate is always returned as quoted, so that it is the one cached, displayed and
+ * checked by the alerts. Better paths are only information: they are counted in
+ * {@code graph.paths} and logged, and the graph is scanned for inconsistent quotes whenever a
+ * rate changes it. Rates at past dates are loaded by the decorated loader unchanged.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class GraphExchangeRateLoader implements ExchangeRateLoader {
+    private static final System.Logger LOGGER = System.getLogger(GraphExchangeRateLoader.class.getName());
+    private static final Counter PATHS = MetricsRegistry.global().counter("graph.paths");
+    private final ExchangeRateLoader loader;
+    private final RateGraph graph;
+
+    /**
+     * Constructs a new {@code GraphExchangeRateLoader}.
+     *
+     * @param loader the loader of the direct rates.
+     * @param graph the graph of the latest quotes.
+     * @since       1.1
+     */
+    public GraphExchangeRateLoader(ExchangeRateLoader loader, RateGraph graph) {
+        this.loader = loader;
+        this.graph = graph;
+    }
+
+    /**
+     * Loads the latest exchange rate between the given currencies with the decorated loader,
+     * sets it in the graph and reports a better path between them, if the graph knows one
+     * among the quotes of the same date.
+     *
+     * @param from The source currency.
+     * @param to The target currency.
+     * @return An {@link ExchangeRate} object with the direct rate, as loaded.
+     * @since       1.1
+     */
+    @Override
+    public ExchangeRate load(Currency from, Currency to) {
+        ExchangeRate rate = loader.load(from, to);
+        if (graph.setQuotes(rate)) graph.scan();
+        if (!rate.date().equals(graph.date())) return rate;
+        ConversionPath path = graph.bestPath(from, to);
+        if (path == null || path.hops() < 2 || !(path.rate() > rate.rate())) return rate;
+        PATHS.increment();
+        LOGGER.log(INFO, "Converting " + from.code() + " to " + to.code() + " through " + path + " would beat " + rate.rate());
+        return rate;
+    }
+
+    /**
+     * Loads the exchange rate between the given currencies in force at the given date with the decorated loader.
+     *
+     * @param from The source currency.
+     * @param to The target currency.
+     * @param date The date of the rate.
+     * @return An {@link ExchangeRate} object whose date is the publication date of the rate.
+     * @throws IllegalArgumentException if no rate is known at that date.
+     * @since       1.1
+     */
+    @Override
+    public ExchangeRate load(Currency from, Currency to, LocalDate date) {
+        return loader.load(from, to, date);
+    }
+
+    /**
+     * Loads the exchange rates between the given currencies in force at each of the given dates
+     * with the decorated loader.
+     *
+     * @param from The source currency.
+     * @param to The target currency.
+     * @param dates The dates of the rates.
+     * @return The exchange rates, in the order of the dates.
+     * @throws IllegalArgumentException if no rate is known at one of the dates.
+     * @since       1.1
+     */
+    @Override
+    public List<ExchangeRate> load(Currency from, Currency to, List<LocalDate> dates) {
+        return loader.load(from, to, dates);
+    }
+}
@@ -0,0 +1,45 @@
+package software.ulpgc.money.graph;
+
+import software.ulpgc.money.architecture.io.RateTableLoader;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.RateTable;
+
+/**
+ * {@code GraphRateTableLoader} is a {@link RateTableLoader} decorator that sets the quotes of
+ * every table it loads in a {@link RateGraph}, and scans the graph for inconsistent quotes
+ * whenever they change.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class GraphRateTableLoader implements RateTableLoader {
+    private final RateTableLoader loader;
+    private final RateGraph graph;
+
+    /**
+     * Constructs a new {@code GraphRateTableLoader}.
+     *
+     * @param loader the loader of the rate tables.
+     * @param graph the graph receiving their quotes.
+     * @since       1.1
+     */
+    public GraphRateTableLoader(RateTableLoader loader, RateGraph graph) {
+        this.loader = loader;
+        this.graph = graph;
+    }
+
+    /**
+     * Loads the rate table of the given base currency with the decorated loader, and sets its quotes in the graph.
+     *
+     * @param base The source currency.
+     * @return A {@link RateTable} quoting every supported currency from {@code base}.
+     * @since       1.1
+     */
+    @Override
+    public RateTable load(Currency base) {
+        RateTable table = loader.load(base);
+        if (graph.setQuotes(table)) graph.scan();
+        return table;
+    }
+}
@@ -0,0 +1,329 @@
+package software.ulpgc.money.graph;
+
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.ExchangeRate;
+import software.ulpgc.money.architecture.model.RateTable;
+import software.ulpgc.money.metrics.Counter;
+import software.ulpgc.money.metrics.MetricsRegistry;
+import software.ulpgc.money.metrics.Timer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.lang.System.Logger.Level.WARNING;
+
+/**
+ * The {@code RateGraph} class holds the latest quotes between a set of currencies as a graph, and
+ * finds the best way to convert between any two of them and the cycles of conversions that end
+ * with more money than they started with.
+ *
+ * <p>Currencies are numbered by their position in the list given at construction, and the graph
+ * is a primitive adjacency matrix holding, for every quote from {@code i} to {@code j}, the
+ * weight {@code -ln(rate)}. Multiplying rates along a path becomes adding weights, so the best
+ * conversion is the shortest path, and a profitable cycle is a negative one.</p>
+ *
+ * <p>The shortest paths between all pairs are kept with the next currency of each, as computed
+ * by Floyd-Warshall in {@code O(n³)}. A quote that improves only relaxes the paths through it,
+ * in {@code O(n²)}; a quote that worsens or disappears computes them again. Paths only go
+ * through other currencies when they beat the direct quote by more than the tolerance, so the
+ * rounding of published rates never turns a direct conversion into a detour.</p>
+ *
+ * <p>The graph holds the quotes of a single publication date, so that paths and cycles never
+ * compare a quote with an older one. A quote of a later date than those held drops them all
+ * before it is set, and a quote of an earlier date is ignored.</p>
+ *
+ * <p>Scans are measured in the {@code graph.scan} timer, and the profitable cycles they find are
+ * counted in {@code graph.cycles} and logged.</p>
+ *
+ * <p>All methods are synchronised, so quotes can be set from loading threads while paths are
+ * read elsewhere.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class RateGraph {
+    private static final System.Logger LOGGER = System.getLogger(RateGraph.class.getName());
+    private static final Timer SCAN_TIMER = MetricsRegistry.global().timer("graph.scan");
+    private static final Counter CYCLES = MetricsRegistry.global().counter("graph.cycles");
+    private static final double NONE = Double.POSITIVE_INFINITY;
+    private final List<Currency> currencies;
+    private final Map<Currency, Integer> indices;
+    private final int size;
+    private final double tolerance;
+    private final double[] weights;
+    private final double[] distances;
+    private final int[] next;
+    private String date;
+
+    /**
+     * Constructs a new {@code RateGraph} without any quote.
+     *
+     * @param currencies the currencies of the graph.
+     * @param tolerance the relative gain below which a path or cycle is taken for rounding, e.g. {@code 1e-4} for one basis point.
+     * @since       1.1
+     */
+    public RateGraph(List<Currency> currencies, double tolerance) {
+        this.currencies = List.copyOf(currencies);
+        this.size = currencies.size();
+        this.tolerance = Math.log1p(tolerance);
+        this.indices = new HashMap<>();
+        for (int i = 0; i < size; i++) indices.put(currencies.get(i), i);
+        this.weights = new double[size * size];
+        this.distances = new double[size * size];
+        this.next = new int[size * size];
+        Arrays.fill(weights, NONE);
+        for (int i = 0; i < size; i++) weights[i * size + i] = 0;
+        recompute();
+    }
+
+    /**
+     * Sets the quote between two currencies, in one direction only. Quotes of currencies not
+     * in the graph, or older than those held, are ignored.
+     *
+     * @param from the source currency.
+     * @param to the target currency.
+     * @param rate the rate, or {@link Double#NaN} to remove the quote.
+     * @param date the publication date of the quote, in ISO format.
+     * @return {@code true} if the quote changed.
+     * @since       1.1
+     */
+    public synchronized boolean setQuote(Currency from, Currency to, double rate, String date) {
+        if (!age(date)) return false;
+        int change = put(from, to, rate);
+        if (change < 0) relax(indices.get(from), indices.get(to));
+        else if (change > 0) recompute();
+        return change != 0;
+    }
+
+    /**
+     * Sets the quote of an exchange rate and of its inverse.
+     *
+     * @param rate the exchange rate.
+     * @return {@code true} if any of the quotes changed.
+     * @since       1.1
+     */
+    public synchronized boolean setQuotes(ExchangeRate rate) {
+        return setQuote(rate.from(), rate.to(), rate.rate(), rate.date()) | setQuote(rate.to(), rate.from(), 1 / rate.rate(), rate.date());
+    }
+
+    /**
+     * Sets the quotes of a rate table, from its base to every currency and back. The shortest
+     * paths are computed again once for the whole table if any of its quotes worsened.
+     *
+     * @param table the rate table.
+     * @return {@code true} if any of the quotes changed.
+     * @since       1.1
+     */
+    public synchronized boolean setQuotes(RateTable table) {
+        if (!age(table.date())) return false;
+        List<int[]> improved = new ArrayList<>();
+        boolean worsened = false;
+        for (int k = 0; k < table.rates().length; k++) {
+            Currency currency = table.currencies().get(k);
+            worsened |= putQuote(table.base(), currency, table.rates()[k], improved);
+            worsened |= putQuote(currency, table.base(), 1 / table.rates()[k], improved);
+        }
+        if (worsened) recompute();
+        else for (int[] edge : improved) relax(edge[0], edge[1]);
+        return worsened || !improved.isEmpty();
+    }
+
+    /**
+     * Returns the publication date of the quotes of the graph.
+     *
+     * @return the date, in ISO format, or {@code null} if no quote was set yet.
+     * @since       1.1
+     */
+    public synchronized String date() {
+        return date;
+    }
+
+    /**
+     * Prepares the graph for a quote of the given date: the quotes of an earlier date are
+     * dropped, and the shortest paths computed again without them.
+     *
+     * @return {@code false} if the quote is older than those of the graph, and must be ignored.
+     * @since       1.1
+     */
+    private boolean age(String date) {
+        if (this.date != null && date.compareTo(this.date) < 0) return false;
+        if (this.date != null && date.compareTo(this.date) > 0) {
+            Arrays.fill(weights, NONE);
+            for (int i = 0; i < size; i++) weights[i * size + i] = 0;
+            recompute();
+        }
+        this.date = date;
+        return true;
+    }
+
+    /**
+     * Stores a quote without updating the shortest paths, collecting the edges it improved.
+     *
+     * @return {@code true} if the quote worsened.
+     * @since       1.1
+     */
+    private boolean putQuote(Currency from, Currency to, double rate, List<int[]> improved) {
+        int change = put(from, to, rate);
+        if (change < 0) improved.add(new int[]{indices.get(from), indices.get(to)});
+        return change > 0;
+    }
+
+    /**
+     * Stores the weight of a quote without updating the shortest paths.
+     *
+     * @return a negative number if the weight decreased, a positive one if it increased, {@code 0} if it did not change.
+     * @since       1.1
+     */
+    private int put(Currency from, Currency to, double rate) {
+        Integer i = indices.get(from), j = indices.get(to);
+        if (i == null || j == null || i.equals(j)) return 0;
+        double weight = rate > 0 ? -Math.log(rate) : NONE;
+        int edge = i * size + j;
+        int change = Double.compare(weight, weights[edge]);
+        weights[edge] = weight;
+        return change;
+    }
+
+    /**
+     * Returns the best way to convert from a currency to another with the quotes of the graph.
+     *
+     * @param from the source currency.
+     * @param to the target currency.
+     * @return the path with the highest rate, or {@code null} if there is none.
+     * @since       1.1
+     */
+    public synchronized ConversionPath bestPath(Currency from, Currency to) {
+        Integer i = indices.get(from), j = indices.get(to);
+        if (i == null || j == null || next[i * size + j] < 0) return null;
+        List<Integer> path = new ArrayList<>(List.of(i));
+        for (int k = i; k != j && k >= 0 && path.size() <= size; path.add(k)) k = next[k * size + j];
+        return path.getLast().equals(j) ? pathOf(path) : null;
+    }
+
+    /**
+     * Scans the graph for the cycles of conversions gaining more than the tolerance: every
+     * triangle, in both directions, and the longer cycles left in the shortest paths.
+     *
+     * @return the profitable cycles, each starting from its first currency in the graph.
+     * @since       1.1
+     */
+    public synchronized List<ConversionPath> cycles() {
+        List<ConversionPath> cycles = new ArrayList<>();
+        Set<List<Integer>> seen = new HashSet<>();
+        for (int i = 0; i < size; i++)
+            for (int j = i + 1; j < size; j++)
+                for (int k = j + 1; k < size; k++) {
+                    if (weight(i, j) + weight(j, k) + weight(k, i) < -tolerance) addCycle(List.of(i, j, k, i), cycles, seen);
+                    if (weight(i, k) + weight(k, j) + weight(j, i) < -tolerance) addCycle(List.of(i, k, j, i), cycles, seen);
+                }
+        for (int i = 0; i < size; i++) {
+            if (distances[i * size + i] >= -tolerance) continue;
+            List<Integer> cycle = new ArrayList<>(List.of(i));
+            for (int k = next[i * size + i]; k >= 0 && cycle.size() <= size; k = next[k * size + i]) {
+                cycle.add(k);
+                if (k == i) break;
+            }
+            if (cycle.getLast() == i && cycle.size() > 2) addCycle(cycle, cycles, seen);
+        }
+        return cycles;
+    }
+
+    /**
+     * Scans the graph for profitable cycles, as {@link #cycles()} does, and reports them.
+     *
+     * @return the profitable cycles.
+     * @since       1.1
+     */
+    public List<ConversionPath> scan() {
+        long start = System.nanoTime();
+        List<ConversionPath> cycles = cycles();
+        SCAN_TIMER.stop(start);
+        CYCLES.add(cycles.size());
+        for (ConversionPath cycle : cycles)
+            LOGGER.log(WARNING, String.format("Inconsistent quotes: %s gains %.4f%%", cycle, (cycle.rate() - 1) * 100));
+        return cycles;
+    }
+
+    /**
+     * Adds a cycle, rotated to start from its lowest index, unless it was already found.
+     * @since       1.1
+     */
+    private void addCycle(List<Integer> cycle, List<ConversionPath> cycles, Set<List<Integer>> seen) {
+        List<Integer> open = cycle.subList(0, cycle.size() - 1);
+        int start = open.indexOf(open.stream().min(Integer::compare).orElseThrow());
+        List<Integer> rotated = new ArrayList<>(open.subList(start, open.size()));
+        rotated.addAll(open.subList(0, start));
+        rotated.add(rotated.getFirst());
+        if (seen.add(rotated)) cycles.add(pathOf(rotated));
+    }
+
+    /**
+     * Returns the path through the given indices, with the product of the quotes along it.
+     * @since       1.1
+     */
+    private ConversionPath pathOf(List<Integer> path) {
+        double weight = 0;
+        for (int k = 1; k < path.size(); k++) weight += weight(path.get(k - 1), path.get(k));
+        return new ConversionPath(path.stream().map(currencies::get).toList(), Math.exp(-weight));
+    }
+
+    /**
+     * Returns the weight of the quote from {@code i} to {@code j}.
+     * @since       1.1
+     */
+    private double weight(int i, int j) {
+        return weights[i * size + j];
+    }
+
+    /**
+     * Computes the shortest paths between all pairs with Floyd-Warshall.
+     * @since       1.1
+     */
+    private void recompute() {
+        System.arraycopy(weights, 0, distances, 0, weights.length);
+        for (int i = 0; i < size * size; i++) next[i] = weights[i] < NONE ? i % size : -1;
+        for (int k = 0; k < size; k++)
+            for (int a = 0; a < size; a++) {
+                double toK = distances[a * size + k];
+                if (toK == NONE) continue;
+                for (int b = 0; b < size; b++) {
+                    double candidate = toK + distances[k * size + b];
+                    if (candidate < distances[a * size + b] - tolerance) {
+                        distances[a * size + b] = candidate;
+                        next[a * size + b] = next[a * size + k];
+                    }
+                }
+            }
+    }
+
+    /**
+     * Relaxes the shortest paths through the quote from {@code i} to {@code j}, which just improved.
+     * @since       1.1
+     */
+    private void relax(int i, int j) {
+        double weight = weights[i * size + j];
+        double[] toI = new double[size];
+        int[] firstHop = new int[size];
+        for (int a = 0; a < size; a++) {
+            toI[a] = distances[a * size + i];
+            firstHop[a] = a == i ? j : next[a * size + i];
+        }
+        double[] fromJ = Arrays.copyOfRange(distances, j * size, j * size + size);
+        for (int a = 0; a < size; a++) {
+            if (toI[a] == NONE) continue;
+            for (int b = 0; b < size; b++) {
+                double candidate = toI[a] + weight + fromJ[b];
+                if (candidate < distances[a * size + b] - tolerance) {
+                    distances[a * size + b] = candidate;
+                    next[a * size + b] = firstHop[a];
+                }
+            }
+        }
+    }
+}
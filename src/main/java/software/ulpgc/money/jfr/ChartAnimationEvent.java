@@ -0,0 +1,35 @@
+package software.ulpgc.money.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JDK Flight Recorder event emitted for every run of the chart animation, from the first point
+ * drawn until the last one or until the animation is interrupted.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+@Name("software.ulpgc.money.ChartAnimation")
+@Label("Chart Animation")
+@Category({"Money Calculator", "Rendering"})
+@Description("Animated drawing of an exchange rate history")
+public class ChartAnimationEvent extends Event {
+    @Label("Pair")
+    public String pair;
+
+    @Label("Points")
+    @Description("Number of points in the history")
+    public int points;
+
+    @Label("Points Drawn")
+    @Description("Number of points drawn before the animation ended")
+    public int drawn;
+
+    @Label("Interrupted")
+    public boolean interrupted;
+}
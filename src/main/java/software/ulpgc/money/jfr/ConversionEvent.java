@@ -0,0 +1,36 @@
+package software.ulpgc.money.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JDK Flight Recorder event emitted for every execution of the exchange money command, from the
+ * moment the input is read until the result and the chart are handed to the views.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+@Name("software.ulpgc.money.Conversion")
+@Label("Conversion")
+@Category({"Money Calculator", "Commands"})
+@Description("Conversion of an amount, including rate and history loading")
+public class ConversionEvent extends Event {
+    @Label("Pair")
+    public String pair;
+
+    @Label("Amount")
+    public double amount;
+
+    @Label("Rate")
+    public double rate;
+
+    @Label("History Points")
+    public int points;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
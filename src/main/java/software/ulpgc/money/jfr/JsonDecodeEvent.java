@@ -0,0 +1,32 @@
+package software.ulpgc.money.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JDK Flight Recorder event emitted when a JSON response is decoded into the model.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+@Name("software.ulpgc.money.JsonDecode")
+@Label("JSON Decode")
+@Category({"Money Calculator", "Decoding"})
+@Description("Decoding of an API response into model objects")
+public class JsonDecodeEvent extends Event {
+    @Label("Decoder")
+    @Description("Kind of response decoded, e.g. currencies, latest or time series")
+    public String decoder;
+
+    @Label("Pair")
+    @Description("Currencies involved, e.g. EUR/USD, or empty for currency lists")
+    public String pair;
+
+    @Label("Points")
+    @Description("Number of values decoded")
+    public int points;
+}
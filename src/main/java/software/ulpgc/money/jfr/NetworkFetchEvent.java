@@ -0,0 +1,33 @@
+package software.ulpgc.money.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JDK Flight Recorder event emitted for every HTTP request issued to a rates API.
+ * Its duration spans the connection, the transfer and the reading of the response.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+@Name("software.ulpgc.money.NetworkFetch")
+@Label("Network Fetch")
+@Category({"Money Calculator", "Network"})
+@Description("HTTP request to an exchange rates API")
+public class NetworkFetchEvent extends Event {
+    @Label("URL")
+    public String url;
+
+    @Label("Status")
+    @Description("HTTP status code, or 0 if no response was received")
+    public int status;
+
+    @Label("Response Size")
+    @DataAmount(DataAmount.BYTES)
+    public long bytes;
+}
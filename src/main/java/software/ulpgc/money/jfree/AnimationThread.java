@@ -1,41 +1,43 @@
 package software.ulpgc.money.jfree;
 
-import org.jfree.data.time.Day;
-import org.jfree.data.time.TimeSeries;
 import software.ulpgc.money.architecture.model.ExchangeRateTimeSeries;
+import software.ulpgc.money.jfr.ChartAnimationEvent;
+import software.ulpgc.money.swing.SwingRateChart;
 
 import javax.swing.*;
-import java.util.Map;
-import java.util.TreeMap;
 
 /**
  *  The {@code AnimationThread} class is a specialized thread for managing
- *  the animation of a JFreeChart. This thread repeatedly updates the chart
- *  to create a smooth animation effect by periodically refreshing the displayed data.
+ *  the animation of a {@link SwingRateChart}. This thread repeatedly reveals
+ *  more points of the chart to create a smooth animation effect.
  *
  *  <p>It extends the {@link Thread} class and provides methods to start, stop,
- *  and control the animation loop. This class ensures efficient handling of
- *  thread lifecycle and chart rendering.</p>
+ *  and control the animation loop. The points are revealed one every few milliseconds,
+ *  but the chart is only updated once per frame, with all the points due by then, so the
+ *  Event Dispatch Thread handles about sixty updates per second however long the series.</p>
  *
  * @author      Vít Mikula
  * @version     1.0.1, 15/01/2025
  * @since       1.0
  */
 public class AnimationThread extends Thread {
+    // Time between two updates of the chart, and time it takes to reveal each point.
+    private static final long FRAME_MILLIS = 16;
+    private static final long POINT_MILLIS = 8;
     private ExchangeRateTimeSeries exchangeRateSeries;
-    private final TimeSeries timeSeries;
+    private final SwingRateChart chart;
 
     /**
-     * Constructs an {@code AnimationThread} for animation specified {@link TimeSeries}.
+     * Constructs an {@code AnimationThread} for animation of the specified {@link SwingRateChart}.
      *
-     * @param timeSeries The time series to update (must not be {@code null}).
+     * @param chart The chart to animate (must not be {@code null}).
      * @since 1.0
      */
-    public AnimationThread(TimeSeries timeSeries) {
-        if (timeSeries == null) {
-            throw new IllegalArgumentException("TimeSeries cannot be null");
+    public AnimationThread(SwingRateChart chart) {
+        if (chart == null) {
+            throw new IllegalArgumentException("Chart cannot be null");
         }
-        this.timeSeries = timeSeries;
+        this.chart = chart;
     }
 
     /**
@@ -49,26 +51,39 @@ public class AnimationThread extends Thread {
     }
 
     /**
-     * Starts the animation loop. The thread repeatedly updates the time series at the specified interval
-     * until it has no data to update.
+     * Starts the animation loop. Every frame, the thread reveals the points due since the start
+     * of the animation, until all of them are shown or the thread is interrupted, and then lets
+     * the chart settle. Every run is recorded as a {@link ChartAnimationEvent}
+     * when Flight Recorder is running.
      * @since 1.0
      */
     @Override
     public void run() {
-        // Sorts time series chronologically.
-        TreeMap<String, Double> sortedData = new TreeMap<>(exchangeRateSeries.rates());
-        for(Map.Entry<String, Double> entry : sortedData.entrySet()) {
-            if(Thread.currentThread().isInterrupted()) {
-                break;
-            }
-            SwingUtilities.invokeLater(() ->
-                    this.timeSeries.addOrUpdate(Day.parseDay(entry.getKey()), entry.getValue()));
-            try {
-                Thread.sleep(8);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
+        ChartAnimationEvent event = new ChartAnimationEvent();
+        event.begin();
+        int points = exchangeRateSeries.rates().size();
+        long start = System.nanoTime();
+        int drawn = 0;
+        try {
+            while (drawn < points && !Thread.currentThread().isInterrupted()) {
+                long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+                drawn = (int) Math.min(points, elapsedMillis / POINT_MILLIS + 1);
+                int count = drawn;
+                SwingUtilities.invokeLater(() -> chart.reveal(count));
+                if (drawn < points) Thread.sleep(FRAME_MILLIS);
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            SwingUtilities.invokeLater(chart::settle);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.pair = exchangeRateSeries.from().code() + "/" + exchangeRateSeries.to().code();
+            event.points = points;
+            event.drawn = drawn;
+            event.interrupted = Thread.currentThread().isInterrupted();
+            event.commit();
         }
     }
 }
@@ -1,35 +1,70 @@
 package software.ulpgc.money.jfree;
 
 import org.jfree.chart.ChartPanel;
-import org.jfree.chart.JFreeChart;
+import org.jfree.data.time.Day;
 import org.jfree.data.time.TimeSeries;
 import org.jfree.data.time.TimeSeriesCollection;
+import software.ulpgc.money.architecture.model.AlignedRateSeries;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.CurrencyPair;
+import software.ulpgc.money.architecture.model.ExchangeRate;
 import software.ulpgc.money.architecture.model.ExchangeRateTimeSeries;
+import software.ulpgc.money.architecture.model.Money;
+import software.ulpgc.money.architecture.model.PortfolioValue;
+import software.ulpgc.money.architecture.model.RateTable;
 import software.ulpgc.money.architecture.model.TimeSeriesChart;
 import software.ulpgc.money.architecture.view.ContentDisplay;
+import software.ulpgc.money.architecture.view.ConversionTableDisplay;
+import software.ulpgc.money.architecture.view.CorrelationDisplay;
+import software.ulpgc.money.architecture.view.PortfolioDisplay;
+import software.ulpgc.money.math.CorrelationMatrix;
+import software.ulpgc.money.math.RateMath;
+import software.ulpgc.money.metrics.MetricsRegistry;
+import software.ulpgc.money.metrics.Timer;
+import software.ulpgc.money.math.RateStatistics;
+import software.ulpgc.money.swing.SwingConversionTable;
+import software.ulpgc.money.swing.SwingCorrelationHeatmap;
+import software.ulpgc.money.swing.SwingPortfolioTable;
 import software.ulpgc.money.swing.SwingMainFrame;
+import software.ulpgc.money.swing.SwingRateChart;
 import software.ulpgc.money.swing.SwingReadMeDialog;
+import software.ulpgc.money.tile.RateTileLoader;
 
 import javax.swing.*;
 import java.awt.*;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
- * {@code CenterContentDisplay} is a JPanel that implements the {@link ContentDisplay} interface.
+ * {@code CenterContentDisplay} is a JPanel that implements the {@link ContentDisplay},
+ * {@link ConversionTableDisplay}, {@link CorrelationDisplay} and {@link PortfolioDisplay} interfaces.
  * It is responsible for displaying content, such as charts and informational panels,
- * in the central area of the user interface. This class supports rendering an animated chart
+ * in the central area of the user interface, as well as tables of conversions into many currencies,
+ * heatmaps of the correlations between them and the value of the portfolio. This class supports rendering an animated chart
  * based on exchange rate data and also shows informational dialogs when required.
  *
- * <p>This class uses a {@link TimeSeriesChart} for rendering time-series data and an
- * {@link AnimationThread} to animate exchange rate data over time. It is designed to be part of
+ * <p>This class uses a {@link SwingRateChart} for rendering the time-series data of one pair and an
+ * {@link AnimationThread} to animate exchange rate data over time. Comparisons of several
+ * currencies are rendered by JFreeChart. It is designed to be part of
  * a larger Swing-based user interface, where it manages content updates in response to user actions.
  *
+ * <p>Once its {@link #setTiles(RateTileLoader) tiles} are set, the rate chart can be zoomed and
+ * panned over the whole history of its pair, through one {@link RateTileLoader} shared by every
+ * chart.</p>
+ *
  * @author      Vit Mikula
  * @version     1.0.1, 15/01/2025
  * @since       1.0
  */
-public class CenterContentDisplay extends JPanel implements ContentDisplay {
-    private TimeSeries series;
+public class CenterContentDisplay extends JPanel implements ContentDisplay, ConversionTableDisplay, CorrelationDisplay, PortfolioDisplay {
+    private static final Timer SHOW_CHART_TIMER = MetricsRegistry.global().timer("render.show_chart");
+    private SwingRateChart rateChart;
+    private ExchangeRateTimeSeries displayedSeries;
     private AnimationThread animationThread;
+    private RateTileLoader tiles;
 
     /**
      * Constructs a new {@code CenterContentDisplay} panel with a BorderLayout and a default background color.
@@ -49,10 +84,52 @@ public class CenterContentDisplay extends JPanel implements ContentDisplay {
      */
     @Override
     public void showChart(TimeSeriesChart chart, ExchangeRateTimeSeries exchangeRateSeries) {
+        long start = System.nanoTime();
+        stopAnimation();
         removeAll();
-        add(createChartPanel(chart));
+        add(createRateChart(chart));
         revalidate();
+        displayedSeries = exchangeRateSeries;
         doAnimation(exchangeRateSeries);
+        SHOW_CHART_TIMER.stop(start);
+    }
+
+    /**
+     * Appends a single new exchange rate to the displayed series. Only that point is added:
+     * the chart is neither rebuilt nor animated again. The tiles covering its day are loaded
+     * again, so the history explored on the chart shows it too.
+     *
+     * @param rate The new exchange rate.
+     * @since 1.1
+     */
+    @Override
+    public void appendRate(ExchangeRate rate) {
+        if (displayedSeries == null || !displayedSeries.from().equals(rate.from()) || !displayedSeries.to().equals(rate.to())) return;
+        int day = (int) LocalDate.parse(rate.date()).toEpochDay();
+        if (tiles != null) tiles.invalidate(new CurrencyPair(rate.from(), rate.to()), day);
+        rateChart.append(day, rate.rate());
+    }
+
+    /**
+     * Sets the money converted at the rate under the crosshair of the displayed chart.
+     *
+     * @param money The money to convert, in the source currency of the chart.
+     * @since 1.1
+     */
+    @Override
+    public void setAmount(Money money) {
+        if (displayedSeries == null || !displayedSeries.from().equals(money.currency())) return;
+        rateChart.setAmount(money, displayedSeries.to());
+    }
+
+    /**
+     * Sets the tiles of the histories explored on the rate charts, from the next chart displayed on.
+     *
+     * @param tiles The loader of the tiles of the histories.
+     * @since 1.1
+     */
+    public void setTiles(RateTileLoader tiles) {
+        this.tiles = tiles;
     }
 
     /**
@@ -62,50 +139,181 @@ public class CenterContentDisplay extends JPanel implements ContentDisplay {
      */
     @Override
     public void showInfo() {
+        stopAnimation();
         removeAll();
+        displayedSeries = null;
         add(new SwingReadMeDialog());
         revalidate();
     }
 
+    /**
+     * Displays several exchange rate series on one chart with a shared time axis.
+     * Every series is filled without notifications and the chart is built once at the end,
+     * so comparing N currencies costs a single chart rebuild.
+     *
+     * @param chart The chart to be displayed.
+     * @param alignedSeries The aligned exchange rate series, one per compared currency.
+     * @param normalized Whether each series is rescaled so that its first value is 100.
+     * @since 1.1
+     */
+    @Override
+    public void showComparison(TimeSeriesChart chart, AlignedRateSeries alignedSeries, boolean normalized) {
+        stopAnimation();
+        removeAll();
+        displayedSeries = null;
+        TimeSeriesCollection dataset = new TimeSeriesCollection();
+        for (int j = 0; j < alignedSeries.to().size(); j++)
+            dataset.addSeries(toTimeSeries(alignedSeries, j, normalized));
+        add(new ChartPanel(JFreeChartAdapter.adapt(chart, dataset, true)));
+        revalidate();
+        repaint();
+    }
+
+    /**
+     * Displays a series derived from exchange rates on a rate chart, drawn whole at once.
+     *
+     * @param chart The chart to be displayed.
+     * @param days The days of the series as epoch days, in ascending order.
+     * @param values The values of the series; {@link Double#NaN} leaves a gap.
+     * @since 1.1
+     */
+    @Override
+    public void showDerived(TimeSeriesChart chart, int[] days, double[] values) {
+        stopAnimation();
+        removeAll();
+        displayedSeries = null;
+        add(createRateChart(chart));
+        revalidate();
+        rateChart.setSeries(days, values);
+        rateChart.reveal(days.length);
+        rateChart.settle();
+        repaint();
+    }
+
+    /**
+     * Converts one column of an aligned series into a {@link TimeSeries}, skipping missing values.
+     * The series is named after its currency and annualised volatility.
+     *
+     * @param alignedSeries The aligned exchange rate series.
+     * @param column The index of the column to convert.
+     * @param normalized Whether the column is rescaled so that its first value is 100.
+     * @return The time series of the column.
+     * @since 1.1
+     */
+    private static TimeSeries toTimeSeries(AlignedRateSeries alignedSeries, int column, boolean normalized) {
+        double[] rates = alignedSeries.rates()[column];
+        RateStatistics statistics = RateStatistics.of(rates);
+        TimeSeries timeSeries = new TimeSeries(String.format("%s (vol. %.1f%%)", alignedSeries.to().get(column).code(), statistics.volatility() * 100));
+        double[] values = normalized && !Double.isNaN(statistics.first()) ? RateMath.multiply(rates, 100 / statistics.first()) : rates;
+        for (int i = 0; i < values.length; i++) {
+            if (Double.isNaN(values[i])) continue;
+            LocalDate date = alignedSeries.dateAt(i);
+            timeSeries.add(new Day(date.getDayOfMonth(), date.getMonthValue(), date.getYear()), values[i], false);
+        }
+        return timeSeries;
+    }
+
+    /**
+     * Displays the conversion of an amount into many currencies as a sortable table,
+     * removing any existing content in the panel.
+     *
+     * @param from the converted money.
+     * @param rates the exchange rates used.
+     * @param amounts the converted amounts, in the same order as the currencies of {@code rates}.
+     * @since 1.1
+     */
+    @Override
+    public void show(Money from, RateTable rates, double[] amounts) {
+        stopAnimation();
+        removeAll();
+        displayedSeries = null;
+        add(new SwingConversionTable(from, rates, amounts));
+        revalidate();
+        repaint();
+    }
+
+    /**
+     * Displays the correlations between the daily returns of the exchange rates from a currency
+     * to several others as a heatmap, removing any existing content in the panel.
+     *
+     * @param from the currency every rate is quoted from.
+     * @param currencies the target currencies, in the order of the rows and columns of the matrix.
+     * @param matrix the matrices of the daily returns.
+     * @param end the last day of the returns.
+     * @since 1.1
+     */
+    @Override
+    public void showCorrelation(Currency from, List<Currency> currencies, CorrelationMatrix matrix, LocalDate end) {
+        stopAnimation();
+        removeAll();
+        displayedSeries = null;
+        String title = String.format("Correlation of daily returns from %s, %d days to %s", from.code(), matrix.days(), end.format(DateTimeFormatter.ofPattern("d MMM yyyy")));
+        add(new SwingCorrelationHeatmap(title, currencies, matrix));
+        revalidate();
+        repaint();
+    }
+
+    /**
+     * Displays the value of the portfolio as a table of holdings, removing any existing content in the panel.
+     *
+     * @param value the value of the portfolio in its reporting currency.
+     * @since 1.1
+     */
+    @Override
+    public void showPortfolio(PortfolioValue value) {
+        stopAnimation();
+        removeAll();
+        displayedSeries = null;
+        add(new SwingPortfolioTable(value));
+        revalidate();
+        repaint();
+    }
+
     /**
      * Starts the animation process for displaying the exchange rate time series.
-     * If an animation is already running, it will be interrupted before starting the new animation.
+     * The series is sorted chronologically into the primitive arrays drawn by the chart.
+     * Any previous animation has already been interrupted by {@link #stopAnimation()}.
      *
      * @param exchangeRateSeries The exchange rate time series to be animated.
      * @since 1.0
      */
     private void doAnimation(ExchangeRateTimeSeries exchangeRateSeries) {
-        if (animationThread.isAlive()) {
-            animationThread.interrupt();
+        TreeMap<String, Double> sortedData = new TreeMap<>(exchangeRateSeries.rates());
+        int[] days = new int[sortedData.size()];
+        double[] rates = new double[sortedData.size()];
+        int i = 0;
+        for (Map.Entry<String, Double> entry : sortedData.entrySet()) {
+            days[i] = (int) LocalDate.parse(entry.getKey()).toEpochDay();
+            rates[i++] = entry.getValue();
         }
-        series.clear();
+        rateChart.setSeries(days, rates);
+        if (tiles != null) rateChart.setTiles(tiles, new CurrencyPair(exchangeRateSeries.from(), exchangeRateSeries.to()));
         animationThread.setRates(exchangeRateSeries);
         animationThread.start();
     }
 
     /**
-     * Creates a {@link Component} that contains the chart panel with the provided time series data.
-     * Initializes the time series and animation thread required for the chart display.
-     *
-     * @param chart The chart to be displayed.
-     * @return The component containing the chart panel.
-     * @since 1.0
+     * Interrupts the animation of the previous chart, if it is still running.
+     * @since 1.1
      */
-    private Component createChartPanel(TimeSeriesChart chart) {
-        this.series = new TimeSeries("Data");
-        this.animationThread = new AnimationThread(series);
-        TimeSeriesCollection dataset = new TimeSeriesCollection(series);
-        return new ChartPanel(adapt(chart, dataset));
+    @Override
+    public void stopAnimation() {
+        if (animationThread != null && animationThread.isAlive()) {
+            animationThread.interrupt();
+        }
     }
 
     /**
-     * Adapts the given {@link TimeSeriesChart} to create a {@link JFreeChart}.
-     * This method uses an adapter to convert the chart and dataset into a JFreeChart object.
+     * Creates the {@link SwingRateChart} displaying the time series data, and the animation
+     * thread revealing it.
      *
-     * @param chart The chart to be adapted.
-     * @param series The time series dataset to be used in the chart.
-     * @return The adapted JFreeChart.
-     * @since 1.0
+     * @param chart The chart to be displayed.
+     * @return The component drawing the chart.
+     * @since 1.1
      */
-    private JFreeChart adapt(TimeSeriesChart chart, TimeSeriesCollection series) {return JFreeChartAdapter.adapt(chart, series);}
+    private Component createRateChart(TimeSeriesChart chart) {
+        this.rateChart = new SwingRateChart(chart);
+        this.animationThread = new AnimationThread(rateChart);
+        return rateChart;
+    }
 }
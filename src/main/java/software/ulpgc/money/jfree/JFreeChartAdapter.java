@@ -33,12 +33,26 @@ public class JFreeChartAdapter {
      * @since 1.0
      */
     public static JFreeChart adapt(TimeSeriesChart chart, TimeSeriesCollection series) {
+        return adapt(chart, series, false);
+    }
+
+    /**
+     * Adapts a {@link TimeSeriesChart} and a {@link TimeSeriesCollection} into a {@link JFreeChart}
+     * object, optionally with a legend naming each series.
+     *
+     * @param chart the {@link TimeSeriesChart} object containing the chart configuration
+     * @param series the {@link TimeSeriesCollection} containing the time series data for the chart
+     * @param legend whether the chart shows a legend
+     * @return a {@link JFreeChart} object representing the adapted chart
+     * @since 1.1
+     */
+    public static JFreeChart adapt(TimeSeriesChart chart, TimeSeriesCollection series, boolean legend) {
         JFreeChart timeSeriesChart = ChartFactory.createTimeSeriesChart(
                 chart.title(),
                 chart.xAxisLabel(),
                 chart.yAxisLabel(),
                 series,
-                false,
+                legend,
                 false,
                 false
         );
@@ -0,0 +1,250 @@
+package software.ulpgc.money.math;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The {@code CorrelationEngine} class computes the covariance and correlation matrices of the
+ * daily logarithmic returns of several exchange rates over a sliding window of days.
+ *
+ * <p>The returns are kept as one primitive column per rate, used as a ring of {@code window}
+ * slots, together with the sum of every column and the sum of the products of every two
+ * columns. The matrices are derived from these sums in {@code O(n²)}, whatever the window.</p>
+ *
+ * <p>The sums are first computed on the {@link ForkJoinPool#commonPool() common pool}: the rows
+ * of the matrix are split into blocks of {@value #ROW_BLOCK} rows, and every block walks the
+ * days in tiles of {@value #DAY_TILE} returns, so the columns of the block and the column they
+ * are multiplied with stay in the CPU cache over a whole tile. Every new day then only adds its
+ * returns to the sums and removes those of the day leaving the window, in {@code O(n²)}. The
+ * sums are computed again from the columns once every {@code window} days, so the rounding
+ * errors of the updates never build up.</p>
+ *
+ * <p>The engine is not thread-safe.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public final class CorrelationEngine {
+    // Rows of the matrix per fork-join task, and returns per tile of the days (4 KB per column).
+    private static final int ROW_BLOCK = 4;
+    private static final int DAY_TILE = 512;
+    private final int size;
+    private final int window;
+    private final double[][] returns;
+    private final double[] logRates;
+    private final double[] added;
+    private final double[] evicted;
+    private final double[] sums;
+    private final double[] products;
+    private int next;
+    private int count;
+    private int appended;
+    private int lastDay;
+    private boolean started;
+
+    /**
+     * Constructs a new, empty {@code CorrelationEngine}.
+     *
+     * @param size the number of rates.
+     * @param window the number of daily returns the matrices are computed over.
+     * @throws IllegalArgumentException if the window holds fewer than two returns.
+     * @since       1.1
+     */
+    public CorrelationEngine(int size, int window) {
+        if (window < 2) throw new IllegalArgumentException("The window must hold at least two returns: " + window);
+        this.size = size;
+        this.window = window;
+        this.returns = new double[size][window];
+        this.logRates = new double[size];
+        this.added = new double[size];
+        this.evicted = new double[size];
+        this.sums = new double[size];
+        this.products = new double[size * size];
+        this.lastDay = Integer.MIN_VALUE;
+    }
+
+    /**
+     * Builds an engine from the aligned rates of a series, keeping the returns of its last
+     * {@code window} days on which every rate was published, and computes its sums in parallel.
+     *
+     * @param days the days of the rates as epoch days, in ascending order.
+     * @param columns the rates, one column per rate, aligned on {@code days}.
+     * @param window the number of daily returns the matrices are computed over.
+     * @return the engine.
+     * @since       1.1
+     */
+    public static CorrelationEngine of(int[] days, double[][] columns, int window) {
+        CorrelationEngine engine = new CorrelationEngine(columns.length, window);
+        double[] row = new double[columns.length];
+        int start = days.length;
+        for (int complete = 0; start > 0 && complete <= window; )
+            if (isComplete(columns, --start)) complete++;
+        for (int i = start; i < days.length; i++) {
+            for (int j = 0; j < columns.length; j++) row[j] = columns[j][i];
+            engine.add(days[i], row, false);
+        }
+        engine.recompute();
+        return engine;
+    }
+
+    /**
+     * Returns the number of rates.
+     *
+     * @return the number of rows and columns of the matrices.
+     * @since       1.1
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of daily returns the matrices are computed over.
+     *
+     * @return the window, in days.
+     * @since       1.1
+     */
+    public int window() {
+        return window;
+    }
+
+    /**
+     * Returns the day of the last rates appended.
+     *
+     * @return the day as an epoch day, or {@link Integer#MIN_VALUE} if none was appended.
+     * @since       1.1
+     */
+    public int lastDay() {
+        return lastDay;
+    }
+
+    /**
+     * Appends the rates of a new day, updating the sums with its returns and those of the day
+     * leaving the window. Days not after the last one, and days on which a rate is missing or
+     * not positive, are ignored.
+     *
+     * @param day the day as an epoch day.
+     * @param rates the rates of the day, one per rate of the engine.
+     * @since       1.1
+     */
+    public void append(int day, double[] rates) {
+        if (!add(day, rates, true)) return;
+        if (++appended % window == 0) recompute();
+    }
+
+    /**
+     * Derives the covariance and correlation matrices from the sums.
+     *
+     * @return the matrices; every value is {@link Double#NaN} while fewer than two returns were appended.
+     * @since       1.1
+     */
+    public CorrelationMatrix matrix() {
+        double[] covariance = new double[size * size];
+        double[] correlation = new double[size * size];
+        for (int i = 0; i < size; i++)
+            for (int j = 0; j < size; j++)
+                covariance[i * size + j] = count < 2 ? Double.NaN : (products[i * size + j] - sums[i] * sums[j] / count) / (count - 1);
+        for (int i = 0; i < size; i++)
+            for (int j = 0; j < size; j++)
+                correlation[i * size + j] = Math.clamp(covariance[i * size + j] / Math.sqrt(covariance[i * size + i] * covariance[j * size + j]), -1, 1);
+        return new CorrelationMatrix(size, count, covariance, correlation);
+    }
+
+    /**
+     * Stores the returns of a new day in the slot of the oldest one and, if asked, updates the
+     * sums, unless the day is ignored.
+     *
+     * @return {@code true} if the returns of the day were stored.
+     * @since       1.1
+     */
+    private boolean add(int day, double[] values, boolean update) {
+        if (day <= lastDay) return false;
+        for (double value : values)
+            if (!(value > 0)) return false;
+        lastDay = day;
+        boolean first = !started;
+        started = true;
+        for (int i = 0; i < size; i++) {
+            double logRate = Math.log(values[i]);
+            added[i] = logRate - logRates[i];
+            logRates[i] = logRate;
+        }
+        if (first) return false;
+        for (int i = 0; i < size; i++) {
+            evicted[i] = returns[i][next];
+            returns[i][next] = added[i];
+        }
+        if (update) {
+            for (int i = 0; i < size; i++) {
+                sums[i] += added[i] - evicted[i];
+                for (int j = 0; j < size; j++) products[i * size + j] += added[i] * added[j] - evicted[i] * evicted[j];
+            }
+        }
+        next = (next + 1) % window;
+        count = Math.min(count + 1, window);
+        return true;
+    }
+
+    /**
+     * Checks whether every rate of a day of aligned columns is published.
+     * @since       1.1
+     */
+    private static boolean isComplete(double[][] columns, int day) {
+        for (double[] column : columns)
+            if (!(column[day] > 0)) return false;
+        return true;
+    }
+
+    /**
+     * Computes the sums again from the columns of returns, in parallel over blocks of rows.
+     * @since       1.1
+     */
+    private void recompute() {
+        for (int i = 0; i < size; i++) {
+            double sum = 0;
+            for (double value : returns[i]) sum += value;
+            sums[i] = sum;
+        }
+        Arrays.fill(products, 0);
+        ForkJoinPool.commonPool().invoke(new RowBlock(0, size));
+    }
+
+    /**
+     * The task computing the sums of the products of a block of rows of the matrix with every
+     * following row, splitting itself in halves down to {@value #ROW_BLOCK} rows.
+     * @since       1.1
+     */
+    private final class RowBlock extends RecursiveAction {
+        private final int from;
+        private final int to;
+
+        private RowBlock(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > ROW_BLOCK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RowBlock(from, middle), new RowBlock(middle, to));
+                return;
+            }
+            for (int start = 0; start < window; start += DAY_TILE) {
+                int end = Math.min(start + DAY_TILE, window);
+                for (int i = from; i < to; i++) {
+                    double[] a = returns[i];
+                    for (int j = i; j < size; j++) {
+                        double[] b = returns[j];
+                        double product = 0;
+                        for (int t = start; t < end; t++) product += a[t] * b[t];
+                        products[i * size + j] += product;
+                    }
+                }
+            }
+            for (int i = from; i < to; i++)
+                for (int j = i + 1; j < size; j++) products[j * size + i] = products[i * size + j];
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package software.ulpgc.money.math;
+
+/**
+ * Represents the covariance and correlation matrices of the daily logarithmic returns of several
+ * exchange rates, stored row-major in primitive arrays.
+ *
+ * @param size Number of rates, i.e. of rows and columns of the matrices.
+ * @param days Number of daily returns the matrices were computed over.
+ * @param covariance Sample covariances of the returns; {@code covariance[i * size + j]} is that of rates {@code i} and {@code j}.
+ * @param correlation Pearson correlations of the returns, laid out as {@code covariance}.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public record CorrelationMatrix(int size, int days, double[] covariance, double[] correlation) {
+
+    /**
+     * Returns the covariance of the returns of two rates.
+     *
+     * @param i the index of the first rate.
+     * @param j the index of the second rate.
+     * @return the covariance, or {@link Double#NaN} if there are fewer than two returns.
+     * @since       1.1
+     */
+    public double covariance(int i, int j) {
+        return covariance[i * size + j];
+    }
+
+    /**
+     * Returns the correlation of the returns of two rates.
+     *
+     * @param i the index of the first rate.
+     * @param j the index of the second rate.
+     * @return the correlation between -1 and 1, or {@link Double#NaN} if a rate did not move.
+     * @since       1.1
+     */
+    public double correlation(int i, int j) {
+        return correlation[i * size + j];
+    }
+}
@@ -0,0 +1,81 @@
+package software.ulpgc.money.math;
+
+/**
+ * The {@code RateKernels} interface defines the bulk arithmetic operations applied to arrays of
+ * amounts and exchange rates. Implementations must produce the same results, up to floating
+ * point rounding, whatever instructions they use.
+ *
+ * <p>Callers should go through the {@link RateMath} facade, which picks the fastest
+ * implementation available at runtime.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+interface RateKernels {
+    /**
+     * Multiplies every value by the same factor: {@code out[i] = values[i] * factor}.
+     *
+     * @param values the values to multiply.
+     * @param factor the factor.
+     * @param out the array receiving the products, at least as long as {@code values}.
+     * @since       1.1
+     */
+    void multiply(double[] values, double factor, double[] out);
+
+    /**
+     * Divides two columns element by element: {@code out[i] = dividends[i] / divisors[i]}.
+     *
+     * @param dividends the dividends.
+     * @param divisors the divisors, as long as {@code dividends}.
+     * @param out the array receiving the quotients, at least as long as {@code dividends}.
+     * @since       1.1
+     */
+    void divide(double[] dividends, double[] divisors, double[] out);
+
+    /**
+     * Computes the reciprocal of every value: {@code out[i] = 1 / values[i]}.
+     *
+     * @param values the values.
+     * @param out the array receiving the reciprocals, at least as long as {@code values}.
+     * @since       1.1
+     */
+    void reciprocal(double[] values, double[] out);
+
+    /**
+     * Computes the logarithmic returns of a series: {@code out[i] = ln(rates[i + 1] / rates[i])}.
+     *
+     * @param rates the series, with at least one value.
+     * @param out the array receiving the returns, at least {@code rates.length - 1} long.
+     * @since       1.1
+     */
+    void logReturns(double[] rates, double[] out);
+
+    /**
+     * Computes the sum of the values.
+     *
+     * @param values the values.
+     * @return the sum.
+     * @since       1.1
+     */
+    double sum(double[] values);
+
+    /**
+     * Computes the sum of the squares of the values.
+     *
+     * @param values the values.
+     * @return the sum of squares.
+     * @since       1.1
+     */
+    double sumOfSquares(double[] values);
+
+    /**
+     * Computes the sum of the products of two columns: {@code sum(a[i] * b[i])}.
+     *
+     * @param a the first column.
+     * @param b the second column, at least as long as {@code a}.
+     * @return the sum of products.
+     * @since       1.1
+     */
+    double dot(double[] a, double[] b);
+}
@@ -0,0 +1,144 @@
+package software.ulpgc.money.math;
+
+/**
+ * The {@code RateMath} class is the facade for the bulk arithmetic of the application:
+ * converting arrays of amounts, deriving cross rates from two columns, and the sums behind
+ * returns and volatility statistics, and the products of holdings and rates.
+ *
+ * <p>When the running JVM has the incubating Vector API module
+ * ({@code --add-modules jdk.incubator.vector}), the operations run on SIMD kernels. Otherwise,
+ * or when the {@code money.math.scalar} system property is set, they run on scalar kernels with
+ * the same results.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public final class RateMath {
+    private static final RateKernels KERNELS = selectKernels();
+
+    private RateMath() {
+    }
+
+    /**
+     * Multiplies every value by the same factor, e.g. converts amounts at one rate, or one amount at many rates.
+     *
+     * @param values the values to multiply.
+     * @param factor the factor.
+     * @return a new array with the products.
+     * @since       1.1
+     */
+    public static double[] multiply(double[] values, double factor) {
+        double[] out = new double[values.length];
+        KERNELS.multiply(values, factor, out);
+        return out;
+    }
+
+    /**
+     * Divides two columns element by element, e.g. derives the {@code A/B} series from the
+     * {@code X/A} and {@code X/B} series as {@code (X/B) / (X/A)}.
+     *
+     * @param dividends the dividends.
+     * @param divisors the divisors.
+     * @return a new array with the quotients.
+     * @throws IllegalArgumentException if the columns have different lengths.
+     * @since       1.1
+     */
+    public static double[] divide(double[] dividends, double[] divisors) {
+        if (dividends.length != divisors.length) throw new IllegalArgumentException("Columns must have the same length");
+        double[] out = new double[dividends.length];
+        KERNELS.divide(dividends, divisors, out);
+        return out;
+    }
+
+    /**
+     * Computes the reciprocal of every value, e.g. turns the {@code A/B} series into the
+     * {@code B/A} series.
+     *
+     * @param values the values.
+     * @return a new array with the reciprocals.
+     * @since       1.1
+     */
+    public static double[] reciprocal(double[] values) {
+        double[] out = new double[values.length];
+        KERNELS.reciprocal(values, out);
+        return out;
+    }
+
+    /**
+     * Computes the logarithmic returns of a series of rates.
+     *
+     * @param rates the series of rates.
+     * @return a new array one value shorter than {@code rates}, empty if the series has fewer than two values.
+     * @since       1.1
+     */
+    public static double[] logReturns(double[] rates) {
+        if (rates.length < 2) return new double[0];
+        double[] out = new double[rates.length - 1];
+        KERNELS.logReturns(rates, out);
+        return out;
+    }
+
+    /**
+     * Computes the sum of the values.
+     *
+     * @param values the values.
+     * @return the sum.
+     * @since       1.1
+     */
+    public static double sum(double[] values) {
+        return KERNELS.sum(values);
+    }
+
+    /**
+     * Computes the sum of the squares of the values.
+     *
+     * @param values the values.
+     * @return the sum of squares.
+     * @since       1.1
+     */
+    public static double sumOfSquares(double[] values) {
+        return KERNELS.sumOfSquares(values);
+    }
+
+    /**
+     * Computes the sum of the products of two columns, e.g. values holdings of many currencies
+     * at their rates.
+     *
+     * @param a the first column.
+     * @param b the second column.
+     * @return the sum of products.
+     * @throws IllegalArgumentException if the columns have different lengths.
+     * @since       1.1
+     */
+    public static double dot(double[] a, double[] b) {
+        if (a.length != b.length) throw new IllegalArgumentException("Columns must have the same length");
+        return KERNELS.dot(a, b);
+    }
+
+    /**
+     * Returns whether the SIMD kernels are in use.
+     *
+     * @return {@code true} if the Vector API is available and enabled.
+     * @since       1.1
+     */
+    public static boolean isVectorized() {
+        return KERNELS instanceof VectorRateKernels;
+    }
+
+    /**
+     * Selects the SIMD kernels if the Vector API module is present, or the scalar ones otherwise.
+     *
+     * @return the kernels to use.
+     * @since       1.1
+     */
+    private static RateKernels selectKernels() {
+        if (Boolean.getBoolean("money.math.scalar") || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty())
+            return new ScalarRateKernels();
+        try {
+            return new VectorRateKernels();
+        } catch (LinkageError e) {
+            return new ScalarRateKernels();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package software.ulpgc.money.math;
+
+import java.util.Arrays;
+
+/**
+ * Represents the summary statistics of an exchange rate series.
+ *
+ * @param first First rate of the series.
+ * @param last Last rate of the series.
+ * @param mean Mean of the daily logarithmic returns.
+ * @param volatility Annualised volatility, that is, the standard deviation of the daily
+ *                   logarithmic returns scaled by the square root of the trading days per year.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public record RateStatistics(double first, double last, double mean, double volatility) {
+    // ECB reference rates are published on about 255 days per year.
+    private static final double TRADING_DAYS = 255;
+
+    /**
+     * Computes the statistics of a series of rates. Missing values ({@link Double#NaN}) are skipped.
+     *
+     * @param rates the series of rates, in chronological order.
+     * @return the statistics of the series; every field is {@code NaN} if it has fewer than two values.
+     * @since       1.1
+     */
+    public static RateStatistics of(double[] rates) {
+        double[] values = Arrays.stream(rates).filter(r -> !Double.isNaN(r)).toArray();
+        if (values.length < 2) return new RateStatistics(Double.NaN, Double.NaN, Double.NaN, Double.NaN);
+        double[] returns = RateMath.logReturns(values);
+        double mean = RateMath.sum(returns) / returns.length;
+        double variance = Math.max(0, RateMath.sumOfSquares(returns) / returns.length - mean * mean);
+        return new RateStatistics(values[0], values[values.length - 1], mean, Math.sqrt(variance * TRADING_DAYS));
+    }
+}
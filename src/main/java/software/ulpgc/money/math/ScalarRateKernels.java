@@ -0,0 +1,53 @@
+package software.ulpgc.money.math;
+
+/**
+ * {@code ScalarRateKernels} is the portable implementation of {@link RateKernels}, processing one
+ * value at a time. It is used when the Vector API is not available to the running JVM.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+class ScalarRateKernels implements RateKernels {
+
+    @Override
+    public void multiply(double[] values, double factor, double[] out) {
+        for (int i = 0; i < values.length; i++) out[i] = values[i] * factor;
+    }
+
+    @Override
+    public void divide(double[] dividends, double[] divisors, double[] out) {
+        for (int i = 0; i < dividends.length; i++) out[i] = dividends[i] / divisors[i];
+    }
+
+    @Override
+    public void reciprocal(double[] values, double[] out) {
+        for (int i = 0; i < values.length; i++) out[i] = 1 / values[i];
+    }
+
+    @Override
+    public void logReturns(double[] rates, double[] out) {
+        for (int i = 0; i < rates.length - 1; i++) out[i] = Math.log(rates[i + 1] / rates[i]);
+    }
+
+    @Override
+    public double sum(double[] values) {
+        double sum = 0;
+        for (double value : values) sum += value;
+        return sum;
+    }
+
+    @Override
+    public double sumOfSquares(double[] values) {
+        double sum = 0;
+        for (double value : values) sum += value * value;
+        return sum;
+    }
+
+    @Override
+    public double dot(double[] a, double[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) sum += a[i] * b[i];
+        return sum;
+    }
+}
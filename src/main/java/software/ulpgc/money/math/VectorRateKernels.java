@@ -0,0 +1,94 @@
+package software.ulpgc.money.math;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@code VectorRateKernels} is the SIMD implementation of {@link RateKernels}, built on the
+ * incubating Vector API ({@code jdk.incubator.vector}).
+ *
+ * <p>Each kernel processes as many values per instruction as the preferred vector shape of the
+ * CPU allows, and finishes the tail of the array with scalar code. This class can only be loaded
+ * when the JVM runs with {@code --add-modules jdk.incubator.vector}; {@link RateMath} falls back
+ * to {@link ScalarRateKernels} otherwise.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+class VectorRateKernels implements RateKernels {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public void multiply(double[] values, double factor, double[] out) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(values.length); i < bound; i += SPECIES.length())
+            DoubleVector.fromArray(SPECIES, values, i).mul(factor).intoArray(out, i);
+        for (; i < values.length; i++) out[i] = values[i] * factor;
+    }
+
+    @Override
+    public void divide(double[] dividends, double[] divisors, double[] out) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(dividends.length); i < bound; i += SPECIES.length())
+            DoubleVector.fromArray(SPECIES, dividends, i).div(DoubleVector.fromArray(SPECIES, divisors, i)).intoArray(out, i);
+        for (; i < dividends.length; i++) out[i] = dividends[i] / divisors[i];
+    }
+
+    @Override
+    public void reciprocal(double[] values, double[] out) {
+        DoubleVector one = DoubleVector.broadcast(SPECIES, 1);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(values.length); i < bound; i += SPECIES.length())
+            one.div(DoubleVector.fromArray(SPECIES, values, i)).intoArray(out, i);
+        for (; i < values.length; i++) out[i] = 1 / values[i];
+    }
+
+    @Override
+    public void logReturns(double[] rates, double[] out) {
+        int length = rates.length - 1;
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            DoubleVector previous = DoubleVector.fromArray(SPECIES, rates, i);
+            DoubleVector next = DoubleVector.fromArray(SPECIES, rates, i + 1);
+            next.div(previous).lanewise(VectorOperators.LOG).intoArray(out, i);
+        }
+        for (; i < length; i++) out[i] = Math.log(rates[i + 1] / rates[i]);
+    }
+
+    @Override
+    public double sum(double[] values) {
+        DoubleVector sums = DoubleVector.zero(SPECIES);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(values.length); i < bound; i += SPECIES.length())
+            sums = sums.add(DoubleVector.fromArray(SPECIES, values, i));
+        double sum = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < values.length; i++) sum += values[i];
+        return sum;
+    }
+
+    @Override
+    public double sumOfSquares(double[] values) {
+        DoubleVector sums = DoubleVector.zero(SPECIES);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(values.length); i < bound; i += SPECIES.length()) {
+            DoubleVector vector = DoubleVector.fromArray(SPECIES, values, i);
+            sums = vector.fma(vector, sums);
+        }
+        double sum = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < values.length; i++) sum += values[i] * values[i];
+        return sum;
+    }
+
+    @Override
+    public double dot(double[] a, double[] b) {
+        DoubleVector sums = DoubleVector.zero(SPECIES);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(a.length); i < bound; i += SPECIES.length())
+            sums = DoubleVector.fromArray(SPECIES, a, i).fma(DoubleVector.fromArray(SPECIES, b, i), sums);
+        double sum = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < a.length; i++) sum += a[i] * b[i];
+        return sum;
+    }
+}
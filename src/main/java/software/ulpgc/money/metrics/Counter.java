@@ -0,0 +1,44 @@
+package software.ulpgc.money.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code Counter} class is a monotonically increasing count, such as the number of requests
+ * or of bytes received. Increments are striped across cells, so concurrent threads do not
+ * contend on a single memory location.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class Counter {
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Increments the counter by one.
+     * @since       1.1
+     */
+    public void increment() {
+        count.increment();
+    }
+
+    /**
+     * Increments the counter by the given amount.
+     *
+     * @param amount the amount to add, not negative.
+     * @since       1.1
+     */
+    public void add(long amount) {
+        count.add(amount);
+    }
+
+    /**
+     * Returns the current count.
+     *
+     * @return the sum of all increments.
+     * @since       1.1
+     */
+    public long count() {
+        return count.sum();
+    }
+}
@@ -0,0 +1,20 @@
+package software.ulpgc.money.metrics;
+
+/**
+ * The {@code Gauge} interface represents a value sampled when the metrics are read, such as the
+ * size of a queue or of a cache.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+@FunctionalInterface
+public interface Gauge {
+    /**
+     * Returns the current value of the gauge.
+     *
+     * @return the sampled value.
+     * @since       1.1
+     */
+    double value();
+}
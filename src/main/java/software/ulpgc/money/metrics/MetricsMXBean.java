@@ -0,0 +1,46 @@
+package software.ulpgc.money.metrics;
+
+import java.util.Map;
+
+/**
+ * The {@code MetricsMXBean} interface exposes the content of a {@link MetricsRegistry} over JMX,
+ * so that it can be inspected with tools such as JConsole or Mission Control.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public interface MetricsMXBean {
+    /**
+     * Returns the value of every counter, by name.
+     *
+     * @return the counters.
+     * @since       1.1
+     */
+    Map<String, Long> getCounters();
+
+    /**
+     * Returns the value of every gauge, by name.
+     *
+     * @return the gauges.
+     * @since       1.1
+     */
+    Map<String, Double> getGauges();
+
+    /**
+     * Returns, for every timer, its count, errors, mean and 50th, 90th, 99th and 99.9th
+     * percentiles in microseconds, keyed as {@code name.count}, {@code name.p99}, etc.
+     *
+     * @return the timer statistics.
+     * @since       1.1
+     */
+    Map<String, Double> getTimers();
+
+    /**
+     * Returns a human-readable report of every metric.
+     *
+     * @return the text report.
+     * @since       1.1
+     */
+    String getReport();
+}
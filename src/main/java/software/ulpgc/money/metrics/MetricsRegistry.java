@@ -0,0 +1,146 @@
+package software.ulpgc.money.metrics;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code MetricsRegistry} class holds the named counters, gauges and timers of the application.
+ *
+ * <p>Metrics are created on first use and then shared by name, so instrumented code can simply ask
+ * the {@link #global() global registry} for {@code counter("api.bytes")} or {@code timer("api.fetch")}.
+ * Looking a metric up is a single concurrent map read; callers on hot paths may keep the returned
+ * instance in a field instead.</p>
+ *
+ * <p>The registry implements {@link MetricsMXBean} and can be published over JMX with
+ * {@link #registerMBean(String)}.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class MetricsRegistry implements MetricsMXBean {
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Gauge> gauges = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Timer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the registry shared by the whole application.
+     *
+     * @return the global registry.
+     * @since       1.1
+     */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Returns the counter with the given name, creating it if needed.
+     *
+     * @param name the name of the counter.
+     * @return the counter.
+     * @since       1.1
+     */
+    public Counter counter(String name) {
+        Counter counter = counters.get(name);
+        return counter != null ? counter : counters.computeIfAbsent(name, _ -> new Counter());
+    }
+
+    /**
+     * Returns the timer with the given name, creating it if needed.
+     *
+     * @param name the name of the timer.
+     * @return the timer.
+     * @since       1.1
+     */
+    public Timer timer(String name) {
+        Timer timer = timers.get(name);
+        return timer != null ? timer : timers.computeIfAbsent(name, _ -> new Timer());
+    }
+
+    /**
+     * Registers a gauge under the given name, replacing any previous one.
+     *
+     * @param name the name of the gauge.
+     * @param gauge the gauge.
+     * @since       1.1
+     */
+    public void gauge(String name, Gauge gauge) {
+        gauges.put(name, gauge);
+    }
+
+    /**
+     * Publishes this registry as a platform MBean.
+     *
+     * @param objectName the JMX name of the MBean, e.g. {@code software.ulpgc.money:type=Metrics}.
+     * @throws IllegalStateException if the MBean cannot be registered.
+     * @since       1.1
+     */
+    public void registerMBean(String objectName) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(objectName));
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register metrics MBean " + objectName, e);
+        }
+    }
+
+    @Override
+    public Map<String, Long> getCounters() {
+        Map<String, Long> values = new TreeMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.count()));
+        return values;
+    }
+
+    @Override
+    public Map<String, Double> getGauges() {
+        Map<String, Double> values = new TreeMap<>();
+        gauges.forEach((name, gauge) -> values.put(name, gauge.value()));
+        return values;
+    }
+
+    @Override
+    public Map<String, Double> getTimers() {
+        Map<String, Double> values = new TreeMap<>();
+        timers.forEach((name, timer) -> {
+            LatencyHistogram histogram = timer.histogram();
+            values.put(name + ".count", (double) histogram.count());
+            values.put(name + ".errors", (double) timer.errors());
+            values.put(name + ".mean", histogram.mean() / 1000);
+            for (double percentile : PERCENTILES)
+                values.put(name + ".p" + format(percentile), histogram.percentile(percentile) / 1000.0);
+        });
+        return values;
+    }
+
+    @Override
+    public String getReport() {
+        StringBuilder report = new StringBuilder();
+        getCounters().forEach((name, value) -> report.append(String.format("counter %-40s %d%n", name, value)));
+        getGauges().forEach((name, value) -> report.append(String.format("gauge   %-40s %.2f%n", name, value)));
+        new TreeMap<>(timers).forEach((name, timer) -> {
+            LatencyHistogram histogram = timer.histogram();
+            report.append(String.format("timer   %-40s count=%d errors=%d mean=%.0fus", name, histogram.count(), timer.errors(), histogram.mean() / 1000));
+            for (double percentile : PERCENTILES)
+                report.append(String.format(" p%s=%dus", format(percentile), histogram.percentile(percentile) / 1000));
+            report.append(System.lineSeparator());
+        });
+        return report.toString();
+    }
+
+    /**
+     * Formats a percentile for metric names, without a trailing {@code .0}.
+     *
+     * @param percentile the percentile.
+     * @return e.g. {@code 99} or {@code 99.9}.
+     * @since       1.1
+     */
+    private static String format(double percentile) {
+        return percentile == Math.rint(percentile) ? Long.toString((long) percentile) : Double.toString(percentile);
+    }
+}
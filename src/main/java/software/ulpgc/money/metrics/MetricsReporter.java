@@ -0,0 +1,58 @@
+package software.ulpgc.money.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code MetricsReporter} class periodically writes the report of a {@link MetricsRegistry}
+ * to the {@code software.ulpgc.money.metrics} logger, so that regressions can be spotted in the
+ * logs of running installations.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class MetricsReporter {
+    private static final System.Logger LOGGER = System.getLogger("software.ulpgc.money.metrics");
+    private final MetricsRegistry registry;
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Constructs a new {@code MetricsReporter}.
+     *
+     * @param registry the registry to report.
+     * @since       1.1
+     */
+    public MetricsReporter(MetricsRegistry registry) {
+        this.registry = registry;
+        this.executor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("metrics-reporter").factory());
+    }
+
+    /**
+     * Starts writing the report with the given period.
+     *
+     * @param period the time between two reports.
+     * @since       1.1
+     */
+    public void start(Duration period) {
+        executor.scheduleAtFixedRate(this::report, period.toMillis(), period.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops writing reports.
+     * @since       1.1
+     */
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Writes one report of the registry.
+     * @since       1.1
+     */
+    public void report() {
+        LOGGER.log(System.Logger.Level.INFO, "Metrics report" + System.lineSeparator() + registry.getReport());
+    }
+}
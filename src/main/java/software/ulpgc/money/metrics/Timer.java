@@ -0,0 +1,99 @@
+package software.ulpgc.money.metrics;
+
+import java.util.function.Supplier;
+
+/**
+ * The {@code Timer} class measures the latency of an operation into a {@link LatencyHistogram}
+ * and counts the failed executions.
+ *
+ * <p>Hot paths can avoid any allocation by reading {@link System#nanoTime()} themselves and
+ * calling {@link #record(long)}; the {@link #time(Supplier)} helpers are there for convenience.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class Timer {
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final Counter errors = new Counter();
+
+    /**
+     * Records the duration of one execution.
+     *
+     * @param nanos the duration in nanoseconds.
+     * @since       1.1
+     */
+    public void record(long nanos) {
+        histogram.record(nanos);
+    }
+
+    /**
+     * Records the duration elapsed since the given start time.
+     *
+     * @param startNanos the {@link System#nanoTime()} read when the execution started.
+     * @since       1.1
+     */
+    public void stop(long startNanos) {
+        histogram.record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Executes an operation and records its duration, counting it as an error if it throws.
+     *
+     * @param operation the operation to measure.
+     * @return the result of the operation.
+     * @since       1.1
+     */
+    public <T> T time(Supplier<T> operation) {
+        long start = System.nanoTime();
+        try {
+            return operation.get();
+        } catch (RuntimeException | Error e) {
+            errors.increment();
+            throw e;
+        } finally {
+            stop(start);
+        }
+    }
+
+    /**
+     * Executes an operation and records its duration, counting it as an error if it throws.
+     *
+     * @param operation the operation to measure.
+     * @since       1.1
+     */
+    public void time(Runnable operation) {
+        time(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    /**
+     * Counts one failed execution whose duration was recorded separately.
+     * @since       1.1
+     */
+    public void error() {
+        errors.increment();
+    }
+
+    /**
+     * Returns the histogram of recorded durations.
+     *
+     * @return the latency histogram.
+     * @since       1.1
+     */
+    public LatencyHistogram histogram() {
+        return histogram;
+    }
+
+    /**
+     * Returns the number of failed executions.
+     *
+     * @return the error count.
+     * @since       1.1
+     */
+    public long errors() {
+        return errors.count();
+    }
+}
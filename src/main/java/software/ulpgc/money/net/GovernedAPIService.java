@@ -0,0 +1,58 @@
+package software.ulpgc.money.net;
+
+import software.ulpgc.money.architecture.io.APIService;
+
+/**
+ * {@code GovernedAPIService} is an {@link APIService} decorator sending every request through an
+ * {@link UpstreamGovernor}, with the {@link Priority} of the calling thread and the class of the
+ * endpoint requested.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class GovernedAPIService implements APIService {
+    private final APIService service;
+    private final UpstreamGovernor governor;
+
+    /**
+     * Constructs a new {@code GovernedAPIService}.
+     *
+     * @param service the service sending the requests.
+     * @param governor the governor admitting the requests.
+     * @since       1.1
+     */
+    public GovernedAPIService(APIService service, UpstreamGovernor governor) {
+        this.service = service;
+        this.governor = governor;
+    }
+
+    /**
+     * Fetches the JSON response from the given URL once the governor admits the request.
+     *
+     * @param url the URL to fetch the JSON from.
+     * @return a string containing the JSON response from the provided URL.
+     * @since       1.1
+     */
+    @Override
+    public String loadJsonWith(String url) {
+        return governor.call(Priority.current(), endpointOf(url), () -> service.loadJsonWith(url));
+    }
+
+    /**
+     * Returns the class of the endpoint of a URL, by the last segment of its path: a range of
+     * dates is a {@code series}, a single date a {@code date}, and any other segment, such as
+     * {@code latest}, stands for itself.
+     *
+     * @param url the URL requested.
+     * @return the class of the endpoint.
+     * @since       1.1
+     */
+    private static String endpointOf(String url) {
+        String path = url.split("\\?", 2)[0];
+        String segment = path.substring(path.lastIndexOf('/') + 1);
+        if (segment.contains("..")) return "series";
+        if (!segment.isEmpty() && Character.isDigit(segment.charAt(0))) return "date";
+        return segment;
+    }
+}
@@ -0,0 +1,45 @@
+package software.ulpgc.money.net;
+
+/**
+ * Thrown when the upstream API answers with an HTTP status other than 200 (OK).
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class HttpStatusException extends RuntimeException {
+    // Status sent by a server throttling its clients.
+    public static final int TOO_MANY_REQUESTS = 429;
+    private final int statusCode;
+
+    /**
+     * Constructs a new {@code HttpStatusException}.
+     *
+     * @param statusCode the HTTP status of the response.
+     * @since       1.1
+     */
+    public HttpStatusException(int statusCode) {
+        super("Error: HTTP " + statusCode);
+        this.statusCode = statusCode;
+    }
+
+    /**
+     * Returns the HTTP status of the response.
+     *
+     * @return the status code.
+     * @since       1.1
+     */
+    public int statusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Checks whether the server refused the request because too many were sent.
+     *
+     * @return {@code true} if the status is 429 (Too Many Requests).
+     * @since       1.1
+     */
+    public boolean isThrottled() {
+        return statusCode == TOO_MANY_REQUESTS;
+    }
+}
@@ -0,0 +1,231 @@
+package software.ulpgc.money.net;
+
+import software.ulpgc.money.metrics.Counter;
+import software.ulpgc.money.metrics.MetricsRegistry;
+import software.ulpgc.money.metrics.Timer;
+
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The {@code IoScheduler} class runs the tasks that load data, each on its own virtual thread,
+ * through one lane per {@link Priority}.
+ *
+ * <p>Interactive tasks start at once. Prefetch and maintenance tasks are queued, and started in
+ * priority order, up to the concurrency of their lane, only while no interactive task is queued
+ * or running, so that background work never delays a user's request. When an interactive task
+ * arrives, the queued prefetch tasks are cancelled, as the user has moved on from what they
+ * anticipated, while the queued maintenance tasks just wait for their turn. Tasks already
+ * running are never preempted: the {@link UpstreamGovernor} keeps a request slot for interactive
+ * ones.</p>
+ *
+ * <p>Every task runs with the priority of its lane as {@link Priority#current()}. The returned
+ * futures can be cancelled, which interrupts a running task, e.g. aborting its HTTP request.</p>
+ *
+ * <p>For each lane, the scheduler publishes the {@code io.<lane>.queued} and
+ * {@code io.<lane>.running} gauges, the {@code io.<lane>.wait} timer of the time spent queued,
+ * and the {@code io.<lane>.cancelled} counter of the tasks cancelled before they started.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class IoScheduler {
+    private final Executor executor;
+    private final ReentrantLock lock;
+    private final Lane[] lanes;
+
+    /**
+     * Constructs a new {@code IoScheduler}.
+     *
+     * @param prefetchConcurrency the maximum number of prefetch tasks running at once.
+     * @param maintenanceConcurrency the maximum number of maintenance tasks running at once.
+     * @param registry the registry receiving the metrics of the lanes.
+     * @since       1.1
+     */
+    public IoScheduler(int prefetchConcurrency, int maintenanceConcurrency, MetricsRegistry registry) {
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("io-", 0).factory());
+        this.lock = new ReentrantLock();
+        this.lanes = new Lane[]{
+                new Lane(Priority.INTERACTIVE, Integer.MAX_VALUE, registry),
+                new Lane(Priority.PREFETCH, prefetchConcurrency, registry),
+                new Lane(Priority.MAINTENANCE, maintenanceConcurrency, registry)
+        };
+    }
+
+    /**
+     * Submits a task to the lane of the given priority.
+     *
+     * @param priority the priority of the task.
+     * @param work the task.
+     * @param <T> the type of the result of the task.
+     * @return the future result of the task.
+     * @since       1.1
+     */
+    public <T> Future<T> submit(Priority priority, Callable<T> work) {
+        Task<T> task = new Task<>(lanes[priority.ordinal()], work);
+        lock.lock();
+        try {
+            if (priority == Priority.INTERACTIVE) cancelQueued(lanes[Priority.PREFETCH.ordinal()]);
+            task.lane.queue.add(task);
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+        return task;
+    }
+
+    /**
+     * Submits a task to the lane of the given priority.
+     *
+     * @param priority the priority of the task.
+     * @param work the task.
+     * @return the future completion of the task.
+     * @since       1.1
+     */
+    public Future<?> submit(Priority priority, Runnable work) {
+        return submit(priority, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Returns the maximum number of tasks of the given priority running at once.
+     *
+     * @param priority the priority.
+     * @return the concurrency of its lane.
+     * @since       1.1
+     */
+    public int concurrency(Priority priority) {
+        return lanes[priority.ordinal()].concurrency;
+    }
+
+    /**
+     * Starts the queued tasks allowed to run, most urgent first. Must be called with the lock held.
+     * @since       1.1
+     */
+    private void dispatch() {
+        for (Lane lane : lanes) {
+            if (lane.priority != Priority.INTERACTIVE && isInteractiveBusy()) return;
+            while (lane.running < lane.concurrency && !lane.queue.isEmpty()) {
+                Task<?> task = lane.queue.poll();
+                lane.running++;
+                task.started = true;
+                executor.execute(task::execute);
+            }
+        }
+    }
+
+    private boolean isInteractiveBusy() {
+        Lane interactive = lanes[Priority.INTERACTIVE.ordinal()];
+        return interactive.running > 0 || !interactive.queue.isEmpty();
+    }
+
+    /**
+     * Cancels the queued tasks of a lane. Must be called with the lock held.
+     * @since       1.1
+     */
+    private void cancelQueued(Lane lane) {
+        for (Task<?> task : lane.queue.toArray(Task<?>[]::new)) task.cancel(false);
+    }
+
+    /**
+     * Frees the slot of a finished task and starts the next ones.
+     * @since       1.1
+     */
+    private void finished(Lane lane) {
+        lock.lock();
+        try {
+            lane.running--;
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes a task cancelled before it started from its queue.
+     * @since       1.1
+     */
+    private void dequeue(Task<?> task) {
+        lock.lock();
+        try {
+            if (!task.started && task.lane.queue.remove(task)) task.lane.cancelled.increment();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int count(Lane lane, boolean running) {
+        lock.lock();
+        try {
+            return running ? lane.running : lane.queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The queue and counters of the tasks of one priority.
+     * @since       1.1
+     */
+    private final class Lane {
+        private final Priority priority;
+        private final int concurrency;
+        private final ArrayDeque<Task<?>> queue;
+        private final Timer wait;
+        private final Counter cancelled;
+        private int running;
+
+        Lane(Priority priority, int concurrency, MetricsRegistry registry) {
+            String name = "io." + priority.name().toLowerCase(Locale.ROOT);
+            this.priority = priority;
+            this.concurrency = concurrency;
+            this.queue = new ArrayDeque<>();
+            this.wait = registry.timer(name + ".wait");
+            this.cancelled = registry.counter(name + ".cancelled");
+            registry.gauge(name + ".queued", () -> count(this, false));
+            registry.gauge(name + ".running", () -> count(this, true));
+        }
+    }
+
+    /**
+     * A task of the scheduler, remembering its lane and when it was queued.
+     * @since       1.1
+     */
+    private final class Task<T> extends FutureTask<T> {
+        private final Lane lane;
+        private final long queuedAt;
+        private boolean started;
+
+        Task(Lane lane, Callable<T> work) {
+            super(work);
+            this.lane = lane;
+            this.queuedAt = System.nanoTime();
+        }
+
+        /**
+         * Runs the task with the priority of its lane, then frees its slot.
+         */
+        void execute() {
+            lane.wait.stop(queuedAt);
+            try {
+                lane.priority.run(this::run);
+            } finally {
+                finished(lane);
+            }
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) dequeue(this);
+        }
+    }
+}
@@ -1,79 +1,127 @@
 package software.ulpgc.money.net;
 
 import software.ulpgc.money.architecture.io.APIService;
+import software.ulpgc.money.jfr.NetworkFetchEvent;
+import software.ulpgc.money.metrics.Counter;
+import software.ulpgc.money.metrics.MetricsRegistry;
+import software.ulpgc.money.metrics.Timer;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
 import java.net.URI;
-import java.net.URISyntaxException;
-import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 /**
  * A utility class that implements the {@link APIService} interface to fetch and deserialize JSON data from a given URL.
- * This class uses the {@link HttpURLConnection} to establish an HTTP connection and retrieve JSON responses.
+ * This class uses a shared {@link HttpClient} to send the requests and retrieve JSON responses, so that
+ * connections are reused across requests and a request can be aborted when its caller is interrupted.
  *
  * <p>The primary method, {@code loadJsonWith(String url)}, accepts a URL as input and returns the JSON response as a string.
  * If the request fails or encounters an error, it throws a {@link RuntimeException}.
  *
  * <p>Note: This class handles GET requests only and expects the response to be in JSON format.
- * It throws a {@link RuntimeException} if the HTTP response code is not 200 or if an exception occurs during processing.
+ * It throws an {@link HttpStatusException} if the HTTP response code is not 200, or a {@link RuntimeException}
+ * if an exception occurs during processing.
+ *
+ * <p>Every request is measured in the {@code api.fetch} timer, and the characters received are
+ * counted in the {@code api.chars} counter of the global {@link MetricsRegistry}. It is also
+ * recorded as a {@link NetworkFetchEvent} when Flight Recorder is running.
  *
  * @author      Vít Mikula
  * @version     1.0.1, 15/01/2025
  * @since       1.0.1
  */
 public class NetAPIDeserializer implements APIService {
+    private static final Timer FETCH_TIMER = MetricsRegistry.global().timer("api.fetch");
+    private static final Counter RECEIVED_CHARS = MetricsRegistry.global().counter("api.chars");
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(Integer.getInteger("money.http.timeout.seconds", 20));
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(REQUEST_TIMEOUT)
+            .build();
 
     /**
      * Fetches the JSON response from the given URL and returns it as a string.
      *
+     * <p>If the calling thread is interrupted while waiting for the response, the request is
+     * aborted and a {@link CancellationException} is thrown.</p>
+     *
      * @param url the URL to fetch the JSON from.
      * @return a string containing the JSON response from the provided URL.
-     * @throws RuntimeException if an exception occurs during the connection or if the response code is not 200.
+     * @throws CancellationException if the calling thread is interrupted.
+     * @throws HttpStatusException if the response code is not 200.
+     * @throws RuntimeException if an exception occurs during the connection.
      */
     @Override
     public String loadJsonWith(String url) {
+        long start = System.nanoTime();
+        NetworkFetchEvent event = new NetworkFetchEvent();
+        event.begin();
         try {
-            BufferedReader reader = getBufferedReader(url);
-            StringBuilder jsonResponse = new StringBuilder();
-            String line;
-            while((line = reader.readLine()) != null) {
-                jsonResponse.append(line);
-            }
-            reader.close();
-            return jsonResponse.toString();
+            String jsonResponse = send(url, event);
+            RECEIVED_CHARS.add(jsonResponse.length());
+            event.bytes = jsonResponse.length();
+            return jsonResponse;
+        } catch (CancellationException e) {
+            throw e;
+        } catch (HttpStatusException e) {
+            FETCH_TIMER.error();
+            throw e;
         } catch (Exception e) {
+            FETCH_TIMER.error();
             throw new RuntimeException(e);
+        } finally {
+            FETCH_TIMER.stop(start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.url = url;
+                event.commit();
+            }
         }
     }
 
     /**
-     * Opens an HTTP connection to the specified URL and returns a {@link BufferedReader}
-     * to read the response's input stream.
+     * Sends a GET request to the specified URL and waits for its body.
      *
-     * <p>This method is responsible for setting up the connection, sending the GET request,
-     * and handling any issues related to the HTTP response, such as non-200 HTTP status codes.</p>
+     * <p>The request is sent asynchronously so that, if the calling thread is interrupted while
+     * waiting, the exchange can be cancelled instead of running to completion in the background.</p>
      *
      * @param url The URL of the API endpoint.
-     * @return A {@link BufferedReader} to read the input stream of the HTTP response.
-     * @throws URISyntaxException If the provided URL is not valid.
-     * @throws IOException If an I/O error occurs while opening the connection or reading the response.
-     * @throws RuntimeException If the HTTP response code is not 200 (OK).
+     * @param event The Flight Recorder event receiving the HTTP status code.
+     * @return The body of the HTTP response.
+     * @throws IllegalArgumentException If the provided URL is not valid.
+     * @throws IOException If an I/O error occurs while sending the request or reading the response.
+     * @throws CancellationException If the calling thread is interrupted.
+     * @throws HttpStatusException If the HTTP response code is not 200 (OK).
      * @since       1.0
      */
-    private static BufferedReader getBufferedReader(String url) throws URISyntaxException, IOException {
-        URI uri = new URI(url);
-        URL u = uri.toURL();
-        HttpURLConnection connection = (HttpURLConnection) u.openConnection();
-        connection.setRequestMethod("GET");
-        connection.setRequestProperty("Accept", "application/json");
-
-        int response = connection.getResponseCode();
-        if(response != 200){
-            throw new RuntimeException("Error: HTTP " + response);
+    private static String send(String url, NetworkFetchEvent event) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Accept", "application/json")
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+        CompletableFuture<HttpResponse<String>> exchange = CLIENT.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response;
+        try {
+            response = exchange.get();
+        } catch (InterruptedException e) {
+            exchange.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Request to " + url + " cancelled");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) throw cause;
+            throw new IOException(e.getCause());
+        }
+        event.status = response.statusCode();
+        if(response.statusCode() != 200){
+            throw new HttpStatusException(response.statusCode());
         }
-        return new BufferedReader(new InputStreamReader(connection.getInputStream()));
+        return response.body();
     }
 }
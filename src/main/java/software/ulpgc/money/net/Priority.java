@@ -0,0 +1,68 @@
+package software.ulpgc.money.net;
+
+import java.util.function.Supplier;
+
+/**
+ * The {@code Priority} enum lists the classes of requests sent to the upstream API, from the most
+ * to the least urgent. When the upstream is saturated, a request is only admitted once no request
+ * of a more urgent class is waiting.
+ *
+ * <p>The class of the requests sent by a thread is set around the work that sends them, with
+ * {@link #call(Supplier)} or {@link #run(Runnable)}; it is {@link #INTERACTIVE} by default, so
+ * only background work has to declare itself.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public enum Priority {
+    /** Requests a user is waiting for, such as those of a conversion. */
+    INTERACTIVE,
+    /** Requests anticipating what the user may ask for, or refreshing what is displayed. */
+    PREFETCH,
+    /** Bulk requests, such as those of a backfill. */
+    MAINTENANCE;
+
+    private static final ThreadLocal<Priority> CURRENT = ThreadLocal.withInitial(() -> INTERACTIVE);
+
+    /**
+     * Returns the class of the requests sent by the current thread.
+     *
+     * @return the current priority.
+     * @since       1.1
+     */
+    public static Priority current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs the given work with this priority for the requests it sends.
+     *
+     * @param work the work to run.
+     * @param <T> the type of the result of the work.
+     * @return the result of the work.
+     * @since       1.1
+     */
+    public <T> T call(Supplier<T> work) {
+        Priority previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return work.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Runs the given work with this priority for the requests it sends.
+     *
+     * @param work the work to run.
+     * @since       1.1
+     */
+    public void run(Runnable work) {
+        call(() -> {
+            work.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,86 @@
+package software.ulpgc.money.net;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code TokenBucket} class limits the rate of requests: every request takes a token, tokens
+ * are added at a fixed rate, and up to {@code burst} unused tokens are kept for bursts.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class TokenBucket {
+    private final double tokensPerNano;
+    private final double burst;
+    private double tokens;
+    private long refilledAt;
+
+    /**
+     * Constructs a new, full {@code TokenBucket}.
+     *
+     * @param ratePerSecond the number of tokens added per second.
+     * @param burst the maximum number of tokens kept.
+     * @since       1.1
+     */
+    public TokenBucket(double ratePerSecond, int burst) {
+        this.tokensPerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = burst;
+        this.tokens = burst;
+        this.refilledAt = System.nanoTime();
+    }
+
+    /**
+     * Takes a token if one is available, without waiting.
+     *
+     * @return {@code true} if a token was taken.
+     * @since       1.1
+     */
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens < 1) return false;
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * Returns the number of whole tokens available.
+     *
+     * @return the tokens that can be taken without waiting.
+     * @since       1.1
+     */
+    public synchronized int available() {
+        refill();
+        return (int) Math.max(0, Math.floor(tokens));
+    }
+
+    /**
+     * Returns how long it takes until a token is available.
+     *
+     * @return the nanoseconds until a token can be taken, or 0 if one can be taken now.
+     * @since       1.1
+     */
+    public synchronized long nanosUntilAvailable() {
+        refill();
+        return tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+
+    /**
+     * Empties the bucket and withholds tokens for the given duration, e.g. after the upstream
+     * asked to slow down.
+     *
+     * @param duration how long no token is handed out.
+     * @since       1.1
+     */
+    public synchronized void pause(Duration duration) {
+        refill();
+        tokens = Math.min(tokens, 0) - duration.toNanos() * tokensPerNano;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+    }
+}
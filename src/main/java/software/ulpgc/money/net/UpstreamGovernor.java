@@ -0,0 +1,281 @@
+package software.ulpgc.money.net;
+
+import software.ulpgc.money.metrics.Counter;
+import software.ulpgc.money.metrics.MetricsRegistry;
+import software.ulpgc.money.metrics.Timer;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * The {@code UpstreamGovernor} class protects the upstream API from the process: every request is
+ * admitted under an adaptive concurrency limit once it can take a token of a {@link TokenBucket}
+ * pacing the requests. A request waiting for its token does not hold a slot of the limit.
+ *
+ * <p>The concurrency limit follows an AIMD policy. Each request answered within
+ * {@value #LATENCY_TOLERANCE} times the baseline latency of its endpoint class raises the limit by
+ * {@code 1 / limit}, i.e. by about one per round of requests, as long as at least half of the
+ * limit is in use. A slower answer lowers it by 10%, and
+ * a 429 (Too Many Requests) halves it and pauses the token bucket for a second. Decreases are
+ * applied at most once per second, so that a burst of errors caused by a single overload does not
+ * collapse the limit. The limit thus settles near the concurrency the upstream sustains.</p>
+ *
+ * <p>The baseline of an endpoint class, e.g. the latest rates or a time series, follows its
+ * fastest answers at once and drifts towards slower ones by {@value #BASELINE_DRIFT} of the
+ * difference per answer. Endpoints slower by nature are thus not judged against the fastest
+ * one, and a lasting change of the upstream latency becomes the new baseline instead of
+ * lowering the limit for ever.</p>
+ *
+ * <p>Requests are admitted by {@link Priority}: a request waits while a more urgent one is waiting,
+ * whether for a slot or for a token, so that tokens are handed out by priority rather than in the
+ * order requests arrive, and one slot is kept for {@link Priority#INTERACTIVE} requests whenever the limit allows two or
+ * more, so that a user never waits behind background work.</p>
+ *
+ * <p>The governor publishes the {@code upstream.limit} and {@code upstream.in_flight} gauges, the
+ * {@code upstream.throttled} counter and, per priority, the {@code upstream.wait.<priority>} timer
+ * of the time spent waiting for admission.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class UpstreamGovernor {
+    // Latency, relative to the lowest one observed, above which the upstream is considered loaded.
+    static final double LATENCY_TOLERANCE = 2.0;
+    // Fraction of the gap to a slower answer by which the baseline latency moves towards it.
+    static final double BASELINE_DRIFT = 0.05;
+    private static final long DECREASE_INTERVAL = Duration.ofSeconds(1).toNanos();
+    private static final Duration THROTTLE_PAUSE = Duration.ofSeconds(1);
+    private final TokenBucket bucket;
+    private final int minLimit;
+    private final int maxLimit;
+    private final ReentrantLock lock;
+    private final Condition[] admissions;
+    private final int[] waiting;
+    private final Timer[] waitTimers;
+    private final Counter throttled;
+    private final Map<String, Double> baselines;
+    private double limit;
+    private int inFlight;
+    private long decreasedAt;
+
+    /**
+     * Constructs a new {@code UpstreamGovernor}.
+     *
+     * @param bucket the token bucket pacing the requests.
+     * @param initialLimit the initial number of concurrent requests.
+     * @param maxLimit the maximum number of concurrent requests.
+     * @param registry the registry receiving the metrics of the governor.
+     * @since       1.1
+     */
+    public UpstreamGovernor(TokenBucket bucket, int initialLimit, int maxLimit, MetricsRegistry registry) {
+        this.bucket = bucket;
+        this.minLimit = 1;
+        this.maxLimit = maxLimit;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+        this.lock = new ReentrantLock();
+        this.admissions = new Condition[Priority.values().length];
+        this.waiting = new int[Priority.values().length];
+        this.waitTimers = new Timer[Priority.values().length];
+        for (Priority priority : Priority.values()) {
+            admissions[priority.ordinal()] = lock.newCondition();
+            waitTimers[priority.ordinal()] = registry.timer("upstream.wait." + priority.name().toLowerCase(Locale.ROOT));
+        }
+        this.throttled = registry.counter("upstream.throttled");
+        this.baselines = new HashMap<>();
+        this.decreasedAt = System.nanoTime() - DECREASE_INTERVAL;
+        registry.gauge("upstream.limit", this::limit);
+        registry.gauge("upstream.in_flight", this::inFlight);
+    }
+
+    /**
+     * Sends a request once it is admitted with a token with the given priority, and adapts the
+     * concurrency limit to its outcome.
+     *
+     * @param priority the priority of the request.
+     * @param endpoint the class of the endpoint requested, whose latencies are compared together.
+     * @param request the request to send.
+     * @param <T> the type of the response.
+     * @return the response.
+     * @throws CancellationException if the calling thread is interrupted while waiting.
+     * @since       1.1
+     */
+    public <T> T call(Priority priority, String endpoint, Supplier<T> request) {
+        long waitStart = System.nanoTime();
+        admit(priority);
+        try {
+            waitTimers[priority.ordinal()].stop(waitStart);
+            long start = System.nanoTime();
+            T response = request.get();
+            onSuccess(endpoint, System.nanoTime() - start);
+            return response;
+        } catch (RuntimeException e) {
+            if (isThrottled(e)) onThrottled();
+            throw e;
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Returns the current concurrency limit.
+     *
+     * @return the number of requests allowed to run at once, possibly fractional.
+     * @since       1.1
+     */
+    public double limit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of requests currently running.
+     *
+     * @return the requests admitted and not yet answered.
+     * @since       1.1
+     */
+    public double inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until a request of the given priority may be sent, and takes its token. A request with
+     * a slot but no token keeps waiting, which holds back the less urgent ones meanwhile.
+     *
+     * @since       1.1
+     */
+    private void admit(Priority priority) {
+        int p = priority.ordinal();
+        lock.lock();
+        try {
+            waiting[p]++;
+            try {
+                while (!canAdmit(p) || !bucket.tryAcquire()) {
+                    if (canAdmit(p)) admissions[p].awaitNanos(Math.max(1, bucket.nanosUntilAvailable()));
+                    else admissions[p].await();
+                }
+            } finally {
+                waiting[p]--;
+            }
+            inFlight++;
+            signalNext();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            signalNext();
+            throw new CancellationException("Interrupted while waiting for the upstream");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks whether a request of the given priority may be sent now. Must be called with the lock held.
+     *
+     * @since       1.1
+     */
+    private boolean canAdmit(int priority) {
+        for (int p = 0; p < priority; p++) if (waiting[p] > 0) return false;
+        int slots = (int) limit;
+        if (priority > Priority.INTERACTIVE.ordinal() && slots >= 2) slots--;
+        return inFlight < slots;
+    }
+
+    /**
+     * Frees the slot of a request and wakes up the most urgent waiting one.
+     * @since       1.1
+     */
+    private void release() {
+        lock.lock();
+        try {
+            inFlight--;
+            signalNext();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wakes up the waiting requests of the most urgent waiting priority. Must be called with the lock held.
+     * @since       1.1
+     */
+    private void signalNext() {
+        for (int p = 0; p < waiting.length; p++) {
+            if (waiting[p] > 0) {
+                admissions[p].signalAll();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Raises the limit after a fast answer, or lowers it after a slow one, compared with the
+     * baseline of the endpoint class, which is then updated.
+     *
+     * @param endpoint the class of the endpoint requested.
+     * @param latency the latency of the answer, in nanoseconds.
+     * @since       1.1
+     */
+    private void onSuccess(String endpoint, long latency) {
+        lock.lock();
+        try {
+            double baseline = baselines.getOrDefault(endpoint, (double) latency);
+            baselines.put(endpoint, latency < baseline ? latency : baseline + BASELINE_DRIFT * (latency - baseline));
+            if (latency > LATENCY_TOLERANCE * baseline) decrease(0.9);
+            else if (inFlight >= limit / 2) limit = Math.min(maxLimit, limit + 1 / limit);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Halves the limit and pauses the token bucket after the upstream throttled a request.
+     * @since       1.1
+     */
+    private void onThrottled() {
+        throttled.increment();
+        bucket.pause(THROTTLE_PAUSE);
+        lock.lock();
+        try {
+            decrease(0.5);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Multiplies the limit by the given factor, unless it was already decreased within the last
+     * second. Must be called with the lock held.
+     * @since       1.1
+     */
+    private void decrease(double factor) {
+        long now = System.nanoTime();
+        if (now - decreasedAt < DECREASE_INTERVAL) return;
+        decreasedAt = now;
+        limit = Math.max(minLimit, limit * factor);
+    }
+
+    /**
+     * Checks whether a failure, or one of its causes, is a 429 response.
+     * @since       1.1
+     */
+    private static boolean isThrottled(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause())
+            if (t instanceof HttpStatusException status && status.isThrottled()) return true;
+        return false;
+    }
+}
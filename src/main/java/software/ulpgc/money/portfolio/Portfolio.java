@@ -0,0 +1,274 @@
+package software.ulpgc.money.portfolio;
+
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.Money;
+import software.ulpgc.money.architecture.model.PortfolioValue;
+import software.ulpgc.money.architecture.model.RateTable;
+import software.ulpgc.money.math.RateMath;
+import software.ulpgc.money.metrics.MetricsRegistry;
+import software.ulpgc.money.metrics.Timer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@code Portfolio} class holds positions in many currencies and keeps their total value up
+ * to date as the positions and the exchange rates change.
+ *
+ * <p>The positions are kept in two primitive arrays, the index of their currency and their
+ * amount, and aggregated into one holding per currency as they are added. Whatever the number of
+ * positions, valuing the portfolio only takes the holdings: the value of one unit of every
+ * currency in the base of a {@link RateTable} is kept in a primitive array, and a full
+ * revaluation is a single vectorised product of both arrays through {@link RateMath}. The total
+ * is kept in the base currency, so it is expressed in any reporting currency with one
+ * division.</p>
+ *
+ * <p>Updating the portfolio with a new table of the same base only applies the delta of the
+ * currencies whose rate changed, and a new position the delta of its amount. The total is
+ * computed again from the holdings once every as many deltas as currencies, so the rounding
+ * errors of the updates never build up. Full revaluations are measured in the
+ * {@code portfolio.revalue} timer and updates in {@code portfolio.update}.</p>
+ *
+ * <p>All methods are synchronised, so rates can be applied from loading threads while the value
+ * is read elsewhere.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class Portfolio {
+    private static final Timer REVALUE_TIMER = MetricsRegistry.global().timer("portfolio.revalue");
+    private static final Timer UPDATE_TIMER = MetricsRegistry.global().timer("portfolio.update");
+    private final List<Currency> currencies;
+    private final Map<Currency, Integer> indices;
+    private final double[] holdings;
+    private final double[] unitValues;
+    private final boolean[] quoted;
+    private int[] positionCurrencies;
+    private double[] positionAmounts;
+    private int size;
+    private Currency base;
+    private String date;
+    private double total;
+    private int deltas;
+
+    /**
+     * Constructs a new, empty {@code Portfolio}.
+     *
+     * @param currencies the currencies the positions may be held in.
+     * @since       1.1
+     */
+    public Portfolio(List<Currency> currencies) {
+        this.currencies = List.copyOf(currencies);
+        this.indices = new HashMap<>();
+        for (int i = 0; i < this.currencies.size(); i++) indices.putIfAbsent(this.currencies.get(i), i);
+        this.holdings = new double[this.currencies.size()];
+        this.unitValues = new double[this.currencies.size()];
+        this.quoted = new boolean[this.currencies.size()];
+        this.positionCurrencies = new int[16];
+        this.positionAmounts = new double[16];
+    }
+
+    /**
+     * Reads a portfolio from a CSV file with one {@code CODE,amount} position per line. Blank
+     * lines, lines starting with {@code #}, and lines whose currency is not supported or whose
+     * amount is not a number, such as a header, are skipped.
+     *
+     * @param file the file of positions.
+     * @param currencies the supported currencies.
+     * @return the portfolio of the positions of the file.
+     * @throws IOException if the file cannot be read.
+     * @since       1.1
+     */
+    public static Portfolio read(Path file, List<Currency> currencies) throws IOException {
+        Portfolio portfolio = new Portfolio(currencies);
+        Map<String, Currency> codes = new HashMap<>();
+        for (Currency currency : currencies) codes.putIfAbsent(currency.code(), currency);
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            for (String line; (line = reader.readLine()) != null; ) {
+                String[] fields = line.split(",");
+                if (fields.length != 2 || line.startsWith("#")) continue;
+                Currency currency = codes.get(fields[0].trim());
+                if (currency == null) continue;
+                try {
+                    portfolio.add(new Money(Double.parseDouble(fields[1].trim()), currency));
+                } catch (IllegalArgumentException ignored) {
+                }
+            }
+        }
+        return portfolio;
+    }
+
+    /**
+     * Adds a position, and its value to the total if the portfolio is valued.
+     *
+     * @param position the amount held and its currency.
+     * @return the index of the position.
+     * @throws IllegalArgumentException if the currency is not supported or the amount is not finite.
+     * @since       1.1
+     */
+    public synchronized int add(Money position) {
+        Integer currency = indices.get(position.currency());
+        if (currency == null) throw new IllegalArgumentException("Unsupported currency: " + position.currency().code());
+        if (!Double.isFinite(position.amount())) throw new IllegalArgumentException("Invalid amount: " + position.amount());
+        if (size == positionAmounts.length) {
+            positionCurrencies = Arrays.copyOf(positionCurrencies, size * 2);
+            positionAmounts = Arrays.copyOf(positionAmounts, size * 2);
+        }
+        positionCurrencies[size] = currency;
+        positionAmounts[size] = position.amount();
+        hold(currency, position.amount());
+        return size++;
+    }
+
+    /**
+     * Changes the amount of a position, applying the difference to its holding and to the total.
+     *
+     * @param position the index of the position.
+     * @param amount the new amount, {@code 0} to close the position.
+     * @throws IndexOutOfBoundsException if there is no such position.
+     * @throws IllegalArgumentException if the amount is not finite.
+     * @since       1.1
+     */
+    public synchronized void setAmount(int position, double amount) {
+        if (position < 0 || position >= size) throw new IndexOutOfBoundsException(position);
+        if (!Double.isFinite(amount)) throw new IllegalArgumentException("Invalid amount: " + amount);
+        hold(positionCurrencies[position], amount - positionAmounts[position]);
+        positionAmounts[position] = amount;
+    }
+
+    /**
+     * Returns the position at the given index.
+     *
+     * @param position the index of the position.
+     * @return the amount held and its currency.
+     * @throws IndexOutOfBoundsException if there is no such position.
+     * @since       1.1
+     */
+    public synchronized Money position(int position) {
+        if (position < 0 || position >= size) throw new IndexOutOfBoundsException(position);
+        return new Money(positionAmounts[position], currencies.get(positionCurrencies[position]));
+    }
+
+    /**
+     * Returns the number of positions.
+     *
+     * @return the number of positions added.
+     * @since       1.1
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Values the portfolio at the rates of a table: the value of every currency in the base of
+     * the table is set, and the total computed again in one pass over the holdings.
+     *
+     * @param table the rates, quoted from any currency of the portfolio.
+     * @since       1.1
+     */
+    public synchronized void revalue(RateTable table) {
+        long start = System.nanoTime();
+        Arrays.fill(unitValues, 0);
+        Arrays.fill(quoted, false);
+        base = table.base();
+        date = table.date();
+        setUnitValue(table.base(), 1);
+        for (int k = 0; k < table.rates().length; k++) setUnitValue(table.currencies().get(k), 1 / table.rates()[k]);
+        total = RateMath.dot(holdings, unitValues);
+        deltas = 0;
+        REVALUE_TIMER.stop(start);
+    }
+
+    /**
+     * Updates the value of the portfolio with the rates of a new table, applying only the
+     * deltas of the currencies whose rate changed. A table of another base, or the first one,
+     * revalues the whole portfolio instead.
+     *
+     * @param table the new rates.
+     * @return the number of currencies whose rate changed.
+     * @since       1.1
+     */
+    public synchronized int update(RateTable table) {
+        if (!table.base().equals(base)) {
+            revalue(table);
+            return currencies.size();
+        }
+        long start = System.nanoTime();
+        date = table.date();
+        int changed = 0;
+        for (int k = 0; k < table.rates().length; k++) {
+            Integer currency = indices.get(table.currencies().get(k));
+            double unitValue = 1 / table.rates()[k];
+            if (currency == null || !(unitValue > 0) || Double.isInfinite(unitValue) || unitValue == unitValues[currency]) continue;
+            total += holdings[currency] * (unitValue - unitValues[currency]);
+            unitValues[currency] = unitValue;
+            quoted[currency] = true;
+            changed++;
+        }
+        count(changed);
+        UPDATE_TIMER.stop(start);
+        return changed;
+    }
+
+    /**
+     * Returns the value of the portfolio in a reporting currency.
+     *
+     * @param reporting the currency to express the values in.
+     * @return the value per currency and in total; every value is {@link Double#NaN} if the
+     * portfolio was never valued or the reporting currency is not quoted, and so is the total if
+     * any currency held is not quoted.
+     * @since       1.1
+     */
+    public synchronized PortfolioValue value(Currency reporting) {
+        Integer index = indices.get(reporting);
+        double perBase = index != null && quoted[index] ? 1 / unitValues[index] : Double.NaN;
+        double[] values = RateMath.multiply(unitValues, perBase);
+        boolean complete = true;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = quoted[i] ? values[i] * holdings[i] : Double.NaN;
+            if (!quoted[i] && holdings[i] != 0) complete = false;
+        }
+        return new PortfolioValue(reporting, date, currencies, holdings.clone(), values, complete ? total * perBase : Double.NaN, size);
+    }
+
+    /**
+     * Adds an amount to the holding of a currency, and its value to the total.
+     * @since       1.1
+     */
+    private void hold(int currency, double amount) {
+        holdings[currency] += amount;
+        if (!quoted[currency]) return;
+        total += amount * unitValues[currency];
+        count(1);
+    }
+
+    /**
+     * Counts applied deltas, computing the total again from the holdings once there are as
+     * many as currencies.
+     * @since       1.1
+     */
+    private void count(int applied) {
+        deltas += applied;
+        if (deltas < holdings.length) return;
+        total = RateMath.dot(holdings, unitValues);
+        deltas = 0;
+    }
+
+    /**
+     * Sets the value of one unit of a currency in the base currency, if it is in the portfolio.
+     * @since       1.1
+     */
+    private void setUnitValue(Currency currency, double unitValue) {
+        Integer index = indices.get(currency);
+        if (index == null || !(unitValue > 0) || Double.isInfinite(unitValue)) return;
+        unitValues[index] = unitValue;
+        quoted[index] = true;
+    }
+}
@@ -0,0 +1,136 @@
+package software.ulpgc.money.prefetch;
+
+import software.ulpgc.money.architecture.model.CurrencyPair;
+import software.ulpgc.money.cache.CachedExchangeRateLoader;
+import software.ulpgc.money.cache.CachedStatisticLoader;
+import software.ulpgc.money.net.IoScheduler;
+import software.ulpgc.money.net.Priority;
+import software.ulpgc.money.net.TokenBucket;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+/**
+ * The {@code PairPrefetcher} class warms the exchange rate and history caches in the background,
+ * so that pressing "Calculate" on a common pair is served without waiting for the network.
+ *
+ * <p>Two sources of prediction are used:
+ * <ul>
+ *   <li>At startup, the most frequently converted pairs recorded by a {@link PairUsageTracker}.</li>
+ *   <li>While the user picks currencies, the pair currently selected in the dialogs. Only the
+ *       latest hint is kept: a new selection cancels the previous one if it has not run yet.</li>
+ * </ul>
+ *
+ * <p>Every network request issued by the prefetcher is taken from a budget that refills over
+ * time: up to {@code budget} requests per interval, as a {@link TokenBucket}. Pairs that are
+ * already cached cost nothing. While the budget is spent the prefetcher skips its hints, until
+ * it has refilled, and {@link #cancel()} stops it at any time.</p>
+ *
+ * <p>Prefetches run in the prefetch lane of an {@link IoScheduler}, so they never delay a user's
+ * request, and those still queued when the user asks for something are dropped.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class PairPrefetcher {
+    private final CachedExchangeRateLoader exchangeRateLoader;
+    private final CachedStatisticLoader statisticLoader;
+    private final PairUsageTracker usage;
+    private final TokenBucket budget;
+    private final IoScheduler scheduler;
+    private final List<Future<?>> tasks;
+    private Future<?> hint;
+
+    /**
+     * Constructs a new {@code PairPrefetcher}.
+     *
+     * @param exchangeRateLoader the cached loader of latest exchange rates to warm.
+     * @param statisticLoader the cached loader of exchange rate histories to warm.
+     * @param usage the tracker of pair frequencies.
+     * @param budget the maximum number of network requests the prefetcher may issue per interval.
+     * @param interval the interval over which the budget refills.
+     * @param scheduler the scheduler running the prefetches in its prefetch lane.
+     * @since       1.1
+     */
+    public PairPrefetcher(CachedExchangeRateLoader exchangeRateLoader, CachedStatisticLoader statisticLoader, PairUsageTracker usage, int budget, Duration interval, IoScheduler scheduler) {
+        this.exchangeRateLoader = exchangeRateLoader;
+        this.statisticLoader = statisticLoader;
+        this.usage = usage;
+        this.budget = new TokenBucket(budget / (interval.toNanos() / 1e9), budget);
+        this.scheduler = scheduler;
+        this.tasks = new ArrayList<>();
+    }
+
+    /**
+     * Schedules the warm-up of the most frequently converted pairs.
+     *
+     * @param topPairs the number of top pairs to warm.
+     * @since       1.1
+     */
+    public synchronized void start(int topPairs) {
+        for (CurrencyPair pair : usage.topPairs(topPairs))
+            tasks.add(scheduler.submit(Priority.PREFETCH, () -> warm(pair)));
+    }
+
+    /**
+     * Schedules the warm-up of the pair the user is heading towards, replacing any pending hint.
+     *
+     * @param pair the currently selected pair.
+     * @since       1.1
+     */
+    public synchronized void hint(CurrencyPair pair) {
+        if (pair.from().equals(pair.to())) return;
+        if (hint != null) hint.cancel(false);
+        hint = scheduler.submit(Priority.PREFETCH, () -> warm(pair));
+    }
+
+    /**
+     * Cancels all pending prefetches and interrupts the one in progress, if any.
+     * @since       1.1
+     */
+    public synchronized void cancel() {
+        tasks.forEach(task -> task.cancel(true));
+        tasks.clear();
+        if (hint != null) hint.cancel(true);
+    }
+
+    /**
+     * Returns the number of network requests the prefetcher may issue right now.
+     *
+     * @return the remaining budget.
+     * @since       1.1
+     */
+    public int remainingBudget() {
+        return budget.available();
+    }
+
+    /**
+     * Loads the latest rate and the history of the given pair through the caches, as long as
+     * the budget allows it. Failures are ignored: the user's own request will report them.
+     *
+     * @param pair the pair to warm.
+     * @since       1.1
+     */
+    private void warm(CurrencyPair pair) {
+        try {
+            if (!exchangeRateLoader.isCached(pair) && spend())
+                exchangeRateLoader.load(pair.from(), pair.to());
+            if (!Thread.currentThread().isInterrupted() && !statisticLoader.isCached(pair) && spend())
+                statisticLoader.loadStatistic(pair.from(), pair.to());
+        } catch (RuntimeException ignored) {
+        }
+    }
+
+    /**
+     * Takes one request from the budget.
+     *
+     * @return {@code true} if the budget allowed the request.
+     * @since       1.1
+     */
+    private boolean spend() {
+        return budget.tryAcquire();
+    }
+}
@@ -0,0 +1,135 @@
+package software.ulpgc.money.prefetch;
+
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.CurrencyPair;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The {@code PairUsageTracker} class records how often each currency pair is converted, so that
+ * the most frequent pairs can be warmed before the user asks for them.
+ *
+ * <p>The counters are kept in a properties file with one {@code FROM/TO=count} line per pair,
+ * which makes the frequencies survive between sessions. Pairs whose currencies are no longer
+ * supported are ignored when the file is read.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class PairUsageTracker {
+    private final Path file;
+    private final Map<String, Currency> currencies;
+    private final ConcurrentHashMap<String, Long> counts;
+
+    /**
+     * Constructs a new {@code PairUsageTracker} and reads the frequencies stored in the given file, if any.
+     *
+     * @param file the file where the frequencies are persisted.
+     * @param currencies the supported currencies, used to resolve the stored pairs.
+     * @since       1.1
+     */
+    public PairUsageTracker(Path file, List<Currency> currencies) {
+        this.file = file;
+        this.currencies = currencies.stream().collect(Collectors.toMap(Currency::code, Function.identity(), (a, _) -> a));
+        this.counts = new ConcurrentHashMap<>();
+        read();
+    }
+
+    /**
+     * Records one conversion of the given pair. Pairs of a currency with itself are ignored.
+     *
+     * @param pair the converted currency pair.
+     * @since       1.1
+     */
+    public void record(CurrencyPair pair) {
+        if (pair.from().equals(pair.to())) return;
+        counts.merge(pair.key(), 1L, Long::sum);
+    }
+
+    /**
+     * Returns the most frequently converted pairs, most frequent first.
+     *
+     * @param limit the maximum number of pairs to return.
+     * @return the top pairs, possibly fewer than {@code limit}.
+     * @since       1.1
+     */
+    public List<CurrencyPair> topPairs(int limit) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(limit)
+                .map(e -> toPair(e.getKey()))
+                .toList();
+    }
+
+    /**
+     * Writes the recorded frequencies to the tracker's file.
+     * Failures are ignored, as losing the statistics only makes the next start colder.
+     * @since       1.1
+     */
+    public void save() {
+        Properties properties = new Properties();
+        counts.forEach((pair, count) -> properties.setProperty(pair, Long.toString(count)));
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (Writer writer = Files.newBufferedWriter(file)) {
+                properties.store(writer, "Currency pair conversion frequencies");
+            }
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * Reads the frequencies stored in the tracker's file, skipping unknown pairs.
+     * @since       1.1
+     */
+    private void read() {
+        if (!Files.isRegularFile(file)) return;
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            return;
+        }
+        for (String pair : properties.stringPropertyNames())
+            if (toPair(pair) != null) counts.put(pair, toCount(properties.getProperty(pair)));
+    }
+
+    /**
+     * Resolves a {@code FROM/TO} key into a pair of supported currencies.
+     *
+     * @param key the key of the pair.
+     * @return the resolved pair, or {@code null} if any of its currencies is not supported.
+     * @since       1.1
+     */
+    private CurrencyPair toPair(String key) {
+        String[] codes = key.split("/");
+        if (codes.length != 2 || !currencies.containsKey(codes[0]) || !currencies.containsKey(codes[1])) return null;
+        return new CurrencyPair(currencies.get(codes[0]), currencies.get(codes[1]));
+    }
+
+    /**
+     * Parses a stored counter, treating malformed values as zero.
+     *
+     * @param text the stored value.
+     * @return the parsed counter.
+     * @since       1.1
+     */
+    private static long toCount(String text) {
+        try {
+            return Long.parseLong(text.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,378 @@
+package software.ulpgc.money.provider;
+
+import software.ulpgc.money.architecture.io.ExchangeRateLoader;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.ExchangeRate;
+import software.ulpgc.money.metrics.Counter;
+import software.ulpgc.money.metrics.MetricsRegistry;
+import software.ulpgc.money.metrics.Timer;
+import software.ulpgc.money.net.Priority;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import static java.lang.System.Logger.Level.INFO;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * The {@code AggregatingExchangeRateLoader} class implements the {@link ExchangeRateLoader}
+ * interface by querying several {@link RateProvider sources} at once, each on its own virtual
+ * thread, so that no single upstream holds a conversion hostage.
+ *
+ * <p>With the {@link Strategy#FIRST} strategy, the first current rate received is returned; with
+ * {@link Strategy#MEDIAN}, the rates received until the deadline are combined into their median,
+ * among those of the latest publication date. If no rate has arrived by the deadline, the first
+ * one to arrive is returned. A latest rate is current unless it comes from a
+ * {@link RateProvider#isStandIn() stand-in} source, such as a local file, or is older than the
+ * newest publication date received so far: the first strategy only returns such a rate, the
+ * newest one, once every other source failed or the deadline passed, so that a fast but stale
+ * source does not hide the rates published since. Either way, the sources not answered yet are left to finish until
+ * the deadline, so that their latency is still measured, and cancelled then: the time they ran is
+ * recorded as a lower bound of their latency. A source that fails only makes the others count.</p>
+ *
+ * <p>A source whose error rate goes above one half, or whose latency goes beyond four times
+ * that of the fastest source, and 50 ms, is demoted for a cool-down period: it is only queried
+ * if every other source fails. Once the period ends, it is queried again on probation. The last
+ * source not demoted is never demoted. Demotions are counted in {@code provider.demotions},
+ * fallbacks to demoted sources in {@code provider.fallbacks}, aggregated loads are measured in
+ * the {@code provider.aggregate} timer, and the sources not demoted are published in the
+ * {@code provider.active} gauge.</p>
+ *
+ * <p>The sources are queried with the {@link Priority} of the calling thread, and the interruption
+ * of the calling thread cancels the loads still running.</p>
+ *
+ * <p>Only single rates are aggregated. Rate tables and series keep their own loaders: the
+ * stand-in sources, such as the ECB file, quote a subset of the currencies, so a table of them
+ * would miss rates, and series feed the stored history, whose days must all come from the same
+ * source.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class AggregatingExchangeRateLoader implements ExchangeRateLoader {
+    private static final System.Logger LOGGER = System.getLogger(AggregatingExchangeRateLoader.class.getName());
+    private static final Timer TIMER = MetricsRegistry.global().timer("provider.aggregate");
+    private static final Counter DEMOTIONS = MetricsRegistry.global().counter("provider.demotions");
+    private static final Counter FALLBACKS = MetricsRegistry.global().counter("provider.fallbacks");
+    // Loads a source needs before it may be demoted for its latency.
+    private static final int MIN_LOADS = 5;
+    private static final double MAX_ERROR_RATE = 0.5;
+    private static final double SLOW_FACTOR = 4;
+    private static final long SLOW_FLOOR = Duration.ofMillis(50).toNanos();
+    private final List<RateProvider> providers;
+    private final Strategy strategy;
+    private final long deadline;
+    private final long cooldown;
+    private final ExecutorService executor;
+    private String newest;
+
+    /**
+     * The ways the rates of the sources are combined.
+     * @since       1.1
+     */
+    public enum Strategy {
+        /** The first rate received wins. */
+        FIRST,
+        /** The median of the rates received until the deadline wins. */
+        MEDIAN
+    }
+
+    /**
+     * Constructs a new {@code AggregatingExchangeRateLoader}.
+     *
+     * @param providers the sources of exchange rates.
+     * @param strategy the way their rates are combined.
+     * @param deadline the time the {@link Strategy#MEDIAN} strategy waits for the rates, and
+     *                 after which the loads still running are cancelled.
+     * @param cooldown the time a source stays demoted.
+     * @throws IllegalArgumentException if there is no source.
+     * @since       1.1
+     */
+    public AggregatingExchangeRateLoader(List<RateProvider> providers, Strategy strategy, Duration deadline, Duration cooldown) {
+        if (providers.isEmpty()) throw new IllegalArgumentException("No rate provider");
+        this.providers = List.copyOf(providers);
+        this.strategy = strategy;
+        this.deadline = deadline.toNanos();
+        this.cooldown = cooldown.toNanos();
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("provider-", 0).factory());
+        MetricsRegistry.global().gauge("provider.active", () -> this.providers.stream().filter(p -> !p.isDemoted(System.nanoTime())).count());
+    }
+
+    /**
+     * Returns the sources of exchange rates.
+     *
+     * @return the sources, with their statistics.
+     * @since       1.1
+     */
+    public List<RateProvider> providers() {
+        return providers;
+    }
+
+    /**
+     * Loads the latest exchange rate between two currencies from the sources.
+     *
+     * @param from The source currency.
+     * @param to The target currency.
+     * @return the exchange rate combined from the sources.
+     * @since       1.1
+     */
+    @Override
+    public ExchangeRate load(Currency from, Currency to) {
+        return aggregate(loader -> loader.load(from, to), true);
+    }
+
+    /**
+     * Loads the exchange rate between two currencies in force at the given date from the sources.
+     *
+     * @param from The source currency.
+     * @param to The target currency.
+     * @param date The date of the rate.
+     * @return the exchange rate combined from the sources.
+     * @throws IllegalArgumentException if no source knows a rate at that date.
+     * @since       1.1
+     */
+    @Override
+    public ExchangeRate load(Currency from, Currency to, LocalDate date) {
+        return aggregate(loader -> loader.load(from, to, date), false);
+    }
+
+    /**
+     * Sends a request to the sources not demoted, and to the demoted ones if all of them fail.
+     *
+     * @param request the request to send to the loader of every source.
+     * @param latest whether the request is for the latest rate, whose freshness matters.
+     * @return the combined exchange rate.
+     * @throws RuntimeException the error of the first source that failed, with those of the others suppressed, if all of them failed.
+     * @since       1.1
+     */
+    private ExchangeRate aggregate(Function<ExchangeRateLoader, ExchangeRate> request, boolean latest) {
+        return TIMER.time(() -> {
+            long now = System.nanoTime();
+            List<RateProvider> active = providers.stream().filter(p -> !p.isDemoted(now)).toList();
+            List<RateProvider> demoted = providers.stream().filter(p -> p.isDemoted(now)).toList();
+            List<RuntimeException> errors = new ArrayList<>();
+            ExchangeRate rate = active.isEmpty() ? null : query(active, request, latest, errors);
+            if (rate == null && !demoted.isEmpty()) {
+                FALLBACKS.increment();
+                rate = query(demoted, request, latest, errors);
+            }
+            if (rate != null) return rate;
+            RuntimeException error = errors.getFirst();
+            errors.stream().filter(e -> e != error).forEach(error::addSuppressed);
+            throw error;
+        });
+    }
+
+    /**
+     * Sends a request to the given sources at once, and combines their rates with the strategy.
+     *
+     * @return the combined exchange rate, or {@code null} if all of them failed.
+     * @since       1.1
+     */
+    private ExchangeRate query(List<RateProvider> candidates, Function<ExchangeRateLoader, ExchangeRate> request, boolean latest, List<RuntimeException> errors) {
+        CompletionService<ExchangeRate> answers = new ExecutorCompletionService<>(executor);
+        Priority priority = Priority.current();
+        long end = System.nanoTime() + deadline;
+        AtomicBoolean expired = new AtomicBoolean();
+        List<Future<ExchangeRate>> loads = new ArrayList<>();
+        for (RateProvider provider : candidates) loads.add(answers.submit(() -> priority.call(() -> {
+            ExchangeRate rate = call(provider, request, expired);
+            if (latest) received(rate);
+            return rate;
+        })));
+        try {
+            if (strategy == Strategy.MEDIAN) return median(answers, candidates.size(), end, errors);
+            return latest ? firstCurrent(answers, loads, candidates, end, errors) : first(answers, candidates.size(), errors);
+        } catch (InterruptedException e) {
+            loads.forEach(load -> load.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for the rate providers");
+        } finally {
+            expire(loads, end, expired);
+        }
+    }
+
+    /**
+     * Cancels the loads still running once the deadline has passed, flagging them as expired
+     * so that the time they ran is recorded.
+     * @since       1.1
+     */
+    private void expire(List<Future<ExchangeRate>> loads, long end, AtomicBoolean expired) {
+        if (loads.stream().allMatch(Future::isDone)) return;
+        executor.execute(() -> {
+            try {
+                NANOSECONDS.sleep(end - System.nanoTime());
+            } catch (InterruptedException e) {
+                return;
+            }
+            expired.set(true);
+            loads.forEach(load -> load.cancel(true));
+        });
+    }
+
+    /**
+     * Waits for the first rate received.
+     *
+     * @return the first rate, or {@code null} if every source failed.
+     * @since       1.1
+     */
+    private static ExchangeRate first(CompletionService<ExchangeRate> answers, int pending, List<RuntimeException> errors) throws InterruptedException {
+        for (; pending > 0; pending--) {
+            ExchangeRate rate = answerOf(answers.take(), errors);
+            if (rate != null) return rate;
+        }
+        return null;
+    }
+
+    /**
+     * Waits for the first current latest rate received, holding back the others until every
+     * source failed or the deadline passed, and then returns the newest of them.
+     *
+     * @return the first current rate, else the newest one, or {@code null} if every source failed.
+     * @since       1.1
+     */
+    private ExchangeRate firstCurrent(CompletionService<ExchangeRate> answers, List<Future<ExchangeRate>> loads, List<RateProvider> candidates, long end, List<RuntimeException> errors) throws InterruptedException {
+        ExchangeRate held = null;
+        for (int pending = loads.size(); pending > 0; pending--) {
+            Future<ExchangeRate> answer = held == null ? answers.take() : answers.poll(Math.max(0, end - System.nanoTime()), NANOSECONDS);
+            if (answer == null) break;
+            ExchangeRate rate = answerOf(answer, errors);
+            if (rate == null) continue;
+            if (!candidates.get(loads.indexOf(answer)).isStandIn() && isCurrent(rate)) return rate;
+            if (held == null || rate.date().compareTo(held.date()) > 0) held = rate;
+        }
+        return held;
+    }
+
+    /**
+     * Records the publication date of a latest rate, keeping the newest one received.
+     * @since       1.1
+     */
+    private synchronized void received(ExchangeRate rate) {
+        if (newest == null || rate.date().compareTo(newest) > 0) newest = rate.date();
+    }
+
+    /**
+     * Checks whether a latest rate is as new as any received so far.
+     * @since       1.1
+     */
+    private synchronized boolean isCurrent(ExchangeRate rate) {
+        return newest == null || rate.date().compareTo(newest) >= 0;
+    }
+
+    /**
+     * Waits for the rates received until the deadline, or for the first one if none arrived by
+     * then, and returns their median.
+     *
+     * @return the median rate, or {@code null} if every source failed.
+     * @since       1.1
+     */
+    private static ExchangeRate median(CompletionService<ExchangeRate> answers, int pending, long end, List<RuntimeException> errors) throws InterruptedException {
+        List<ExchangeRate> rates = new ArrayList<>();
+        while (pending > 0) {
+            long left = end - System.nanoTime();
+            Future<ExchangeRate> answer = rates.isEmpty() && left <= 0 ? answers.take() : answers.poll(Math.max(0, left), NANOSECONDS);
+            if (answer == null) {
+                if (rates.isEmpty()) continue;
+                break;
+            }
+            pending--;
+            ExchangeRate rate = answerOf(answer, errors);
+            if (rate != null) rates.add(rate);
+        }
+        return rates.isEmpty() ? null : medianOf(rates);
+    }
+
+    /**
+     * Returns the median of the rates of the latest publication date.
+     * @since       1.1
+     */
+    private static ExchangeRate medianOf(List<ExchangeRate> rates) {
+        String date = rates.stream().map(ExchangeRate::date).max(Comparator.naturalOrder()).orElseThrow();
+        double[] values = rates.stream().filter(r -> r.date().equals(date)).mapToDouble(ExchangeRate::rate).sorted().toArray();
+        int middle = values.length / 2;
+        double median = values.length % 2 == 1 ? values[middle] : (values[middle - 1] + values[middle]) / 2;
+        return new ExchangeRate(rates.getFirst().from(), rates.getFirst().to(), date, median);
+    }
+
+    /**
+     * Returns the rate of a completed load, collecting its error if it failed.
+     *
+     * @return the rate, or {@code null} if the load failed.
+     * @since       1.1
+     */
+    private static ExchangeRate answerOf(Future<ExchangeRate> answer, List<RuntimeException> errors) throws InterruptedException {
+        try {
+            return answer.get();
+        } catch (ExecutionException e) {
+            errors.add(e.getCause() instanceof RuntimeException cause ? cause : new CompletionException(e.getCause()));
+            return null;
+        }
+    }
+
+    /**
+     * Sends a request to one source, recording its outcome in the statistics of the source.
+     * A source answering that there is no rate, with an {@link IllegalArgumentException} itself
+     * rather than one of its subclasses such as a {@link NumberFormatException} of a malformed
+     * answer, has not failed. A load cancelled once the deadline expired is recorded with the time it ran,
+     * and one cancelled otherwise is not recorded at all.
+     *
+     * @return the rate of the source.
+     * @since       1.1
+     */
+    private ExchangeRate call(RateProvider provider, Function<ExchangeRateLoader, ExchangeRate> request, AtomicBoolean expired) {
+        long start = System.nanoTime();
+        try {
+            ExchangeRate rate = request.apply(provider.loader());
+            if (rate == null || !(rate.rate() > 0) || Double.isInfinite(rate.rate()))
+                throw new IllegalStateException("Invalid rate from " + provider.name() + ": " + rate);
+            provider.succeeded(System.nanoTime() - start);
+            return rate;
+        } catch (RuntimeException e) {
+            if (e.getClass() == IllegalArgumentException.class) provider.succeeded(System.nanoTime() - start);
+            else if (expired.get()) provider.outlasted(System.nanoTime() - start);
+            else if (!(e instanceof CancellationException) && !Thread.currentThread().isInterrupted()) provider.failed(System.nanoTime() - start);
+            throw e;
+        } finally {
+            if (review(provider))
+                LOGGER.log(INFO, "Demoted rate provider " + provider + " for " + Duration.ofNanos(cooldown).toSeconds() + " s");
+        }
+    }
+
+    /**
+     * Demotes a source if it fails too often or is too slow compared with the fastest one.
+     *
+     * @return {@code true} if the source was demoted.
+     * @since       1.1
+     */
+    private synchronized boolean review(RateProvider provider) {
+        long now = System.nanoTime();
+        if (provider.isDemoted(now)) return false;
+        double fastest = providers.stream()
+                .filter(p -> !p.isDemoted(now) && p.loads() >= MIN_LOADS)
+                .mapToDouble(RateProvider::latency)
+                .filter(latency -> !Double.isNaN(latency))
+                .min().orElse(Double.NaN);
+        boolean failing = provider.errorRate() > MAX_ERROR_RATE;
+        boolean slow = provider.loads() >= MIN_LOADS && provider.latency() > Math.max(SLOW_FLOOR, SLOW_FACTOR * fastest);
+        if (!failing && !slow) return false;
+        if (providers.stream().allMatch(p -> p == provider || p.isDemoted(now))) return false;
+        provider.demote(now + cooldown);
+        DEMOTIONS.increment();
+        return true;
+    }
+}
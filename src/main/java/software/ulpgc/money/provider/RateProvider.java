@@ -0,0 +1,201 @@
+package software.ulpgc.money.provider;
+
+import software.ulpgc.money.architecture.io.ExchangeRateLoader;
+import software.ulpgc.money.metrics.MetricsRegistry;
+import software.ulpgc.money.metrics.Timer;
+
+/**
+ * The {@code RateProvider} class names a source of exchange rates queried by an
+ * {@link AggregatingExchangeRateLoader}, and keeps the statistics its demotion is decided on.
+ *
+ * <p>The latency of the successful loads and the rate of failed ones are kept as exponentially
+ * weighted moving averages, so they follow the recent behaviour of the source. Every load is
+ * also measured in the {@code provider.<name>} timer. A demoted source starts afresh: the first
+ * load succeeding after its demotion replaces both averages, so a source that recovered is not
+ * held back by its past. A load cancelled at the deadline counts towards the latency with the
+ * time it ran.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class RateProvider {
+    // Weight of the latest load in the moving averages.
+    private static final double ALPHA = 0.2;
+    private final String name;
+    private final ExchangeRateLoader loader;
+    private final Timer timer;
+    private final boolean standIn;
+    private double latency;
+    private double errorRate;
+    private long loads;
+    private long demotedUntil;
+    private boolean probation;
+
+    /**
+     * Constructs a new {@code RateProvider} of current rates.
+     *
+     * @param name the name of the source, used in the metrics and logs.
+     * @param loader the loader of its exchange rates.
+     * @since       1.1
+     */
+    public RateProvider(String name, ExchangeRateLoader loader) {
+        this(name, loader, false);
+    }
+
+    /**
+     * Constructs a new {@code RateProvider}.
+     *
+     * @param name the name of the source, used in the metrics and logs.
+     * @param loader the loader of its exchange rates.
+     * @param standIn whether the source only stands in for the others, e.g. a local copy of rates
+     *                that may be days old.
+     * @since       1.1
+     */
+    public RateProvider(String name, ExchangeRateLoader loader, boolean standIn) {
+        this.name = name;
+        this.loader = loader;
+        this.standIn = standIn;
+        this.timer = MetricsRegistry.global().timer("provider." + name);
+        this.latency = Double.NaN;
+        this.demotedUntil = System.nanoTime();
+    }
+
+    /**
+     * Returns the name of the source.
+     *
+     * @return the name.
+     * @since       1.1
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the loader of the exchange rates of the source.
+     *
+     * @return the loader.
+     * @since       1.1
+     */
+    public ExchangeRateLoader loader() {
+        return loader;
+    }
+
+    /**
+     * Returns whether the source only stands in for the others.
+     *
+     * @return {@code true} if its latest rates may be older than those of the others.
+     * @since       1.1
+     */
+    public boolean isStandIn() {
+        return standIn;
+    }
+
+    /**
+     * Records a successful load.
+     *
+     * @param nanos the duration of the load.
+     * @since       1.1
+     */
+    synchronized void succeeded(long nanos) {
+        timer.record(nanos);
+        if (probation || Double.isNaN(latency)) {
+            latency = nanos;
+            errorRate = probation ? 0 : errorRate - ALPHA * errorRate;
+            probation = false;
+        } else {
+            latency += ALPHA * (nanos - latency);
+            errorRate -= ALPHA * errorRate;
+        }
+        loads++;
+    }
+
+    /**
+     * Records a failed load.
+     *
+     * @param nanos the duration of the load.
+     * @since       1.1
+     */
+    synchronized void failed(long nanos) {
+        timer.record(nanos);
+        timer.error();
+        errorRate += ALPHA * (1 - errorRate);
+        loads++;
+    }
+
+    /**
+     * Records a load cancelled for running past the deadline, whose duration is a lower bound
+     * of the latency of the source.
+     *
+     * @param nanos the time the load ran.
+     * @since       1.1
+     */
+    synchronized void outlasted(long nanos) {
+        timer.record(nanos);
+        latency = Double.isNaN(latency) ? nanos : latency + ALPHA * (nanos - latency);
+        loads++;
+    }
+
+    /**
+     * Returns the moving average of the latency of the loads that did not fail.
+     *
+     * @return the latency in nanoseconds, or {@link Double#NaN} if no load succeeded or expired yet.
+     * @since       1.1
+     */
+    public synchronized double latency() {
+        return latency;
+    }
+
+    /**
+     * Returns the moving average of the rate of failed loads.
+     *
+     * @return the error rate, between 0 and 1.
+     * @since       1.1
+     */
+    public synchronized double errorRate() {
+        return errorRate;
+    }
+
+    /**
+     * Returns the number of loads recorded.
+     *
+     * @return the number of successful and failed loads.
+     * @since       1.1
+     */
+    public synchronized long loads() {
+        return loads;
+    }
+
+    /**
+     * Returns whether the source is demoted at the given time.
+     *
+     * @param now the current {@link System#nanoTime()}.
+     * @return {@code true} until the end of its last demotion.
+     * @since       1.1
+     */
+    public synchronized boolean isDemoted(long now) {
+        return now - demotedUntil < 0;
+    }
+
+    /**
+     * Demotes the source until the given time, after which it is queried again on probation.
+     *
+     * @param until the {@link System#nanoTime()} the demotion ends at.
+     * @since       1.1
+     */
+    synchronized void demote(long until) {
+        demotedUntil = until;
+        probation = true;
+    }
+
+    /**
+     * Returns the name and statistics of the source.
+     *
+     * @return the description of the source.
+     * @since       1.1
+     */
+    @Override
+    public synchronized String toString() {
+        return String.format("%s (latency %.0f ms, errors %.0f%%)", name, latency / 1e6, errorRate * 100);
+    }
+}
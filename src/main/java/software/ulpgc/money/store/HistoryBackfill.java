@@ -0,0 +1,255 @@
+package software.ulpgc.money.store;
+
+import software.ulpgc.money.architecture.io.StatisticLoader;
+import software.ulpgc.money.architecture.model.AlignedRateSeries;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.CurrencyPair;
+import software.ulpgc.money.metrics.Counter;
+import software.ulpgc.money.metrics.MetricsRegistry;
+import software.ulpgc.money.net.IoScheduler;
+import software.ulpgc.money.net.Priority;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.System.Logger.Level.INFO;
+import static java.lang.System.Logger.Level.WARNING;
+
+/**
+ * The {@code HistoryBackfill} class fills a {@link RateHistoryStore} with the complete history of
+ * the ECB reference rates, from {@link RateHistoryStore#ORIGIN} to today, from one base currency
+ * to all the others. The base currency is meant to be the pivot of the store, whose pairs
+ * provision every other pair.
+ *
+ * <p>Instead of a single request for the whole history, the period is split in chunks, e.g. of
+ * three months, fetched concurrently with multi-symbol requests in the maintenance lane of an
+ * {@link IoScheduler}, which bounds the requests running at once and holds them back while the
+ * user is waiting for something. Their starts are also spaced to respect a maximum request rate. Fetched
+ * chunks are merged into the store in chronological order, through a window that bounds the
+ * number of chunks held in memory.</p>
+ *
+ * <p>The store is saved every few merged chunks. As the store records the days already fetched,
+ * a backfill run after an interruption skips the chunks saved by the previous one. Failed
+ * requests are retried twice before the backfill gives up.</p>
+ *
+ * <p>Progress and throughput are written to the log after every merged chunk, and the fetched
+ * rates are counted in the {@code backfill.rates} counter.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class HistoryBackfill {
+    private static final System.Logger LOGGER = System.getLogger(HistoryBackfill.class.getName());
+    private static final Counter RATES = MetricsRegistry.global().counter("backfill.rates");
+    // Number of attempts of every request, and pause before the first retry.
+    private static final int ATTEMPTS = 3;
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(1);
+    // Number of merged chunks between two saves of the store.
+    private static final int CHECKPOINT_EVERY = 8;
+    private final StatisticLoader loader;
+    private final RateHistoryStore store;
+    private final Path file;
+    private final IoScheduler scheduler;
+    private final long requestInterval;
+    private final Period chunk;
+    private final Clock clock;
+    private final AtomicLong nextRequest;
+
+    /**
+     * Constructs a new {@code HistoryBackfill}.
+     *
+     * @param loader the loader of the chunks.
+     * @param store the store receiving the history.
+     * @param file the file the store is saved to.
+     * @param scheduler the scheduler running the requests in its maintenance lane.
+     * @param requestsPerSecond the maximum number of requests started per second.
+     * @param chunk the length of the period fetched by each request.
+     * @param clock the clock giving the current day.
+     * @since       1.1
+     */
+    public HistoryBackfill(StatisticLoader loader, RateHistoryStore store, Path file, IoScheduler scheduler, double requestsPerSecond, Period chunk, Clock clock) {
+        this.loader = loader;
+        this.store = store;
+        this.file = file;
+        this.scheduler = scheduler;
+        this.requestInterval = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+        this.chunk = chunk;
+        this.clock = clock;
+        this.nextRequest = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Fetches the history from the base currency to the given currencies, skipping the chunks
+     * already stored, and saves the store.
+     *
+     * @param base the base currency.
+     * @param currencies the target currencies; the base currency is ignored if present.
+     * @return the report of the backfill.
+     * @throws IOException if the store cannot be saved.
+     * @throws InterruptedException if the calling thread is interrupted.
+     * @throws RuntimeException if a chunk cannot be fetched; the chunks merged before it are saved.
+     * @since       1.1
+     */
+    public Report run(Currency base, List<Currency> currencies) throws IOException, InterruptedException {
+        List<Currency> targets = currencies.stream().filter(c -> !c.equals(base)).toList();
+        List<LocalDate[]> all = chunks(LocalDate.now(clock));
+        List<LocalDate[]> missing = all.stream().filter(c -> !isStored(base, targets, c)).toList();
+        LOGGER.log(INFO, "Backfilling {0} chunks of {1} to {2} currencies, {3} already stored",
+                missing.size(), base.code(), targets.size(), all.size() - missing.size());
+        long start = System.nanoTime();
+        long rates = 0;
+        int windowSize = 2 * scheduler.concurrency(Priority.MAINTENANCE);
+        Deque<Future<AlignedRateSeries>> window = new ArrayDeque<>();
+        int submitted = 0;
+        Throwable failure = null;
+        try {
+            for (int merged = 0; merged < missing.size(); merged++) {
+                for (; submitted < missing.size() && submitted < merged + windowSize; submitted++) {
+                    LocalDate[] period = missing.get(submitted);
+                    window.add(scheduler.submit(Priority.MAINTENANCE, () -> fetch(base, targets, period)));
+                }
+                AlignedRateSeries series = await(window.removeFirst());
+                LocalDate[] period = missing.get(merged);
+                store.store(series, period[0], period[1]);
+                rates += (long) series.size() * targets.size();
+                RATES.add((long) series.size() * targets.size());
+                logProgress(period, merged + 1, missing.size(), rates, System.nanoTime() - start);
+                if ((merged + 1) % CHECKPOINT_EVERY == 0) store.save(file);
+            }
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            window.forEach(f -> f.cancel(true));
+            save(failure);
+        }
+        return new Report(missing.size(), all.size() - missing.size(), rates, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Saves the store once the backfill is over. If the backfill failed, a failure to save is
+     * added to its failure instead of hiding it.
+     *
+     * @param failure the failure of the backfill, or {@code null} if it succeeded.
+     * @throws IOException if the store cannot be saved after a successful backfill.
+     * @since       1.1
+     */
+    private void save(Throwable failure) throws IOException {
+        try {
+            store.save(file);
+        } catch (IOException e) {
+            if (failure == null) throw e;
+            failure.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Splits the history up to the given day in chunks.
+     *
+     * @param today the last day of the history.
+     * @return the first and last day of each chunk, in chronological order.
+     * @since       1.1
+     */
+    private List<LocalDate[]> chunks(LocalDate today) {
+        List<LocalDate[]> chunks = new ArrayList<>();
+        for (LocalDate start = RateHistoryStore.ORIGIN; !start.isAfter(today); start = start.plus(chunk)) {
+            LocalDate end = start.plus(chunk).minusDays(1);
+            chunks.add(new LocalDate[]{start, end.isAfter(today) ? today : end});
+        }
+        return chunks;
+    }
+
+    /**
+     * Checks whether a chunk is already stored for every target currency.
+     * @since       1.1
+     */
+    private boolean isStored(Currency base, List<Currency> targets, LocalDate[] period) {
+        return targets.stream().allMatch(to -> store.isFetched(new CurrencyPair(base, to), period[0], period[1]));
+    }
+
+    /**
+     * Fetches a chunk once its start slot is reached, retrying failed requests.
+     *
+     * @since       1.1
+     */
+    private AlignedRateSeries fetch(Currency base, List<Currency> targets, LocalDate[] period) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                awaitSlot();
+                return loader.loadStatistics(base, targets, period[0], period[1]);
+            } catch (RuntimeException e) {
+                if (attempt == ATTEMPTS || Thread.currentThread().isInterrupted()) throw e;
+                LOGGER.log(WARNING, "Retrying " + period[0] + ".." + period[1] + " after: " + e);
+            }
+            Thread.sleep(RETRY_DELAY.multipliedBy(attempt));
+        }
+    }
+
+    /**
+     * Waits until the next request may start, spacing request starts by the configured interval.
+     * @since       1.1
+     */
+    private void awaitSlot() throws InterruptedException {
+        long slot = nextRequest.getAndAccumulate(System.nanoTime(), (next, now) -> Math.max(next, now) + requestInterval);
+        long wait = slot - System.nanoTime();
+        if (wait > 0) TimeUnit.NANOSECONDS.sleep(wait);
+    }
+
+    /**
+     * Waits for a fetched chunk, rethrowing the exception of its request unwrapped.
+     * @since       1.1
+     */
+    private static AlignedRateSeries await(Future<AlignedRateSeries> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * Writes the progress and throughput of the backfill to the log.
+     * @since       1.1
+     */
+    private static void logProgress(LocalDate[] period, int merged, int total, long rates, long elapsedNanos) {
+        double seconds = Math.max(elapsedNanos, 1) / 1e9;
+        LOGGER.log(INFO, String.format("Backfilled %s..%s: %d/%d chunks, %.1f chunks/s, %.0f rates/s",
+                period[0], period[1], merged, total, merged / seconds, rates / seconds));
+    }
+
+    /**
+     * The report of a backfill.
+     *
+     * @param fetched the number of chunks fetched.
+     * @param skipped the number of chunks already stored.
+     * @param rates the number of rates fetched.
+     * @param elapsed the duration of the backfill.
+     * @since       1.1
+     */
+    public record Report(int fetched, int skipped, long rates, Duration elapsed) {
+
+        /**
+         * Returns the throughput of the backfill.
+         *
+         * @return the rates fetched per second.
+         * @since       1.1
+         */
+        public double ratesPerSecond() {
+            return rates / Math.max(elapsed.toNanos() / 1e9, 1e-9);
+        }
+    }
+}
@@ -0,0 +1,563 @@
+package software.ulpgc.money.store;
+
+import software.ulpgc.money.architecture.io.StatisticLoader;
+import software.ulpgc.money.architecture.model.AlignedRateSeries;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.CurrencyPair;
+import software.ulpgc.money.architecture.model.ExchangeRate;
+import software.ulpgc.money.math.RateMath;
+import software.ulpgc.money.metrics.Counter;
+import software.ulpgc.money.metrics.MetricsRegistry;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * The {@code RateHistoryStore} class keeps the daily exchange rate history of currency pairs in
+ * memory, indexed by calendar day, so that the rate in force at any date is found in constant time.
+ *
+ * <p>The history of each pair is a primitive array whose index is the number of days since
+ * {@link #ORIGIN}, the first day of the ECB reference rates, holding {@link Double#NaN} on the
+ * days no rate was published. A bit set records which days have already been fetched, so the
+ * network is only asked for the periods not stored yet, with one request per missing period.
+ * When a range is read for several pairs at once, their missing days are fetched together in a
+ * single multi-currency request.</p>
+ *
+ * <p>Only the pairs quoted from a pivot currency, the euro of the ECB reference rates, are
+ * stored. The rates between two other currencies are derived from their pivot legs, and the
+ * rates to the pivot are the reciprocals of its own, so that a backfill of the pivot pairs
+ * provisions every pair.</p>
+ *
+ * <p>On weekends and holidays, the rate in force is the last one published before, looked up at
+ * most {@code fillDays} days back. Today is only marked as fetched once its rate is published.</p>
+ *
+ * <p>The store can be saved to and restored from a binary file, holding for every pair its key,
+ * its published rates compressed by a {@link RateSeriesEncoder}, and the periods of fetched
+ * days. Files of the first version, holding every day as a plain {@code double}, are still read.
+ * As the file is shared by the application and the backfill job, it is saved under a file lock,
+ * merged first with the days the other process saved, and replaced atomically.</p>
+ *
+ * <p>The store counts its requests in the {@code store.fetches} counter and the days they
+ * returned in {@code store.fetched_days}.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class RateHistoryStore {
+    // First day of the ECB reference rates, stored at index 0 of every history.
+    public static final LocalDate ORIGIN = LocalDate.of(1999, 1, 4);
+    private static final int ORIGIN_DAY = (int) ORIGIN.toEpochDay();
+    // Leading bytes of a saved store, "MRH" followed by the version of the format.
+    private static final int MAGIC = 0x4D524802;
+    private static final int MAGIC_V1 = 0x4D524801;
+    private static final Counter FETCHES = MetricsRegistry.global().counter("store.fetches");
+    private static final Counter FETCHED_DAYS = MetricsRegistry.global().counter("store.fetched_days");
+    private final StatisticLoader loader;
+    private final Currency pivot;
+    private final int fillDays;
+    private final Clock clock;
+    private final ConcurrentHashMap<String, PairHistory> histories;
+
+    /**
+     * Constructs a new, empty {@code RateHistoryStore}.
+     *
+     * @param loader the loader of the periods not stored yet.
+     * @param pivot the currency of the stored pairs, which every other pair is derived from.
+     * @param fillDays how many days back a rate stays in force when none is published, e.g. 4 to
+     *                 cover the Easter holidays; 0 to only accept rates published on the requested day.
+     * @param clock the clock giving the current day.
+     * @since       1.1
+     */
+    public RateHistoryStore(StatisticLoader loader, Currency pivot, int fillDays, Clock clock) {
+        this.loader = loader;
+        this.pivot = pivot;
+        this.fillDays = fillDays;
+        this.clock = clock;
+        this.histories = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the exchange rate in force at the given date, fetching the missing part of the
+     * history first.
+     *
+     * @param from the source currency.
+     * @param to the target currency.
+     * @param date the date of the rate.
+     * @return the rate, dated with its publication day.
+     * @throws IllegalArgumentException if no rate was published in the {@code fillDays} days up to the date.
+     * @since       1.1
+     */
+    public ExchangeRate rateAt(Currency from, Currency to, LocalDate date) {
+        return ratesAt(from, to, List.of(date)).getFirst();
+    }
+
+    /**
+     * Returns the exchange rates in force at each of the given dates. The missing part of the
+     * history between the earliest and the latest date is fetched first, so any number of dates
+     * costs at most one request per period not stored yet.
+     *
+     * @param from the source currency.
+     * @param to the target currency.
+     * @param dates the dates of the rates, in any order and possibly repeated.
+     * @return the rates, in the order of the dates, each dated with its publication day.
+     * @throws IllegalArgumentException if no rate was published in the {@code fillDays} days up to one of the dates.
+     * @since       1.1
+     */
+    public List<ExchangeRate> ratesAt(Currency from, Currency to, List<LocalDate> dates) {
+        if (dates.isEmpty()) return List.of();
+        if (from.equals(pivot)) return storedRatesAt(to, dates);
+        List<ExchangeRate> bases = storedRatesAt(from, dates);
+        if (to.equals(pivot)) return bases.stream().map(ExchangeRate::inverse).toList();
+        List<ExchangeRate> quotes = storedRatesAt(to, dates);
+        List<ExchangeRate> rates = new ArrayList<>(dates.size());
+        for (int i = 0; i < dates.size(); i++) {
+            ExchangeRate base = bases.get(i), quote = quotes.get(i);
+            String date = base.date().compareTo(quote.date()) > 0 ? base.date() : quote.date();
+            rates.add(new ExchangeRate(from, to, date, quote.rate() / base.rate()));
+        }
+        return rates;
+    }
+
+    /**
+     * Returns the stored rates from the pivot currency in force at each of the given dates,
+     * fetching the missing part of the history first.
+     *
+     * @param to the target currency.
+     * @param dates the dates of the rates.
+     * @return the rates, in the order of the dates, each dated with its publication day.
+     * @since       1.1
+     */
+    private List<ExchangeRate> storedRatesAt(Currency to, List<LocalDate> dates) {
+        int first = Integer.MAX_VALUE, last = Integer.MIN_VALUE;
+        for (LocalDate date : dates) {
+            int day = (int) date.toEpochDay();
+            first = Math.min(first, day);
+            last = Math.max(last, day);
+        }
+        PairHistory history = history(new CurrencyPair(pivot, to));
+        ensure(history, pivot, to, first - fillDays, last);
+        List<ExchangeRate> rates = new ArrayList<>(dates.size());
+        synchronized (history) {
+            for (LocalDate date : dates) {
+                int index = history.lookup((int) date.toEpochDay() - ORIGIN_DAY, fillDays);
+                if (index < 0) throw new IllegalArgumentException("No " + pivot.code() + "/" + to.code() + " rate known at " + date);
+                rates.add(new ExchangeRate(pivot, to, LocalDate.ofEpochDay(ORIGIN_DAY + index).toString(), history.rates[index]));
+            }
+        }
+        return rates;
+    }
+
+    /**
+     * Returns the rates from one currency to several others published between two dates, both
+     * included, fetching the missing part of their histories first. Ranges already stored cost
+     * no request, so a range can be read again and again, e.g. while a chart is panned.
+     *
+     * @param from the source currency.
+     * @param to the target currencies.
+     * @param start the first day of the range.
+     * @param end the last day of the range.
+     * @return the rates aligned on the days at least one of them was published.
+     * @since       1.1
+     */
+    public AlignedRateSeries series(Currency from, List<Currency> to, LocalDate start, LocalDate end) {
+        if (from.equals(pivot)) return storedSeries(to, start, end);
+        List<Currency> legs = Stream.concat(Stream.of(from), to.stream()).filter(c -> !c.equals(pivot)).distinct().toList();
+        AlignedRateSeries stored = storedSeries(legs, start, end);
+        double[][] columns = new double[to.size()][];
+        for (int j = 0; j < to.size(); j++)
+            columns[j] = to.get(j).equals(pivot) ? RateMath.reciprocal(stored.column(from)) : stored.cross(from, to.get(j));
+        return new AlignedRateSeries(from, to, stored.days(), columns);
+    }
+
+    /**
+     * Returns the stored rates from the pivot currency to several others published between two
+     * dates, both included, fetching the missing part of their histories first.
+     *
+     * @param to the target currencies.
+     * @param start the first day of the range.
+     * @param end the last day of the range.
+     * @return the rates aligned on the days at least one of them was published.
+     * @since       1.1
+     */
+    private AlignedRateSeries storedSeries(List<Currency> to, LocalDate start, LocalDate end) {
+        int first = Math.max(dayOf(start), ORIGIN_DAY);
+        int last = Math.min(dayOf(end), today());
+        int length = Math.max(last - first + 1, 0);
+        ensureAll(pivot, to, first, last);
+        double[][] columns = new double[to.size()][];
+        for (int j = 0; j < to.size(); j++) {
+            PairHistory history = history(new CurrencyPair(pivot, to.get(j)));
+            ensure(history, pivot, to.get(j), first, last);
+            columns[j] = history.read(first - ORIGIN_DAY, length);
+        }
+        int[] days = new int[length];
+        int size = 0;
+        for (int i = 0; i < length; i++) {
+            boolean published = false;
+            for (double[] column : columns) published |= !Double.isNaN(column[i]);
+            if (!published) continue;
+            for (double[] column : columns) column[size] = column[i];
+            days[size++] = first + i;
+        }
+        for (int j = 0; j < columns.length; j++) columns[j] = Arrays.copyOf(columns[j], size);
+        return new AlignedRateSeries(pivot, to, Arrays.copyOf(days, size), columns);
+    }
+
+    /**
+     * Stores the rates of an aligned series fetched elsewhere, e.g. by a backfill, and marks the
+     * given period as fetched for every currency of the series.
+     *
+     * @param series the aligned series.
+     * @param start the first day of the period the series was fetched for.
+     * @param end the last day of the period the series was fetched for.
+     * @since       1.1
+     */
+    public void store(AlignedRateSeries series, LocalDate start, LocalDate end) {
+        for (Currency to : series.to())
+            history(new CurrencyPair(series.from(), to)).write(series.days(), series.column(to), dayOf(start) - ORIGIN_DAY, coveredUntil(series.days(), dayOf(end)) - ORIGIN_DAY);
+    }
+
+    /**
+     * Checks whether a period has already been fetched for the given pair.
+     *
+     * @param pair the currency pair.
+     * @param start the first day of the period.
+     * @param end the last day of the period.
+     * @return {@code true} if every day of the period up to today is stored.
+     * @since       1.1
+     */
+    public boolean isFetched(CurrencyPair pair, LocalDate start, LocalDate end) {
+        int first = Math.max(dayOf(start) - ORIGIN_DAY, 0);
+        int last = Math.min(dayOf(end), today()) - ORIGIN_DAY;
+        PairHistory history = histories.get(pair.key());
+        return last < first || history != null && history.missing(first, last).isEmpty();
+    }
+
+    /**
+     * Saves the store to a file shared with other processes. Under an exclusive lock of the
+     * file, the days saved there by another process are first merged into the store, which is
+     * then written to a temporary file moved into place, so that neither concurrent saves nor an
+     * interrupted one lose the days already saved.
+     *
+     * @param file the file to write.
+     * @throws IOException if the file cannot be written.
+     * @since       1.1
+     */
+    public synchronized void save(Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path lockFile = file.resolveSibling(file.getFileName() + ".lock");
+        try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock _ = channel.lock()) {
+            read(file).forEach((key, saved) -> histories.merge(key, saved, PairHistory::merge));
+            Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                write(temporary);
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        }
+    }
+
+    /**
+     * Restores the histories saved in a file, replacing those of the same pairs. Nothing is
+     * done if the file does not exist.
+     *
+     * @param file the file to read.
+     * @throws IOException if the file cannot be read or is not a saved store.
+     * @since       1.1
+     */
+    public void restore(Path file) throws IOException {
+        histories.putAll(read(file));
+    }
+
+    /**
+     * Writes the histories of the store to a file.
+     *
+     * @since       1.1
+     */
+    private void write(Path file) throws IOException {
+        List<Map.Entry<String, PairHistory>> entries = List.copyOf(histories.entrySet());
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(entries.size());
+            for (Map.Entry<String, PairHistory> entry : entries) {
+                out.writeUTF(entry.getKey());
+                entry.getValue().writeTo(out);
+            }
+        }
+    }
+
+    /**
+     * Reads the histories saved in a file, in any version of the format.
+     *
+     * @return the histories by pair key, empty if the file does not exist.
+     * @since       1.1
+     */
+    private static Map<String, PairHistory> read(Path file) throws IOException {
+        Map<String, PairHistory> read = new HashMap<>();
+        if (!Files.isRegularFile(file)) return read;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            int magic = in.readInt();
+            if (magic != MAGIC && magic != MAGIC_V1) throw new IOException("Not a rate history file: " + file);
+            for (int i = in.readInt(); i > 0; i--) {
+                String key = in.readUTF();
+                read.put(key, magic == MAGIC ? PairHistory.readFrom(in) : PairHistory.readV1From(in));
+            }
+        }
+        return read;
+    }
+
+    /**
+     * Fetches the periods of a history not stored yet between two days. Fetches of the same
+     * pair are serialised, so that concurrent callers do not request the same period twice.
+     *
+     * @since       1.1
+     */
+    private void ensure(PairHistory history, Currency from, Currency to, int firstDay, int lastDay) {
+        int first = Math.max(firstDay - ORIGIN_DAY, 0);
+        int last = Math.min(lastDay, today()) - ORIGIN_DAY;
+        if (last < first || history.missing(first, last).isEmpty()) return;
+        history.fetchLock.lock();
+        try {
+            for (int[] period : history.missing(first, last)) {
+                LocalDate start = LocalDate.ofEpochDay(ORIGIN_DAY + period[0]);
+                LocalDate end = LocalDate.ofEpochDay(ORIGIN_DAY + period[1]);
+                AlignedRateSeries series = loader.loadStatistics(from, List.of(to), start, end);
+                FETCHES.increment();
+                FETCHED_DAYS.add(series.size());
+                history.write(series.days(), series.column(to), period[0], coveredUntil(series.days(), ORIGIN_DAY + period[1]) - ORIGIN_DAY);
+            }
+        } finally {
+            history.fetchLock.unlock();
+        }
+    }
+
+    /**
+     * Fetches at once, with one multi-currency request, the days not stored yet between two days
+     * for all the pairs missing some. The request covers from the first to the last missing day
+     * of any of them. The pairs are locked in the order of their keys, so that batches and
+     * single fetches never wait for each other in a cycle.
+     *
+     * @since       1.1
+     */
+    private void ensureAll(Currency from, List<Currency> to, int firstDay, int lastDay) {
+        int first = Math.max(firstDay - ORIGIN_DAY, 0);
+        int last = Math.min(lastDay, today()) - ORIGIN_DAY;
+        if (last < first) return;
+        TreeMap<String, Currency> missing = new TreeMap<>();
+        for (Currency currency : to)
+            if (!history(new CurrencyPair(from, currency)).missing(first, last).isEmpty())
+                missing.put(new CurrencyPair(from, currency).key(), currency);
+        if (missing.size() < 2) return;
+        List<PairHistory> locked = new ArrayList<>();
+        try {
+            int start = Integer.MAX_VALUE, end = -1;
+            for (Currency currency : missing.values()) {
+                PairHistory history = history(new CurrencyPair(from, currency));
+                history.fetchLock.lock();
+                locked.add(history);
+                for (int[] period : history.missing(first, last)) {
+                    start = Math.min(start, period[0]);
+                    end = Math.max(end, period[1]);
+                }
+            }
+            if (end < start) return;
+            AlignedRateSeries series = loader.loadStatistics(from, List.copyOf(missing.values()), LocalDate.ofEpochDay(ORIGIN_DAY + start), LocalDate.ofEpochDay(ORIGIN_DAY + end));
+            FETCHES.increment();
+            FETCHED_DAYS.add(series.size());
+            int covered = coveredUntil(series.days(), ORIGIN_DAY + end) - ORIGIN_DAY;
+            for (int j = 0; j < series.to().size(); j++)
+                locked.get(j).write(series.days(), series.rates()[j], start, covered);
+        } finally {
+            locked.forEach(history -> history.fetchLock.unlock());
+        }
+    }
+
+    /**
+     * Returns the last day of a fetched period that can be marked as fetched: today is only
+     * final once its rate is published.
+     *
+     * @param days the days returned for the period.
+     * @param end the last day of the period.
+     * @return the last final day of the period.
+     * @since       1.1
+     */
+    private int coveredUntil(int[] days, int end) {
+        int today = today();
+        if (end < today) return end;
+        return days.length > 0 && days[days.length - 1] == today ? today : today - 1;
+    }
+
+    /**
+     * Returns the history of a pair, creating it if needed.
+     *
+     * @since       1.1
+     */
+    private PairHistory history(CurrencyPair pair) {
+        return histories.computeIfAbsent(pair.key(), _ -> new PairHistory());
+    }
+
+    private int today() {
+        return (int) LocalDate.now(clock).toEpochDay();
+    }
+
+    private static int dayOf(LocalDate date) {
+        return (int) date.toEpochDay();
+    }
+
+    /**
+     * The stored history of one pair, indexed by day since {@link #ORIGIN}.
+     * @since       1.1
+     */
+    private static final class PairHistory {
+        private final BitSet fetched = new BitSet();
+        private final ReentrantLock fetchLock = new ReentrantLock();
+        private double[] rates = new double[0];
+
+        /**
+         * Returns the index of the last rate published at most {@code fillDays} days before the given index.
+         *
+         * @return the index of the rate in force, or {@code -1} if there is none.
+         */
+        int lookup(int index, int fillDays) {
+            for (int i = Math.min(index, rates.length - 1); i >= Math.max(index - fillDays, 0); i--)
+                if (!Double.isNaN(rates[i])) return i;
+            return -1;
+        }
+
+        /**
+         * Copies the rates of a range of indices, with {@link Double#NaN} beyond the stored ones.
+         */
+        synchronized double[] read(int first, int length) {
+            double[] copy = new double[length];
+            Arrays.fill(copy, Double.NaN);
+            int available = Math.min(length, rates.length - first);
+            if (available > 0) System.arraycopy(rates, first, copy, 0, available);
+            return copy;
+        }
+
+        /**
+         * Returns the periods not fetched yet between two indices, both included.
+         *
+         * @return the first and last index of each missing period.
+         */
+        synchronized List<int[]> missing(int first, int last) {
+            List<int[]> periods = new ArrayList<>();
+            for (int i = fetched.nextClearBit(first); i <= last; i = fetched.nextClearBit(i)) {
+                int next = fetched.nextSetBit(i);
+                int end = next < 0 || next > last ? last : next - 1;
+                periods.add(new int[]{i, end});
+                i = end + 1;
+            }
+            return periods;
+        }
+
+        /**
+         * Writes the published rates and the fetched periods of this history.
+         */
+        synchronized void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(rates.length);
+            RateSeriesEncoder encoder = new RateSeriesEncoder(out);
+            for (int i = 0; i < rates.length; i++)
+                if (!Double.isNaN(rates[i])) encoder.append(i, rates[i]);
+            encoder.finish();
+            List<int[]> periods = missing(0, Integer.MAX_VALUE - 1);
+            out.writeInt(periods.size());
+            int start = 0;
+            for (int[] period : periods) {
+                out.writeInt(start);
+                out.writeInt(period[0]);
+                start = period[1] + 1;
+            }
+        }
+
+        /**
+         * Reads a history written by {@link #writeTo(DataOutputStream)}.
+         */
+        static PairHistory readFrom(DataInputStream in) throws IOException {
+            PairHistory history = new PairHistory();
+            history.rates = new double[in.readInt()];
+            Arrays.fill(history.rates, Double.NaN);
+            RateSeriesDecoder decoder = new RateSeriesDecoder(in);
+            while (decoder.next()) history.rates[decoder.day()] = decoder.rate();
+            for (int i = in.readInt(); i > 0; i--) {
+                int start = in.readInt();
+                history.fetched.set(start, in.readInt());
+            }
+            return history;
+        }
+
+        /**
+         * Reads a history written in the first version of the format, with every day as a plain {@code double}.
+         */
+        static PairHistory readV1From(DataInputStream in) throws IOException {
+            PairHistory history = new PairHistory();
+            history.rates = new double[in.readInt()];
+            for (int i = 0; i < history.rates.length; i++) history.rates[i] = in.readDouble();
+            long[] words = new long[in.readInt()];
+            for (int i = 0; i < words.length; i++) words[i] = in.readLong();
+            history.fetched.or(BitSet.valueOf(words));
+            return history;
+        }
+
+        /**
+         * Writes the rates of the given epoch days and marks the period between two indices as fetched.
+         */
+        synchronized void write(int[] days, double[] column, int first, int last) {
+            grow(days.length == 0 ? last + 1 : Math.max(last + 1, days[days.length - 1] - ORIGIN_DAY + 1));
+            for (int i = 0; i < days.length; i++)
+                if (days[i] >= ORIGIN_DAY) rates[days[i] - ORIGIN_DAY] = column[i];
+            if (last >= first) fetched.set(Math.max(first, 0), last + 1);
+        }
+
+        /**
+         * Copies the days fetched by another history of the same pair and not by this one.
+         *
+         * @return this history.
+         */
+        synchronized PairHistory merge(PairHistory other) {
+            BitSet added = (BitSet) other.fetched.clone();
+            added.andNot(fetched);
+            if (added.isEmpty()) return this;
+            grow(Math.min(added.length(), other.rates.length));
+            for (int i = added.nextSetBit(0); i >= 0 && i < other.rates.length; i = added.nextSetBit(i + 1))
+                rates[i] = other.rates[i];
+            fetched.or(added);
+            return this;
+        }
+
+        /**
+         * Grows the rates to hold at least the given number of days, filling the new ones with {@link Double#NaN}.
+         */
+        private void grow(int length) {
+            if (length <= rates.length) return;
+            int previous = rates.length;
+            rates = Arrays.copyOf(rates, Math.max(length, previous + previous / 2));
+            Arrays.fill(rates, previous, rates.length, Double.NaN);
+        }
+    }
+}
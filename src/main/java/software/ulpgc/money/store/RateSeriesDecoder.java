@@ -0,0 +1,159 @@
+package software.ulpgc.money.store;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static software.ulpgc.money.store.RateSeriesEncoder.END;
+import static software.ulpgc.money.store.RateSeriesEncoder.POWERS_OF_TEN;
+import static software.ulpgc.money.store.RateSeriesEncoder.WHOLE;
+
+/**
+ * The {@code RateSeriesDecoder} class reads a series written by a {@link RateSeriesEncoder},
+ * one point at a time and without allocating anything per point.
+ *
+ * <p>The decoder is used as a cursor: every call to {@link #next()} reads a point, whose day
+ * and rate are then returned by {@link #day()} and {@link #rate()}. The stream is read byte by
+ * byte up to the end of the series, so the data following it can be read afterwards.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public final class RateSeriesDecoder {
+    private final InputStream in;
+    private long buffer;
+    private int available;
+    private long day;
+    private long delta;
+    private long bits;
+    private int leading;
+    private int trailing;
+    private int decimals;
+    private double rate;
+    private boolean started;
+    private boolean ended;
+
+    /**
+     * Constructs a new {@code RateSeriesDecoder} reading from the given stream.
+     *
+     * @param in the stream holding the series.
+     * @since       1.1
+     */
+    public RateSeriesDecoder(InputStream in) {
+        this.in = in;
+        this.decimals = WHOLE;
+    }
+
+    /**
+     * Reads the next point of the series.
+     *
+     * @return {@code true} if a point was read, {@code false} at the end of the series.
+     * @throws IOException if the stream cannot be read or ends before the series.
+     * @since       1.1
+     */
+    public boolean next() throws IOException {
+        if (ended) return false;
+        long deltaOfDelta = readDay();
+        if (deltaOfDelta == END) {
+            ended = true;
+            return false;
+        }
+        if (started) {
+            delta += deltaOfDelta;
+            day += delta;
+        } else {
+            day = deltaOfDelta;
+            started = true;
+        }
+        if (read(1) == 1) decimals = (int) read(4);
+        readRate();
+        double value = Double.longBitsToDouble(bits);
+        rate = decimals == WHOLE ? value : restore(value, decimals);
+        return true;
+    }
+
+    /**
+     * Returns the day of the last point read.
+     *
+     * @return the day, as given to {@link RateSeriesEncoder#append(int, double)}.
+     * @since       1.1
+     */
+    public int day() {
+        return (int) day;
+    }
+
+    /**
+     * Returns the rate of the last point read.
+     *
+     * @return the rate, exactly as given to {@link RateSeriesEncoder#append(int, double)}.
+     * @since       1.1
+     */
+    public double rate() {
+        return rate;
+    }
+
+    /**
+     * Rounds a rate whose low mantissa bits were erased back to the given decimals.
+     *
+     * @param erased the rate with its low mantissa bits erased.
+     * @param decimals the decimals of the original rate.
+     * @return the original rate.
+     * @since       1.1
+     */
+    static double restore(double erased, int decimals) {
+        return Math.rint(erased * POWERS_OF_TEN[decimals]) / POWERS_OF_TEN[decimals];
+    }
+
+    /**
+     * Reads the difference between the distance to the previous day and the previous distance.
+     * @since       1.1
+     */
+    private long readDay() throws IOException {
+        if (read(1) == 0) return 0;
+        if (read(1) == 0) return signed(read(7), 7);
+        if (read(1) == 0) return signed(read(9), 9);
+        if (read(1) == 0) return signed(read(12), 12);
+        return (int) read(32);
+    }
+
+    /**
+     * Reads the XOR of the bits of the rate with those of the previous one.
+     * @since       1.1
+     */
+    private void readRate() throws IOException {
+        if (read(1) == 0) return;
+        if (read(1) == 1) {
+            leading = (int) read(5);
+            trailing = 64 - leading - ((int) read(6) + 1);
+        }
+        bits ^= read(64 - leading - trailing) << trailing;
+    }
+
+    /**
+     * Extends the sign of a value of the given number of bits.
+     * @since       1.1
+     */
+    private static long signed(long value, int bits) {
+        return value << (64 - bits) >> (64 - bits);
+    }
+
+    /**
+     * Reads a value of the given number of bits.
+     * @since       1.1
+     */
+    private long read(int bits) throws IOException {
+        if (bits > 32) return read(bits - 32) << 32 | read(32);
+        if (bits == 0) return 0;
+        while (available < bits) {
+            int next = in.read();
+            if (next < 0) throw new EOFException("Rate series ended before its end marker");
+            buffer |= (long) next << (56 - available);
+            available += 8;
+        }
+        long value = buffer >>> (64 - bits);
+        buffer <<= bits;
+        available -= bits;
+        return value;
+    }
+}
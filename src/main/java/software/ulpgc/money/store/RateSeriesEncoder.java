@@ -0,0 +1,216 @@
+package software.ulpgc.money.store;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * The {@code RateSeriesEncoder} class writes a series of daily rates to a stream in a compact
+ * binary form, in the manner of the Gorilla time series encoding, one point at a time and
+ * without allocating anything per point.
+ *
+ * <p>Every point is written as three variable-length fields:</p>
+ * <ul>
+ *   <li>The day, as the difference between its distance to the previous day and the previous
+ *   distance, or the day itself for the first point. Consecutive business days give {@code 0} or a small value, written in one to a
+ *   dozen bits.</li>
+ *   <li>The decimal precision of the rate, written in a single bit while it does not change.</li>
+ *   <li>The rate, as the XOR of its bits with those of the previous rate, of which only the
+ *   meaningful bits between the leading and the trailing zeros are written.</li>
+ * </ul>
+ *
+ * <p>Published rates have a few decimals, e.g. {@code 1.0834}, but their binary mantissa is
+ * full, so their XOR would rarely have trailing zeros. The mantissa bits beyond those needed to
+ * tell the rate from its decimal neighbours are therefore cleared before the XOR, and the
+ * {@link RateSeriesDecoder} rounds the rate back to its decimals. A rate that cannot be
+ * restored exactly this way is written whole, so the encoding is always lossless.</p>
+ *
+ * <p>{@link #finish()} ends the series with a marker and pads it to a whole byte, so several
+ * series can follow each other in the same stream.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public final class RateSeriesEncoder {
+    // Highest number of decimals restored by rounding, and precision of rates written whole.
+    static final int MAX_DECIMALS = 12;
+    static final int WHOLE = 15;
+    static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12};
+    // Extra decimals a rate keeps from the previous one instead of changing the precision.
+    private static final int STICKY_DECIMALS = 2;
+    // Bits spent describing a new window of meaningful bits.
+    private static final int WINDOW_HEADER = 11;
+    // Day field written after the last point.
+    static final int END = Integer.MIN_VALUE;
+    private static final double LOG2_10 = 3.321928094887362;
+    private final OutputStream out;
+    private long buffer;
+    private int used;
+    private long previousDay;
+    private long previousDelta;
+    private long previousBits;
+    private int previousLeading;
+    private int previousTrailing;
+    private int previousDecimals;
+    private int points;
+
+    /**
+     * Constructs a new {@code RateSeriesEncoder} writing to the given stream.
+     *
+     * @param out the stream receiving the series.
+     * @since       1.1
+     */
+    public RateSeriesEncoder(OutputStream out) {
+        this.out = out;
+        this.previousLeading = -1;
+        this.previousDecimals = WHOLE;
+    }
+
+    /**
+     * Appends a point to the series.
+     *
+     * @param day the day of the point, e.g. an epoch day; days must be strictly increasing.
+     * @param rate the rate of the point.
+     * @throws IOException if the stream cannot be written.
+     * @throws IllegalArgumentException if the day is not after the previous one.
+     * @since       1.1
+     */
+    public void append(int day, double rate) throws IOException {
+        long delta = day - previousDay;
+        if (points++ > 0 && delta <= 0) throw new IllegalArgumentException("Day " + day + " is not after " + previousDay);
+        writeDay(delta - previousDelta);
+        previousDay = day;
+        previousDelta = points == 1 ? 0 : delta;
+        int decimals = decimalsOf(rate);
+        if (decimals == previousDecimals) {
+            write(0, 1);
+        } else {
+            write(1, 1);
+            write(decimals, 4);
+            previousDecimals = decimals;
+        }
+        writeRate(decimals == WHOLE ? Double.doubleToRawLongBits(rate) : erase(rate, decimals));
+    }
+
+    /**
+     * Ends the series and writes the bits still buffered. The underlying stream is not closed.
+     *
+     * @throws IOException if the stream cannot be written.
+     * @since       1.1
+     */
+    public void finish() throws IOException {
+        write(0b1111, 4);
+        write(END, 32);
+        for (int shift = 56; used > 0; shift -= 8, used -= 8) out.write((int) (buffer >>> shift));
+        buffer = 0;
+        used = 0;
+    }
+
+    /**
+     * Writes the difference between the distance to the previous day and the previous distance.
+     * @since       1.1
+     */
+    private void writeDay(long deltaOfDelta) throws IOException {
+        if (deltaOfDelta == 0) {
+            write(0, 1);
+        } else if (deltaOfDelta >= -64 && deltaOfDelta < 64) {
+            write(0b10, 2);
+            write(deltaOfDelta, 7);
+        } else if (deltaOfDelta >= -256 && deltaOfDelta < 256) {
+            write(0b110, 3);
+            write(deltaOfDelta, 9);
+        } else if (deltaOfDelta >= -2048 && deltaOfDelta < 2048) {
+            write(0b1110, 4);
+            write(deltaOfDelta, 12);
+        } else if (deltaOfDelta > END && deltaOfDelta <= Integer.MAX_VALUE) {
+            write(0b1111, 4);
+            write(deltaOfDelta, 32);
+        } else {
+            throw new IllegalArgumentException("Day " + (previousDay + previousDelta + deltaOfDelta) + " is too far from " + previousDay);
+        }
+    }
+
+    /**
+     * Writes the XOR of the bits of a rate with those of the previous one, reusing the window
+     * of meaningful bits of the previous rate when the new XOR fits in it, unless describing a
+     * narrower window costs fewer bits than the zeros it saves.
+     * @since       1.1
+     */
+    private void writeRate(long bits) throws IOException {
+        long xor = bits ^ previousBits;
+        previousBits = bits;
+        if (xor == 0) {
+            write(0, 1);
+            return;
+        }
+        int leading = Math.min(Long.numberOfLeadingZeros(xor), 31);
+        int trailing = Long.numberOfTrailingZeros(xor);
+        int meaningful = 64 - leading - trailing;
+        int window = 64 - previousLeading - previousTrailing;
+        if (previousLeading >= 0 && leading >= previousLeading && trailing >= previousTrailing && window - meaningful <= WINDOW_HEADER) {
+            write(0b10, 2);
+            write(xor >>> previousTrailing, window);
+        } else {
+            write(0b11, 2);
+            write(leading, 5);
+            write(meaningful - 1, 6);
+            write(xor >>> trailing, meaningful);
+            previousLeading = leading;
+            previousTrailing = trailing;
+        }
+    }
+
+    /**
+     * Returns the precision a rate is written with: its fewest decimals, or the previous precision
+     * if it is slightly higher, so that e.g. {@code 1.08} among rates of four decimals does not
+     * change it; {@link #WHOLE} if the rate cannot be restored by rounding.
+     * @since       1.1
+     */
+    private int decimalsOf(double rate) {
+        for (int decimals = 0; decimals <= MAX_DECIMALS; decimals++) {
+            if (!restores(rate, decimals)) continue;
+            boolean keep = previousDecimals != WHOLE && previousDecimals > decimals
+                    && previousDecimals - decimals <= STICKY_DECIMALS && restores(rate, previousDecimals);
+            return keep ? previousDecimals : decimals;
+        }
+        return WHOLE;
+    }
+
+    /**
+     * Checks whether a rate is restored exactly from its erased bits with the given decimals.
+     * @since       1.1
+     */
+    private static boolean restores(double rate, int decimals) {
+        return Double.isFinite(rate)
+                && Double.doubleToRawLongBits(RateSeriesDecoder.restore(Double.longBitsToDouble(erase(rate, decimals)), decimals)) == Double.doubleToRawLongBits(rate);
+    }
+
+    /**
+     * Clears the mantissa bits of a rate below those needed to round it back to its decimals.
+     * @since       1.1
+     */
+    private static long erase(double rate, int decimals) {
+        int kept = Math.getExponent(rate) + (int) Math.ceil(decimals * LOG2_10) + 3;
+        int erased = 52 - Math.clamp(kept, 0, 52);
+        return Double.doubleToRawLongBits(rate) & (-1L << erased);
+    }
+
+    /**
+     * Writes the lowest bits of a value.
+     * @since       1.1
+     */
+    private void write(long value, int bits) throws IOException {
+        if (bits == 0) return;
+        if (bits < 64) value &= (1L << bits) - 1;
+        int free = 64 - used;
+        if (bits < free) {
+            buffer |= value << (free - bits);
+            used += bits;
+            return;
+        }
+        buffer |= value >>> (bits - free);
+        for (int shift = 56; shift >= 0; shift -= 8) out.write((int) (buffer >>> shift));
+        used = bits - free;
+        buffer = used == 0 ? 0 : value << (64 - used);
+    }
+}
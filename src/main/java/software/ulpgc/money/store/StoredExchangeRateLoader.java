@@ -0,0 +1,80 @@
+package software.ulpgc.money.store;
+
+import software.ulpgc.money.architecture.io.ExchangeRateLoader;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.ExchangeRate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * {@code StoredExchangeRateLoader} is an {@link ExchangeRateLoader} decorator serving the rates
+ * at a given date from a {@link RateHistoryStore}, so that converting thousands of historical
+ * transactions costs one request per period not stored yet instead of one per date.
+ *
+ * <p>The latest rates are still loaded by the decorated loader.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class StoredExchangeRateLoader implements ExchangeRateLoader {
+    private final ExchangeRateLoader loader;
+    private final RateHistoryStore store;
+
+    /**
+     * Constructs a new {@code StoredExchangeRateLoader}.
+     *
+     * @param loader the loader of the latest rates.
+     * @param store the store of the past rates.
+     * @since       1.1
+     */
+    public StoredExchangeRateLoader(ExchangeRateLoader loader, RateHistoryStore store) {
+        this.loader = loader;
+        this.store = store;
+    }
+
+    /**
+     * Loads the latest exchange rate between the given currencies with the decorated loader.
+     *
+     * @param from The source currency.
+     * @param to The target currency.
+     * @return An {@link ExchangeRate} object representing the exchange rate between the given currencies.
+     * @since       1.1
+     */
+    @Override
+    public ExchangeRate load(Currency from, Currency to) {
+        return loader.load(from, to);
+    }
+
+    /**
+     * Returns the exchange rate between the given currencies in force at the given date, from the store.
+     *
+     * @param from The source currency.
+     * @param to The target currency.
+     * @param date The date of the rate.
+     * @return An {@link ExchangeRate} object whose date is the publication date of the rate.
+     * @throws IllegalArgumentException if no rate is known at that date.
+     * @since       1.1
+     */
+    @Override
+    public ExchangeRate load(Currency from, Currency to, LocalDate date) {
+        return store.rateAt(from, to, date);
+    }
+
+    /**
+     * Returns the exchange rates between the given currencies in force at each of the given
+     * dates, from the store.
+     *
+     * @param from The source currency.
+     * @param to The target currency.
+     * @param dates The dates of the rates.
+     * @return The exchange rates, in the order of the dates.
+     * @throws IllegalArgumentException if no rate is known at one of the dates.
+     * @since       1.1
+     */
+    @Override
+    public List<ExchangeRate> load(Currency from, Currency to, List<LocalDate> dates) {
+        return store.ratesAt(from, to, dates);
+    }
+}
@@ -0,0 +1,78 @@
+package software.ulpgc.money.store;
+
+import software.ulpgc.money.architecture.io.StatisticLoader;
+import software.ulpgc.money.architecture.model.AlignedRateSeries;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.ExchangeRateTimeSeries;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * {@code StoredStatisticLoader} is a {@link StatisticLoader} decorator serving the histories
+ * between two dates from a {@link RateHistoryStore}, so that ranges read again, e.g. while a
+ * chart is explored, cost no request and new ranges only fetch the days not stored yet.
+ *
+ * <p>The histories of the last year are still loaded by the decorated loader.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class StoredStatisticLoader implements StatisticLoader {
+    private final StatisticLoader loader;
+    private final RateHistoryStore store;
+
+    /**
+     * Constructs a new {@code StoredStatisticLoader}.
+     *
+     * @param loader the loader of the histories of the last year.
+     * @param store the store of the histories between two dates.
+     * @since       1.1
+     */
+    public StoredStatisticLoader(StatisticLoader loader, RateHistoryStore store) {
+        this.loader = loader;
+        this.store = store;
+    }
+
+    /**
+     * Loads the history of the last year between the given currencies with the decorated loader.
+     *
+     * @param from The source currency.
+     * @param to The target currency.
+     * @return An {@link ExchangeRateTimeSeries} containing the exchange rate data.
+     * @since       1.1
+     */
+    @Override
+    public ExchangeRateTimeSeries loadStatistic(Currency from, Currency to) {
+        return loader.loadStatistic(from, to);
+    }
+
+    /**
+     * Loads the histories of the last year from one currency to several others with the decorated loader.
+     *
+     * @param from The source currency.
+     * @param to The target currencies.
+     * @return An {@link AlignedRateSeries} with one column of exchange rates per target currency.
+     * @since       1.1
+     */
+    @Override
+    public AlignedRateSeries loadStatistics(Currency from, List<Currency> to) {
+        return loader.loadStatistics(from, to);
+    }
+
+    /**
+     * Returns the histories from one currency to several others between two dates, from the store.
+     *
+     * @param from The source currency.
+     * @param to The target currencies.
+     * @param start The first day of the period.
+     * @param end The last day of the period.
+     * @return An {@link AlignedRateSeries} with one column of exchange rates per target currency.
+     * @since       1.1
+     */
+    @Override
+    public AlignedRateSeries loadStatistics(Currency from, List<Currency> to, LocalDate start, LocalDate end) {
+        return store.series(from, to, start, end);
+    }
+}
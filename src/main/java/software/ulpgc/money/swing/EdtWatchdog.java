@@ -0,0 +1,260 @@
+package software.ulpgc.money.swing;
+
+import software.ulpgc.money.metrics.Counter;
+import software.ulpgc.money.metrics.MetricsRegistry;
+import software.ulpgc.money.metrics.Timer;
+
+import java.awt.*;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code EdtWatchdog} class detects events that keep the Swing Event Dispatch Thread (EDT)
+ * busy for longer than a threshold, which is what the user perceives as a frozen window.
+ *
+ * <p>The watchdog pushes an {@link EventQueue} that timestamps every busy segment of the EDT,
+ * that is, the dispatch of an event. Modal dialogs pump events from inside the handler that
+ * opened them, so the handler is split in the segments before and after that nested loop, and the
+ * time the dialog stays open is not reported. A daemon thread samples the timestamp; when the
+ * current segment exceeds the threshold, it captures the stack of the EDT once for that segment. Stalls are aggregated by call
+ * site, that is, the first application frame of the captured stack, so that the worst offenders
+ * can be listed in the log or in the {@link SwingDiagnosticsDialog}.</p>
+ *
+ * <p>A stall is reported with its final duration once the segment ends. A segment still running
+ * past the hang threshold, such as a deadlock or an endless loop that may never end, is also
+ * reported by the sampler right away, with the stack the EDT is stuck in.</p>
+ *
+ * <p>Stalls are also counted in the {@code edt.stalls} counter and measured in the
+ * {@code edt.stall} timer of the global {@link MetricsRegistry}, and hangs counted in the
+ * {@code edt.hangs} counter.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class EdtWatchdog {
+    private static final System.Logger LOGGER = System.getLogger(EdtWatchdog.class.getName());
+    private static final String APPLICATION_PACKAGE = "software.ulpgc.money.";
+    private static final Counter STALLS = MetricsRegistry.global().counter("edt.stalls");
+    private static final Timer STALL_TIMER = MetricsRegistry.global().timer("edt.stall");
+    private static final Counter HANGS = MetricsRegistry.global().counter("edt.hangs");
+
+    private final long thresholdNanos;
+    private final long hangNanos;
+    private final long sampleMillis;
+    private final ConcurrentHashMap<String, Offender> offenders;
+    private volatile Thread dispatchThread;
+    private volatile long busySince;
+    private volatile long segment;
+    private volatile long capturedSegment;
+    private volatile StackTraceElement[] capturedStack;
+    // Last segment reported as hung, only accessed from the sampler.
+    private long hungSegment;
+    // Nesting of dispatched events, only accessed from the EDT.
+    private int depth;
+
+    /**
+     * Constructs a new {@code EdtWatchdog}.
+     *
+     * @param threshold the dispatch time above which an event is reported.
+     * @param hangThreshold the dispatch time above which an event still running is reported as hung.
+     * @param samplePeriod the time between two samples of the EDT, well below the threshold.
+     * @since       1.1
+     */
+    public EdtWatchdog(Duration threshold, Duration hangThreshold, Duration samplePeriod) {
+        this.thresholdNanos = threshold.toNanos();
+        this.hangNanos = Math.max(thresholdNanos, hangThreshold.toNanos());
+        this.sampleMillis = Math.max(1, samplePeriod.toMillis());
+        this.offenders = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Installs the timestamping event queue and starts sampling the EDT.
+     * @since       1.1
+     */
+    public void start() {
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(new WatchedEventQueue());
+        Thread.ofPlatform().daemon().name("edt-watchdog").start(this::sample);
+    }
+
+    /**
+     * Returns the call sites that stalled the EDT, worst total stall time first.
+     *
+     * @return a snapshot of the offenders.
+     * @since       1.1
+     */
+    public List<Offender> offenders() {
+        return offenders.values().stream()
+                .sorted(Comparator.comparingLong(Offender::totalNanos).reversed())
+                .toList();
+    }
+
+    /**
+     * Returns the configured stall threshold.
+     *
+     * @return the threshold in milliseconds.
+     * @since       1.1
+     */
+    public long thresholdMillis() {
+        return thresholdNanos / 1_000_000;
+    }
+
+    /**
+     * Periodically checks whether the current busy segment exceeded the threshold and, if so,
+     * captures the stack of the EDT once for that segment. A segment exceeding the hang
+     * threshold is reported once, while it is still running.
+     * @since       1.1
+     */
+    private void sample() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(sampleMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+            long start = busySince;
+            long current = segment;
+            Thread thread = dispatchThread;
+            if (start == 0 || thread == null) continue;
+            long nanos = System.nanoTime() - start;
+            boolean capture = current != capturedSegment && nanos >= thresholdNanos;
+            boolean hung = current != hungSegment && nanos >= hangNanos;
+            if (!capture && !hung) continue;
+            StackTraceElement[] stack = thread.getStackTrace();
+            if (segment != current) continue;
+            if (capture) {
+                capturedStack = stack;
+                capturedSegment = current;
+            }
+            if (hung) {
+                hungSegment = current;
+                HANGS.increment();
+                LOGGER.log(System.Logger.Level.WARNING, () -> "EDT hung for " + nanos / 1_000_000 + " ms so far at " + callSiteOf(stack) + System.lineSeparator() + format(stack));
+            }
+        }
+    }
+
+    /**
+     * Marks the EDT as busy from now on. Only called from the EDT.
+     * @since       1.1
+     */
+    private void beginSegment() {
+        segment++;
+        busySince = System.nanoTime();
+    }
+
+    /**
+     * Marks the EDT as idle and reports the segment that just ended if its stack was captured.
+     * Only called from the EDT.
+     * @since       1.1
+     */
+    private void endSegment() {
+        long start = busySince;
+        if (start == 0) return;
+        long nanos = System.nanoTime() - start;
+        busySince = 0;
+        if (capturedSegment != segment || nanos < thresholdNanos) return;
+        StackTraceElement[] stack = capturedStack;
+        String callSite = callSiteOf(stack);
+        offenders.computeIfAbsent(callSite, Offender::new).record(nanos, stack);
+        STALLS.increment();
+        STALL_TIMER.record(nanos);
+        LOGGER.log(System.Logger.Level.WARNING, () -> "EDT blocked for " + nanos / 1_000_000 + " ms at " + callSite + System.lineSeparator() + format(stack));
+    }
+
+    /**
+     * Returns the first application frame of a stack, or its top frame if it has none.
+     *
+     * @param stack the captured stack.
+     * @return the call site description.
+     * @since       1.1
+     */
+    private static String callSiteOf(StackTraceElement[] stack) {
+        for (StackTraceElement frame : stack)
+            if (frame.getClassName().startsWith(APPLICATION_PACKAGE) && !frame.getClassName().startsWith(EdtWatchdog.class.getName()))
+                return frame.toString();
+        return stack.length > 0 ? stack[0].toString() : "unknown";
+    }
+
+    /**
+     * Formats a stack for the log, one frame per line.
+     *
+     * @param stack the captured stack.
+     * @return the formatted stack.
+     * @since       1.1
+     */
+    static String format(StackTraceElement[] stack) {
+        StringBuilder text = new StringBuilder();
+        for (StackTraceElement frame : stack) text.append("\tat ").append(frame).append(System.lineSeparator());
+        return text.toString();
+    }
+
+    /**
+     * Event queue delimiting the busy segments of the EDT: a segment starts when an event is
+     * dispatched, and ends when it has been dispatched or when its handler starts pumping events
+     * itself. The handler that opened a nested loop is busy again once a nested event is done.
+     * @since       1.1
+     */
+    private class WatchedEventQueue extends EventQueue {
+        @Override
+        public AWTEvent getNextEvent() throws InterruptedException {
+            endSegment();
+            return super.getNextEvent();
+        }
+
+        @Override
+        protected void dispatchEvent(AWTEvent event) {
+            dispatchThread = Thread.currentThread();
+            depth++;
+            beginSegment();
+            try {
+                super.dispatchEvent(event);
+            } finally {
+                endSegment();
+                if (--depth > 0) beginSegment();
+            }
+        }
+    }
+
+    /**
+     * Aggregated stalls of one call site.
+     * @since       1.1
+     */
+    public static class Offender {
+        private final String callSite;
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private StackTraceElement[] worstStack;
+
+        private Offender(String callSite) {
+            this.callSite = callSite;
+        }
+
+        private synchronized void record(long nanos, StackTraceElement[] stack) {
+            count++;
+            totalNanos += nanos;
+            if (nanos > maxNanos) {
+                maxNanos = nanos;
+                worstStack = stack;
+            }
+        }
+
+        /** @return the first application frame of the stalls. */
+        public String callSite() {return callSite;}
+
+        /** @return the number of stalls. */
+        public synchronized long count() {return count;}
+
+        /** @return the total stall time in nanoseconds. */
+        public synchronized long totalNanos() {return totalNanos;}
+
+        /** @return the longest stall in nanoseconds. */
+        public synchronized long maxNanos() {return maxNanos;}
+
+        /** @return the stack captured during the longest stall. */
+        public synchronized StackTraceElement[] worstStack() {return worstStack;}
+    }
+}
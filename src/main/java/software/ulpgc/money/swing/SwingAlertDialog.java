@@ -0,0 +1,68 @@
+package software.ulpgc.money.swing;
+
+import software.ulpgc.money.architecture.model.CurrencyPair;
+import software.ulpgc.money.architecture.view.AlertDialog;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * The {@code SwingAlertDialog} class is a Swing-based implementation of the {@link AlertDialog}
+ * interface. It asks the user, in a modal option pane, for the level of the rate alert, starting
+ * from the latest rate of the pair.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class SwingAlertDialog implements AlertDialog {
+    private final Component parent;
+
+    /**
+     * Constructs a new {@code SwingAlertDialog}.
+     *
+     * @param parent the component the option pane is centred on.
+     * @since       1.1
+     */
+    public SwingAlertDialog(Component parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Shows the dialog until the user enters a positive level or cancels it.
+     *
+     * @param pair the pair whose rate is watched.
+     * @param rate the latest rate of the pair, offered as a starting point.
+     * @return the level of the alert, or {@link Double#NaN} if the user cancelled the dialog.
+     * @since       1.1
+     */
+    @Override
+    public double get(CurrencyPair pair, double rate) {
+        JTextField levelField = new JTextField(Double.toString(rate), 12);
+        JPanel pane = new JPanel(new BorderLayout(0, 5));
+        pane.add(new JLabel("Notify me when " + pair.key() + ", now at " + rate + ", reaches:"), BorderLayout.NORTH);
+        pane.add(levelField, BorderLayout.CENTER);
+        while (JOptionPane.showConfirmDialog(parent, pane, "Rate alert", JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE) == JOptionPane.OK_OPTION) {
+            double level = parseLevel(levelField.getText());
+            if (level > 0) return level;
+            ErrorMessageDialogFactory.showErrorMessage(parent, "The level must be a positive number", "Invalid level");
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Parses the level entered by the user.
+     *
+     * @param text the entered text.
+     * @return the level, or {@link Double#NaN} if the text is not a finite number.
+     * @since       1.1
+     */
+    private static double parseLevel(String text) {
+        try {
+            double level = Double.parseDouble(text.trim().replace(',', '.'));
+            return Double.isFinite(level) ? level : Double.NaN;
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package software.ulpgc.money.swing;
+
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.view.ComparisonDialog;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.List;
+
+/**
+ * The {@code SwingComparisonDialog} class is a Swing-based implementation of the
+ * {@link ComparisonDialog} interface. It asks the user, in a modal option pane, for the
+ * currencies to compare and whether the series should be normalised.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class SwingComparisonDialog implements ComparisonDialog {
+    private final Component parent;
+    private JList<Currency> currencyList;
+    private final JCheckBox normalizeBox;
+
+    /**
+     * Constructs a new {@code SwingComparisonDialog}.
+     *
+     * @param parent the component the option pane is centred on.
+     * @since       1.1
+     */
+    public SwingComparisonDialog(Component parent) {
+        this.parent = parent;
+        this.normalizeBox = new JCheckBox("Normalise to 100", true);
+    }
+
+    /**
+     * Defines the list of currencies the user can select from.
+     *
+     * @param currencies the list of {@link Currency} objects that can be compared.
+     * @return this {@code ComparisonDialog} instance for method chaining.
+     * @since       1.1
+     */
+    @Override
+    public ComparisonDialog define(List<Currency> currencies) {
+        this.currencyList = new JList<>(currencies.toArray(Currency[]::new));
+        currencyList.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
+        currencyList.setVisibleRowCount(12);
+        return this;
+    }
+
+    /**
+     * Shows the dialog and returns the currencies selected by the user.
+     *
+     * @return the selected currencies, empty if the user cancelled the dialog.
+     * @since       1.1
+     */
+    @Override
+    public List<Currency> get() {
+        JPanel pane = new JPanel(new BorderLayout());
+        pane.add(new JScrollPane(currencyList), BorderLayout.CENTER);
+        pane.add(normalizeBox, BorderLayout.SOUTH);
+        int option = JOptionPane.showConfirmDialog(parent, pane, "Compare currencies", JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
+        return option == JOptionPane.OK_OPTION ? currencyList.getSelectedValuesList() : List.of();
+    }
+
+    /**
+     * Returns whether the user asked for the series to be normalised.
+     *
+     * @return the state of the normalisation check box.
+     * @since       1.1
+     */
+    @Override
+    public boolean normalized() {
+        return normalizeBox.isSelected();
+    }
+}
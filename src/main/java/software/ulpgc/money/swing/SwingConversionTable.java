@@ -0,0 +1,113 @@
+package software.ulpgc.money.swing;
+
+import software.ulpgc.money.architecture.model.Money;
+import software.ulpgc.money.architecture.model.RateTable;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+
+/**
+ * The {@code SwingConversionTable} class is a Swing panel that shows an amount of money converted
+ * into many currencies, one row per currency, in a table that can be sorted by any column.
+ *
+ * <p>The table model reads directly from the primitive arrays of the conversion, so building the
+ * view does not allocate anything per currency.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class SwingConversionTable extends JPanel {
+
+    /**
+     * Constructs a new {@code SwingConversionTable} showing the given conversion.
+     *
+     * @param from the {@code Money} object that was converted.
+     * @param rates the exchange rates used, quoted from the currency of {@code from}.
+     * @param amounts the converted amounts, in the same order as the currencies of {@code rates}.
+     * @since       1.1
+     */
+    public SwingConversionTable(Money from, RateTable rates, double[] amounts) {
+        setLayout(new BorderLayout());
+        setBackground(SwingMainFrame.BODY_COLOR);
+        add(createTitle(from, rates), BorderLayout.NORTH);
+        add(new JScrollPane(createTable(rates, amounts)), BorderLayout.CENTER);
+    }
+
+    /**
+     * Creates the title of the table, with the converted money and the date of the rates.
+     *
+     * @param from the converted money.
+     * @param rates the exchange rates used.
+     * @return the title label.
+     * @since       1.1
+     */
+    private Component createTitle(Money from, RateTable rates) {
+        JLabel title = new JLabel(from.amount() + " " + from.currency().code() + " on " + rates.date(), JLabel.CENTER);
+        title.setFont(new Font("Verdana", Font.BOLD, 16));
+        title.setForeground(SwingMainFrame.BODY_FONT_COLOR);
+        title.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        return title;
+    }
+
+    /**
+     * Creates the sortable table of converted amounts.
+     *
+     * @param rates the exchange rates used.
+     * @param amounts the converted amounts.
+     * @return the table.
+     * @since       1.1
+     */
+    private JTable createTable(RateTable rates, double[] amounts) {
+        JTable table = new JTable(new ConversionTableModel(rates, amounts));
+        table.setAutoCreateRowSorter(true);
+        table.setFillsViewportHeight(true);
+        return table;
+    }
+
+    /**
+     * Table model exposing the rows of a conversion: currency code, name, rate and converted amount.
+     * @since       1.1
+     */
+    private static class ConversionTableModel extends AbstractTableModel {
+        private static final String[] COLUMNS = {"Code", "Currency", "Rate", "Amount"};
+        private final RateTable rates;
+        private final double[] amounts;
+
+        private ConversionTableModel(RateTable rates, double[] amounts) {
+            this.rates = rates;
+            this.amounts = amounts;
+        }
+
+        @Override
+        public int getRowCount() {
+            return amounts.length;
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            return column < 2 ? String.class : Double.class;
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            return switch (column) {
+                case 0 -> rates.currencies().get(row).code();
+                case 1 -> rates.currencies().get(row).name();
+                case 2 -> rates.rates()[row];
+                default -> amounts[row];
+            };
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package software.ulpgc.money.swing;
+
+import software.ulpgc.money.architecture.view.CorrelationDialog;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * The {@code SwingCorrelationDialog} class is a Swing-based implementation of the
+ * {@link CorrelationDialog} interface. It asks the user, in a modal option pane, for the window
+ * of the correlation, from one month to five years of business days.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class SwingCorrelationDialog implements CorrelationDialog {
+    private final Component parent;
+    private final JComboBox<Window> windowBox;
+
+    /**
+     * Constructs a new {@code SwingCorrelationDialog}, with one year selected.
+     *
+     * @param parent the component the option pane is centred on.
+     * @since       1.1
+     */
+    public SwingCorrelationDialog(Component parent) {
+        this.parent = parent;
+        this.windowBox = new JComboBox<>(new Window[]{
+                new Window("1 month", 21),
+                new Window("3 months", 63),
+                new Window("1 year", 255),
+                new Window("3 years", 765),
+                new Window("5 years", 1275)
+        });
+        windowBox.setSelectedIndex(2);
+    }
+
+    /**
+     * Shows the dialog and returns the window selected by the user.
+     *
+     * @return the number of daily returns to correlate, or {@code 0} if the user cancelled the dialog.
+     * @since       1.1
+     */
+    @Override
+    public int get() {
+        JPanel pane = new JPanel(new BorderLayout(0, 5));
+        pane.add(new JLabel("Correlate the daily returns of every currency over:"), BorderLayout.NORTH);
+        pane.add(windowBox, BorderLayout.CENTER);
+        int option = JOptionPane.showConfirmDialog(parent, pane, "Correlate currencies", JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
+        return option == JOptionPane.OK_OPTION ? ((Window) windowBox.getSelectedItem()).days() : 0;
+    }
+
+    /**
+     * A window offered by the dialog.
+     *
+     * @param label the label shown to the user.
+     * @param days the number of daily returns of the window.
+     * @since       1.1
+     */
+    private record Window(String label, int days) {
+        @Override
+        public String toString() {
+            return label + " (" + days + " days)";
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package software.ulpgc.money.swing;
+
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.math.CorrelationMatrix;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseEvent;
+import java.util.List;
+
+/**
+ * The {@code SwingCorrelationHeatmap} class is a Swing component drawing a correlation matrix as
+ * a heatmap: one square cell per pair of currencies, red for rates moving together, blue for
+ * rates moving apart and white for unrelated ones.
+ *
+ * <p>Cells show their correlation when they are wide enough to hold it, and the tooltip of every
+ * cell gives its correlation and the covariance of the daily returns.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class SwingCorrelationHeatmap extends JComponent {
+    private static final Color BACKGROUND_COLOR = Color.LIGHT_GRAY;
+    private static final Color POSITIVE_COLOR = new Color(0xD7301F);
+    private static final Color NEGATIVE_COLOR = new Color(0x2166AC);
+    private static final Color MISSING_COLOR = Color.GRAY;
+    private static final Font TITLE_FONT = new Font("Verdana", Font.BOLD, 16);
+    private static final Font LABEL_FONT = new Font("Verdana", Font.PLAIN, 11);
+    private static final Font CELL_FONT = new Font("Verdana", Font.PLAIN, 9);
+    // Free space around the matrix, in pixels, and narrowest cell showing its value.
+    private static final int PADDING = 10;
+    private static final int VALUE_CELL = 28;
+    private final String title;
+    private final List<Currency> currencies;
+    private final CorrelationMatrix matrix;
+    private Rectangle grid;
+    private int cell;
+
+    /**
+     * Constructs a new {@code SwingCorrelationHeatmap}.
+     *
+     * @param title the title drawn above the matrix.
+     * @param currencies the currencies of the rows and columns of the matrix.
+     * @param matrix the matrix drawn.
+     * @since       1.1
+     */
+    public SwingCorrelationHeatmap(String title, List<Currency> currencies, CorrelationMatrix matrix) {
+        this.title = title;
+        this.currencies = currencies;
+        this.matrix = matrix;
+        setOpaque(true);
+        setToolTipText("");
+    }
+
+    /**
+     * Returns the description of the cell under the pointer.
+     *
+     * @param event the mouse event locating the pointer.
+     * @return the currencies, correlation and covariance of the cell, or {@code null} outside the matrix.
+     * @since       1.1
+     */
+    @Override
+    public String getToolTipText(MouseEvent event) {
+        if (grid == null || !grid.contains(event.getPoint())) return null;
+        int column = (event.getX() - grid.x) / cell, row = (event.getY() - grid.y) / cell;
+        if (row >= matrix.size() || column >= matrix.size()) return null;
+        return String.format("%s / %s: correlation %.3f, covariance %.3g", currencies.get(row).code(), currencies.get(column).code(),
+                matrix.correlation(row, column), matrix.covariance(row, column));
+    }
+
+    /**
+     * Paints the title, the labels and the cells of the matrix, laid out for the current size.
+     * @since       1.1
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2 = (Graphics2D) g.create();
+        try {
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g2.setColor(BACKGROUND_COLOR);
+            g2.fillRect(0, 0, getWidth(), getHeight());
+            g2.setFont(TITLE_FONT);
+            FontMetrics titleMetrics = g2.getFontMetrics();
+            g2.setColor(Color.BLACK);
+            g2.drawString(title, (getWidth() - titleMetrics.stringWidth(title)) / 2, PADDING + titleMetrics.getAscent());
+            g2.setFont(LABEL_FONT);
+            FontMetrics metrics = g2.getFontMetrics();
+            int labelWidth = 0;
+            for (Currency currency : currencies) labelWidth = Math.max(labelWidth, metrics.stringWidth(currency.code()));
+            int left = PADDING + labelWidth + PADDING / 2;
+            int top = 2 * PADDING + titleMetrics.getHeight() + metrics.getHeight();
+            int n = Math.max(matrix.size(), 1);
+            cell = Math.max(Math.min(getWidth() - left - PADDING, getHeight() - top - PADDING) / n, 1);
+            grid = new Rectangle(left + (getWidth() - left - PADDING - cell * n) / 2, top, cell * n, cell * n);
+            drawLabels(g2, metrics);
+            drawCells(g2);
+        } finally {
+            g2.dispose();
+        }
+    }
+
+    /**
+     * Draws the codes of the currencies left of the rows and above the columns, skipping column
+     * labels where the cells are narrower than a code.
+     * @since       1.1
+     */
+    private void drawLabels(Graphics2D g, FontMetrics metrics) {
+        g.setColor(Color.BLACK);
+        int step = Math.max((metrics.stringWidth("MMM") + cell - 1) / cell, 1);
+        for (int i = 0; i < matrix.size(); i++) {
+            String code = currencies.get(i).code();
+            int middle = i * cell + cell / 2;
+            g.drawString(code, grid.x - PADDING / 2 - metrics.stringWidth(code), grid.y + middle + metrics.getAscent() / 2);
+            if (i % step == 0) g.drawString(code, grid.x + middle - metrics.stringWidth(code) / 2, grid.y - metrics.getDescent() - 2);
+        }
+    }
+
+    /**
+     * Fills the cells with the colour of their correlation, and writes it in those wide enough.
+     * @since       1.1
+     */
+    private void drawCells(Graphics2D g) {
+        g.setFont(CELL_FONT);
+        FontMetrics metrics = g.getFontMetrics();
+        for (int i = 0; i < matrix.size(); i++) {
+            for (int j = 0; j < matrix.size(); j++) {
+                double correlation = matrix.correlation(i, j);
+                int x = grid.x + j * cell, y = grid.y + i * cell;
+                g.setColor(colorOf(correlation));
+                g.fillRect(x, y, cell, cell);
+                if (cell < VALUE_CELL || Double.isNaN(correlation)) continue;
+                String value = String.format("%.2f", correlation);
+                g.setColor(Math.abs(correlation) > 0.6 ? Color.WHITE : Color.BLACK);
+                g.drawString(value, x + (cell - metrics.stringWidth(value)) / 2, y + (cell + metrics.getAscent()) / 2 - 1);
+            }
+        }
+        g.setColor(Color.DARK_GRAY);
+        g.draw(grid);
+    }
+
+    /**
+     * Returns the colour of a correlation: white at 0, fading into red towards 1 and into blue towards -1.
+     * @since       1.1
+     */
+    private static Color colorOf(double correlation) {
+        if (Double.isNaN(correlation)) return MISSING_COLOR;
+        Color end = correlation >= 0 ? POSITIVE_COLOR : NEGATIVE_COLOR;
+        double weight = Math.min(Math.abs(correlation), 1);
+        return new Color(
+                (int) Math.round(255 + (end.getRed() - 255) * weight),
+                (int) Math.round(255 + (end.getGreen() - 255) * weight),
+                (int) Math.round(255 + (end.getBlue() - 255) * weight));
+    }
+}
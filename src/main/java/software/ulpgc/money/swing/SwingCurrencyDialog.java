@@ -5,7 +5,10 @@ import software.ulpgc.money.architecture.view.CurrencyDialog;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.ItemEvent;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * The {@code SwingCurrencyDialog} class is a Swing-based implementation of the
@@ -32,6 +35,8 @@ import java.util.List;
 public class SwingCurrencyDialog extends JPanel implements software.ulpgc.money.architecture.view.CurrencyDialog {
     /**The dropdown menu for selecting a currency.*/
     private JComboBox<Currency> currencyComboBox;
+    /**Listeners notified when the selected currency changes.*/
+    private final List<Consumer<Currency>> selectionListeners = new ArrayList<>();
 
     /**
      * Constructs a {@code SwingCurrencyDialog} instance with a default layout and background color.
@@ -65,6 +70,10 @@ public class SwingCurrencyDialog extends JPanel implements software.ulpgc.money.
     private Component createCurrencyComboBox(List<Currency> currencies) {
         JComboBox<Currency> selector = new JComboBox<>();
         for (Currency currency : currencies) selector.addItem(currency);
+        selector.addItemListener(e -> {
+            if (e.getStateChange() == ItemEvent.SELECTED)
+                selectionListeners.forEach(listener -> listener.accept((Currency) e.getItem()));
+        });
         this.currencyComboBox = selector;
         return selector;
     }
@@ -101,4 +110,16 @@ public class SwingCurrencyDialog extends JPanel implements software.ulpgc.money.
     public int getSelectedIndex() {
         return currencyComboBox.getSelectedIndex();
     }
+
+    /**
+     * Registers a listener notified whenever a different currency is selected in the dropdown menu,
+     * either by the user or programmatically.
+     *
+     * @param listener the listener receiving the newly selected {@link Currency}.
+     * @since       1.1
+     */
+    @Override
+    public void addSelectionListener(Consumer<Currency> listener) {
+        selectionListeners.add(listener);
+    }
 }
@@ -0,0 +1,93 @@
+package software.ulpgc.money.swing;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.util.List;
+
+/**
+ * The {@code SwingDiagnosticsDialog} class is a non-modal window listing the call sites that
+ * blocked the Event Dispatch Thread, as detected by an {@link EdtWatchdog}.
+ *
+ * <p>Each row shows a call site with its number of stalls, total and longest stall time.
+ * Selecting a row shows the stack captured during its longest stall.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class SwingDiagnosticsDialog extends JDialog {
+    private static final String[] COLUMNS = {"Call site", "Stalls", "Total (ms)", "Max (ms)"};
+    private final EdtWatchdog watchdog;
+    private final DefaultTableModel model;
+    private final JTextArea stackArea;
+    private List<EdtWatchdog.Offender> offenders;
+
+    /**
+     * Constructs a new {@code SwingDiagnosticsDialog}.
+     *
+     * @param owner the frame owning the dialog.
+     * @param watchdog the watchdog whose offenders are listed.
+     * @since       1.1
+     */
+    public SwingDiagnosticsDialog(Frame owner, EdtWatchdog watchdog) {
+        super(owner, "EDT diagnostics (threshold " + watchdog.thresholdMillis() + " ms)", false);
+        this.watchdog = watchdog;
+        this.model = new DefaultTableModel(COLUMNS, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        this.stackArea = new JTextArea(12, 80);
+        stackArea.setEditable(false);
+        setLayout(new BorderLayout());
+        add(new JSplitPane(JSplitPane.VERTICAL_SPLIT, new JScrollPane(createTable()), new JScrollPane(stackArea)), BorderLayout.CENTER);
+        add(createRefreshButton(), BorderLayout.SOUTH);
+        setSize(900, 500);
+        setLocationRelativeTo(owner);
+        refresh();
+    }
+
+    /**
+     * Creates the table of offenders, showing the worst stack of the selected one.
+     *
+     * @return the table.
+     * @since       1.1
+     */
+    private JTable createTable() {
+        JTable table = new JTable(model);
+        table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        table.getSelectionModel().addListSelectionListener(e -> {
+            int row = table.getSelectedRow();
+            if (e.getValueIsAdjusting() || row < 0 || row >= offenders.size()) return;
+            stackArea.setText(EdtWatchdog.format(offenders.get(row).worstStack()));
+            stackArea.setCaretPosition(0);
+        });
+        return table;
+    }
+
+    /**
+     * Creates the button reloading the offenders from the watchdog.
+     *
+     * @return the button.
+     * @since       1.1
+     */
+    private Component createRefreshButton() {
+        JButton button = new JButton("Refresh");
+        button.addActionListener(_ -> refresh());
+        return button;
+    }
+
+    /**
+     * Reloads the offenders from the watchdog.
+     * @since       1.1
+     */
+    private void refresh() {
+        offenders = watchdog.offenders();
+        model.setRowCount(0);
+        for (EdtWatchdog.Offender offender : offenders)
+            model.addRow(new Object[]{offender.callSite(), offender.count(), offender.totalNanos() / 1_000_000, offender.maxNanos() / 1_000_000});
+        stackArea.setText("");
+    }
+}
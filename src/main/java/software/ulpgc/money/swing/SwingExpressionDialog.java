@@ -0,0 +1,53 @@
+package software.ulpgc.money.swing;
+
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.view.ExpressionDialog;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * The {@code SwingExpressionDialog} class is a Swing-based implementation of the
+ * {@link ExpressionDialog} interface. It asks the user, in a modal option pane, for the
+ * expression of a derived series, starting from the last one entered.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class SwingExpressionDialog implements ExpressionDialog {
+    private static final String HINT = "<html>Currency codes, numbers, + - * / ^, parentheses and ln, exp, abs, sqrt.<br>"
+            + "e.g. <tt>0.4*USD + 0.6*GBP</tt>, <tt>USD - CHF</tt> or <tt>ln(GBP / USD)</tt></html>";
+    private final Component parent;
+    private final JTextField expressionField;
+
+    /**
+     * Constructs a new {@code SwingExpressionDialog}, with a basket as the first expression.
+     *
+     * @param parent the component the option pane is centred on.
+     * @since       1.1
+     */
+    public SwingExpressionDialog(Component parent) {
+        this.parent = parent;
+        this.expressionField = new JTextField("0.4*USD + 0.6*GBP", 30);
+    }
+
+    /**
+     * Shows the dialog and returns the expression entered by the user, which is offered again
+     * the next time.
+     *
+     * @param from the currency the rates of the expression are quoted from.
+     * @return the text of the expression, or {@code null} if the user cancelled the dialog or left it blank.
+     * @since       1.1
+     */
+    @Override
+    public String get(Currency from) {
+        JPanel pane = new JPanel(new BorderLayout(0, 5));
+        pane.add(new JLabel("Derive a series from the rates from " + from.code() + ":"), BorderLayout.NORTH);
+        pane.add(expressionField, BorderLayout.CENTER);
+        pane.add(new JLabel(HINT), BorderLayout.SOUTH);
+        int option = JOptionPane.showConfirmDialog(parent, pane, "Derive a series", JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
+        String text = expressionField.getText();
+        return option == JOptionPane.OK_OPTION && !text.isBlank() ? text : null;
+    }
+}
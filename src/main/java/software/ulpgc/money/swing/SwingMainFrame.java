@@ -1,14 +1,25 @@
 package software.ulpgc.money.swing;
 
 import software.ulpgc.money.architecture.control.Command;
+import software.ulpgc.money.architecture.view.AlertDialog;
+import software.ulpgc.money.architecture.view.ComparisonDialog;
 import software.ulpgc.money.architecture.view.ContentDisplay;
+import software.ulpgc.money.architecture.view.ConversionTableDisplay;
+import software.ulpgc.money.architecture.view.CorrelationDialog;
+import software.ulpgc.money.architecture.view.CorrelationDisplay;
 import software.ulpgc.money.architecture.view.CurrencyDialog;
+import software.ulpgc.money.architecture.view.ExpressionDialog;
 import software.ulpgc.money.architecture.view.MoneyDialog;
 import software.ulpgc.money.architecture.view.MoneyDisplay;
+import software.ulpgc.money.architecture.view.PortfolioDisplay;
 import software.ulpgc.money.jfree.CenterContentDisplay;
+import software.ulpgc.money.tile.RateTileLoader;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -31,6 +42,8 @@ import java.util.Map;
  * rates, swapping currencies, and displaying information), which are stored in a command map
  * and triggered by the corresponding buttons.
  *
+ * <p>The "show diagnostics" command, when registered, is bound to {@code Ctrl+Shift+D}.
+ *
  * <h2>Constructor:</h2>
  * <p>The constructor initializes the main frame, sets its layout, and adds the various panels.
  *
@@ -46,6 +59,14 @@ public class SwingMainFrame extends JFrame {
     private MoneyDialog moneyDialog;
     private CurrencyDialog currencyDialog;
     private ContentDisplay contentDisplay;
+    private CenterContentDisplay centerContentDisplay;
+    private ConversionTableDisplay conversionTableDisplay;
+    private final ComparisonDialog comparisonDialog;
+    private CorrelationDisplay correlationDisplay;
+    private PortfolioDisplay portfolioDisplay;
+    private final CorrelationDialog correlationDialog;
+    private final AlertDialog alertDialog;
+    private final ExpressionDialog expressionDialog;
     // Color constants for styling.
     public static final Color HEADER_COLOR = new Color(0xF79C0E);
     public static final Color BODY_COLOR = new Color(27, 25, 25,255);
@@ -61,6 +82,10 @@ public class SwingMainFrame extends JFrame {
      */
     public SwingMainFrame() throws HeadlessException {
         this.commands = new HashMap<>();
+        this.comparisonDialog = new SwingComparisonDialog(this);
+        this.correlationDialog = new SwingCorrelationDialog(this);
+        this.alertDialog = new SwingAlertDialog(this);
+        this.expressionDialog = new SwingExpressionDialog(this);
         setTitle("Money Calculator App");
         setSize(1000, 650);
         setLocationRelativeTo(null);
@@ -71,6 +96,23 @@ public class SwingMainFrame extends JFrame {
         add(createGraphPane(), BorderLayout.CENTER);
         add(createMoneyDisplayPane(), BorderLayout.EAST);
         add(createBottomPane(), BorderLayout.SOUTH);
+        bindDiagnosticsKey();
+    }
+
+    /**
+     * Binds {@code Ctrl+Shift+D} to the "show diagnostics" command, if it is registered.
+     * @since       1.1
+     */
+    private void bindDiagnosticsKey() {
+        KeyStroke key = KeyStroke.getKeyStroke(KeyEvent.VK_D, InputEvent.CTRL_DOWN_MASK | InputEvent.SHIFT_DOWN_MASK);
+        getRootPane().getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW).put(key, "show diagnostics");
+        getRootPane().getActionMap().put("show diagnostics", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                Command command = commands.get("show diagnostics");
+                if (command != null) command.execute();
+            }
+        });
     }
 
     /**
@@ -134,9 +176,74 @@ public class SwingMainFrame extends JFrame {
      */
     public ContentDisplay contentDisplay() {return contentDisplay;}
 
+    /**
+     * Sets the tiles of the histories explored on the rate charts, by zooming and panning beyond
+     * the series displayed.
+     *
+     * @param tiles the loader of the tiles of the histories
+     * @since       1.1
+     */
+    public void setTiles(RateTileLoader tiles) {centerContentDisplay.setTiles(tiles);}
+
+    /**
+     * Returns the display of conversions into many currencies.
+     *
+     * @return the conversion table display component
+     * @since       1.1
+     */
+    public ConversionTableDisplay conversionTableDisplay() {return conversionTableDisplay;}
+
+    /**
+     * Returns the dialog for choosing the currencies to compare.
+     *
+     * @return the comparison dialog component
+     * @since       1.1
+     */
+    public ComparisonDialog comparisonDialog() {return comparisonDialog;}
+
+    /**
+     * Returns the display of the correlations between currencies.
+     *
+     * @return the correlation display component
+     * @since       1.1
+     */
+    public CorrelationDisplay correlationDisplay() {return correlationDisplay;}
+
+    /**
+     * Returns the dialog for choosing the window of a correlation.
+     *
+     * @return the correlation dialog component
+     * @since       1.1
+     */
+    public CorrelationDialog correlationDialog() {return correlationDialog;}
+
+    /**
+     * Returns the dialog for choosing the level of a rate alert.
+     *
+     * @return the alert dialog component
+     * @since       1.1
+     */
+    public AlertDialog alertDialog() {return alertDialog;}
+
+    /**
+     * Returns the dialog for writing the expression of a derived series.
+     *
+     * @return the expression dialog component
+     * @since       1.1
+     */
+    public ExpressionDialog expressionDialog() {return expressionDialog;}
+
+    /**
+     * Returns the display of the value of the portfolio.
+     *
+     * @return the portfolio display component
+     * @since       1.1
+     */
+    public PortfolioDisplay portfolioDisplay() {return portfolioDisplay;}
+
     /**
      * Creates the tool panel, which contains buttons for calculating exchange rates,
-     * swapping currencies, and a button for showing information.
+     * converting into all currencies, comparing and correlating currencies, deriving series, valuing the portfolio, setting rate alerts, swapping currencies, and a button for showing information.
      *
      * @return the tool panel
      * @since       1.0
@@ -151,6 +258,30 @@ public class SwingMainFrame extends JFrame {
         JButton calculateButton = new JButton("Calculate");
         calculateButton.addActionListener(_ -> commands.get("exchange money").execute());
 
+        // Creates the 'All' button, converting into every currency, with Command Action Listener.
+        JButton allButton = new JButton("All");
+        allButton.addActionListener(_ -> commands.get("exchange all").execute());
+
+        // Creates the 'Compare' button, charting several currencies, with Command Action Listener.
+        JButton compareButton = new JButton("Compare");
+        compareButton.addActionListener(_ -> commands.get("compare").execute());
+
+        // Creates the 'Correlate' button, showing the correlations of every currency, with Command Action Listener.
+        JButton correlateButton = new JButton("Correlate");
+        correlateButton.addActionListener(_ -> commands.get("correlate").execute());
+
+        // Creates the 'Derive' button, charting a series derived from several currencies, with Command Action Listener.
+        JButton deriveButton = new JButton("Derive");
+        deriveButton.addActionListener(_ -> commands.get("derive").execute());
+
+        // Creates the 'Portfolio' button, valuing the positions in the target currency, with Command Action Listener.
+        JButton portfolioButton = new JButton("Portfolio");
+        portfolioButton.addActionListener(_ -> commands.get("portfolio").execute());
+
+        // Creates the 'Alert' button, watching the rate of the selected pair, with Command Action Listener.
+        JButton alertButton = new JButton("Alert");
+        alertButton.addActionListener(_ -> commands.get("set alert").execute());
+
         // Creates the swap currencies icon with Command Action Listener.
         ImageIcon swapIcon = new ImageIcon("src/main/resources/swap.png", "Swap");
         JButton swapButton = new JButton(swapIcon);
@@ -175,6 +306,12 @@ public class SwingMainFrame extends JFrame {
         toolPane.add(toLabel);
         toolPane.add(createCurrencyDialog());
         toolPane.add(calculateButton);
+        toolPane.add(allButton);
+        toolPane.add(compareButton);
+        toolPane.add(correlateButton);
+        toolPane.add(deriveButton);
+        toolPane.add(portfolioButton);
+        toolPane.add(alertButton);
         toolPane.add(readMePane);
         return toolPane;
     }
@@ -216,7 +353,11 @@ public class SwingMainFrame extends JFrame {
      */
     private Component createGraphPane() {
         CenterContentDisplay display = new CenterContentDisplay();
+        centerContentDisplay = display;
         contentDisplay = display;
+        conversionTableDisplay = display;
+        correlationDisplay = display;
+        portfolioDisplay = display;
         return display;
     }
 
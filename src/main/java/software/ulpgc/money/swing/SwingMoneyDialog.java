@@ -6,8 +6,11 @@ import software.ulpgc.money.architecture.view.CurrencyDialog;
 import software.ulpgc.money.architecture.view.MoneyDialog;
 
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.*;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * {@code SwingMoneyDialog} is a GUI component that implements the {@link MoneyDialog} interface.
@@ -26,6 +29,8 @@ import java.util.List;
  *   <li>Displaying the necessary UI components for the user to input data.</li>
  *   <li>Providing methods to retrieve the entered amount and selected currency.</li>
  *   <li>Converting the amount entered into a valid {@link Money} object.</li>
+ *   <li>Notifying the amount listeners while the user types, once per pause of
+ *       {@value #AMOUNT_DEBOUNCE_MILLIS} milliseconds.</li>
  * </ul>
  *
  * @author      Vít Mikula
@@ -33,6 +38,9 @@ import java.util.List;
  * @since       1.0
  */
 public class SwingMoneyDialog extends JPanel implements MoneyDialog {
+    // Delay without changes after which the amount listeners are notified.
+    static final int AMOUNT_DEBOUNCE_MILLIS = 40;
+    private final Timer amountDebounce;
     private JTextField amountField;
     private CurrencyDialog fromCurrencyDialog;
 
@@ -42,6 +50,8 @@ public class SwingMoneyDialog extends JPanel implements MoneyDialog {
     public SwingMoneyDialog() {
         this.setLayout(new FlowLayout());
         setBackground(SwingMainFrame.HEADER_COLOR);
+        this.amountDebounce = new Timer(AMOUNT_DEBOUNCE_MILLIS, null);
+        amountDebounce.setRepeats(false);
     }
 
     /**
@@ -91,6 +101,21 @@ public class SwingMoneyDialog extends JPanel implements MoneyDialog {
     private Component createAmountField() {
         JTextField textField = new JTextField();
         textField.setColumns(5);
+        textField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                amountDebounce.restart();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                amountDebounce.restart();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+            }
+        });
         this.amountField = textField;
         return textField;
     }
@@ -145,4 +170,27 @@ public class SwingMoneyDialog extends JPanel implements MoneyDialog {
     public int getSelectedIndex() {
         return fromCurrencyDialog.getSelectedIndex();
     }
+
+    /**
+     * Registers a listener notified whenever a different source currency is selected.
+     *
+     * @param listener the listener receiving the newly selected {@link Currency}.
+     * @since 1.1
+     */
+    @Override
+    public void addSelectionListener(Consumer<Currency> listener) {
+        fromCurrencyDialog.addSelectionListener(listener);
+    }
+
+    /**
+     * Registers a listener notified, on the Event Dispatch Thread, once the user has stopped
+     * changing the amount for {@value #AMOUNT_DEBOUNCE_MILLIS} milliseconds.
+     *
+     * @param listener the listener receiving the newly entered {@link Money}.
+     * @since 1.1
+     */
+    @Override
+    public void addAmountListener(Consumer<Money> listener) {
+        amountDebounce.addActionListener(_ -> listener.accept(get()));
+    }
 }
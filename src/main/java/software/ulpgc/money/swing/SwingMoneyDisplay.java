@@ -1,11 +1,12 @@
 package software.ulpgc.money.swing;
 
+import software.ulpgc.money.architecture.model.ExchangeRate;
 import software.ulpgc.money.architecture.model.Money;
+import software.ulpgc.money.architecture.model.RateAlert;
 import software.ulpgc.money.architecture.view.MoneyDisplay;
 
 import javax.swing.*;
 import java.awt.*;
-import java.time.LocalDate;
 import java.time.LocalTime;
 
 /**
@@ -20,13 +21,14 @@ import java.time.LocalTime;
  *   <li>A label to display the source currency and amount.</li>
  *   <li>A label to display the converted target currency and amount.</li>
  *   <li>A label to display the timestamp of the last data update.</li>
+ *   <li>A label to notify the last rate alert fired.</li>
  *   <li>An icon (ULPGC logo) displayed at the bottom of the panel.</li>
  * </ul>
  *
  * <h2>Key Features:</h2>
  * <ul>
- *   <li>Dynamic display of currency conversion results via the {@link #show(Money, Money)} method.</li>
- *   <li>Automatic determination and display of the last update timestamp based on business logic.</li>
+ *   <li>Dynamic display of currency conversion results via the {@link #show(Money, Money, String)} method.</li>
+ *   <li>Display of the last update timestamp taken from the date of the exchange rate used.</li>
  *   <li>Custom styling for fonts, colors, and layout to maintain a consistent application theme.</li>
  * </ul>
  *
@@ -42,6 +44,8 @@ public class SwingMoneyDisplay extends JPanel implements MoneyDisplay {
     private JLabel fromMoneyLabel;
     private JLabel resultMoneyLabel;
     private JLabel timestampLabel;
+    private JLabel alertLabel;
+    private static final Color ALERT_COLOR = new Color(0xD7301F);
     private static final Icon ulpgcIcon = new ImageIcon("src/main/resources/ulpgc.png");
 
     /**
@@ -65,20 +69,24 @@ public class SwingMoneyDisplay extends JPanel implements MoneyDisplay {
      * @since       1.0
      */
     private Component createLabelPane() {
-        JPanel labelPane = new JPanel(new GridLayout(3, 1));
+        JPanel labelPane = new JPanel(new GridLayout(4, 1));
         labelPane.setBackground(SwingMainFrame.BODY_COLOR);
         this.fromMoneyLabel = new JLabel();
         this.resultMoneyLabel = new JLabel();
         this.timestampLabel = new JLabel();
+        this.alertLabel = new JLabel();
         fromMoneyLabel.setFont(new Font("Verdana", Font.BOLD, 20));
         fromMoneyLabel.setForeground(SwingMainFrame.BODY_FONT_COLOR);
         resultMoneyLabel.setFont(new Font("Verdana", Font.BOLD, 30));
         resultMoneyLabel.setForeground(SwingMainFrame.BODY_FONT_COLOR);
         timestampLabel.setFont(new Font("Verdana", Font.BOLD, 12));
         timestampLabel.setForeground(SwingMainFrame.BODY_FONT_COLOR);
+        alertLabel.setFont(new Font("Verdana", Font.BOLD, 12));
+        alertLabel.setForeground(ALERT_COLOR);
         labelPane.add(fromMoneyLabel);
         labelPane.add(resultMoneyLabel);
         labelPane.add(timestampLabel);
+        labelPane.add(alertLabel);
         return labelPane;
     }
 
@@ -87,39 +95,38 @@ public class SwingMoneyDisplay extends JPanel implements MoneyDisplay {
      *
      * @param from the source {@code Money} object, representing the original amount and currency.
      * @param to   the target {@code Money} object, representing the converted amount and currency.
+     * @param date the date of the exchange rate used for the conversion.
      * @since       1.0
      */
 
     @Override
-    public void show(Money from, Money to) {
+    public void show(Money from, Money to, String date) {
         fromMoneyLabel.setText(from.amount() + " " + from.currency().code() + " =");
         resultMoneyLabel.setText(to.amount() + " " + to.currency().code());
-        setLastUpdateWithCondition();
+        setLastUpdate(date);
     }
 
     /**
-     * Sets the last update timestamp based on the current time.
-     * If the current time is before 16:00, the timestamp is set to the previous day's date.
-     * Otherwise, it is set to the current date.
-     * @since       1.0
+     * Shows the last rate alert fired below the conversion, with the rate that reached it.
+     *
+     * @param alert the fired alert.
+     * @param rate the exchange rate that reached the level of the alert.
+     * @since       1.1
      */
-    private void setLastUpdateWithCondition() {
-        LocalDate currentDate = LocalDate.now();
-        if (LocalTime.now().isBefore(LocalTime.of(16, 0))) {
-            LocalDate previousDate = currentDate.minusDays(1);
-            setLastUpdate(previousDate);
-        } else {
-            setLastUpdate(currentDate);
-        }
+    @Override
+    public void showAlert(RateAlert alert, ExchangeRate rate) {
+        alertLabel.setText(String.format("Alert: %s %s %s (%s on %s)", alert.pair().key(),
+                alert.direction() == RateAlert.Direction.ABOVE ? "rose to" : "fell to", alert.threshold(), rate.rate(), rate.date()));
     }
 
     /**
-     * Updates the timestamp label to display the last update date and a fixed time of 16:00.
+     * Updates the timestamp label to display the last update date and the fixed time of 16:00
+     * at which the ECB publishes its reference rates.
      *
-     * @param date the {@code LocalDate} representing the date of the last update.
+     * @param date the date of the exchange rate, as published.
      * @since       1.0
      */
-    private void setLastUpdate(LocalDate date) {
+    private void setLastUpdate(String date) {
         timestampLabel.setText("Last update: " + date + ", " + LocalTime.of(16, 0));
     }
 
@@ -0,0 +1,122 @@
+package software.ulpgc.money.swing;
+
+import software.ulpgc.money.architecture.model.PortfolioValue;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.util.Arrays;
+
+/**
+ * The {@code SwingPortfolioTable} class is a Swing panel that shows the value of a portfolio, one
+ * row per currency held, in a table that can be sorted by any column, below its total value.
+ *
+ * <p>The table model reads directly from the primitive arrays of the value, like
+ * {@link SwingConversionTable}.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class SwingPortfolioTable extends JPanel {
+
+    /**
+     * Constructs a new {@code SwingPortfolioTable} showing the given value.
+     *
+     * @param value the value of the portfolio.
+     * @since       1.1
+     */
+    public SwingPortfolioTable(PortfolioValue value) {
+        setLayout(new BorderLayout());
+        setBackground(SwingMainFrame.BODY_COLOR);
+        add(createTitle(value), BorderLayout.NORTH);
+        add(new JScrollPane(createTable(value)), BorderLayout.CENTER);
+    }
+
+    /**
+     * Creates the title of the table, with the number of positions, the total value and the date of the rates.
+     *
+     * @param value the value of the portfolio.
+     * @return the title label.
+     * @since       1.1
+     */
+    private Component createTitle(PortfolioValue value) {
+        String text = value.positions() == 0
+                ? "The portfolio is empty: list your positions as CODE,amount lines in positions.csv"
+                : Double.isNaN(value.total())
+                ? String.format("%d positions, not all of known value in %s on %s", value.positions(), value.reporting().code(), value.date())
+                : String.format("%d positions worth %,.2f %s on %s", value.positions(), value.total(), value.reporting().code(), value.date());
+        JLabel title = new JLabel(text, JLabel.CENTER);
+        title.setFont(new Font("Verdana", Font.BOLD, 16));
+        title.setForeground(SwingMainFrame.BODY_FONT_COLOR);
+        title.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        return title;
+    }
+
+    /**
+     * Creates the sortable table of holdings.
+     *
+     * @param value the value of the portfolio.
+     * @return the table.
+     * @since       1.1
+     */
+    private JTable createTable(PortfolioValue value) {
+        JTable table = new JTable(new PortfolioTableModel(value));
+        table.setAutoCreateRowSorter(true);
+        table.setFillsViewportHeight(true);
+        return table;
+    }
+
+    /**
+     * Table model exposing the currencies held: code, name, holding, value and weight in the total.
+     * Currencies not held are left out.
+     * @since       1.1
+     */
+    private static class PortfolioTableModel extends AbstractTableModel {
+        private final String[] columns;
+        private final PortfolioValue value;
+        private final int[] rows;
+
+        private PortfolioTableModel(PortfolioValue value) {
+            this.columns = new String[]{"Code", "Currency", "Holding", "Value (" + value.reporting().code() + ")", "Weight (%)"};
+            this.value = value;
+            int count = 0;
+            int[] rows = new int[value.holdings().length];
+            for (int i = 0; i < rows.length; i++)
+                if (value.holdings()[i] != 0) rows[count++] = i;
+            this.rows = Arrays.copyOf(rows, count);
+        }
+
+        @Override
+        public int getRowCount() {
+            return rows.length;
+        }
+
+        @Override
+        public int getColumnCount() {
+            return columns.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return columns[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            return column < 2 ? String.class : Double.class;
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            int currency = rows[row];
+            return switch (column) {
+                case 0 -> value.currencies().get(currency).code();
+                case 1 -> value.currencies().get(currency).name();
+                case 2 -> value.holdings()[currency];
+                case 3 -> value.values()[currency];
+                default -> value.values()[currency] / value.total() * 100;
+            };
+        }
+    }
+}
@@ -0,0 +1,847 @@
+package software.ulpgc.money.swing;
+
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.CurrencyPair;
+import software.ulpgc.money.architecture.model.Money;
+import software.ulpgc.money.architecture.model.TimeSeriesChart;
+import software.ulpgc.money.metrics.MetricsRegistry;
+import software.ulpgc.money.metrics.Timer;
+import software.ulpgc.money.tile.RateTile;
+import software.ulpgc.money.tile.RateTileLoader;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@code SwingRateChart} class is a Swing component drawing the history of one exchange rate
+ * as a line chart, specialised for being animated point by point and extended with new rates.
+ *
+ * <p>The chart is painted from two cached images. The static layer holds the background, the
+ * title, the axes, their labels and the gridlines, and is only drawn again when the size of the
+ * component or the range of the axes changes. The series layer holds the line, drawn as one
+ * {@link Path2D} straight from the primitive arrays of days and rates. When points are revealed
+ * or appended, only the new segment is drawn onto the series layer and only its bounds are
+ * repainted, so every animation frame costs the few new points rather than the whole chart.</p>
+ *
+ * <p>Segments drawn while the chart is animated are not antialiased; once the animation
+ * {@link #settle() settles}, the line is drawn again, whole and antialiased.</p>
+ *
+ * <p>Hovering over the plot shows a crosshair on the nearest point, with its date, its rate and
+ * the {@link #setAmount(Money, Currency) amount} converted at that rate. The nearest point is
+ * found by a binary search over the sorted days, and only the crosshair is repainted when it
+ * moves to another point, so hovering costs the same whatever the length of the series.</p>
+ *
+ * <p>Given a {@link #setTiles(RateTileLoader, CurrencyPair) tile loader}, the chart can also explore
+ * the whole history of the pair: the mouse wheel zooms around the pointer, dragging pans, and a
+ * double click goes back to the animated series. While exploring, the chart draws the
+ * {@link RateTile tiles} covering the view at the level where a bucket is about one pixel wide,
+ * so the points drawn stay a few per pixel whatever the span of the view. Tiles not loaded yet
+ * are replaced by the coarser ones in memory, and the view is drawn again as they arrive.</p>
+ *
+ * <p>Rebuilding the layers is measured in the {@code render.chart_layers} timer.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class SwingRateChart extends JComponent {
+    private static final Timer LAYERS_TIMER = MetricsRegistry.global().timer("render.chart_layers");
+    private static final Color BACKGROUND_COLOR = Color.LIGHT_GRAY;
+    private static final Color PLOT_COLOR = Color.WHITE;
+    private static final Color GRID_COLOR = new Color(0xDDDDDD);
+    private static final Color AXIS_COLOR = Color.DARK_GRAY;
+    private static final Color SERIES_COLOR = new Color(0xFF5555);
+    private static final Font TITLE_FONT = new Font("Verdana", Font.BOLD, 16);
+    private static final Font LABEL_FONT = new Font("Verdana", Font.PLAIN, 11);
+    private static final Color CROSSHAIR_COLOR = new Color(0x555555);
+    private static final Color TOOLTIP_COLOR = new Color(255, 255, 225, 235);
+    private static final Stroke CROSSHAIR_STROKE = new BasicStroke(1f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER, 10f, new float[]{3f, 3f}, 0f);
+    private static final DateTimeFormatter TOOLTIP_DATE = DateTimeFormatter.ofPattern("EEE d MMM yyyy");
+    private static final Stroke SERIES_STROKE = new BasicStroke(1.5f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_BEVEL);
+    // Free space around the plot, in pixels, and minimum distance between two ticks.
+    private static final int PADDING = 10;
+    private static final int X_TICK_SPACING = 90;
+    private static final int Y_TICK_SPACING = 40;
+    // Days left after the last point, as a fraction of the span, so that new rates fit the axis.
+    private static final int DAY_HEADROOM = 50;
+    // Narrowest view while exploring, in days, zoom factor of a wheel notch, and coarsest tile level.
+    private static final int MIN_VIEW_DAYS = 14;
+    private static final double ZOOM_STEP = 1.2;
+    private static final int MAX_LEVEL = 8;
+    private final TimeSeriesChart chart;
+    private int[] days;
+    private double[] rates;
+    private int size;
+    private int drawn;
+    private boolean animating;
+    private double firstDay;
+    private double lastDay;
+    private double minRate;
+    private double maxRate;
+    private Rectangle plot;
+    private BufferedImage staticLayer;
+    private BufferedImage seriesLayer;
+    private double scale;
+    private int hovered;
+    private Money amount;
+    private Currency target;
+    private RateTileLoader tiles;
+    private CurrencyPair pair;
+    private boolean exploring;
+    private int[] viewDays;
+    private double[] viewRates;
+    private int viewSize;
+    private int dragX;
+    private double dragFirstDay;
+
+    /**
+     * Constructs a new, empty {@code SwingRateChart}.
+     *
+     * @param chart the title and axis labels of the chart.
+     * @since       1.1
+     */
+    public SwingRateChart(TimeSeriesChart chart) {
+        this.chart = chart;
+        this.days = new int[0];
+        this.rates = new double[0];
+        this.viewDays = new int[0];
+        this.viewRates = new double[0];
+        this.hovered = -1;
+        setOpaque(true);
+        MouseAdapter mouse = new MouseAdapter() {
+            @Override
+            public void mouseMoved(MouseEvent e) {
+                hover(e.getX());
+            }
+
+            @Override
+            public void mouseExited(MouseEvent e) {
+                moveCrosshair(-1);
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                zoom(e.getX(), e.getPreciseWheelRotation());
+            }
+
+            @Override
+            public void mousePressed(MouseEvent e) {
+                dragX = e.getX();
+                dragFirstDay = firstDay;
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                pan(e.getX());
+            }
+
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2) leaveExploring();
+            }
+        };
+        addMouseListener(mouse);
+        addMouseMotionListener(mouse);
+        addMouseWheelListener(mouse);
+    }
+
+    /**
+     * Replaces the series of the chart. The points are hidden until they are {@link #reveal(int) revealed}.
+     * The axes are fitted to the whole series at once, so they do not move while it is revealed.
+     *
+     * @param days the days of the points as {@link LocalDate#toEpochDay() epoch days}, in ascending order.
+     * @param rates the rates of the points; {@link Double#NaN} leaves a gap in the line.
+     * @since       1.1
+     */
+    public void setSeries(int[] days, double[] rates) {
+        this.days = days;
+        this.rates = rates;
+        this.size = days.length;
+        this.drawn = 0;
+        this.hovered = -1;
+        this.exploring = false;
+        fitRange();
+        invalidateLayers();
+    }
+
+    /**
+     * Sets the loader of the tiles explored by zooming and panning, and the pair they are loaded for.
+     *
+     * @param tiles the loader of the tiles, or {@code null} to disable exploring.
+     * @param pair the currency pair of the chart.
+     * @since       1.1
+     */
+    public void setTiles(RateTileLoader tiles, CurrencyPair pair) {
+        this.tiles = tiles;
+        this.pair = pair;
+        leaveExploring();
+    }
+
+    /**
+     * Sets the money converted at the rate under the crosshair.
+     *
+     * @param amount the money to convert, in the source currency of the chart, or {@code null} to show no conversion.
+     * @param target the target currency of the chart.
+     * @since       1.1
+     */
+    public void setAmount(Money amount, Currency target) {
+        this.amount = amount;
+        this.target = target;
+        if (hovered >= 0) repaint(crosshairBounds(hovered));
+    }
+
+    /**
+     * Shows the first points of the series, drawing only the segment not shown yet.
+     *
+     * @param count the number of points shown.
+     * @since       1.1
+     */
+    public void reveal(int count) {
+        count = Math.min(count, size);
+        animating = true;
+        if (exploring) {
+            drawn = count;
+            return;
+        }
+        if (hovered >= count) moveCrosshair(-1);
+        if (count < drawn || seriesLayer == null) {
+            drawn = count;
+            redrawSeries();
+        } else if (count > drawn) {
+            int from = drawn;
+            drawn = count;
+            drawSegment(from, count);
+        }
+    }
+
+    /**
+     * Ends the animation: the points shown are drawn again, antialiased.
+     * @since       1.1
+     */
+    public void settle() {
+        if (!animating) return;
+        animating = false;
+        redrawSeries();
+    }
+
+    /**
+     * Appends a point to the series, or replaces the last one if it has the same day. Points
+     * older than the last one are ignored. The point is shown at once if the whole series is;
+     * the static layer is only drawn again if the point falls out of the axes. While exploring,
+     * the view is drawn again from the tiles, which are loaded again if the point changed them.
+     *
+     * @param day the day of the point as an epoch day.
+     * @param rate the rate of the point.
+     * @since       1.1
+     */
+    public void append(int day, double rate) {
+        if (size > 0 && day < days[size - 1]) return;
+        reloadView();
+        boolean shown = drawn == size;
+        if (size > 0 && day == days[size - 1]) {
+            rates[size - 1] = rate;
+            if (shown && !exploring) redrawSeries();
+            return;
+        }
+        if (size == days.length) {
+            days = Arrays.copyOf(days, Math.max(8, size + size / 2));
+            rates = Arrays.copyOf(rates, days.length);
+        }
+        days[size] = day;
+        rates[size++] = rate;
+        if (!shown) return;
+        drawn = size;
+        if (exploring) return;
+        if (size == 1 || day >= lastDay || rate < minRate || rate > maxRate) {
+            fitRange();
+            invalidateLayers();
+        } else {
+            drawSegment(size - 1, size);
+        }
+    }
+
+    /**
+     * Paints the cached layers, rebuilding them first if the size of the component changed.
+     * @since       1.1
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2 = (Graphics2D) g;
+        ensureLayers(g2.getTransform().getScaleX());
+        g2.drawImage(staticLayer, 0, 0, getWidth(), getHeight(), null);
+        g2.drawImage(seriesLayer, 0, 0, getWidth(), getHeight(), null);
+        if (hovered >= 0) drawCrosshair(g2, hovered);
+    }
+
+    /**
+     * Moves the crosshair to the point nearest to the given abscissa, or hides it outside the plot.
+     * @since       1.1
+     */
+    private void hover(int x) {
+        if (plot == null || points() == 0 || x < plot.x || x > plot.x + plot.width) {
+            moveCrosshair(-1);
+            return;
+        }
+        moveCrosshair(nearest(dayAt(x)));
+    }
+
+    /**
+     * Zooms the view in or out around the day under the given abscissa, starting to explore.
+     * @since       1.1
+     */
+    private void zoom(int x, double rotation) {
+        if (tiles == null || plot == null) return;
+        double anchor = dayAt(Math.clamp(x, plot.x, plot.x + plot.width));
+        double span = lastDay - firstDay;
+        double zoomed = span * Math.pow(ZOOM_STEP, rotation);
+        setView(anchor - (anchor - firstDay) * zoomed / span, zoomed);
+    }
+
+    /**
+     * Pans the view by the distance the pointer was dragged since it was pressed, starting to explore.
+     * @since       1.1
+     */
+    private void pan(int x) {
+        if (tiles == null || plot == null) return;
+        double span = lastDay - firstDay;
+        setView(dragFirstDay - (x - dragX) * span / plot.width, span);
+    }
+
+    /**
+     * Explores the given days, kept between the first day of the history and a few days after
+     * today, and draws them from the tiles in memory.
+     * @since       1.1
+     */
+    private void setView(double first, double span) {
+        double min = tiles.firstDay();
+        double max = tiles.lastDay() + Math.max((tiles.lastDay() - min) / DAY_HEADROOM, 3);
+        span = Math.clamp(span, MIN_VIEW_DAYS, max - min);
+        first = Math.clamp(first, min, max - span);
+        if (exploring && first == firstDay && first + span == lastDay) return;
+        exploring = true;
+        firstDay = first;
+        lastDay = first + span;
+        moveCrosshair(-1);
+        loadView();
+        invalidateLayers();
+    }
+
+    /**
+     * Goes back from exploring to the series, with the axes fitted to it.
+     * @since       1.1
+     */
+    private void leaveExploring() {
+        if (!exploring) return;
+        exploring = false;
+        hovered = -1;
+        fitRange();
+        invalidateLayers();
+    }
+
+    /**
+     * Draws the view again from the tiles, e.g. once a tile it waited for is loaded, unless the
+     * chart stopped exploring.
+     * @since       1.1
+     */
+    private void reloadView() {
+        if (!exploring) return;
+        moveCrosshair(-1);
+        loadView();
+        invalidateLayers();
+    }
+
+    /**
+     * Flattens the points of the tiles covering the view, and of one bucket on both sides, into
+     * the view arrays, then fits the rate axis to them. Tiles not in memory are loaded, and
+     * replaced meanwhile by the finest coarser tile in memory; the tiles beside the view and
+     * those of the level above are prefetched.
+     * @since       1.1
+     */
+    private void loadView() {
+        int level = level();
+        long bucket = 1L << level;
+        double from = firstDay - bucket, to = lastDay + bucket;
+        long first = RateTile.indexOf(level, from), last = RateTile.indexOf(level, to);
+        int capacity = (int) (last - first + 1) * RateTile.BUCKETS * RateTile.POINTS_PER_BUCKET;
+        if (viewDays.length < capacity) {
+            viewDays = new int[capacity];
+            viewRates = new double[capacity];
+        }
+        viewSize = 0;
+        for (long index = first; index <= last; index++) {
+            RateTile tile = tiles.tile(pair, level, index, this::reloadView);
+            for (int coarser = level + 1; tile == null && coarser <= MAX_LEVEL; coarser++)
+                tile = tiles.cached(pair, coarser, index >> (coarser - level));
+            if (tile == null) continue;
+            long start = RateTile.startDay(level, index);
+            viewSize = tile.copyPoints(Math.max(from, start), Math.min(to, start + RateTile.span(level) - 1), viewDays, viewRates, viewSize);
+        }
+        tiles.prefetch(pair, level, first - 1);
+        tiles.prefetch(pair, level, last + 1);
+        if (level < MAX_LEVEL)
+            for (long index = first >> 1; index <= last >> 1; index++) tiles.prefetch(pair, level + 1, index);
+        fitRates(viewDays, viewRates, viewSize, firstDay, lastDay);
+    }
+
+    /**
+     * Returns the level of the tiles drawn in the view: the finest at which a bucket covers at
+     * least the days of one pixel.
+     * @since       1.1
+     */
+    private int level() {
+        double daysPerPixel = (lastDay - firstDay) / Math.max(plot == null ? getWidth() : plot.width, 1);
+        return Math.clamp((int) Math.floor(Math.log(Math.max(daysPerPixel, 1)) / Math.log(2)), 0, MAX_LEVEL);
+    }
+
+    /**
+     * Returns the days of the points drawn: those of the view while exploring, else those of the series.
+     * @since       1.1
+     */
+    private int[] pointDays() {
+        return exploring ? viewDays : days;
+    }
+
+    /**
+     * Returns the rates of the points drawn: those of the view while exploring, else those of the series.
+     * @since       1.1
+     */
+    private double[] pointRates() {
+        return exploring ? viewRates : rates;
+    }
+
+    /**
+     * Returns the number of points drawn: those of the view while exploring, else those of the series shown.
+     * @since       1.1
+     */
+    private int points() {
+        return exploring ? viewSize : drawn;
+    }
+
+    /**
+     * Returns the day under an abscissa of the plot.
+     * @since       1.1
+     */
+    private double dayAt(int x) {
+        return firstDay + (x - plot.x) * (lastDay - firstDay) / plot.width;
+    }
+
+    /**
+     * Returns the index of the drawn point with a rate nearest to the given day, by binary search.
+     *
+     * @return the index of the point, or {@code -1} if no point drawn has a rate.
+     * @since       1.1
+     */
+    private int nearest(double day) {
+        int[] days = pointDays();
+        double[] rates = pointRates();
+        int count = points();
+        int index = Arrays.binarySearch(days, 0, count, (int) Math.round(day));
+        if (index < 0) {
+            int after = Math.min(-index - 1, count - 1);
+            int before = Math.max(after - 1, 0);
+            index = day - days[before] <= days[after] - day ? before : after;
+        }
+        if (!Double.isNaN(rates[index])) return index;
+        for (int distance = 1; index - distance >= 0 || index + distance < count; distance++) {
+            if (index - distance >= 0 && !Double.isNaN(rates[index - distance])) return index - distance;
+            if (index + distance < count && !Double.isNaN(rates[index + distance])) return index + distance;
+        }
+        return -1;
+    }
+
+    /**
+     * Moves the crosshair to the point of the given index, repainting only its old and new bounds.
+     * @since       1.1
+     */
+    private void moveCrosshair(int index) {
+        if (index == hovered) return;
+        if (hovered >= 0) repaint(crosshairBounds(hovered));
+        hovered = index;
+        if (hovered >= 0) repaint(crosshairBounds(hovered));
+    }
+
+    /**
+     * Draws the crosshair lines through a point, its marker and the tooltip describing it.
+     * @since       1.1
+     */
+    private void drawCrosshair(Graphics2D g, int index) {
+        Graphics2D crosshair = (Graphics2D) g.create();
+        try {
+            crosshair.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            crosshair.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            int x = (int) Math.round(xOf(pointDays()[index])), y = (int) Math.round(yOf(pointRates()[index]));
+            crosshair.setColor(CROSSHAIR_COLOR);
+            crosshair.setStroke(CROSSHAIR_STROKE);
+            crosshair.drawLine(x, plot.y, x, plot.y + plot.height);
+            crosshair.drawLine(plot.x, y, plot.x + plot.width, y);
+            crosshair.setColor(SERIES_COLOR);
+            crosshair.fillOval(x - 3, y - 3, 7, 7);
+            String[] lines = tooltipLines(index);
+            Rectangle box = tooltipBox(index, lines);
+            crosshair.setColor(TOOLTIP_COLOR);
+            crosshair.fillRect(box.x, box.y, box.width, box.height);
+            crosshair.setColor(AXIS_COLOR);
+            crosshair.drawRect(box.x, box.y, box.width, box.height);
+            crosshair.setFont(LABEL_FONT);
+            FontMetrics metrics = crosshair.getFontMetrics();
+            for (int i = 0; i < lines.length; i++)
+                crosshair.drawString(lines[i], box.x + PADDING / 2, box.y + PADDING / 2 + i * metrics.getHeight() + metrics.getAscent());
+        } finally {
+            crosshair.dispose();
+        }
+    }
+
+    /**
+     * Returns the lines of the tooltip of a point: its date, its rate and the converted amount.
+     * @since       1.1
+     */
+    private String[] tooltipLines(int index) {
+        String date = TOOLTIP_DATE.format(LocalDate.ofEpochDay(pointDays()[index]));
+        String rate = "Rate " + format(pointRates()[index]);
+        if (amount == null || target == null) return new String[]{date, rate};
+        String conversion = String.format("%.2f %s = %.2f %s", amount.amount(), amount.currency().code(), amount.amount() * pointRates()[index], target.code());
+        return new String[]{date, rate, conversion};
+    }
+
+    /**
+     * Returns the bounds of the tooltip of a point, beside the point and within the plot.
+     * @since       1.1
+     */
+    private Rectangle tooltipBox(int index, String[] lines) {
+        FontMetrics metrics = getFontMetrics(LABEL_FONT);
+        int width = 0;
+        for (String line : lines) width = Math.max(width, metrics.stringWidth(line));
+        width += PADDING;
+        int height = lines.length * metrics.getHeight() + PADDING;
+        int x = (int) Math.round(xOf(pointDays()[index])), y = (int) Math.round(yOf(pointRates()[index]));
+        int boxX = x + PADDING + width <= plot.x + plot.width ? x + PADDING : x - PADDING - width;
+        int boxY = y - PADDING - height >= plot.y ? y - PADDING - height : y + PADDING;
+        return new Rectangle(boxX, Math.min(boxY, plot.y + plot.height - height), width, height);
+    }
+
+    /**
+     * Returns the bounds of everything drawn by the crosshair of a point.
+     * @since       1.1
+     */
+    private Rectangle crosshairBounds(int index) {
+        int x = (int) Math.round(xOf(pointDays()[index])), y = (int) Math.round(yOf(pointRates()[index]));
+        Rectangle bounds = new Rectangle(x - 4, plot.y, 9, plot.height + 1);
+        bounds.add(new Rectangle(plot.x, y - 4, plot.width + 1, 9));
+        bounds.add(tooltipBox(index, tooltipLines(index)));
+        bounds.grow(1, 1);
+        return bounds;
+    }
+
+    /**
+     * Formats a rate with six significant digits at most.
+     * @since       1.1
+     */
+    private static String format(double rate) {
+        return new BigDecimal(rate).round(new MathContext(6)).stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * Fits the axes to the series, with a margin above and below the rates and a few days after
+     * the last one.
+     * @since       1.1
+     */
+    private void fitRange() {
+        int first = size > 0 ? days[0] : 0;
+        int last = size > 0 ? days[size - 1] : first;
+        firstDay = first;
+        lastDay = last + Math.max((last - first) / DAY_HEADROOM, 3);
+        fitRates(days, rates, size, firstDay, lastDay);
+    }
+
+    /**
+     * Fits the rate axis to the rates of the given points between two days, with a margin above and below them.
+     * @since       1.1
+     */
+    private void fitRates(int[] days, double[] rates, int count, double fromDay, double toDay) {
+        double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            if (Double.isNaN(rates[i]) || days[i] < fromDay || days[i] > toDay) continue;
+            min = Math.min(min, rates[i]);
+            max = Math.max(max, rates[i]);
+        }
+        if (min > max) {
+            min = 0;
+            max = 1;
+        }
+        double margin = max > min ? (max - min) * 0.05 : Math.max(Math.abs(max) * 0.01, 1e-6);
+        minRate = min - margin;
+        maxRate = max + margin;
+    }
+
+    /**
+     * Drops the cached layers, so that the next paint rebuilds them.
+     * @since       1.1
+     */
+    private void invalidateLayers() {
+        staticLayer = null;
+        seriesLayer = null;
+        repaint();
+    }
+
+    /**
+     * Rebuilds the layers if there are none or the size of the component changed.
+     *
+     * @param scale the scale of the device the component is painted on, e.g. 2 on a HiDPI screen.
+     * @since       1.1
+     */
+    private void ensureLayers(double scale) {
+        int width = Math.max((int) Math.ceil(getWidth() * scale), 1);
+        int height = Math.max((int) Math.ceil(getHeight() * scale), 1);
+        if (staticLayer != null && staticLayer.getWidth() == width && staticLayer.getHeight() == height) return;
+        long start = System.nanoTime();
+        this.scale = scale;
+        staticLayer = createImage(width, height, Transparency.OPAQUE);
+        seriesLayer = createImage(width, height, Transparency.TRANSLUCENT);
+        Graphics2D g = layerGraphics(staticLayer);
+        try {
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            drawStaticLayer(g);
+        } finally {
+            g.dispose();
+        }
+        redrawSeries();
+        LAYERS_TIMER.stop(start);
+    }
+
+    /**
+     * Creates an image compatible with the screen the component is shown on.
+     * @since       1.1
+     */
+    private BufferedImage createImage(int width, int height, int transparency) {
+        GraphicsConfiguration configuration = getGraphicsConfiguration();
+        if (configuration != null) return configuration.createCompatibleImage(width, height, transparency);
+        return new BufferedImage(width, height, transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+    }
+
+    /**
+     * Returns graphics drawing onto a layer in the coordinates of the component.
+     * @since       1.1
+     */
+    private Graphics2D layerGraphics(BufferedImage layer) {
+        Graphics2D g = layer.createGraphics();
+        g.transform(AffineTransform.getScaleInstance(scale, scale));
+        return g;
+    }
+
+    /**
+     * Draws the background, the title, the gridlines, the axes and their labels, and lays out the plot.
+     * @since       1.1
+     */
+    private void drawStaticLayer(Graphics2D g) {
+        g.setColor(BACKGROUND_COLOR);
+        g.fillRect(0, 0, getWidth(), getHeight());
+        g.setFont(TITLE_FONT);
+        FontMetrics titleMetrics = g.getFontMetrics();
+        g.setColor(Color.BLACK);
+        g.drawString(chart.title(), (getWidth() - titleMetrics.stringWidth(chart.title())) / 2, PADDING + titleMetrics.getAscent());
+        g.setFont(LABEL_FONT);
+        FontMetrics metrics = g.getFontMetrics();
+        int top = 2 * PADDING + titleMetrics.getHeight();
+        int bottom = getHeight() - PADDING - 2 * metrics.getHeight() - PADDING / 2;
+        double[] rateTicks = rateTicks(Math.max((bottom - top) / Y_TICK_SPACING, 2));
+        String[] rateLabels = rateLabels(rateTicks);
+        int labelWidth = 0;
+        for (String label : rateLabels) labelWidth = Math.max(labelWidth, metrics.stringWidth(label));
+        int left = PADDING + metrics.getHeight() + PADDING / 2 + labelWidth + PADDING / 2;
+        plot = new Rectangle(left, top, Math.max(getWidth() - left - 2 * PADDING, 1), Math.max(bottom - top, 1));
+        g.setColor(PLOT_COLOR);
+        g.fill(plot);
+        for (int i = 0; i < rateTicks.length; i++) {
+            int y = (int) Math.round(yOf(rateTicks[i]));
+            g.setColor(GRID_COLOR);
+            g.drawLine(plot.x, y, plot.x + plot.width, y);
+            g.setColor(AXIS_COLOR);
+            g.drawString(rateLabels[i], plot.x - PADDING / 2 - metrics.stringWidth(rateLabels[i]), y + metrics.getAscent() / 2);
+        }
+        if (size > 0 || exploring) drawDayTicks(g, metrics);
+        g.setColor(AXIS_COLOR);
+        g.draw(plot);
+        g.drawString(chart.xAxisLabel(), plot.x + (plot.width - metrics.stringWidth(chart.xAxisLabel())) / 2, getHeight() - PADDING - metrics.getDescent());
+        AffineTransform transform = g.getTransform();
+        g.rotate(-Math.PI / 2);
+        g.drawString(chart.yAxisLabel(), -(plot.y + (plot.height + metrics.stringWidth(chart.yAxisLabel())) / 2), PADDING + metrics.getAscent());
+        g.setTransform(transform);
+    }
+
+    /**
+     * Draws the gridlines and the labels of the time axis, on calendar boundaries: years,
+     * months or days depending on the span of the series.
+     * @since       1.1
+     */
+    private void drawDayTicks(Graphics2D g, FontMetrics metrics) {
+        double daysPerTick = (lastDay - firstDay) / Math.max(plot.width / (double) X_TICK_SPACING, 1);
+        List<LocalDate> ticks = new ArrayList<>();
+        DateTimeFormatter format;
+        LocalDate first = LocalDate.ofEpochDay((long) Math.ceil(firstDay));
+        if (daysPerTick >= 300) {
+            int step = niceCount(daysPerTick / 365, 1, 2, 5, 10, 25);
+            for (LocalDate tick = LocalDate.of(ceil(first.getYear() + (first.getDayOfYear() > 1 ? 1 : 0), step), 1, 1); tick.toEpochDay() <= lastDay; tick = tick.plusYears(step))
+                ticks.add(tick);
+            format = DateTimeFormatter.ofPattern("yyyy");
+        } else if (daysPerTick >= 25) {
+            int step = niceCount(daysPerTick / 30, 1, 2, 3, 6);
+            int month = ceil(first.getYear() * 12 + first.getMonthValue() - 1 + (first.getDayOfMonth() > 1 ? 1 : 0), step);
+            for (LocalDate tick = LocalDate.of(month / 12, month % 12 + 1, 1); tick.toEpochDay() <= lastDay; tick = tick.plusMonths(step))
+                ticks.add(tick);
+            format = DateTimeFormatter.ofPattern("MMM yyyy");
+        } else {
+            int step = niceCount(daysPerTick, 1, 2, 7, 14);
+            for (long day = ceil((long) Math.ceil(firstDay), step); day <= lastDay; day += step)
+                ticks.add(LocalDate.ofEpochDay(day));
+            format = DateTimeFormatter.ofPattern("d MMM");
+        }
+        int labelY = plot.y + plot.height + PADDING / 2 + metrics.getAscent();
+        for (LocalDate tick : ticks) {
+            int x = (int) Math.round(xOf(tick.toEpochDay()));
+            g.setColor(GRID_COLOR);
+            g.drawLine(x, plot.y, x, plot.y + plot.height);
+            g.setColor(AXIS_COLOR);
+            String label = format.format(tick);
+            g.drawString(label, x - metrics.stringWidth(label) / 2, labelY);
+        }
+    }
+
+    /**
+     * Returns the gridline rates of the rate axis, on round values.
+     * @since       1.1
+     */
+    private double[] rateTicks(int count) {
+        double step = niceStep((maxRate - minRate) / count);
+        double first = Math.ceil(minRate / step) * step;
+        int n = (int) Math.floor((maxRate - first) / step) + 1;
+        double[] ticks = new double[Math.max(n, 0)];
+        for (int i = 0; i < ticks.length; i++) ticks[i] = first + i * step;
+        return ticks;
+    }
+
+    /**
+     * Formats the gridline rates with as many decimals as their step needs.
+     * @since       1.1
+     */
+    private static String[] rateLabels(double[] ticks) {
+        double step = ticks.length > 1 ? ticks[1] - ticks[0] : 1;
+        int decimals = Math.max(0, (int) -Math.floor(Math.log10(step) + 1e-9));
+        String[] labels = new String[ticks.length];
+        for (int i = 0; i < ticks.length; i++) labels[i] = String.format("%." + decimals + "f", ticks[i]);
+        return labels;
+    }
+
+    /**
+     * Draws the points shown onto a cleared series layer, antialiased unless the chart is animated.
+     * @since       1.1
+     */
+    private void redrawSeries() {
+        if (seriesLayer == null) {
+            repaint();
+            return;
+        }
+        Graphics2D g = seriesLayer.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect(0, 0, seriesLayer.getWidth(), seriesLayer.getHeight());
+        } finally {
+            g.dispose();
+        }
+        if (points() > 0) drawSegment(0, points());
+        repaint(plot);
+    }
+
+    /**
+     * Draws the line joining the points between two indices, and the segment joining it to the
+     * point before, then repaints the bounds of what was drawn.
+     * @since       1.1
+     */
+    private void drawSegment(int from, int to) {
+        if (seriesLayer == null) return;
+        Path2D path = path(Math.max(from - 1, 0), to);
+        Graphics2D g = layerGraphics(seriesLayer);
+        try {
+            g.clip(plot);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, animating ? RenderingHints.VALUE_ANTIALIAS_OFF : RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setStroke(SERIES_STROKE);
+            g.setColor(SERIES_COLOR);
+            g.draw(path);
+        } finally {
+            g.dispose();
+        }
+        Rectangle bounds = path.getBounds();
+        bounds.grow(2, 2);
+        repaint(bounds);
+    }
+
+    /**
+     * Builds the path joining the points between two indices, broken where a rate is missing.
+     * @since       1.1
+     */
+    private Path2D path(int from, int to) {
+        int[] days = pointDays();
+        double[] rates = pointRates();
+        Path2D.Double path = new Path2D.Double(Path2D.WIND_NON_ZERO, to - from);
+        boolean broken = true;
+        for (int i = from; i < to; i++) {
+            if (Double.isNaN(rates[i])) {
+                broken = true;
+                continue;
+            }
+            double x = xOf(days[i]), y = yOf(rates[i]);
+            if (broken) path.moveTo(x, y);
+            else path.lineTo(x, y);
+            broken = false;
+        }
+        return path;
+    }
+
+    private double xOf(long day) {
+        return plot.x + (day - firstDay) * plot.width / (lastDay - firstDay);
+    }
+
+    private double yOf(double rate) {
+        return plot.y + plot.height - (rate - minRate) * plot.height / (maxRate - minRate);
+    }
+
+    /**
+     * Rounds a step up to 1, 2 or 5 times a power of ten.
+     * @since       1.1
+     */
+    private static double niceStep(double raw) {
+        double magnitude = Math.pow(10, Math.floor(Math.log10(raw)));
+        double normalized = raw / magnitude;
+        return (normalized <= 1 ? 1 : normalized <= 2 ? 2 : normalized <= 5 ? 5 : 10) * magnitude;
+    }
+
+    /**
+     * Returns the first of the given counts not lower than a raw count, or the last one.
+     * @since       1.1
+     */
+    private static int niceCount(double raw, int... counts) {
+        for (int count : counts)
+            if (count >= raw) return count;
+        return counts[counts.length - 1];
+    }
+
+    /**
+     * Rounds a value up to a multiple of a step.
+     * @since       1.1
+     */
+    private static int ceil(long value, int step) {
+        return (int) (Math.ceilDiv(value, step) * step);
+    }
+}
@@ -0,0 +1,198 @@
+package software.ulpgc.money.tile;
+
+import java.util.Arrays;
+
+/**
+ * The {@code RateTile} class holds the rates of one pair over a fixed range of days, downsampled
+ * to a resolution, or level, at which every bucket of the tile covers {@code 2^level} days.
+ *
+ * <p>Tiles lie on a grid of epoch days: the tile of index {@code i} at level {@code l} starts at
+ * day {@code i * (BUCKETS << l)}, so the tiles covering any range are found by arithmetic alone,
+ * and the tile of a level covers the same days as two tiles of the level below.</p>
+ *
+ * <p>Every bucket keeps its first, lowest, highest and last rate, with their days. Drawing these
+ * four points per bucket gives the same line as drawing every day, at any level, while a tile
+ * never holds more than {@link #BUCKETS} buckets.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public final class RateTile {
+    // Number of buckets of every tile, and number of points each bucket is drawn with.
+    public static final int BUCKETS = 256;
+    public static final int POINTS_PER_BUCKET = 4;
+    private final int level;
+    private final long index;
+    private final int[] firstDay;
+    private final double[] first;
+    private final int[] lowDay;
+    private final double[] low;
+    private final int[] highDay;
+    private final double[] high;
+    private final int[] lastDay;
+    private final double[] last;
+
+    private RateTile(int level, long index) {
+        this.level = level;
+        this.index = index;
+        this.firstDay = new int[BUCKETS];
+        this.first = new double[BUCKETS];
+        this.lowDay = new int[BUCKETS];
+        this.low = new double[BUCKETS];
+        this.highDay = new int[BUCKETS];
+        this.high = new double[BUCKETS];
+        this.lastDay = new int[BUCKETS];
+        this.last = new double[BUCKETS];
+        Arrays.fill(first, Double.NaN);
+    }
+
+    /**
+     * Builds a tile from the daily rates of its range.
+     *
+     * @param level the level of the tile.
+     * @param index the index of the tile.
+     * @param days the days of the rates as epoch days, in ascending order; days out of the tile are ignored.
+     * @param rates the rates; {@link Double#NaN} values are ignored.
+     * @return the tile.
+     * @since       1.1
+     */
+    public static RateTile of(int level, long index, int[] days, double[] rates) {
+        RateTile tile = new RateTile(level, index);
+        long start = startDay(level, index);
+        for (int i = 0; i < days.length; i++) {
+            long offset = days[i] - start;
+            if (offset < 0 || offset >= (long) BUCKETS << level || Double.isNaN(rates[i])) continue;
+            tile.add((int) (offset >> level), days[i], rates[i]);
+        }
+        return tile;
+    }
+
+    /**
+     * Returns an empty tile, for ranges no rate was published in.
+     *
+     * @param level the level of the tile.
+     * @param index the index of the tile.
+     * @return the tile.
+     * @since       1.1
+     */
+    public static RateTile empty(int level, long index) {
+        return new RateTile(level, index);
+    }
+
+    /**
+     * Returns the number of days covered by a tile of the given level.
+     *
+     * @param level the level.
+     * @return the span of the tile, in days.
+     * @since       1.1
+     */
+    public static long span(int level) {
+        return (long) BUCKETS << level;
+    }
+
+    /**
+     * Returns the first day covered by a tile.
+     *
+     * @param level the level of the tile.
+     * @param index the index of the tile.
+     * @return the first day, as an epoch day.
+     * @since       1.1
+     */
+    public static long startDay(int level, long index) {
+        return index * span(level);
+    }
+
+    /**
+     * Returns the index of the tile covering a day.
+     *
+     * @param level the level of the tile.
+     * @param day the day, as an epoch day.
+     * @return the index of the tile.
+     * @since       1.1
+     */
+    public static long indexOf(int level, double day) {
+        return Math.floorDiv((long) Math.floor(day), span(level));
+    }
+
+    /**
+     * Returns the level of the tile.
+     *
+     * @return the level.
+     * @since       1.1
+     */
+    public int level() {
+        return level;
+    }
+
+    /**
+     * Returns the index of the tile.
+     *
+     * @return the index.
+     * @since       1.1
+     */
+    public long index() {
+        return index;
+    }
+
+    /**
+     * Copies the points of the buckets overlapping a range of days, in chronological order, into
+     * the given arrays, which must have room for {@link #POINTS_PER_BUCKET} points per bucket.
+     *
+     * @param fromDay the first day of the range.
+     * @param toDay the last day of the range.
+     * @param days the array receiving the days of the points.
+     * @param rates the array receiving the rates of the points.
+     * @param offset the index of the first point written.
+     * @return the index following the last point written.
+     * @since       1.1
+     */
+    public int copyPoints(double fromDay, double toDay, int[] days, double[] rates, int offset) {
+        long start = startDay(level, index);
+        int firstBucket = Math.clamp((long) Math.floor(fromDay - start) >> level, 0, BUCKETS);
+        int lastBucket = Math.clamp((long) Math.floor(toDay - start) >> level, -1, BUCKETS - 1);
+        for (int b = firstBucket; b <= lastBucket; b++) {
+            if (Double.isNaN(first[b])) continue;
+            offset = point(days, rates, offset, firstDay[b], first[b]);
+            if (lowDay[b] <= highDay[b]) {
+                offset = point(days, rates, offset, lowDay[b], low[b]);
+                offset = point(days, rates, offset, highDay[b], high[b]);
+            } else {
+                offset = point(days, rates, offset, highDay[b], high[b]);
+                offset = point(days, rates, offset, lowDay[b], low[b]);
+            }
+            offset = point(days, rates, offset, lastDay[b], last[b]);
+        }
+        return offset;
+    }
+
+    /**
+     * Writes a point unless it repeats the previous one.
+     * @since       1.1
+     */
+    private static int point(int[] days, double[] rates, int offset, int day, double rate) {
+        if (offset > 0 && days[offset - 1] == day) return offset;
+        days[offset] = day;
+        rates[offset] = rate;
+        return offset + 1;
+    }
+
+    /**
+     * Adds a rate to a bucket; rates are added in chronological order.
+     * @since       1.1
+     */
+    private void add(int bucket, int day, double rate) {
+        if (Double.isNaN(first[bucket])) {
+            firstDay[bucket] = lowDay[bucket] = highDay[bucket] = day;
+            first[bucket] = low[bucket] = high[bucket] = rate;
+        } else if (rate < low[bucket]) {
+            lowDay[bucket] = day;
+            low[bucket] = rate;
+        } else if (rate > high[bucket]) {
+            highDay[bucket] = day;
+            high[bucket] = rate;
+        }
+        lastDay[bucket] = day;
+        last[bucket] = rate;
+    }
+}
@@ -0,0 +1,255 @@
+package software.ulpgc.money.tile;
+
+import software.ulpgc.money.architecture.io.StatisticLoader;
+import software.ulpgc.money.architecture.model.AlignedRateSeries;
+import software.ulpgc.money.architecture.model.CurrencyPair;
+import software.ulpgc.money.metrics.Counter;
+import software.ulpgc.money.metrics.MetricsRegistry;
+import software.ulpgc.money.net.IoScheduler;
+import software.ulpgc.money.net.Priority;
+import software.ulpgc.money.store.RateHistoryStore;
+
+import javax.swing.*;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+import static java.lang.System.Logger.Level.WARNING;
+
+/**
+ * The {@code RateTileLoader} class loads the {@link RateTile tiles} of the exchange rate histories
+ * explored on a chart, and keeps the most recently used ones in memory.
+ *
+ * <p>Every tile is loaded in the background, with one request for its range to a
+ * {@link StatisticLoader}, typically backed by a {@link RateHistoryStore}, so that only the days
+ * never seen before reach the network. Tiles on screen are loaded as interactive work of an
+ * {@link IoScheduler}, while the tiles around them are prefetched, so panning and zooming find
+ * them ready. At most {@code capacity} tiles are kept; those used the longest ago, i.e. far from
+ * the viewport, are evicted first, so exploring decades of history holds a few tiles at a time.</p>
+ *
+ * <p>The range requested for a tile is capped to the stored range of the histories, from
+ * {@link #firstDay()} to {@link #lastDay()}, as the coarsest tiles span far more than both.
+ * The tiles covering a day whose rate changed, e.g. today once its rate is published, are
+ * {@link #invalidate(CurrencyPair, long) invalidated}, so they are loaded again.</p>
+ *
+ * <p>Loads, evictions and failures are counted in the {@code tiles.loads}, {@code tiles.evicted}
+ * and {@code tiles.errors} counters.</p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+public class RateTileLoader {
+    private static final System.Logger LOGGER = System.getLogger(RateTileLoader.class.getName());
+    private static final Counter LOADS = MetricsRegistry.global().counter("tiles.loads");
+    private static final Counter EVICTED = MetricsRegistry.global().counter("tiles.evicted");
+    private static final Counter ERRORS = MetricsRegistry.global().counter("tiles.errors");
+    private static final long ORIGIN_DAY = RateHistoryStore.ORIGIN.toEpochDay();
+    private final StatisticLoader loader;
+    private final IoScheduler scheduler;
+    private final Clock clock;
+    private final Map<Key, RateTile> tiles;
+    private final Map<Key, Load> pending;
+
+    /**
+     * Constructs a new {@code RateTileLoader}.
+     *
+     * @param loader the loader of the ranges of the tiles.
+     * @param scheduler the scheduler running the loads.
+     * @param capacity the maximum number of tiles kept in memory.
+     * @param clock the clock giving the current day.
+     * @since       1.1
+     */
+    public RateTileLoader(StatisticLoader loader, IoScheduler scheduler, int capacity, Clock clock) {
+        this.loader = loader;
+        this.scheduler = scheduler;
+        this.clock = clock;
+        this.tiles = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, RateTile> eldest) {
+                if (size() <= capacity) return false;
+                EVICTED.increment();
+                return true;
+            }
+        };
+        this.pending = new HashMap<>();
+    }
+
+    /**
+     * Returns the first day of the histories, before which every tile is empty.
+     *
+     * @return the first day, as an epoch day.
+     * @since       1.1
+     */
+    public long firstDay() {
+        return ORIGIN_DAY;
+    }
+
+    /**
+     * Returns the last day of the histories, after which every tile is empty.
+     *
+     * @return today, as an epoch day.
+     * @since       1.1
+     */
+    public long lastDay() {
+        return LocalDate.now(clock).toEpochDay();
+    }
+
+    /**
+     * Returns a tile if it is in memory, or starts loading it as interactive work.
+     *
+     * @param pair the currency pair.
+     * @param level the level of the tile.
+     * @param index the index of the tile.
+     * @param onLoaded the action run on the Event Dispatch Thread once the tile is loaded.
+     * @return the tile, or {@code null} if it is being loaded.
+     * @since       1.1
+     */
+    public RateTile tile(CurrencyPair pair, int level, long index, Runnable onLoaded) {
+        RateTile tile = cached(pair, level, index);
+        if (tile == null) load(new Key(pair, level, index), Priority.INTERACTIVE, onLoaded);
+        return tile;
+    }
+
+    /**
+     * Returns a tile if it is in memory, without loading it.
+     *
+     * @param pair the currency pair.
+     * @param level the level of the tile.
+     * @param index the index of the tile.
+     * @return the tile, or {@code null} if it is not in memory.
+     * @since       1.1
+     */
+    public RateTile cached(CurrencyPair pair, int level, long index) {
+        Key key = new Key(pair, level, index);
+        if (isOutOfRange(key)) return RateTile.empty(level, index);
+        synchronized (tiles) {
+            return tiles.get(key);
+        }
+    }
+
+    /**
+     * Starts loading a tile as prefetch work, if it is not in memory yet.
+     *
+     * @param pair the currency pair.
+     * @param level the level of the tile.
+     * @param index the index of the tile.
+     * @since       1.1
+     */
+    public void prefetch(CurrencyPair pair, int level, long index) {
+        if (cached(pair, level, index) == null) load(new Key(pair, level, index), Priority.PREFETCH, null);
+    }
+
+    /**
+     * Discards the tiles of a pair covering the given day, in memory or being loaded, so that
+     * they are loaded again the next time they are asked for.
+     *
+     * @param pair the currency pair.
+     * @param day the day whose rate changed, as an epoch day.
+     * @since       1.1
+     */
+    public void invalidate(CurrencyPair pair, long day) {
+        synchronized (pending) {
+            pending.keySet().removeIf(key -> key.covers(pair, day));
+            synchronized (tiles) {
+                tiles.keySet().removeIf(key -> key.covers(pair, day));
+            }
+        }
+    }
+
+    /**
+     * Submits the load of a tile, unless it is already pending with the same or a higher
+     * priority, in which case the action joins those run once it is loaded. A prefetch cancelled
+     * by the scheduler before it started is submitted again.
+     * @since       1.1
+     */
+    private void load(Key key, Priority priority, Runnable onLoaded) {
+        synchronized (pending) {
+            Load current = pending.get(key);
+            List<Runnable> listeners = new ArrayList<>();
+            if (onLoaded != null) listeners.add(onLoaded);
+            if (current != null && !current.future.isDone() && current.priority.compareTo(priority) <= 0) {
+                current.listeners.addAll(listeners);
+                return;
+            }
+            if (current != null) listeners.addAll(current.listeners);
+            pending.put(key, new Load(priority, scheduler.submit(priority, () -> run(key, priority)), listeners));
+        }
+    }
+
+    /**
+     * Loads a tile and runs the actions waiting for it on the Event Dispatch Thread, unless a
+     * load of higher priority has taken over or the tile was invalidated meanwhile, in which case
+     * it is not kept either. The actions are not run if the load fails, so a failing tile is only
+     * requested again when the view changes.
+     * @since       1.1
+     */
+    private void run(Key key, Priority priority) {
+        List<Runnable> listeners = List.of();
+        RateTile tile = null;
+        try {
+            synchronized (pending) {
+                Load load = pending.get(key);
+                if (load == null || load.priority != priority) return;
+            }
+            long start = RateTile.startDay(key.level, key.index);
+            long end = start + RateTile.span(key.level) - 1;
+            AlignedRateSeries series = loader.loadStatistics(key.pair.from(), List.of(key.pair.to()),
+                    LocalDate.ofEpochDay(Math.max(start, firstDay())), LocalDate.ofEpochDay(Math.min(end, lastDay())));
+            tile = RateTile.of(key.level, key.index, series.days(), series.rates()[0]);
+            LOADS.increment();
+        } catch (RuntimeException e) {
+            ERRORS.increment();
+            LOGGER.log(WARNING, "Cannot load tile " + key + ": " + e);
+        } finally {
+            synchronized (pending) {
+                Load load = pending.get(key);
+                if (load != null && load.priority == priority) {
+                    pending.remove(key);
+                    if (tile != null) {
+                        synchronized (tiles) {
+                            tiles.put(key, tile);
+                        }
+                        listeners = load.listeners;
+                    }
+                }
+            }
+        }
+        listeners.forEach(SwingUtilities::invokeLater);
+    }
+
+    /**
+     * Checks whether a tile lies entirely before the first or after the last day of the histories.
+     * @since       1.1
+     */
+    private boolean isOutOfRange(Key key) {
+        long start = RateTile.startDay(key.level, key.index);
+        return start + RateTile.span(key.level) <= firstDay() || start > lastDay();
+    }
+
+    /**
+     * The identity of a tile.
+     * @since       1.1
+     */
+    private record Key(CurrencyPair pair, int level, long index) {
+
+        /**
+         * Checks whether this tile belongs to the given pair and covers the given day.
+         */
+        boolean covers(CurrencyPair pair, long day) {
+            return this.pair.equals(pair) && RateTile.indexOf(level, day) == index;
+        }
+    }
+
+    /**
+     * A pending load of a tile.
+     * @since       1.1
+     */
+    private record Load(Priority priority, Future<?> future, List<Runnable> listeners) {
+    }
+}
@@ -0,0 +1,117 @@
+package software.ulpgc.money.alert;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.CurrencyPair;
+import software.ulpgc.money.architecture.model.ExchangeRate;
+import software.ulpgc.money.architecture.model.RateAlert;
+import software.ulpgc.money.architecture.model.RateAlert.Direction;
+import software.ulpgc.money.architecture.model.RateTable;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests of {@link AlertEngine}.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+class AlertEngineTest {
+    private static final String DATE = "2024-03-15";
+    private static final Currency EUR = new Currency("EUR", "Euro");
+    private static final Currency USD = new Currency("USD", "US Dollar");
+    private static final Currency GBP = new Currency("GBP", "Pound Sterling");
+    private static final CurrencyPair EUR_USD = new CurrencyPair(EUR, USD);
+    @TempDir
+    Path directory;
+
+    /**
+     * Random rates, additions and removals fire exactly the alerts a linear scan would, each once.
+     */
+    @Test
+    void firesTheAlertsALinearScanWould() {
+        AlertEngine engine = new AlertEngine(directory.resolve("alerts.properties"), List.of(EUR, USD));
+        List<RateAlert> fired = new ArrayList<>();
+        engine.addListener((alert, _) -> fired.add(alert));
+        List<RateAlert> armed = new ArrayList<>();
+        Random random = new Random(11);
+        for (int step = 0; step < 2000; step++) {
+            int action = random.nextInt(10);
+            if (action < 5) {
+                Direction direction = random.nextBoolean() ? Direction.ABOVE : Direction.BELOW;
+                armed.add(engine.add(EUR_USD, direction, 1 + random.nextInt(40) / 100.0));
+            } else if (action < 7 && !armed.isEmpty()) {
+                assertTrue(engine.remove(armed.remove(random.nextInt(armed.size()))));
+            } else {
+                double rate = 1 + random.nextInt(40) / 100.0;
+                List<RateAlert> expected = armed.stream().filter(alert -> alert.isReachedBy(rate)).toList();
+                armed.removeAll(expected);
+                fired.clear();
+                engine.update(new ExchangeRate(EUR, USD, DATE, rate));
+                assertEquals(ids(expected), ids(fired), "step " + step);
+            }
+            assertEquals(ids(armed), ids(engine.alerts()), "step " + step);
+        }
+    }
+
+    /**
+     * A rate fires the alerts of the inverse pair at the inverse rate.
+     */
+    @Test
+    void firesTheAlertsOfTheInversePair() {
+        AlertEngine engine = new AlertEngine(directory.resolve("alerts.properties"), List.of(EUR, USD));
+        List<ExchangeRate> rates = new ArrayList<>();
+        engine.addListener((_, rate) -> rates.add(rate));
+        engine.add(EUR_USD.inverse(), Direction.BELOW, 0.92);
+        engine.update(new ExchangeRate(EUR, USD, DATE, 1.08));
+        assertTrue(rates.isEmpty());
+        engine.update(new ExchangeRate(EUR, USD, DATE, 1.10));
+        assertEquals(1, rates.size());
+        assertEquals(USD, rates.getFirst().from());
+        assertEquals(1 / 1.10, rates.getFirst().rate(), 1e-12);
+        assertTrue(engine.isEmpty());
+    }
+
+    /**
+     * A rate table fires the alerts of pairs it only quotes as a cross rate.
+     */
+    @Test
+    void firesTheAlertsOfCrossRatesOfATable() {
+        AlertEngine engine = new AlertEngine(directory.resolve("alerts.properties"), List.of(EUR, USD, GBP));
+        List<ExchangeRate> rates = new ArrayList<>();
+        engine.addListener((_, rate) -> rates.add(rate));
+        engine.add(new CurrencyPair(USD, GBP), Direction.ABOVE, 0.81);
+        engine.add(new CurrencyPair(USD, GBP), Direction.BELOW, 0.80);
+        engine.update(new RateTable(EUR, DATE, List.of(USD, GBP), new double[]{1.08, 0.86}));
+        assertEquals(1, rates.size());
+        assertEquals(0.86 / 1.08, rates.getFirst().rate(), 1e-12);
+        assertEquals(1, engine.alerts().size());
+    }
+
+    /**
+     * Saved alerts are armed again by a new engine, which numbers new alerts after them.
+     */
+    @Test
+    void restoresTheSavedAlerts() {
+        Path file = directory.resolve("alerts.properties");
+        AlertEngine engine = new AlertEngine(file, List.of(EUR, USD, GBP));
+        RateAlert first = engine.add(EUR_USD, Direction.ABOVE, 1.10);
+        RateAlert second = engine.add(new CurrencyPair(EUR, GBP), Direction.BELOW, 0.80);
+        engine.save();
+        AlertEngine restored = new AlertEngine(file, List.of(EUR, USD, GBP));
+        assertEquals(List.of(first, second), restored.alerts());
+        assertTrue(restored.add(EUR_USD, Direction.BELOW, 1.0).id() > second.id());
+        assertEquals(List.of(first), new AlertEngine(file, List.of(EUR, USD)).alerts());
+    }
+
+    static List<Long> ids(List<RateAlert> alerts) {
+        return alerts.stream().map(RateAlert::id).sorted().toList();
+    }
+}
@@ -0,0 +1,148 @@
+package software.ulpgc.money.architecture.control;
+
+import org.junit.jupiter.api.Test;
+import software.ulpgc.money.cache.LoadingCache;
+import software.ulpgc.money.metrics.MetricsRegistry;
+import software.ulpgc.money.net.IoScheduler;
+
+import javax.swing.*;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests of {@link CommandBus}.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+class CommandBusTest {
+    private final IoScheduler scheduler = new IoScheduler(1, 1, MetricsRegistry.global());
+    private final CommandBus bus = new CommandBus(scheduler, MetricsRegistry.global());
+    private final List<String> applied = new CopyOnWriteArrayList<>();
+
+    /**
+     * Only the result of the latest submission of a lane is applied, and the work of the
+     * previous one is interrupted.
+     */
+    @Test
+    void appliesOnlyTheLatestSubmission() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        submit("latest", () -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "first";
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        submit("latest", () -> "second");
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        awaitApplied(1);
+        Thread.sleep(50);
+        flushEventQueue();
+        assertEquals(List.of("second"), applied);
+    }
+
+    /**
+     * Superseding a command that owns a shared cache load neither fails the command joining that
+     * load nor reports an error.
+     */
+    @Test
+    void supersededLoadDoesNotFailTheCurrentCommand() throws Exception {
+        LoadingCache<String> cache = new LoadingCache<>(Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        Supplier<String> load = () -> cache.get("EUR/USD", () -> {
+            if (loads.incrementAndGet() == 1) {
+                started.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new java.util.concurrent.CancellationException("Request cancelled");
+                }
+            }
+            return "1.08";
+        });
+        submit("shared", load);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        submit("shared", load);
+        awaitApplied(1);
+        flushEventQueue();
+        assertEquals(List.of("1.08"), applied);
+        assertEquals(2, loads.get());
+        assertEquals(0, MetricsRegistry.global().timer("bus.shared").errors());
+    }
+
+    /**
+     * Work failing with any error once it is interrupted by a new submission is not reported,
+     * even if it fails before the submission returns.
+     */
+    @Test
+    void supersededFailuresAreNotReported() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch failed = new CountDownLatch(1);
+        submit("failing", () -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+                return "first";
+            } catch (InterruptedException e) {
+                failed.countDown();
+                throw new IllegalStateException("Interrupted", e);
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        bus.onSupersede("failing", () -> {
+            try {
+                assertTrue(failed.await(5, TimeUnit.SECONDS));
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        submit("failing", () -> "second");
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+        awaitApplied(1);
+        flushEventQueue();
+        assertEquals(List.of("second"), applied);
+        assertEquals(0, MetricsRegistry.global().timer("bus.failing").errors());
+    }
+
+    private void submit(String lane, Supplier<String> work) throws Exception {
+        SwingUtilities.invokeAndWait(() -> bus.submit(lane, new AsyncCommand<String>() {
+            @Override
+            public Supplier<String> prepare() {
+                return work;
+            }
+
+            @Override
+            public void apply(String result) {
+                applied.add(result);
+            }
+        }));
+    }
+
+    private void awaitApplied(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (applied.size() < count) {
+            assertTrue(System.nanoTime() < deadline, "no result applied");
+            Thread.sleep(5);
+        }
+    }
+
+    private static void flushEventQueue() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {});
+    }
+}
@@ -0,0 +1,205 @@
+package software.ulpgc.money.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests of {@link LoadingCache}.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+class LoadingCacheTest {
+
+    /**
+     * Concurrent requests for the same key share one load.
+     */
+    @Test
+    void coalescesConcurrentLoads() throws Exception {
+        LoadingCache<String> cache = new LoadingCache<>(Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1), release = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> owner = executor.submit(() -> cache.get("EUR/USD", () -> {
+                loads.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "1.08";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<String> joiner = executor.submit(() -> cache.get("EUR/USD", () -> {
+                loads.incrementAndGet();
+                return "other";
+            }));
+            release.countDown();
+            assertEquals("1.08", owner.get(5, TimeUnit.SECONDS));
+            assertEquals("1.08", joiner.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+    }
+
+    /**
+     * An expired value is loaded again.
+     */
+    @Test
+    void reloadsExpiredValues() throws Exception {
+        LoadingCache<Integer> cache = new LoadingCache<>(Duration.ofMillis(20));
+        AtomicInteger loads = new AtomicInteger();
+        assertEquals(1, cache.get("k", loads::incrementAndGet));
+        assertEquals(1, cache.get("k", loads::incrementAndGet));
+        Thread.sleep(40);
+        assertFalse(cache.contains("k"));
+        assertNull(cache.peek("k"));
+        assertEquals(2, cache.get("k", loads::incrementAndGet));
+    }
+
+    /**
+     * A failed load is not cached.
+     */
+    @Test
+    void doesNotCacheFailures() {
+        LoadingCache<Integer> cache = new LoadingCache<>(Duration.ofMinutes(1));
+        assertThrows(IllegalStateException.class, () -> cache.get("k", () -> {
+            throw new IllegalStateException("down");
+        }));
+        assertFalse(cache.contains("k"));
+        assertEquals(7, cache.get("k", () -> 7));
+    }
+
+    /**
+     * An error thrown by the loader releases the callers waiting for it, and is not cached.
+     */
+    @Test
+    void releasesWaitersWhenTheLoaderThrowsAnError() throws Exception {
+        LoadingCache<String> cache = new LoadingCache<>(Duration.ofMinutes(1));
+        CountDownLatch release = new CountDownLatch(1);
+        Thread owner = new Thread(() -> cache.get("k", () -> {
+            await(release);
+            throw new AssertionError("broken provider");
+        }));
+        owner.setUncaughtExceptionHandler((_, _) -> {});
+        owner.start();
+        while (!cache.contains("k")) Thread.onSpinWait();
+        AtomicReference<Throwable> joined = new AtomicReference<>();
+        Thread joiner = new Thread(() -> {
+            try {
+                cache.get("k", () -> "unused");
+            } catch (Throwable e) {
+                joined.set(e);
+            }
+        });
+        joiner.start();
+        awaitWaiting(joiner);
+        release.countDown();
+        joiner.join(5000);
+        owner.join(5000);
+        assertInstanceOf(AssertionError.class, joined.get());
+        assertFalse(cache.contains("k"));
+        assertEquals("fresh", cache.get("k", () -> "fresh"));
+    }
+
+    /**
+     * A load cancelled by the interruption of its caller is started again by the caller waiting
+     * for it, instead of failing it too.
+     */
+    @Test
+    void retriesLoadsCancelledByTheirCaller() throws Exception {
+        LoadingCache<String> cache = new LoadingCache<>(Duration.ofMinutes(1));
+        Thread owner = new Thread(() -> cache.get("k", () -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                throw new CancellationException("Request cancelled");
+            }
+            return "stale";
+        }));
+        owner.setUncaughtExceptionHandler((_, _) -> {});
+        owner.start();
+        while (!cache.contains("k")) Thread.onSpinWait();
+        AtomicReference<String> joined = new AtomicReference<>();
+        Thread joiner = new Thread(() -> joined.set(cache.get("k", () -> "fresh")));
+        joiner.start();
+        awaitWaiting(joiner);
+        owner.interrupt();
+        joiner.join(5000);
+        assertEquals("fresh", joined.get());
+    }
+
+    /**
+     * A value derived from a cached source is served without loading.
+     */
+    @Test
+    void derivesFromCachedSource() {
+        LoadingCache<Double> cache = new LoadingCache<>(Duration.ofMinutes(1));
+        cache.put("EUR/USD", 2.0);
+        assertEquals(0.5, cache.get("USD/EUR", "EUR/USD", rate -> 1 / rate, () -> fail("loaded")));
+    }
+
+    /**
+     * Values derived from each other in turn expire with the value loaded, and are then loaded again.
+     */
+    @Test
+    void derivedValuesExpireWithTheirSource() {
+        AtomicLong now = new AtomicLong();
+        LoadingCache<Double> cache = new LoadingCache<>(Duration.ofSeconds(60), now::get);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Double> load = () -> loads.incrementAndGet() * 2.0;
+        assertEquals(2.0, cache.get("EUR/USD", "USD/EUR", rate -> 1 / rate, load));
+        for (int second = 0; second <= 60; second += 15) {
+            now.set(TimeUnit.SECONDS.toNanos(second));
+            cache.get("USD/EUR", "EUR/USD", rate -> 1 / rate, load);
+            cache.get("EUR/USD", "USD/EUR", rate -> 1 / rate, load);
+        }
+        assertEquals(1, loads.get());
+        now.set(TimeUnit.SECONDS.toNanos(61));
+        assertFalse(cache.contains("USD/EUR"));
+        assertEquals(4.0, cache.get("EUR/USD", "USD/EUR", rate -> 1 / rate, load));
+        assertEquals(0.25, cache.get("USD/EUR", "EUR/USD", rate -> 1 / rate, load));
+        assertEquals(2, loads.get());
+    }
+
+    /**
+     * A value that cannot be derived from the cached source is loaded, with a full time to live.
+     */
+    @Test
+    void loadsValuesThatCannotBeDerived() {
+        AtomicLong now = new AtomicLong();
+        LoadingCache<Double> cache = new LoadingCache<>(Duration.ofSeconds(60), now::get);
+        cache.put("EUR", 1.0);
+        now.set(TimeUnit.SECONDS.toNanos(30));
+        assertEquals(7.0, cache.get("USD", "EUR", _ -> null, () -> 7.0));
+        now.set(TimeUnit.SECONDS.toNanos(80));
+        assertFalse(cache.contains("EUR"));
+        assertTrue(cache.contains("USD"));
+    }
+
+    static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TIMED_WAITING) {
+            assertTrue(System.nanoTime() < deadline, "thread never waited");
+            Thread.sleep(1);
+        }
+    }
+
+    static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package software.ulpgc.money.expr;
+
+import org.junit.jupiter.api.Test;
+import software.ulpgc.money.architecture.model.AlignedRateSeries;
+import software.ulpgc.money.architecture.model.Currency;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests of {@link Expression} and {@link ExpressionParser}.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+class ExpressionTest {
+    private static final Currency EUR = new Currency("EUR", "Euro");
+    private static final Currency USD = new Currency("USD", "US Dollar");
+    private static final Currency GBP = new Currency("GBP", "Pound Sterling");
+    private static final List<Currency> CURRENCIES = List.of(EUR, USD, GBP);
+    private static final AlignedRateSeries SERIES = new AlignedRateSeries(EUR, List.of(USD, GBP),
+            new int[]{19797, 19798}, new double[][]{{2, 4}, {0.5, Double.NaN}});
+
+    /**
+     * Negation binds looser than powers, powers are right associative and take signed exponents.
+     */
+    @Test
+    void appliesThePrecedenceOfOperators() {
+        assertEquals(-4, valueOf("-2^2"));
+        assertEquals(0.5, valueOf("2^-1"));
+        assertEquals(512, valueOf("2^3^2"));
+        assertEquals(4, valueOf("(-2)^2"));
+        assertEquals(7, valueOf("1 + 2 * 3"));
+        assertEquals(-1, valueOf("1 - 4 / 2"));
+        assertEquals(2, valueOf("8 / 2 / 2"));
+        assertEquals(0, valueOf("1 - 2 + 1"));
+        assertEquals(1e-3 * 2, valueOf("1E-3*2"));
+    }
+
+    /**
+     * Columns follow the same precedence as constants, with missing rates and non-finite values as NaN.
+     */
+    @Test
+    void evaluatesEveryDayOfTheSeries() {
+        assertArrayEquals(new double[]{-4, -16}, valuesOf("-USD^2"));
+        assertArrayEquals(new double[]{0.5, 0.25}, valuesOf("USD^-1"));
+        assertArrayEquals(new double[]{2.5, Double.NaN}, valuesOf("usd + gbp"));
+        assertArrayEquals(new double[]{3, Double.NaN}, valuesOf("EUR + 0.5 * USD + 2 * GBP"));
+        assertArrayEquals(new double[]{Double.NaN, Double.NaN}, valuesOf("ln(GBP - USD)"));
+        assertArrayEquals(new double[]{Math.log(0.25), Double.NaN}, valuesOf("ln(GBP / USD)"));
+    }
+
+    /**
+     * Currency codes are resolved in any case and listed in the order they first appear.
+     */
+    @Test
+    void listsTheReferencedCurrencies() {
+        Expression expression = Expression.parse("  gbp / USD + ln(Gbp) ", CURRENCIES);
+        assertEquals(List.of(GBP, USD), expression.currencies());
+        assertEquals("gbp / USD + ln(Gbp)", expression.text());
+    }
+
+    /**
+     * Currency codes are resolved the same way whatever the default locale, e.g. a Turkish one
+     * where the upper case of {@code i} is not {@code I}.
+     */
+    @Test
+    void resolvesCurrenciesWhateverTheLocale() {
+        Currency idr = new Currency("IDR", "Indonesian Rupiah");
+        Locale locale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            assertEquals(List.of(idr), Expression.parse("sqrt(idr)", List.of(EUR, idr)).currencies());
+        } finally {
+            Locale.setDefault(locale);
+        }
+    }
+
+    /**
+     * Syntax errors report their cause and the one-based position where they were found.
+     */
+    @Test
+    void reportsThePositionOfSyntaxErrors() {
+        assertError("Unexpected end of expression at position 6", "USD +");
+        assertError("Unknown currency 'XYZ' at position 7", "USD + XYZ");
+        assertError("Expected ')' at position 5", "(USD");
+        assertError("Expected '(' at position 4", "ln USD");
+        assertError("Unexpected ')' at position 4", "USD)");
+        assertError("Invalid number '1.2.3' at position 1", "1.2.3");
+        assertError("Unexpected '*' at position 5", "2 + * 3");
+    }
+
+    static double valueOf(String text) {
+        return valuesOf(text)[0];
+    }
+
+    static double[] valuesOf(String text) {
+        return Expression.parse(text, CURRENCIES).evaluate(SERIES).values();
+    }
+
+    static void assertError(String message, String text) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> Expression.parse(text, CURRENCIES));
+        assertTrue(e.getMessage().startsWith(message), e.getMessage());
+    }
+}
@@ -0,0 +1,48 @@
+package software.ulpgc.money.graph;
+
+import org.junit.jupiter.api.Test;
+import software.ulpgc.money.architecture.io.ExchangeRateLoader;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.ExchangeRate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests of {@link GraphExchangeRateLoader}.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+class GraphExchangeRateLoaderTest {
+    private static final Currency EUR = new Currency("EUR", "Euro");
+    private static final Currency USD = new Currency("USD", "US Dollar");
+    private static final Currency GBP = new Currency("GBP", "Pound Sterling");
+
+    /**
+     * The direct quote is returned even when the graph knows a better path.
+     */
+    @Test
+    void returnsTheDirectQuoteDespiteABetterPath() {
+        RateGraph graph = new RateGraph(List.of(EUR, USD, GBP), 1e-4);
+        graph.setQuotes(new ExchangeRate(USD, EUR, "2024-03-15", 0.95));
+        graph.setQuotes(new ExchangeRate(EUR, GBP, "2024-03-15", 0.86));
+        ExchangeRate direct = new ExchangeRate(USD, GBP, "2024-03-15", 0.78);
+        GraphExchangeRateLoader loader = new GraphExchangeRateLoader(new ExchangeRateLoader() {
+            @Override
+            public ExchangeRate load(Currency from, Currency to) {
+                return direct;
+            }
+
+            @Override
+            public ExchangeRate load(Currency from, Currency to, LocalDate date) {
+                throw new UnsupportedOperationException();
+            }
+        }, graph);
+        assertEquals(direct, loader.load(USD, GBP));
+        assertEquals(0.95 * 0.86, graph.bestPath(USD, GBP).rate(), 1e-12);
+    }
+}
@@ -0,0 +1,102 @@
+package software.ulpgc.money.graph;
+
+import org.junit.jupiter.api.Test;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.ExchangeRate;
+import software.ulpgc.money.architecture.model.RateTable;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests of {@link RateGraph}.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+class RateGraphTest {
+    private static final String DATE = "2024-03-15";
+    private static final List<Currency> CURRENCIES = IntStream.range(0, 6)
+            .mapToObj(i -> new Currency("C" + i, "Currency " + i))
+            .toList();
+    private static final Currency EUR = CURRENCIES.get(0), USD = CURRENCIES.get(1), GBP = CURRENCIES.get(2);
+
+    /**
+     * Paths kept up to date by relaxing improved quotes and recomputing worsened ones are the
+     * shortest paths computed from scratch.
+     */
+    @Test
+    void keepsTheBestPathsAsQuotesImproveAndWorsen() {
+        Random random = new Random(7);
+        int n = CURRENCIES.size();
+        double[] values = random.doubles(n, 0.5, 2).toArray();
+        double[][] rates = new double[n][n];
+        RateGraph graph = new RateGraph(CURRENCIES, 0);
+        for (int step = 0; step < 200; step++) {
+            int i = random.nextInt(n), j = random.nextInt(n);
+            if (i == j) continue;
+            rates[i][j] = random.nextInt(10) == 0 ? 0 : values[j] / values[i] * (1 - random.nextDouble() * 0.01);
+            graph.setQuote(CURRENCIES.get(i), CURRENCIES.get(j), rates[i][j] > 0 ? rates[i][j] : Double.NaN, DATE);
+            double[][] best = bestRates(rates);
+            for (int a = 0; a < n; a++)
+                for (int b = 0; b < n; b++) {
+                    if (a == b) continue;
+                    ConversionPath path = graph.bestPath(CURRENCIES.get(a), CURRENCIES.get(b));
+                    if (best[a][b] == 0) assertNull(path, "step " + step);
+                    else assertEquals(best[a][b], path.rate(), best[a][b] * 1e-12, "step " + step);
+                }
+        }
+    }
+
+    /**
+     * A triangle of quotes ending with more than it started is found as a cycle.
+     */
+    @Test
+    void findsProfitableCycles() {
+        RateGraph graph = new RateGraph(CURRENCIES, 1e-4);
+        graph.setQuotes(new ExchangeRate(EUR, USD, DATE, 1.10));
+        graph.setQuotes(new ExchangeRate(USD, GBP, DATE, 0.80));
+        assertTrue(graph.cycles().isEmpty());
+        graph.setQuotes(new ExchangeRate(GBP, EUR, DATE, 1.20));
+        List<ConversionPath> cycles = graph.cycles();
+        assertEquals(1, cycles.size());
+        assertEquals(1.10 * 0.80 * 1.20, cycles.getFirst().rate(), 1e-12);
+    }
+
+    /**
+     * A quote of a later date drops the older ones, and a quote of an earlier date is ignored.
+     */
+    @Test
+    void holdsTheQuotesOfTheLatestDateOnly() {
+        RateGraph graph = new RateGraph(CURRENCIES, 1e-4);
+        graph.setQuotes(new RateTable(EUR, "2024-03-14", List.of(USD, GBP), new double[]{1.09, 0.85}));
+        assertNotNull(graph.bestPath(USD, GBP));
+        assertTrue(graph.setQuotes(new ExchangeRate(EUR, USD, DATE, 1.10)));
+        assertEquals(DATE, graph.date());
+        assertNull(graph.bestPath(USD, GBP));
+        assertFalse(graph.setQuotes(new ExchangeRate(EUR, GBP, "2024-03-14", 0.85)));
+        assertNull(graph.bestPath(EUR, GBP));
+        assertEquals(1.10, graph.bestPath(EUR, USD).rate(), 1e-12);
+    }
+
+    /**
+     * Computes the best rates between all pairs from scratch, with 0 where there is no path.
+     */
+    private static double[][] bestRates(double[][] rates) {
+        int n = rates.length;
+        double[][] best = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            best[i] = rates[i].clone();
+            best[i][i] = 1;
+        }
+        for (int k = 0; k < n; k++)
+            for (int a = 0; a < n; a++)
+                for (int b = 0; b < n; b++)
+                    best[a][b] = Math.max(best[a][b], best[a][k] * best[k][b]);
+        return best;
+    }
+}
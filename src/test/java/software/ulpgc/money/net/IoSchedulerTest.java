@@ -0,0 +1,100 @@
+package software.ulpgc.money.net;
+
+import org.junit.jupiter.api.Test;
+import software.ulpgc.money.metrics.MetricsRegistry;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests of {@link IoScheduler}.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+class IoSchedulerTest {
+    private final IoScheduler scheduler = new IoScheduler(1, 2, MetricsRegistry.global());
+
+    /**
+     * Background tasks wait while an interactive task is running, and start once it is done.
+     */
+    @Test
+    void holdsBackgroundTasksWhileInteractiveWorkRuns() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> interactive = scheduler.submit(Priority.INTERACTIVE, () -> await(release));
+        CountDownLatch started = new CountDownLatch(1);
+        Future<Priority> maintenance = scheduler.submit(Priority.MAINTENANCE, () -> {
+            started.countDown();
+            return Priority.current();
+        });
+        assertFalse(started.await(100, TimeUnit.MILLISECONDS));
+        release.countDown();
+        interactive.get(5, TimeUnit.SECONDS);
+        assertEquals(Priority.MAINTENANCE, maintenance.get(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * An interactive task cancels the queued prefetches, but neither the running prefetch nor
+     * the queued maintenance tasks.
+     */
+    @Test
+    void preemptsQueuedPrefetchesOnly() throws Exception {
+        CountDownLatch running = new CountDownLatch(1), release = new CountDownLatch(1);
+        Future<?> prefetch = scheduler.submit(Priority.PREFETCH, () -> {
+            running.countDown();
+            await(release);
+        });
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        Future<?> queuedPrefetch = scheduler.submit(Priority.PREFETCH, () -> {});
+        Future<?> firstMaintenance = scheduler.submit(Priority.MAINTENANCE, () -> await(release));
+        Future<?> secondMaintenance = scheduler.submit(Priority.MAINTENANCE, () -> await(release));
+        Future<?> queuedMaintenance = scheduler.submit(Priority.MAINTENANCE, () -> {});
+        scheduler.submit(Priority.INTERACTIVE, () -> {}).get(5, TimeUnit.SECONDS);
+        assertTrue(queuedPrefetch.isCancelled());
+        assertFalse(prefetch.isCancelled());
+        assertFalse(queuedMaintenance.isCancelled());
+        release.countDown();
+        prefetch.get(5, TimeUnit.SECONDS);
+        firstMaintenance.get(5, TimeUnit.SECONDS);
+        secondMaintenance.get(5, TimeUnit.SECONDS);
+        queuedMaintenance.get(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * No more background tasks of a lane run at once than its concurrency.
+     */
+    @Test
+    void boundsTheConcurrencyOfALane() throws Exception {
+        AtomicInteger running = new AtomicInteger(), peak = new AtomicInteger();
+        Future<?>[] tasks = new Future<?>[8];
+        for (int i = 0; i < tasks.length; i++)
+            tasks[i] = scheduler.submit(Priority.MAINTENANCE, () -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(20);
+                running.decrementAndGet();
+            });
+        for (Future<?> task : tasks) task.get(5, TimeUnit.SECONDS);
+        assertEquals(2, peak.get());
+    }
+
+    static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
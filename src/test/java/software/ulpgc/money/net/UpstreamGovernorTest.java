@@ -0,0 +1,128 @@
+package software.ulpgc.money.net;
+
+import org.junit.jupiter.api.Test;
+import software.ulpgc.money.metrics.MetricsRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests of {@link UpstreamGovernor}.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+class UpstreamGovernorTest {
+    private final UpstreamGovernor governor = new UpstreamGovernor(new TokenBucket(1000, 1000), 4, 4, MetricsRegistry.global());
+
+    /**
+     * Answers in use of the limit raise it additively, up to the maximum.
+     */
+    @Test
+    void raisesTheLimitWhileAnswersAreFast() {
+        UpstreamGovernor governor = new UpstreamGovernor(new TokenBucket(1000, 1000), 2, 8, MetricsRegistry.global());
+        for (int i = 0; i < 20; i++) governor.call(Priority.INTERACTIVE, "latest", () -> "ok");
+        assertTrue(governor.limit() > 2, "limit " + governor.limit());
+        assertTrue(governor.limit() <= 8);
+    }
+
+    /**
+     * An answer slower than twice the baseline of its endpoint lowers the limit by 10%.
+     */
+    @Test
+    void lowersTheLimitAfterASlowAnswer() {
+        governor.call(Priority.INTERACTIVE, "latest", () -> sleep(1));
+        governor.call(Priority.INTERACTIVE, "latest", () -> sleep(20));
+        assertEquals(3.6, governor.limit(), 1e-9);
+    }
+
+    /**
+     * A 429 response halves the limit.
+     */
+    @Test
+    void halvesTheLimitWhenThrottled() {
+        assertThrows(HttpStatusException.class, () -> governor.call(Priority.INTERACTIVE, "latest", () -> {
+            throw new HttpStatusException(HttpStatusException.TOO_MANY_REQUESTS);
+        }));
+        assertEquals(2, governor.limit(), 1e-9);
+    }
+
+    /**
+     * A slow endpoint is not judged against the baseline of a fast one.
+     */
+    @Test
+    void comparesLatenciesPerEndpoint() {
+        governor.call(Priority.INTERACTIVE, "latest", () -> "ok");
+        governor.call(Priority.INTERACTIVE, "series", () -> sleep(10));
+        governor.call(Priority.INTERACTIVE, "series", () -> sleep(10));
+        assertEquals(4, governor.limit(), 1e-9);
+    }
+
+    /**
+     * A lasting rise of the latency becomes the new baseline instead of lowering the limit again.
+     */
+    @Test
+    void baselineDriftsTowardsLastingLatencies() throws InterruptedException {
+        governor.call(Priority.INTERACTIVE, "latest", () -> sleep(1));
+        for (int i = 0; i < 40; i++) governor.call(Priority.INTERACTIVE, "latest", () -> sleep(6));
+        assertEquals(3.6, governor.limit(), 1e-9);
+        Thread.sleep(1100);
+        governor.call(Priority.INTERACTIVE, "latest", () -> sleep(6));
+        assertEquals(3.6, governor.limit(), 1e-9);
+    }
+
+    /**
+     * A request waiting for a token does not hold a slot of the concurrency limit.
+     */
+    @Test
+    void waitsForATokenBeforeTakingASlot() throws Exception {
+        UpstreamGovernor governor = new UpstreamGovernor(new TokenBucket(1, 1), 1, 1, MetricsRegistry.global());
+        governor.call(Priority.INTERACTIVE, "latest", () -> "ok");
+        Thread waiting = Thread.ofPlatform().start(() -> governor.call(Priority.MAINTENANCE, "latest", () -> "ok"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (waiting.getState() != Thread.State.TIMED_WAITING && System.nanoTime() < deadline) Thread.onSpinWait();
+        assertEquals(0, governor.inFlight());
+        waiting.join(5000);
+    }
+
+    /**
+     * A request the user waits for takes the next token ahead of background requests that were
+     * waiting for it before.
+     */
+    @Test
+    void handsTokensOutByPriority() throws Exception {
+        UpstreamGovernor governor = new UpstreamGovernor(new TokenBucket(10, 1), 4, 4, MetricsRegistry.global());
+        governor.call(Priority.INTERACTIVE, "latest", () -> "ok");
+        List<Priority> sent = new CopyOnWriteArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 3; i++) threads.add(start(governor, Priority.MAINTENANCE, sent));
+        for (Thread thread : threads) awaitWaiting(thread);
+        threads.add(start(governor, Priority.INTERACTIVE, sent));
+        for (Thread thread : threads) thread.join(5000);
+        assertEquals(4, sent.size());
+        assertEquals(Priority.INTERACTIVE, sent.getFirst());
+    }
+
+    private static Thread start(UpstreamGovernor governor, Priority priority, List<Priority> sent) {
+        return Thread.ofPlatform().start(() -> governor.call(priority, "latest", () -> sent.add(priority)));
+    }
+
+    private static void awaitWaiting(Thread thread) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.TIMED_WAITING && System.nanoTime() < deadline) Thread.onSpinWait();
+    }
+
+    private static String sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "ok";
+    }
+}
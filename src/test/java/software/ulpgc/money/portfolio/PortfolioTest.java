@@ -0,0 +1,133 @@
+package software.ulpgc.money.portfolio;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.Money;
+import software.ulpgc.money.architecture.model.PortfolioValue;
+import software.ulpgc.money.architecture.model.RateTable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests of {@link Portfolio}.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+class PortfolioTest {
+    private static final List<Currency> CURRENCIES = IntStream.range(0, 8)
+            .mapToObj(i -> new Currency("C" + i, "Currency " + i))
+            .toList();
+    private static final Currency BASE = CURRENCIES.getFirst();
+    @TempDir
+    Path directory;
+
+    /**
+     * The total kept by incremental updates of rates and positions is the total computed from scratch.
+     */
+    @Test
+    void keepsTheTotalOfIncrementalUpdates() {
+        Random random = new Random(3);
+        Portfolio portfolio = new Portfolio(CURRENCIES);
+        double[] rates = random.doubles(CURRENCIES.size() - 1, 0.5, 150).toArray();
+        for (int i = 0; i < 1000; i++)
+            portfolio.add(new Money(random.nextDouble(-1e4, 1e6), CURRENCIES.get(random.nextInt(CURRENCIES.size()))));
+        portfolio.revalue(table(rates));
+        for (int step = 0; step < 500; step++) {
+            if (random.nextBoolean()) {
+                int changed = random.nextInt(rates.length);
+                rates[changed] *= 1 + random.nextGaussian() * 0.01;
+                assertEquals(1, portfolio.update(table(rates)));
+            } else if (random.nextBoolean()) {
+                portfolio.setAmount(random.nextInt(portfolio.size()), random.nextDouble(0, 1e6));
+            } else {
+                portfolio.add(new Money(random.nextDouble(0, 1e6), CURRENCIES.get(random.nextInt(CURRENCIES.size()))));
+            }
+            double expected = expectedTotal(portfolio, rates);
+            assertEquals(expected, portfolio.value(BASE).total(), Math.abs(expected) * 1e-9, "step " + step);
+        }
+        assertEquals(0, portfolio.update(table(rates)));
+    }
+
+    /**
+     * Values are expressed in any quoted reporting currency, and are not a number in others.
+     */
+    @Test
+    void expressesTheValueInTheReportingCurrency() {
+        Portfolio portfolio = new Portfolio(CURRENCIES.subList(0, 3));
+        portfolio.add(new Money(100, CURRENCIES.get(0)));
+        portfolio.add(new Money(200, CURRENCIES.get(1)));
+        assertTrue(Double.isNaN(portfolio.value(BASE).total()));
+        portfolio.revalue(new RateTable(BASE, "2024-03-15", List.of(CURRENCIES.get(1)), new double[]{2}));
+        PortfolioValue value = portfolio.value(CURRENCIES.get(1));
+        assertEquals(400, value.total(), 1e-9);
+        assertEquals(200, value.values()[0], 1e-9);
+        assertTrue(Double.isNaN(value.values()[2]));
+        assertTrue(Double.isNaN(portfolio.value(CURRENCIES.get(2)).total()));
+    }
+
+    /**
+     * The total is not a number while a currency held is not quoted, rather than leaving it out.
+     */
+    @Test
+    void hasNoTotalWhileAHoldingIsNotQuoted() {
+        Portfolio portfolio = new Portfolio(CURRENCIES.subList(0, 3));
+        portfolio.add(new Money(100, CURRENCIES.get(0)));
+        portfolio.add(new Money(200, CURRENCIES.get(2)));
+        portfolio.revalue(new RateTable(BASE, "2024-03-15", List.of(CURRENCIES.get(1)), new double[]{2}));
+        PortfolioValue value = portfolio.value(BASE);
+        assertEquals(100, value.values()[0], 1e-9);
+        assertTrue(Double.isNaN(value.total()));
+        portfolio.update(new RateTable(BASE, "2024-03-16", List.of(CURRENCIES.get(2)), new double[]{4}));
+        assertEquals(150, portfolio.value(BASE).total(), 1e-9);
+    }
+
+    /**
+     * A table of another base revalues the whole portfolio.
+     */
+    @Test
+    void revaluesOnATableOfAnotherBase() {
+        Portfolio portfolio = new Portfolio(CURRENCIES.subList(0, 2));
+        portfolio.add(new Money(100, CURRENCIES.get(1)));
+        portfolio.update(new RateTable(BASE, "2024-03-15", List.of(CURRENCIES.get(1)), new double[]{2}));
+        assertEquals(50, portfolio.value(BASE).total(), 1e-9);
+        assertEquals(2, portfolio.update(new RateTable(CURRENCIES.get(1), "2024-03-16", List.of(BASE), new double[]{0.25})));
+        assertEquals(25, portfolio.value(BASE).total(), 1e-9);
+    }
+
+    /**
+     * Positions are read from a CSV file, skipping comments, headers and unsupported currencies.
+     */
+    @Test
+    void readsThePositionsOfAFile() throws IOException {
+        Path file = directory.resolve("portfolio.csv");
+        Files.writeString(file, "currency,amount\n# comment\nC1,250.5\nXXX,10\n\nC2, 3\n");
+        Portfolio portfolio = Portfolio.read(file, CURRENCIES);
+        assertEquals(2, portfolio.size());
+        assertEquals(new Money(250.5, CURRENCIES.get(1)), portfolio.position(0));
+        assertEquals(new Money(3, CURRENCIES.get(2)), portfolio.position(1));
+    }
+
+    static RateTable table(double[] rates) {
+        return new RateTable(BASE, "2024-03-15", CURRENCIES.subList(1, CURRENCIES.size()), rates.clone());
+    }
+
+    static double expectedTotal(Portfolio portfolio, double[] rates) {
+        double total = 0;
+        for (int i = 0; i < portfolio.size(); i++) {
+            Money position = portfolio.position(i);
+            int currency = CURRENCIES.indexOf(position.currency());
+            total += currency == 0 ? position.amount() : position.amount() / rates[currency - 1];
+        }
+        return total;
+    }
+}
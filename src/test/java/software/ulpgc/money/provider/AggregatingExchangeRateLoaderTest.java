@@ -0,0 +1,200 @@
+package software.ulpgc.money.provider;
+
+import org.junit.jupiter.api.Test;
+import software.ulpgc.money.architecture.io.ExchangeRateLoader;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.ExchangeRate;
+import software.ulpgc.money.provider.AggregatingExchangeRateLoader.Strategy;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests of {@link AggregatingExchangeRateLoader}.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+class AggregatingExchangeRateLoaderTest {
+    private static final Currency EUR = new Currency("EUR", "Euro");
+    private static final Currency USD = new Currency("USD", "US Dollar");
+    private static final Duration COOLDOWN = Duration.ofMinutes(1);
+
+    /**
+     * The median is taken among the rates of the latest date, ignoring older ones.
+     */
+    @Test
+    void returnsTheMedianOfTheLatestRates() {
+        AggregatingExchangeRateLoader loader = new AggregatingExchangeRateLoader(List.of(
+                provider("a", () -> rate("2024-03-15", 1.08)),
+                provider("b", () -> rate("2024-03-15", 1.10)),
+                provider("c", () -> rate("2024-03-14", 5.00)),
+                provider("d", () -> rate("2024-03-15", 1.09)),
+                provider("e", () -> { throw new IllegalStateException("Down"); })
+        ), Strategy.MEDIAN, Duration.ofSeconds(5), COOLDOWN);
+        assertEquals(rate("2024-03-15", 1.09), loader.load(EUR, USD));
+    }
+
+    /**
+     * With the first rate winning, a slower source is cancelled at the deadline and the time it
+     * ran recorded towards its latency.
+     */
+    @Test
+    void cancelsTheLosersOfARaceAtTheDeadline() throws InterruptedException {
+        CountDownLatch cancelled = new CountDownLatch(1);
+        RateProvider slow = provider("slow", () -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                cancelled.countDown();
+                throw new IllegalStateException(e);
+            }
+            return rate("2024-03-15", 1.10);
+        });
+        AggregatingExchangeRateLoader loader = new AggregatingExchangeRateLoader(List.of(
+                provider("fast", () -> rate("2024-03-15", 1.08)),
+                slow
+        ), Strategy.FIRST, Duration.ofMillis(100), COOLDOWN);
+        assertEquals(1.08, loader.load(EUR, USD).rate());
+        assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 100 && slow.loads() == 0; i++) Thread.sleep(10);
+        assertEquals(1, slow.loads());
+        assertEquals(0, slow.errorRate());
+        assertFalse(Double.isNaN(slow.latency()), slow.toString());
+    }
+
+    /**
+     * With the first rate winning, a fast stand-in source with older rates only wins once the
+     * slower current source failed, and a source falling behind the newest date waits too.
+     */
+    @Test
+    void doesNotLetAStaleSourceWinTheRace() {
+        AtomicBoolean down = new AtomicBoolean();
+        RateProvider current = provider("current", () -> {
+            sleep(50);
+            if (down.get()) throw new IllegalStateException("Down");
+            return rate("2024-03-15", 1.08);
+        });
+        RateProvider local = new RateProvider("local", loader(() -> rate("2024-03-12", 1.05)), true);
+        AggregatingExchangeRateLoader loader = new AggregatingExchangeRateLoader(List.of(local, current), Strategy.FIRST, Duration.ofSeconds(5), COOLDOWN);
+        assertEquals(rate("2024-03-15", 1.08), loader.load(EUR, USD));
+        down.set(true);
+        assertEquals(rate("2024-03-12", 1.05), loader.load(EUR, USD));
+        AggregatingExchangeRateLoader behind = new AggregatingExchangeRateLoader(List.of(
+                provider("behind", () -> rate("2024-03-14", 1.07)),
+                provider("ahead", () -> {
+                    sleep(50);
+                    return rate("2024-03-15", 1.08);
+                })
+        ), Strategy.FIRST, Duration.ofSeconds(5), COOLDOWN);
+        assertEquals(rate("2024-03-14", 1.07), behind.load(EUR, USD));
+        sleep(200);
+        assertEquals(rate("2024-03-15", 1.08), behind.load(EUR, USD));
+    }
+
+    /**
+     * A source failing more than half the time is demoted, and only queried again when every
+     * other source fails.
+     */
+    @Test
+    void demotesFailingSourcesAndFallsBackToThem() {
+        AtomicBoolean flakyDown = new AtomicBoolean(true), steadyDown = new AtomicBoolean();
+        AtomicInteger flakyLoads = new AtomicInteger();
+        RateProvider flaky = provider("flaky", () -> {
+            flakyLoads.incrementAndGet();
+            if (flakyDown.get()) throw new IllegalStateException("Down");
+            return rate("2024-03-15", 1.10);
+        });
+        RateProvider steady = provider("steady", () -> {
+            if (steadyDown.get()) throw new IllegalStateException("Down");
+            return rate("2024-03-15", 1.08);
+        });
+        AggregatingExchangeRateLoader loader = new AggregatingExchangeRateLoader(List.of(flaky, steady), Strategy.MEDIAN, Duration.ofSeconds(5), COOLDOWN);
+        for (int i = 0; i < 4; i++) assertEquals(1.08, loader.load(EUR, USD).rate());
+        assertTrue(flaky.isDemoted(System.nanoTime()), flaky.toString());
+        assertEquals(1.08, loader.load(EUR, USD).rate());
+        assertEquals(4, flakyLoads.get());
+        flakyDown.set(false);
+        steadyDown.set(true);
+        assertEquals(1.10, loader.load(EUR, USD).rate());
+        assertFalse(steady.isDemoted(System.nanoTime()));
+    }
+
+    /**
+     * A source more than four times slower than the fastest one is demoted after a few loads.
+     */
+    @Test
+    void demotesSlowSources() {
+        RateProvider slow = provider("slow", () -> {
+            try {
+                Thread.sleep(60);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return rate("2024-03-15", 1.10);
+        });
+        AggregatingExchangeRateLoader loader = new AggregatingExchangeRateLoader(List.of(
+                provider("fast", () -> rate("2024-03-15", 1.08)),
+                slow
+        ), Strategy.MEDIAN, Duration.ofSeconds(5), COOLDOWN);
+        for (int i = 0; i < 5; i++) loader.load(EUR, USD);
+        assertTrue(slow.isDemoted(System.nanoTime()), slow.toString());
+        assertEquals(1, loader.providers().stream().filter(p -> !p.isDemoted(System.nanoTime())).count());
+    }
+
+    /**
+     * A source answering that it has no rate has not failed, unlike one sending a malformed rate.
+     */
+    @Test
+    void countsOnlyMalformedAnswersAsFailures() {
+        RateProvider unknown = provider("unknown", () -> { throw new IllegalArgumentException("No rate"); });
+        RateProvider malformed = provider("malformed", () -> { throw new NumberFormatException("For input string: \"n/a\""); });
+        AggregatingExchangeRateLoader loader = new AggregatingExchangeRateLoader(List.of(
+                provider("steady", () -> rate("2024-03-15", 1.08)),
+                unknown,
+                malformed
+        ), Strategy.MEDIAN, Duration.ofSeconds(5), COOLDOWN);
+        assertEquals(1.08, loader.load(EUR, USD).rate());
+        assertEquals(0, unknown.errorRate());
+        assertTrue(malformed.errorRate() > 0, malformed.toString());
+    }
+
+    static ExchangeRate rate(String date, double rate) {
+        return new ExchangeRate(EUR, USD, date, rate);
+    }
+
+    static RateProvider provider(String name, Supplier<ExchangeRate> rates) {
+        return new RateProvider(name, loader(rates));
+    }
+
+    static ExchangeRateLoader loader(Supplier<ExchangeRate> rates) {
+        return new ExchangeRateLoader() {
+            @Override
+            public ExchangeRate load(Currency from, Currency to) {
+                return rates.get();
+            }
+
+            @Override
+            public ExchangeRate load(Currency from, Currency to, LocalDate date) {
+                return rates.get();
+            }
+        };
+    }
+
+    static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package software.ulpgc.money.store;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.ulpgc.money.architecture.io.StatisticLoader;
+import software.ulpgc.money.architecture.model.AlignedRateSeries;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.CurrencyPair;
+import software.ulpgc.money.architecture.model.ExchangeRate;
+import software.ulpgc.money.architecture.model.ExchangeRateTimeSeries;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests of {@link RateHistoryStore}.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+class RateHistoryStoreTest {
+    private static final Currency EUR = new Currency("EUR", "Euro");
+    private static final Currency USD = new Currency("USD", "US Dollar");
+    private static final Currency GBP = new Currency("GBP", "Pound Sterling");
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 15);
+    private final Clock clock = Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    /**
+     * On a weekend, the rate in force is the one published the Friday before.
+     */
+    @Test
+    void fillsWeekendsForwardWithTheLastPublishedRate() {
+        RateHistoryStore store = new RateHistoryStore(new WeekdayLoader(), EUR, 4, clock);
+        ExchangeRate rate = store.rateAt(EUR, USD, LocalDate.of(2024, 3, 10));
+        assertEquals("2024-03-08", rate.date());
+        assertEquals(WeekdayLoader.rateOf(USD, LocalDate.of(2024, 3, 8)), rate.rate());
+    }
+
+    /**
+     * A batch of dates costs one request, and dates already stored cost none.
+     */
+    @Test
+    void fetchesOnlyThePeriodsNotStoredYet() {
+        WeekdayLoader loader = new WeekdayLoader();
+        RateHistoryStore store = new RateHistoryStore(loader, EUR, 4, clock);
+        List<ExchangeRate> rates = store.ratesAt(EUR, USD, List.of(LocalDate.of(2024, 3, 12), LocalDate.of(2024, 3, 5), LocalDate.of(2024, 3, 12)));
+        assertEquals(List.of("2024-03-12", "2024-03-05", "2024-03-12"), rates.stream().map(ExchangeRate::date).toList());
+        assertEquals(1, loader.requests.size());
+        store.rateAt(EUR, USD, LocalDate.of(2024, 3, 7));
+        assertEquals(1, loader.requests.size());
+        assertTrue(store.isFetched(new CurrencyPair(EUR, USD), LocalDate.of(2024, 3, 5), LocalDate.of(2024, 3, 12)));
+        store.rateAt(EUR, USD, LocalDate.of(2024, 3, 14));
+        assertEquals(List.of(LocalDate.of(2024, 3, 13), LocalDate.of(2024, 3, 14)), loader.requests.get(1));
+    }
+
+    /**
+     * Without filling, a day with no published rate is rejected.
+     */
+    @Test
+    void rejectsDaysWithoutARateInForce() {
+        RateHistoryStore store = new RateHistoryStore(new WeekdayLoader(), EUR, 0, clock);
+        assertThrows(IllegalArgumentException.class, () -> store.rateAt(EUR, USD, LocalDate.of(2024, 3, 9)));
+    }
+
+    /**
+     * The rates between two other currencies than the pivot, and to the pivot, are derived from
+     * the stored pivot pairs.
+     */
+    @Test
+    void derivesOtherPairsFromThePivotLegs() {
+        WeekdayLoader loader = new WeekdayLoader();
+        RateHistoryStore store = new RateHistoryStore(loader, EUR, 4, clock);
+        LocalDate date = LocalDate.of(2024, 3, 6);
+        ExchangeRate cross = store.rateAt(USD, GBP, date);
+        assertEquals(WeekdayLoader.rateOf(GBP, date) / WeekdayLoader.rateOf(USD, date), cross.rate(), 1e-12);
+        assertEquals(1 / WeekdayLoader.rateOf(USD, date), store.rateAt(USD, EUR, date).rate(), 1e-12);
+        AlignedRateSeries series = store.series(USD, List.of(GBP, EUR), date, date);
+        assertArrayEquals(new double[]{cross.rate()}, series.column(GBP), 1e-12);
+        assertArrayEquals(new double[]{1 / WeekdayLoader.rateOf(USD, date)}, series.column(EUR), 1e-12);
+        assertTrue(loader.bases.stream().allMatch(EUR::equals));
+        assertTrue(store.isFetched(new CurrencyPair(EUR, GBP), date, date));
+    }
+
+    /**
+     * Saving to a file written by another store keeps the days that store fetched.
+     */
+    @Test
+    void mergesTheDaysSavedByAnotherStore(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("history.bin");
+        RateHistoryStore application = new RateHistoryStore(new WeekdayLoader(), EUR, 4, clock);
+        RateHistoryStore backfill = new RateHistoryStore(new WeekdayLoader(), EUR, 4, clock);
+        backfill.rateAt(EUR, USD, LocalDate.of(2024, 3, 4));
+        application.rateAt(EUR, USD, LocalDate.of(2024, 3, 14));
+        backfill.save(file);
+        application.save(file);
+        WeekdayLoader loader = new WeekdayLoader();
+        RateHistoryStore restored = new RateHistoryStore(loader, EUR, 4, clock);
+        restored.restore(file);
+        assertEquals(WeekdayLoader.rateOf(USD, LocalDate.of(2024, 3, 4)), restored.rateAt(EUR, USD, LocalDate.of(2024, 3, 4)).rate());
+        assertEquals(WeekdayLoader.rateOf(USD, LocalDate.of(2024, 3, 14)), restored.rateAt(EUR, USD, LocalDate.of(2024, 3, 14)).rate());
+        assertEquals(0, loader.requests.size());
+    }
+
+    /**
+     * A saved store is restored with the same rates and fetched days.
+     */
+    @Test
+    void restoresASavedStore(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("history.bin");
+        RateHistoryStore saved = new RateHistoryStore(new WeekdayLoader(), EUR, 4, clock);
+        LocalDate start = LocalDate.of(2024, 1, 2), end = LocalDate.of(2024, 3, 14);
+        AlignedRateSeries series = saved.series(EUR, List.of(USD, GBP), start, end);
+        saved.save(file);
+        WeekdayLoader loader = new WeekdayLoader();
+        RateHistoryStore restored = new RateHistoryStore(loader, EUR, 4, clock);
+        restored.restore(file);
+        AlignedRateSeries read = restored.series(EUR, List.of(USD, GBP), start, end);
+        assertArrayEquals(series.days(), read.days());
+        assertArrayEquals(series.column(USD), read.column(USD));
+        assertArrayEquals(series.column(GBP), read.column(GBP));
+        assertEquals(0, loader.requests.size());
+    }
+
+    /**
+     * Files of the first version, holding every day as a plain {@code double}, are still read.
+     */
+    @Test
+    void readsFilesOfTheFirstVersion(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("history.bin");
+        int origin = (int) RateHistoryStore.ORIGIN.toEpochDay();
+        int first = (int) LocalDate.of(2024, 3, 1).toEpochDay() - origin, last = (int) LocalDate.of(2024, 3, 8).toEpochDay() - origin;
+        double[] rates = new double[last + 1];
+        Arrays.fill(rates, Double.NaN);
+        for (int i = first; i <= last; i++) rates[i] = 1 + i / 1e4;
+        rates[last - 1] = rates[last - 2] = Double.NaN;
+        BitSet fetched = new BitSet();
+        fetched.set(first, last + 1);
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            out.writeInt(0x4D524801);
+            out.writeInt(1);
+            out.writeUTF(new CurrencyPair(EUR, USD).key());
+            out.writeInt(rates.length);
+            for (double rate : rates) out.writeDouble(rate);
+            long[] words = fetched.toLongArray();
+            out.writeInt(words.length);
+            for (long word : words) out.writeLong(word);
+        }
+        WeekdayLoader loader = new WeekdayLoader();
+        RateHistoryStore store = new RateHistoryStore(loader, EUR, 4, clock);
+        store.restore(file);
+        assertEquals(1 + (last - 3) / 1e4, store.rateAt(EUR, USD, LocalDate.of(2024, 3, 7)).rate());
+        assertEquals(1 + last / 1e4, store.rateAt(EUR, USD, LocalDate.of(2024, 3, 8)).rate());
+        assertEquals(0, loader.requests.size());
+    }
+
+    /**
+     * A statistic loader publishing a rate on weekdays only, recording the periods requested.
+     */
+    private static final class WeekdayLoader implements StatisticLoader {
+        private final List<List<LocalDate>> requests = new ArrayList<>();
+        private final List<Currency> bases = new ArrayList<>();
+
+        static double rateOf(Currency to, LocalDate date) {
+            return (to.code().charAt(0) - '@') * (1 + date.getDayOfMonth() / 100.0);
+        }
+
+        @Override
+        public ExchangeRateTimeSeries loadStatistic(Currency from, Currency to) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AlignedRateSeries loadStatistics(Currency from, List<Currency> to) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AlignedRateSeries loadStatistics(Currency from, List<Currency> to, LocalDate start, LocalDate end) {
+            requests.add(List.of(start, end));
+            bases.add(from);
+            List<LocalDate> dates = start.datesUntil(end.plusDays(1))
+                    .filter(date -> date.getDayOfWeek().compareTo(DayOfWeek.SATURDAY) < 0)
+                    .toList();
+            int[] days = dates.stream().mapToInt(date -> (int) date.toEpochDay()).toArray();
+            double[][] columns = new double[to.size()][];
+            for (int j = 0; j < to.size(); j++) {
+                Currency currency = to.get(j);
+                columns[j] = dates.stream().mapToDouble(date -> rateOf(currency, date)).toArray();
+            }
+            return new AlignedRateSeries(from, to, days, columns);
+        }
+    }
+}
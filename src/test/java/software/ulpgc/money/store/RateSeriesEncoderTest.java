@@ -0,0 +1,107 @@
+package software.ulpgc.money.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests of {@link RateSeriesEncoder} and {@link RateSeriesDecoder}.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+class RateSeriesEncoderTest {
+
+    /**
+     * A year of four-decimal quotes on business days is read back exactly, in a few bytes per point.
+     */
+    @Test
+    void roundTripsDecimalQuotesCompactly() throws IOException {
+        Random random = new Random(42);
+        int size = 0;
+        int[] days = new int[366];
+        double[] rates = new double[366];
+        double rate = 1.0834;
+        for (LocalDate date = LocalDate.of(2024, 1, 1); date.getYear() == 2024; date = date.plusDays(1)) {
+            if (date.getDayOfWeek().compareTo(DayOfWeek.SATURDAY) >= 0) continue;
+            rate = Math.round((rate + (random.nextGaussian() * 0.003)) * 1e4) / 1e4;
+            days[size] = (int) date.toEpochDay();
+            rates[size++] = rate;
+        }
+        byte[] bytes = encode(days, rates, size);
+        assertDecodes(bytes, days, rates, size);
+        assertTrue(bytes.length < 3 * size, bytes.length + " bytes for " + size + " points");
+    }
+
+    /**
+     * Rates without a short decimal form, and changes of precision, are read back exactly.
+     */
+    @Test
+    void roundTripsIrregularRates() throws IOException {
+        int[] days = {0, 1, 2, 5, 6, 30, 31, 400, 401, 402};
+        double[] rates = {Math.PI, 1.0 / 3, 0.5, 1234.5678, 157.12, 1e-9, 7.0, 0.0, 9_876_543.21, 1.08345};
+        assertDecodes(encode(days, rates, days.length), days, rates, days.length);
+    }
+
+    /**
+     * Several series written one after the other in the same stream are read back separately.
+     */
+    @Test
+    void separatesSeriesSharingAStream() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RateSeriesEncoder first = new RateSeriesEncoder(out);
+        first.append(10, 1.1);
+        first.append(11, 1.2);
+        first.finish();
+        RateSeriesEncoder second = new RateSeriesEncoder(out);
+        second.finish();
+        RateSeriesEncoder third = new RateSeriesEncoder(out);
+        third.append(20, 150.25);
+        third.finish();
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+        assertDecodes(in, new int[]{10, 11}, new double[]{1.1, 1.2}, 2);
+        assertDecodes(in, new int[0], new double[0], 0);
+        assertDecodes(in, new int[]{20}, new double[]{150.25}, 1);
+        assertEquals(0, in.available());
+    }
+
+    /**
+     * Days must strictly increase.
+     */
+    @Test
+    void rejectsDaysNotAfterThePreviousOne() throws IOException {
+        RateSeriesEncoder encoder = new RateSeriesEncoder(new ByteArrayOutputStream());
+        encoder.append(5, 1.0);
+        assertThrows(IllegalArgumentException.class, () -> encoder.append(5, 1.1));
+    }
+
+    static byte[] encode(int[] days, double[] rates, int size) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RateSeriesEncoder encoder = new RateSeriesEncoder(out);
+        for (int i = 0; i < size; i++) encoder.append(days[i], rates[i]);
+        encoder.finish();
+        return out.toByteArray();
+    }
+
+    static void assertDecodes(byte[] bytes, int[] days, double[] rates, int size) throws IOException {
+        assertDecodes(new ByteArrayInputStream(bytes), days, rates, size);
+    }
+
+    static void assertDecodes(ByteArrayInputStream in, int[] days, double[] rates, int size) throws IOException {
+        RateSeriesDecoder decoder = new RateSeriesDecoder(in);
+        for (int i = 0; i < size; i++) {
+            assertTrue(decoder.next(), "point " + i);
+            assertEquals(days[i], decoder.day());
+            assertEquals(rates[i], decoder.rate());
+        }
+        assertFalse(decoder.next());
+    }
+}
@@ -0,0 +1,94 @@
+package software.ulpgc.money.tile;
+
+import org.junit.jupiter.api.Test;
+import software.ulpgc.money.architecture.io.StatisticLoader;
+import software.ulpgc.money.architecture.model.AlignedRateSeries;
+import software.ulpgc.money.architecture.model.Currency;
+import software.ulpgc.money.architecture.model.CurrencyPair;
+import software.ulpgc.money.architecture.model.ExchangeRateTimeSeries;
+import software.ulpgc.money.metrics.MetricsRegistry;
+import software.ulpgc.money.net.IoScheduler;
+import software.ulpgc.money.store.RateHistoryStore;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests of {@link RateTileLoader}.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 19/10/2026
+ * @since       1.1
+ */
+class RateTileLoaderTest {
+    private static final CurrencyPair PAIR = new CurrencyPair(new Currency("EUR", "Euro"), new Currency("USD", "US Dollar"));
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 15);
+    private final List<LocalDate[]> requests = new CopyOnWriteArrayList<>();
+    private final RateTileLoader tiles = new RateTileLoader(new RecordingLoader(), new IoScheduler(1, 1, MetricsRegistry.global()), 16,
+            Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+    /**
+     * The coarsest tiles only request the stored range of the histories.
+     */
+    @Test
+    void capsTheRangeOfCoarseTilesToTheHistories() throws InterruptedException {
+        load(8, RateTile.indexOf(8, TODAY.toEpochDay()));
+        assertEquals(1, requests.size());
+        assertEquals(RateHistoryStore.ORIGIN, requests.getFirst()[0]);
+        assertEquals(TODAY, requests.getFirst()[1]);
+    }
+
+    /**
+     * Invalidating a day discards the tiles of the pair covering it, and only those.
+     */
+    @Test
+    void discardsTheTilesCoveringAnInvalidatedDay() throws InterruptedException {
+        long today = RateTile.indexOf(0, TODAY.toEpochDay());
+        load(0, today);
+        load(0, today - 1);
+        load(2, RateTile.indexOf(2, TODAY.toEpochDay()));
+        tiles.invalidate(PAIR.inverse(), TODAY.toEpochDay());
+        assertNotNull(tiles.cached(PAIR, 0, today));
+        tiles.invalidate(PAIR, TODAY.toEpochDay());
+        assertNull(tiles.cached(PAIR, 0, today));
+        assertNull(tiles.cached(PAIR, 2, RateTile.indexOf(2, TODAY.toEpochDay())));
+        assertNotNull(tiles.cached(PAIR, 0, today - 1));
+        load(0, today);
+        assertEquals(4, requests.size());
+    }
+
+    private void load(int level, long index) throws InterruptedException {
+        CountDownLatch loaded = new CountDownLatch(1);
+        assertNull(tiles.tile(PAIR, level, index, loaded::countDown));
+        assertTrue(loaded.await(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * A statistic loader recording the ranges requested and returning a single point.
+     */
+    private final class RecordingLoader implements StatisticLoader {
+
+        @Override
+        public ExchangeRateTimeSeries loadStatistic(Currency from, Currency to) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AlignedRateSeries loadStatistics(Currency from, List<Currency> to) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AlignedRateSeries loadStatistics(Currency from, List<Currency> to, LocalDate start, LocalDate end) {
+            requests.add(new LocalDate[]{start, end});
+            return new AlignedRateSeries(from, to, new int[]{(int) end.toEpochDay()}, new double[][]{{1.08}});
+        }
+    }
+}